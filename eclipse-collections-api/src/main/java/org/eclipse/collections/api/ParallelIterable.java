@@ -246,4 +246,24 @@ public interface ParallelIterable<T>
     <K, V> MapIterable<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator);
 
     <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator);
+
+    /**
+     * Same as {@link #aggregateInPlaceBy(Function, Function0, Procedure2)}, but aggregates in key-sharded mode.  Each
+     * worker aggregates into its own values, in maps sharded by the hash codes of the keys, and the values of each
+     * shard are then merged by a single worker with {@code mutatingCombiner}, which adds its second argument into its
+     * first.  Neither the aggregator nor the combiner is ever called concurrently on the same value, so they need not
+     * be thread-safe, and workers do not contend on hot keys.  Values may be combined in any order.
+     *
+     * @since 8.0
+     */
+    <K, V> MapIterable<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator, Procedure2<? super V, ? super V> mutatingCombiner);
+
+    /**
+     * Same as {@link #aggregateBy(Function, Function0, Function2)}, but aggregates in key-sharded mode, like
+     * {@link #aggregateInPlaceBy(Function, Function0, Procedure2, Procedure2)}.  The values aggregated by different
+     * workers are merged with {@code nonMutatingCombiner}, in any order.
+     *
+     * @since 8.0
+     */
+    <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator, Function2<? super V, ? super V, ? extends V> nonMutatingCombiner);
 }
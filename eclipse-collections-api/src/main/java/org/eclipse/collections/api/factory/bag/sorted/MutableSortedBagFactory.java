@@ -66,4 +66,19 @@ public interface MutableSortedBagFactory
     <T> MutableSortedBag<T> ofAll(Comparator<? super T> comparator, Iterable<? extends T> items);
 
     <T> MutableSortedBag<T> withAll(Comparator<? super T> comparator, Iterable<? extends T> items);
+
+    /**
+     * Returns an empty bag backed by a B+tree, which keeps primitive occurrence counts next to the sorted items and
+     * answers rank and select queries in O(log n).
+     *
+     * @since 8.0
+     */
+    <T> MutableSortedBag<T> emptyBTree();
+
+    /**
+     * Same as {@link #emptyBTree()}, ordered by the given comparator.
+     *
+     * @since 8.0
+     */
+    <T> MutableSortedBag<T> emptyBTree(Comparator<? super T> comparator);
 }
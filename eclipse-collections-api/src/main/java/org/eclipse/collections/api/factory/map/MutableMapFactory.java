@@ -41,6 +41,21 @@ public interface MutableMapFactory
 
     <K, V> MutableMap<K, V> withInitialCapacity(int capacity);
 
+    /**
+     * Same as {@link #empty()} but returns a map which resolves hash collisions by open addressing instead of chaining.
+     *
+     * @since 8.0
+     */
+    <K, V> MutableMap<K, V> emptyOpenAddressing();
+
+    /**
+     * Same as {@link #withInitialCapacity(int)} but returns a map which resolves hash collisions by open addressing
+     * instead of chaining.
+     *
+     * @since 8.0
+     */
+    <K, V> MutableMap<K, V> withInitialCapacityOpenAddressing(int capacity);
+
     /**
      * Same as {@link #with(Object, Object)}.
      */
@@ -101,4 +101,19 @@ public interface MutableSortedMapFactory
     <K, V> MutableSortedMap<K, V> ofSortedMap(Map<? extends K, ? extends V> map);
 
     <K, V> MutableSortedMap<K, V> withSortedMap(Map<? extends K, ? extends V> map);
+
+    /**
+     * Returns an empty map backed by a B+tree, which packs its entries into linked leaves for fast in-order and range
+     * iteration.
+     *
+     * @since 8.0
+     */
+    <K, V> MutableSortedMap<K, V> emptyBTree();
+
+    /**
+     * Same as {@link #emptyBTree()}, ordered by the given comparator.
+     *
+     * @since 8.0
+     */
+    <K, V> MutableSortedMap<K, V> emptyBTree(Comparator<? super K> comparator);
 }
@@ -50,4 +50,19 @@ public interface MutableSortedSetFactory
     <T> MutableSortedSet<T> ofAll(Comparator<? super T> comparator, Iterable<? extends T> items);
 
     <T> MutableSortedSet<T> withAll(Comparator<? super T> comparator, Iterable<? extends T> items);
+
+    /**
+     * Returns an empty set backed by a B+tree, which packs its elements into linked leaves for fast in-order and range
+     * iteration.
+     *
+     * @since 8.0
+     */
+    <T> MutableSortedSet<T> emptyBTree();
+
+    /**
+     * Same as {@link #emptyBTree()}, ordered by the given comparator.
+     *
+     * @since 8.0
+     */
+    <T> MutableSortedSet<T> emptyBTree(Comparator<? super T> comparator);
 }
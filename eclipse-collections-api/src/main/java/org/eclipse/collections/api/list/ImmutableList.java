@@ -62,6 +62,15 @@ public interface ImmutableList<T>
     @Override
     ImmutableList<T> newWithoutAll(Iterable<? extends T> elements);
 
+    /**
+     * Returns a new ImmutableList with the element at the specified index replaced by the specified element. This is
+     * the immutable equivalent of {@link java.util.List#set(int, Object)}.
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @since 8.0
+     */
+    ImmutableList<T> newWithAt(int index, T element);
+
     @Override
     ImmutableList<T> tap(Procedure<? super T> procedure);
 
@@ -13,7 +13,9 @@ package org.eclipse.collections.api.list;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
 
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.block.HashingStrategy;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
@@ -150,6 +152,24 @@ public interface MutableList<T>
      */
     MutableList<T> sortThis();
 
+    /**
+     * Sorts the internal data structure of this list in parallel on the executorService and returns the list itself as
+     * a convenience.  Like {@link #sortThis(Comparator)}, the sort is stable.
+     *
+     * @since 8.0
+     */
+    @Beta
+    MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executorService);
+
+    /**
+     * Sorts the internal data structure of this list in parallel on the executorService by the natural order of its
+     * elements and returns the list itself as a convenience.
+     *
+     * @since 8.0
+     */
+    @Beta
+    MutableList<T> sortThisParallel(ExecutorService executorService);
+
     /**
      * Sorts the internal data structure of this list based on the natural order of the attribute returned by {@code
      * function}.
@@ -10,6 +10,9 @@
 
 package org.eclipse.collections.api.map;
 
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.primitive.MutableBooleanBag;
 import org.eclipse.collections.api.bag.primitive.MutableByteBag;
@@ -70,6 +73,15 @@ public interface MutableMap<K, V>
     @Override
     MutableMap<K, V> asSynchronized();
 
+    /**
+     * Returns a parallel iterable over the entries of this MutableMap.  Hash maps split their tables into batches of
+     * approximately {@code batchSize} entries, other maps may iterate in a single batch.
+     *
+     * @since 8.0
+     */
+    @Beta
+    ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize);
+
     @Override
     MutableSetMultimap<V, K> flip();
 
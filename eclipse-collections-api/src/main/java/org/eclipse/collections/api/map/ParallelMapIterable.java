@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.map;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+
+/**
+ * A ParallelMapIterable iterates over the entries of a map in parallel batches.  Keys and values are passed straight to
+ * the code block, without creating an entry or pair for each of them.  All code blocks passed in must be stateless or
+ * thread-safe.
+ *
+ * @since 8.0
+ */
+@Beta
+public interface ParallelMapIterable<K, V>
+{
+    void forEachKeyValue(Procedure2<? super K, ? super V> procedure);
+
+    void forEachKey(Procedure<? super K> procedure);
+
+    void forEachValue(Procedure<? super V> procedure);
+}
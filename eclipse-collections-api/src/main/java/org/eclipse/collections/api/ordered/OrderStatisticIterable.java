@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.api.ordered;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An OrderStatisticIterable is a SortedIterable which can find an element by its position in sorted order, and the
+ * position of an element, without iterating.  Implementations answer these queries in O(log n) time or better.
+ *
+ * @since 8.0
+ */
+public interface OrderStatisticIterable<T> extends SortedIterable<T>
+{
+    /**
+     * Returns the number of elements less than the given element, which is the index the element has, or would have if
+     * it were added, in iteration order.
+     */
+    int rank(T element);
+
+    /**
+     * Returns the element at the given index in iteration order.
+     *
+     * @throws IndexOutOfBoundsException if the index is negative or not less than the size
+     */
+    T select(int index);
+
+    /**
+     * Returns the number of elements greater than or equal to {@code from} and less than {@code to}, which is the size
+     * of the range with the same bounds as {@link java.util.SortedSet#subSet(Object, Object)}.
+     *
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     */
+    int countBetween(T from, T to);
+
+    /**
+     * Returns the element at the given percentile using the nearest-rank method, that is the smallest element such that
+     * at least the given percentage of the elements are less than or equal to it.  {@code percentile(0.0)} returns the
+     * first element, {@code percentile(50.0)} the median and {@code percentile(100.0)} the last element.
+     *
+     * @throws IllegalArgumentException if the percentile is not between 0 and 100
+     * @throws NoSuchElementException if this iterable is empty
+     */
+    default T percentile(double percentile)
+    {
+        if (!(percentile >= 0.0 && percentile <= 100.0))
+        {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, but was: " + percentile);
+        }
+        int size = this.size();
+        if (size == 0)
+        {
+            throw new NoSuchElementException();
+        }
+        int rank = (int) Math.ceil(percentile * size / 100.0);
+        return this.select(Math.max(rank, 1) - 1);
+    }
+}
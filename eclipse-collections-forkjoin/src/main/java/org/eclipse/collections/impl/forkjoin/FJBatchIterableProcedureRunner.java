@@ -24,6 +24,10 @@ import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.parallel.Combiner;
 import org.eclipse.collections.impl.parallel.ProcedureFactory;
 
+/**
+ * @deprecated in 8.0. FJIterate now schedules its batches with {@link org.eclipse.collections.impl.parallel.AdaptiveRangeFJTask}.
+ */
+@Deprecated
 public class FJBatchIterableProcedureRunner<T, PT extends Procedure<? super T>> implements Serializable
 {
     private static final long serialVersionUID = 1L;
@@ -16,6 +16,10 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.parallel.ProcedureFactory;
 
+/**
+ * @deprecated in 8.0. FJIterate now schedules its batches with {@link org.eclipse.collections.impl.parallel.AdaptiveRangeFJTask}.
+ */
+@Deprecated
 public class FJBatchIterableProcedureTask<T, PT extends Procedure<? super T>> extends ForkJoinTask<PT>
 {
     private static final long serialVersionUID = 1L;
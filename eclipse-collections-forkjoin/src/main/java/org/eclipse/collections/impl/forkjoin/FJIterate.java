@@ -28,10 +28,10 @@ import org.eclipse.collections.api.multimap.MutableMultimap;
 import org.eclipse.collections.impl.block.procedure.MultimapPutProcedure;
 import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
-import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
+import org.eclipse.collections.impl.parallel.AdaptiveRangeFJTask;
 import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.parallel.CollectIfProcedureCombiner;
 import org.eclipse.collections.impl.parallel.CollectIfProcedureFactory;
@@ -63,6 +63,10 @@ import org.eclipse.collections.impl.utility.Iterate;
  * <p>
  * All Collections that are not either a {@link RandomAccess} or {@link List} are first converted to a Java array
  * using {@link Iterate#toArray(Iterable)}, and then run with one of the {@code FJIterate.forEach} methods.
+ * <p>
+ * The batches are scheduled by {@link AdaptiveRangeFJTask}, the same scheduler which ParallelIterate uses for a
+ * {@link ForkJoinPool}, so they are split recursively based on how long they take.  Nested calls from inside a task
+ * fork onto the same pool instead of running serially.
  *
  * @see ParallelIterate
  */
@@ -213,25 +217,7 @@ public final class FJIterate
             int taskCount,
             ForkJoinPool executor)
     {
-        int size = list.size();
-        if (size < minForkSize || FJIterate.executedInsideOfForEach())
-        {
-            PT procedure = procedureFactory.create();
-            Iterate.forEachWithIndex(list, procedure);
-            if (combiner.useCombineOne())
-            {
-                combiner.combineOne(procedure);
-            }
-            else
-            {
-                combiner.combineAll(Lists.immutable.of(procedure));
-            }
-        }
-        else
-        {
-            int threadCount = Math.min(size, taskCount);
-            new FJListObjectIntProcedureRunner<>(combiner, threadCount).executeAndCombine(executor, procedureFactory, list);
-        }
+        ParallelIterate.forEachWithIndexInListOnExecutor(list, procedureFactory, combiner, minForkSize, taskCount, executor);
     }
 
     /**
@@ -434,25 +420,7 @@ public final class FJIterate
             int taskCount,
             ForkJoinPool executor)
     {
-        int size = list.size();
-        if (size < minForkSize || FJIterate.executedInsideOfForEach())
-        {
-            PT procedure = procedureFactory.create();
-            Iterate.forEach(list, procedure);
-            if (combiner.useCombineOne())
-            {
-                combiner.combineOne(procedure);
-            }
-            else
-            {
-                combiner.combineAll(Lists.immutable.of(procedure));
-            }
-        }
-        else
-        {
-            int newTaskCount = Math.min(size, taskCount);
-            new FJListProcedureRunner<>(combiner, newTaskCount).executeAndCombine(executor, procedureFactory, list);
-        }
+        ParallelIterate.forEachInListOnExecutor(list, procedureFactory, combiner, minForkSize, taskCount, executor);
     }
 
     public static <T, PT extends Procedure<? super T>> void forEachInBatchWithExecutor(
@@ -460,31 +428,7 @@ public final class FJIterate
             ProcedureFactory<PT> procedureFactory, Combiner<PT> combiner, int minForkSize, int taskCount,
             ForkJoinPool executor)
     {
-        int size = batchIterable.size();
-        if (size < minForkSize || FJIterate.executedInsideOfForEach())
-        {
-            PT procedure = procedureFactory.create();
-            batchIterable.forEach(procedure);
-            if (combiner.useCombineOne())
-            {
-                combiner.combineOne(procedure);
-            }
-            else
-            {
-                combiner.combineAll(Lists.immutable.of(procedure));
-            }
-        }
-        else
-        {
-            int newTaskCount = Math.min(size, Math.min(taskCount, batchIterable.getBatchCount((int) Math.ceil((double) size / (double) taskCount))));
-            new FJBatchIterableProcedureRunner<>(combiner, newTaskCount).executeAndCombine(executor, procedureFactory, batchIterable);
-        }
-    }
-
-    // TODO find a better way to guarantee nested parallelism will not result in deadlocks with ForkJoin
-    static boolean executedInsideOfForEach()
-    {
-        return Thread.currentThread().getName().startsWith("ForkJoinPool");
+        ParallelIterate.forEachInBatchWithExecutor(batchIterable, procedureFactory, combiner, minForkSize, taskCount, executor);
     }
 
     /**
@@ -20,6 +20,10 @@ import org.eclipse.collections.impl.parallel.ObjectIntProcedureFactory;
 import org.eclipse.collections.impl.utility.ArrayListIterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 
+/**
+ * @deprecated in 8.0. FJIterate now schedules its batches with {@link org.eclipse.collections.impl.parallel.AdaptiveRangeFJTask}.
+ */
+@Deprecated
 public class FJListObjectIntProcedureTask<T, PT extends ObjectIntProcedure<? super T>> extends ForkJoinTask<PT>
 {
     private final ObjectIntProcedureFactory<PT> procedureFactory;
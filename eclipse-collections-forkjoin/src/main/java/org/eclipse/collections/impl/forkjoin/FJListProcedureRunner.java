@@ -24,6 +24,10 @@ import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.parallel.Combiner;
 import org.eclipse.collections.impl.parallel.ProcedureFactory;
 
+/**
+ * @deprecated in 8.0. FJIterate now schedules its batches with {@link org.eclipse.collections.impl.parallel.AdaptiveRangeFJTask}.
+ */
+@Deprecated
 public class FJListProcedureRunner<T, PT extends Procedure<? super T>> implements Serializable
 {
     private static final long serialVersionUID = 1L;
@@ -20,6 +20,10 @@ import org.eclipse.collections.impl.parallel.ProcedureFactory;
 import org.eclipse.collections.impl.utility.ArrayListIterate;
 import org.eclipse.collections.impl.utility.ListIterate;
 
+/**
+ * @deprecated in 8.0. FJIterate now schedules its batches with {@link org.eclipse.collections.impl.parallel.AdaptiveRangeFJTask}.
+ */
+@Deprecated
 public class FJListProcedureTask<T, PT extends Procedure<? super T>> extends ForkJoinTask<PT>
 {
     private static final long serialVersionUID = 1L;
@@ -0,0 +1,593 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.jcip.annotations.ThreadSafe;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
+import org.eclipse.collections.impl.utility.ArrayIterate;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.LazyIterate;
+
+/**
+ * A ConcurrentHashBag is a MutableBag which is safe for concurrent use without locking.  Items are the keys of a
+ * {@link ConcurrentHashMap} and each value is an AtomicInteger holding the occurrences of that item, so threads
+ * updating the same item only compare-and-set its counter, and threads updating different items do not contend at all.
+ * <p>
+ * A counter which reaches zero is retired: it is removed from the map and never incremented again.  A thread which
+ * finds a retired counter installs a fresh one in its place.  Iteration and the bulk queries are weakly consistent, like
+ * those of the backing map; size() adds up the counters rather than maintaining a shared total.
+ *
+ * @since 8.0
+ */
+@ThreadSafe
+public class ConcurrentHashBag<T>
+        extends AbstractMutableBag<T>
+        implements Externalizable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final Object NULL_ITEM = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "ConcurrentHashBag.NULL_ITEM";
+        }
+    };
+
+    private ConcurrentHashMap<Object, AtomicInteger> items;
+
+    public ConcurrentHashBag()
+    {
+        this.items = ConcurrentHashMap.newMap();
+    }
+
+    public ConcurrentHashBag(int size)
+    {
+        this.items = ConcurrentHashMap.newMap(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag()
+    {
+        return new ConcurrentHashBag<>();
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(int size)
+    {
+        return new ConcurrentHashBag<>(size);
+    }
+
+    public static <E> ConcurrentHashBag<E> newBag(Iterable<? extends E> source)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        result.addAllIterable(source);
+        return result;
+    }
+
+    public static <E> ConcurrentHashBag<E> newBagWith(E... elements)
+    {
+        ConcurrentHashBag<E> result = ConcurrentHashBag.newBag();
+        ArrayIterate.addAllTo(elements, result);
+        return result;
+    }
+
+    private static Object toSentinelIfNull(Object item)
+    {
+        return item == null ? NULL_ITEM : item;
+    }
+
+    private T nonSentinel(Object key)
+    {
+        return key == NULL_ITEM ? null : (T) key;
+    }
+
+    @Override
+    public int addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return this.occurrencesOf(item);
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(key);
+            if (counter == null)
+            {
+                counter = this.items.putIfAbsent(key, new AtomicInteger(occurrences));
+                if (counter == null)
+                {
+                    return occurrences;
+                }
+            }
+            int current = counter.get();
+            while (current > 0)
+            {
+                int updated = current + occurrences;
+                if (updated < 0)
+                {
+                    throw new IllegalArgumentException("Cannot exceed " + Integer.MAX_VALUE + " occurrences of " + item);
+                }
+                if (counter.compareAndSet(current, updated))
+                {
+                    return updated;
+                }
+                current = counter.get();
+            }
+            // the counter has been retired, so replace it unless another thread already has
+            if (this.items.replace(key, counter, new AtomicInteger(occurrences)))
+            {
+                return occurrences;
+            }
+        }
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        if (occurrences == 0)
+        {
+            return false;
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        AtomicInteger counter = this.items.get(key);
+        if (counter == null)
+        {
+            return false;
+        }
+        int current = counter.get();
+        while (current > 0)
+        {
+            int updated = Math.max(0, current - occurrences);
+            if (counter.compareAndSet(current, updated))
+            {
+                if (updated == 0)
+                {
+                    this.items.remove(key, counter);
+                }
+                return true;
+            }
+            current = counter.get();
+        }
+        return false;
+    }
+
+    @Override
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+        Object key = ConcurrentHashBag.toSentinelIfNull(item);
+        while (true)
+        {
+            AtomicInteger counter = this.items.get(key);
+            if (counter == null)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                if (this.items.putIfAbsent(key, new AtomicInteger(occurrences)) == null)
+                {
+                    return true;
+                }
+                continue;
+            }
+            int current = counter.get();
+            if (current == 0)
+            {
+                if (occurrences == 0)
+                {
+                    return false;
+                }
+                if (this.items.replace(key, counter, new AtomicInteger(occurrences)))
+                {
+                    return true;
+                }
+                continue;
+            }
+            if (current == occurrences)
+            {
+                return false;
+            }
+            if (counter.compareAndSet(current, occurrences))
+            {
+                if (occurrences == 0)
+                {
+                    this.items.remove(key, counter);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Retires the counter of {@code key} and returns the occurrences it held.
+     */
+    private int removeAllOccurrences(Object key)
+    {
+        AtomicInteger counter = this.items.get(key);
+        if (counter == null)
+        {
+            return 0;
+        }
+        int removed = counter.getAndSet(0);
+        this.items.remove(key, counter);
+        return removed;
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.addOccurrences(item, 1);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.removeOccurrences(item, 1);
+    }
+
+    @Override
+    public boolean addAllIterable(Iterable<? extends T> iterable)
+    {
+        if (iterable instanceof Bag)
+        {
+            Bag<T> source = (Bag<T>) iterable;
+            source.forEachWithOccurrences(this::addOccurrences);
+            return source.notEmpty();
+        }
+        Iterate.forEach(iterable, this::add);
+        return Iterate.notEmpty(iterable);
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        boolean changed = false;
+        for (Object each : iterable)
+        {
+            changed |= this.removeAllOccurrences(ConcurrentHashBag.toSentinelIfNull(each)) > 0;
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(this.nonSentinel(key)))
+            {
+                changed |= this.removeAllOccurrences(key) > 0;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        boolean changed = false;
+        for (Object key : this.items.keySet())
+        {
+            if (predicate.accept(this.nonSentinel(key), parameter))
+            {
+                changed |= this.removeAllOccurrences(key) > 0;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (Object key : this.items.keySet())
+        {
+            this.removeAllOccurrences(key);
+        }
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        AtomicInteger counter = this.items.get(ConcurrentHashBag.toSentinelIfNull(item));
+        return counter == null ? 0 : counter.get();
+    }
+
+    @Override
+    public boolean contains(Object item)
+    {
+        return this.occurrencesOf(item) > 0;
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    @Override
+    public int size()
+    {
+        long size = 0L;
+        for (AtomicInteger counter : this.items.values())
+        {
+            size += counter.get();
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.items.isEmpty();
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+    {
+        this.items.forEachKeyValue((key, counter) -> {
+            int occurrences = counter.get();
+            if (occurrences > 0)
+            {
+                procedure.value(this.nonSentinel(key), occurrences);
+            }
+        });
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.forEachWithOccurrences((item, occurrences) -> {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(item);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        Counter index = new Counter();
+        this.forEachWithOccurrences((item, occurrences) -> {
+            for (int i = 0; i < occurrences; i++)
+            {
+                objectIntProcedure.value(item, index.getCount());
+                index.increment();
+            }
+        });
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.forEachWithOccurrences((item, occurrences) -> {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(item, parameter);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new InternalIterator();
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return LazyIterate.adapt(this.items.keySet()).collect(this::nonSentinel);
+    }
+
+    @Override
+    public MutableMap<T, Integer> toMapOfItemToCount()
+    {
+        MutableMap<T, Integer> map = UnifiedMap.newMap(this.items.size());
+        this.forEachWithOccurrences(map::put);
+        return map;
+    }
+
+    @Override
+    public MutableBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        ConcurrentHashBag<T> result = ConcurrentHashBag.newBag();
+        this.forEachWithOccurrences((item, occurrences) -> {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(item, occurrences);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public <V> HashBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, HashBagMultimap.newMultimap());
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        MutableMap<T, Integer> snapshot = this.toMapOfItemToCount();
+        if (snapshot.size() != bag.sizeDistinct())
+        {
+            return false;
+        }
+        return snapshot.keyValuesView().allSatisfy(each -> bag.occurrencesOf(each.getOne()) == each.getTwo());
+    }
+
+    @Override
+    public int hashCode()
+    {
+        Counter counter = new Counter();
+        this.forEachWithOccurrences((item, occurrences) -> counter.add((item == null ? 0 : item.hashCode()) ^ occurrences));
+        return counter.getCount();
+    }
+
+    @Override
+    public MutableBag<T> newEmpty()
+    {
+        return ConcurrentHashBag.newBag();
+    }
+
+    @Override
+    public ConcurrentHashBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withAll(Iterable<? extends T> elements)
+    {
+        this.addAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public ConcurrentHashBag<T> withoutAll(Iterable<? extends T> elements)
+    {
+        this.removeAllIterable(elements);
+        return this;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableList<ObjectIntPair<T>> snapshot = this.toListWithOccurrences();
+        out.writeInt(snapshot.size());
+        for (ObjectIntPair<T> each : snapshot)
+        {
+            out.writeObject(each.getOne());
+            out.writeInt(each.getTwo());
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.items = ConcurrentHashMap.newMap(size);
+        for (int i = 0; i < size; i++)
+        {
+            this.addOccurrences((T) in.readObject(), in.readInt());
+        }
+    }
+
+    private class InternalIterator implements Iterator<T>
+    {
+        private final Iterator<Object> iterator = ConcurrentHashBag.this.items.keySet().iterator();
+
+        private T currentItem;
+        private int occurrences;
+        private T lastReturned;
+        private boolean canRemove;
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.occurrences == 0 && this.iterator.hasNext())
+            {
+                // items removed by other threads since the key was published are skipped
+                this.currentItem = ConcurrentHashBag.this.nonSentinel(this.iterator.next());
+                this.occurrences = ConcurrentHashBag.this.occurrencesOf(this.currentItem);
+            }
+            return this.occurrences > 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.occurrences--;
+            this.lastReturned = this.currentItem;
+            this.canRemove = true;
+            return this.lastReturned;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            ConcurrentHashBag.this.remove(this.lastReturned);
+            this.canRemove = false;
+        }
+    }
+}
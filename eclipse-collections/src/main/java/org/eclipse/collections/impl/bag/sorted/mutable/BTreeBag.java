@@ -0,0 +1,643 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sorted.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.bag.Bag;
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.api.bag.sorted.SortedBag;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.predicate.primitive.IntPredicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.ordered.OrderStatisticIterable;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.block.procedure.checked.CheckedObjectIntProcedure;
+import org.eclipse.collections.impl.map.sorted.mutable.BTreeCountMap;
+import org.eclipse.collections.impl.multimap.bag.sorted.mutable.TreeBagMultimap;
+import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.eclipse.collections.impl.stack.mutable.ArrayStack;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+import org.eclipse.collections.impl.utility.OrderedIterate;
+import org.eclipse.collections.impl.utility.internal.IterableIterate;
+import org.eclipse.collections.impl.utility.internal.SortedBagIterables;
+
+/**
+ * A BTreeBag is a MutableSortedBag backed by a {@link BTreeCountMap}, the B+tree shared with
+ * {@link org.eclipse.collections.impl.map.sorted.mutable.BTreeMap} whose leaves hold each distinct item next to its
+ * number of occurrences in parallel arrays.  So unlike {@link TreeBag} there is no map entry or Counter per item, and
+ * adding occurrences of an item already in the bag just bumps an int in place.
+ * <p>
+ * Every node also keeps the total number of occurrences beneath it and the largest number of occurrences of any single
+ * item beneath it.  The totals let {@link #rank(Object)}, {@link #select(int)}, {@link #indexOf(Object)},
+ * {@link #countBetween(Object, Object)} and the indexed forEach methods find a position by descending the tree in
+ * O(log n), and the maximums let {@link #topOccurrences(int)} skip every subtree that cannot contribute to the result.
+ *
+ * @since 8.0
+ */
+public class BTreeBag<T>
+        extends AbstractMutableSortedBag<T>
+        implements Externalizable, OrderStatisticIterable<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    private BTreeCountMap<T> items;
+
+    public BTreeBag()
+    {
+        this((Comparator<? super T>) null);
+    }
+
+    public BTreeBag(Comparator<? super T> comparator)
+    {
+        this.items = new BTreeCountMap<>(comparator);
+    }
+
+    public BTreeBag(SortedBag<T> sortedBag)
+    {
+        this(sortedBag.comparator());
+        sortedBag.forEachWithOccurrences(this::addOccurrences);
+    }
+
+    public BTreeBag(Comparator<? super T> comparator, Iterable<? extends T> iterable)
+    {
+        this(comparator);
+        this.addAllIterable(iterable);
+    }
+
+    public static <E> BTreeBag<E> newBag()
+    {
+        return new BTreeBag<>();
+    }
+
+    public static <E> BTreeBag<E> newBag(Comparator<? super E> comparator)
+    {
+        return new BTreeBag<>(comparator);
+    }
+
+    public static <E> BTreeBag<E> newBag(Iterable<? extends E> source)
+    {
+        if (source instanceof SortedBag<?>)
+        {
+            return new BTreeBag<>((SortedBag<E>) source);
+        }
+        return Iterate.addAllTo(source, BTreeBag.newBag());
+    }
+
+    public static <E> BTreeBag<E> newBag(Comparator<? super E> comparator, Iterable<? extends E> iterable)
+    {
+        return new BTreeBag<>(comparator, iterable);
+    }
+
+    public static <E> BTreeBag<E> newBagWith(E... elements)
+    {
+        //noinspection SSBasedInspection
+        return BTreeBag.newBag(Arrays.asList(elements));
+    }
+
+    public static <E> BTreeBag<E> newBagWith(Comparator<? super E> comparator, E... elements)
+    {
+        //noinspection SSBasedInspection
+        return BTreeBag.newBag(comparator, Arrays.asList(elements));
+    }
+
+    @Override
+    public BTreeBag<T> clone()
+    {
+        return new BTreeBag<>(this);
+    }
+
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other)
+        {
+            return true;
+        }
+        if (!(other instanceof Bag))
+        {
+            return false;
+        }
+        Bag<?> bag = (Bag<?>) other;
+        if (this.sizeDistinct() != bag.sizeDistinct())
+        {
+            return false;
+        }
+
+        return this.items.keyCountsView().allSatisfy(each -> bag.occurrencesOf(each.getOne()) == each.getTwo());
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.items.hashCode();
+    }
+
+    @Override
+    protected RichIterable<T> getKeysView()
+    {
+        return this.items.keysView();
+    }
+
+    @Override
+    public int sizeDistinct()
+    {
+        return this.items.size();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.items.totalCount();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.items.isEmpty();
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super T> procedure)
+    {
+        this.items.forEachKeyCount(procedure);
+    }
+
+    @Override
+    public BTreeBag<T> selectByOccurrences(IntPredicate predicate)
+    {
+        BTreeBag<T> result = this.newEmpty();
+        this.forEachWithOccurrences((each, occurrences) -> {
+            if (predicate.accept(occurrences))
+            {
+                result.addOccurrences(each, occurrences);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public int occurrencesOf(Object item)
+    {
+        return this.items.countOf(item);
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.items.containsKey(o);
+    }
+
+    /**
+     * Returns the number of occurrences of items that are less than the given item, which is the index the first
+     * occurrence of the item has, or would have, in iteration order.  Runs in O(log n).
+     */
+    @Override
+    public int rank(T item)
+    {
+        return this.items.rank(item);
+    }
+
+    /**
+     * Returns the item at the given index in iteration order, so {@code select(0)} is the first item and
+     * {@code select(size() - 1)} is the last.  Runs in O(log n).
+     */
+    @Override
+    public T select(int index)
+    {
+        return this.items.keyAt(index);
+    }
+
+    /**
+     * Returns the number of occurrences of items greater than or equal to {@code from} and less than {@code to}.
+     * Runs in O(log n).
+     */
+    @Override
+    public int countBetween(T from, T to)
+    {
+        return this.items.countBetween(from, to);
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+        if (this.items.containsKey(object))
+        {
+            return this.items.rank((T) object);
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the items with the most occurrences like {@link org.eclipse.collections.api.bag.Bag#topOccurrences(int)},
+     * without sorting the whole bag.  The nodes are visited largest maximum first until the n-th highest count is known,
+     * and then only the subtrees whose maximum reaches that count are walked to collect the results.
+     */
+    @Override
+    public MutableList<ObjectIntPair<T>> topOccurrences(int n)
+    {
+        return this.items.topCounts(n);
+    }
+
+    @Override
+    public boolean add(T item)
+    {
+        this.addOccurrences(item, 1);
+        return true;
+    }
+
+    @Override
+    public int addOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative number of occurrences");
+        }
+        return this.items.addCount(item, occurrences);
+    }
+
+    @Override
+    public boolean remove(Object item)
+    {
+        return this.items.removeCount(item, 1) > 0;
+    }
+
+    @Override
+    public boolean removeOccurrences(Object item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative number of occurrences");
+        }
+        return this.items.removeCount(item, occurrences) > 0;
+    }
+
+    @Override
+    public boolean setOccurrences(T item, int occurrences)
+    {
+        if (occurrences < 0)
+        {
+            throw new IllegalArgumentException("Cannot set a negative number of occurrences");
+        }
+
+        int originalOccurrences = this.occurrencesOf(item);
+        if (originalOccurrences == occurrences)
+        {
+            return false;
+        }
+        if (occurrences > originalOccurrences)
+        {
+            this.addOccurrences(item, occurrences - originalOccurrences);
+        }
+        else
+        {
+            this.items.removeCount(item, originalOccurrences - occurrences);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean removeAllIterable(Iterable<?> iterable)
+    {
+        int oldSize = this.size();
+        for (Object each : iterable)
+        {
+            this.items.removeKey(each);
+        }
+        return this.size() != oldSize;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> predicate)
+    {
+        return this.removeIfWith((each, parameter) -> predicate.accept(each), null);
+    }
+
+    @Override
+    public <P> boolean removeIfWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.items.removeIf(predicate, parameter);
+    }
+
+    @Override
+    public void clear()
+    {
+        this.items.clear();
+    }
+
+    @Override
+    public int compareTo(SortedBag<T> otherBag)
+    {
+        return SortedBagIterables.compare(this, otherBag);
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeObject(this.comparator());
+        out.writeInt(this.sizeDistinct());
+        try
+        {
+            this.items.forEachKeyCount(new CheckedObjectIntProcedure<T>()
+            {
+                public void safeValue(T each, int count) throws Exception
+                {
+                    out.writeObject(each);
+                    out.writeInt(count);
+                }
+            });
+        }
+        catch (RuntimeException e)
+        {
+            if (e.getCause() instanceof IOException)
+            {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.items = new BTreeCountMap<>((Comparator<? super T>) in.readObject());
+        int size = in.readInt();
+        for (int i = 0; i < size; i++)
+        {
+            this.items.addCount((T) in.readObject(), in.readInt());
+        }
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.items.forEachKeyCount((each, occurrences) -> {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each);
+            }
+        });
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        Counter index = new Counter();
+        this.items.forEachKeyCount((each, occurrences) -> {
+            for (int i = 0; i < occurrences; i++)
+            {
+                objectIntProcedure.value(each, index.getCount());
+                index.increment();
+            }
+        });
+    }
+
+    @Override
+    public void forEach(int fromIndex, int toIndex, Procedure<? super T> procedure)
+    {
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size());
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
+        }
+
+        Iterator<T> iterator = this.items.occurrenceIterator(fromIndex);
+        for (int i = fromIndex; i <= toIndex; i++)
+        {
+            procedure.value(iterator.next());
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size());
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
+        }
+
+        Iterator<T> iterator = this.items.occurrenceIterator(fromIndex);
+        for (int i = fromIndex; i <= toIndex; i++)
+        {
+            objectIntProcedure.value(iterator.next(), i);
+        }
+    }
+
+    @Override
+    public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
+    {
+        this.items.forEachKeyCount((each, occurrences) -> {
+            for (int i = 0; i < occurrences; i++)
+            {
+                procedure.value(each, parameter);
+            }
+        });
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return this.items.occurrenceIterator(0);
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.items.firstKey();
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.isEmpty() ? null : this.items.lastKey();
+    }
+
+    @Override
+    public BTreeBag<T> with(T element)
+    {
+        this.add(element);
+        return this;
+    }
+
+    public BTreeBag<T> with(T element1, T element2)
+    {
+        this.add(element1);
+        this.add(element2);
+        return this;
+    }
+
+    public BTreeBag<T> with(T element1, T element2, T element3)
+    {
+        this.add(element1);
+        this.add(element2);
+        this.add(element3);
+        return this;
+    }
+
+    public BTreeBag<T> with(T... elements)
+    {
+        this.addAll(Arrays.asList(elements));
+        return this;
+    }
+
+    @Override
+    public BTreeBag<T> without(T element)
+    {
+        this.remove(element);
+        return this;
+    }
+
+    @Override
+    public BTreeBag<T> withAll(Iterable<? extends T> iterable)
+    {
+        this.addAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public BTreeBag<T> withoutAll(Iterable<? extends T> iterable)
+    {
+        this.removeAllIterable(iterable);
+        return this;
+    }
+
+    @Override
+    public BTreeBag<T> newEmpty()
+    {
+        return BTreeBag.newBag(this.comparator());
+    }
+
+    @Override
+    public BTreeBag<T> select(Predicate<? super T> predicate)
+    {
+        return this.select(predicate, this.newEmpty());
+    }
+
+    @Override
+    public <P> BTreeBag<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.selectWith(predicate, parameter, this.newEmpty());
+    }
+
+    @Override
+    public BTreeBag<T> reject(Predicate<? super T> predicate)
+    {
+        return this.reject(predicate, this.newEmpty());
+    }
+
+    @Override
+    public <P> BTreeBag<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.rejectWith(predicate, parameter, this.newEmpty());
+    }
+
+    @Override
+    public MutableSortedSet<Pair<T, Integer>> zipWithIndex()
+    {
+        Comparator<? super T> comparator = this.comparator();
+        return this.zipWithIndex(TreeSortedSet.newSet(new Comparator<Pair<T, Integer>>()
+        {
+            public int compare(Pair<T, Integer> o1, Pair<T, Integer> o2)
+            {
+                int compare = comparator == null ? Comparators.nullSafeCompare(o1, o2) : comparator.compare(o1.getOne(), o2.getOne());
+                if (compare != 0)
+                {
+                    return compare;
+                }
+                return o1.getTwo().compareTo(o2.getTwo());
+            }
+        }));
+    }
+
+    @Override
+    public MutableSortedSet<T> distinct()
+    {
+        return TreeSortedSet.newSet(this.comparator(), this.getKeysView());
+    }
+
+    @Override
+    public <V> TreeBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, TreeBagMultimap.newMultimap(this.comparator()));
+    }
+
+    @Override
+    public <V> TreeBagMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, TreeBagMultimap.newMultimap(this.comparator()));
+    }
+
+    @Override
+    public int detectIndex(Predicate<? super T> predicate)
+    {
+        return Iterate.detectIndex(this, predicate);
+    }
+
+    @Override
+    public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super T, ? super S> predicate)
+    {
+        return OrderedIterate.corresponds(this, other, predicate);
+    }
+
+    @Override
+    public MutableStack<T> toStack()
+    {
+        return ArrayStack.newStack(this);
+    }
+
+    @Override
+    public MutableSortedBag<T> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        return IterableIterate.take(this, Math.min(this.size(), count), this.newEmpty());
+    }
+
+    @Override
+    public MutableSortedBag<T> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        return IterableIterate.drop(this, count, this.newEmpty());
+    }
+
+    @Override
+    public Comparator<? super T> comparator()
+    {
+        return this.items.comparator();
+    }
+}
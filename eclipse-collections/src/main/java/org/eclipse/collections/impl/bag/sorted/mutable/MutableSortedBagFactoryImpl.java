@@ -100,4 +100,16 @@ public final class MutableSortedBagFactoryImpl implements MutableSortedBagFactor
     {
         return TreeBag.newBag(comparator, items);
     }
+
+    @Override
+    public <T> MutableSortedBag<T> emptyBTree()
+    {
+        return BTreeBag.newBag();
+    }
+
+    @Override
+    public <T> MutableSortedBag<T> emptyBTree(Comparator<? super T> comparator)
+    {
+        return BTreeBag.newBag(comparator);
+    }
 }
@@ -11,7 +11,11 @@
 package org.eclipse.collections.impl.collector;
 
 import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.LongSummaryStatistics;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 
@@ -22,10 +26,18 @@ import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
 import org.eclipse.collections.api.bimap.ImmutableBiMap;
 import org.eclipse.collections.api.bimap.MutableBiMap;
 import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.FloatFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectLongMap;
 import org.eclipse.collections.api.multimap.ImmutableMultimap;
 import org.eclipse.collections.api.multimap.MutableMultimap;
 import org.eclipse.collections.api.multimap.bag.ImmutableBagMultimap;
@@ -40,6 +52,7 @@ import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.api.stack.ImmutableStack;
 import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.impl.bag.mutable.ConcurrentHashBag;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.factory.Bags;
 import org.eclipse.collections.impl.factory.BiMaps;
@@ -50,16 +63,32 @@ import org.eclipse.collections.impl.factory.Sets;
 import org.eclipse.collections.impl.factory.SortedBags;
 import org.eclipse.collections.impl.factory.SortedSets;
 import org.eclipse.collections.impl.factory.Stacks;
+import org.eclipse.collections.impl.factory.primitive.ObjectDoubleMaps;
+import org.eclipse.collections.impl.factory.primitive.ObjectLongMaps;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import org.eclipse.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
+import org.eclipse.collections.impl.multimap.list.ConcurrentListMultimap;
+import org.eclipse.collections.impl.multimap.set.ConcurrentSetMultimap;
 
 /**
  * A set of Collectors for Eclipse Collections types and algorithms.
  * Includes converters to{Immutable}{Sorted}{List/Set/Bag/Map/BiMap/Multimap}.
+ * <p>
+ * The {@code toConcurrent*}, {@code aggregateInPlaceByConcurrent} and {@code sumBy*Concurrent} collectors are
+ * {@link Collector.Characteristics#CONCURRENT CONCURRENT} and {@link Collector.Characteristics#UNORDERED UNORDERED}.
+ * A parallel stream accumulates all of its elements straight into a single concurrent container shared by its threads,
+ * instead of building a container per segment and merging the containers with addAll.  The containers are backed by
+ * {@link ConcurrentHashMap}, so they do not support null keys or elements.
  *
  * @since 8.0
  */
 public final class Collectors2
 {
     private static final Collector.Characteristics[] EMPTY_CHARACTERISTICS = {};
+    private static final Collector.Characteristics[] CONCURRENT_CHARACTERISTICS = {
+            Collector.Characteristics.CONCURRENT,
+            Collector.Characteristics.UNORDERED};
     private static final Collector<?, ?, String> DEFAULT_MAKE_STRING = Collectors2.makeString(", ");
 
     private Collectors2()
@@ -187,6 +216,15 @@ public final class Collectors2
                 Collector.Characteristics.UNORDERED);
     }
 
+    public static <T> Collector<T, ?, MutableBag<T>> toConcurrentBag()
+    {
+        return Collector.<T, MutableBag<T>>of(
+                ConcurrentHashBag::newBag,
+                MutableBag::add,
+                MutableBag::withAll,
+                CONCURRENT_CHARACTERISTICS);
+    }
+
     public static <T> Collector<T, ?, MutableList<T>> toSortedList()
     {
         return Collector.<T, MutableList<T>, MutableList<T>>of(
@@ -357,6 +395,186 @@ public final class Collectors2
                 EMPTY_CHARACTERISTICS);
     }
 
+    /**
+     * Returns a collector which aggregates the elements into a {@link ConcurrentHashMap} with one value per group, like
+     * {@link org.eclipse.collections.api.RichIterable#aggregateInPlaceBy(Function, Function0, Procedure2)}.  The values
+     * are shared by all the threads of a parallel stream, so the {@code mutatingAggregator} must be thread-safe, for
+     * example by updating an {@link java.util.concurrent.atomic.AtomicInteger}.  When the collector is nested in a
+     * non-concurrent one, such as {@link java.util.stream.Collectors#partitioningBy(java.util.function.Predicate,
+     * Collector)}, the maps of the segments are combined by calling the {@code mergeFunction} with the value of the
+     * first map and the value of the second map for the same key.
+     */
+    public static <T, K, V> Collector<T, ?, MutableMap<K, V>> aggregateInPlaceByConcurrent(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Procedure2<? super V, ? super T> mutatingAggregator,
+            Procedure2<? super V, ? super V> mergeFunction)
+    {
+        return Collector.<T, MutableMap<K, V>>of(
+                ConcurrentHashMap::newMap,
+                (map, each) -> mutatingAggregator.value(map.getIfAbsentPut(groupBy.valueOf(each), zeroValueFactory), each),
+                (r1, r2) ->
+                {
+                    r2.forEachKeyValue((key, value) -> mergeFunction.value(r1.getIfAbsentPut(key, zeroValueFactory), value));
+                    return r1;
+                },
+                CONCURRENT_CHARACTERISTICS);
+    }
+
+    public static <T, V> Collector<T, ?, MutableBag<V>> countBy(Function<? super T, ? extends V> function)
+    {
+        return Collector.<T, MutableBag<V>>of(
+                Bags.mutable::empty,
+                (bag, each) -> bag.add(function.valueOf(each)),
+                MutableBag::withAll,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <T, V> Collector<T, ?, MutableObjectLongMap<V>> sumByInt(
+            Function<? super T, ? extends V> groupBy,
+            IntFunction<? super T> function)
+    {
+        return Collector.<T, MutableObjectLongMap<V>>of(
+                ObjectLongMaps.mutable::empty,
+                (map, each) -> map.addToValue(groupBy.valueOf(each), (long) function.intValueOf(each)),
+                Collectors2::mergeLongSums,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <T, V> Collector<T, ?, MutableObjectLongMap<V>> sumByLong(
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function)
+    {
+        return Collector.<T, MutableObjectLongMap<V>>of(
+                ObjectLongMaps.mutable::empty,
+                (map, each) -> map.addToValue(groupBy.valueOf(each), function.longValueOf(each)),
+                Collectors2::mergeLongSums,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector which sums the values of each group with Kahan summation, like
+     * {@link org.eclipse.collections.api.RichIterable#sumByFloat(Function, FloatFunction)}.
+     */
+    public static <T, V> Collector<T, ?, MutableObjectDoubleMap<V>> sumByFloat(
+            Function<? super T, ? extends V> groupBy,
+            FloatFunction<? super T> function)
+    {
+        return Collector.<T, DoubleSums<V>, MutableObjectDoubleMap<V>>of(
+                DoubleSums::new,
+                (sums, each) -> sums.add(groupBy.valueOf(each), (double) function.floatValueOf(each)),
+                DoubleSums::merge,
+                DoubleSums::getSums,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Returns a collector which sums the values of each group with Kahan summation, like
+     * {@link org.eclipse.collections.api.RichIterable#sumByDouble(Function, DoubleFunction)}.
+     */
+    public static <T, V> Collector<T, ?, MutableObjectDoubleMap<V>> sumByDouble(
+            Function<? super T, ? extends V> groupBy,
+            DoubleFunction<? super T> function)
+    {
+        return Collector.<T, DoubleSums<V>, MutableObjectDoubleMap<V>>of(
+                DoubleSums::new,
+                (sums, each) -> sums.add(groupBy.valueOf(each), function.doubleValueOf(each)),
+                DoubleSums::merge,
+                DoubleSums::getSums,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <T, V> Collector<T, ?, MutableMap<V, IntSummaryStatistics>> summarizeIntBy(
+            Function<? super T, ? extends V> groupBy,
+            IntFunction<? super T> function)
+    {
+        return Collector.<T, MutableMap<V, IntSummaryStatistics>>of(
+                Maps.mutable::empty,
+                (map, each) -> map.getIfAbsentPut(groupBy.valueOf(each), IntSummaryStatistics::new).accept(function.intValueOf(each)),
+                (r1, r2) ->
+                {
+                    r2.forEachKeyValue((key, statistics) -> r1.getIfAbsentPut(key, IntSummaryStatistics::new).combine(statistics));
+                    return r1;
+                },
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <T, V> Collector<T, ?, MutableMap<V, LongSummaryStatistics>> summarizeLongBy(
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function)
+    {
+        return Collector.<T, MutableMap<V, LongSummaryStatistics>>of(
+                Maps.mutable::empty,
+                (map, each) -> map.getIfAbsentPut(groupBy.valueOf(each), LongSummaryStatistics::new).accept(function.longValueOf(each)),
+                (r1, r2) ->
+                {
+                    r2.forEachKeyValue((key, statistics) -> r1.getIfAbsentPut(key, LongSummaryStatistics::new).combine(statistics));
+                    return r1;
+                },
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public static <T, V> Collector<T, ?, MutableMap<V, DoubleSummaryStatistics>> summarizeFloatBy(
+            Function<? super T, ? extends V> groupBy,
+            FloatFunction<? super T> function)
+    {
+        return Collectors2.summarizeDoubleBy(groupBy, each -> (double) function.floatValueOf(each));
+    }
+
+    public static <T, V> Collector<T, ?, MutableMap<V, DoubleSummaryStatistics>> summarizeDoubleBy(
+            Function<? super T, ? extends V> groupBy,
+            DoubleFunction<? super T> function)
+    {
+        return Collector.<T, MutableMap<V, DoubleSummaryStatistics>>of(
+                Maps.mutable::empty,
+                (map, each) -> map.getIfAbsentPut(groupBy.valueOf(each), DoubleSummaryStatistics::new).accept(function.doubleValueOf(each)),
+                (r1, r2) ->
+                {
+                    r2.forEachKeyValue((key, statistics) -> r1.getIfAbsentPut(key, DoubleSummaryStatistics::new).combine(statistics));
+                    return r1;
+                },
+                Collector.Characteristics.UNORDERED);
+    }
+
+    private static <V> MutableObjectLongMap<V> mergeLongSums(MutableObjectLongMap<V> r1, MutableObjectLongMap<V> r2)
+    {
+        if (r1.size() < r2.size())
+        {
+            r1.forEachKeyValue(r2::addToValue);
+            return r2;
+        }
+        r2.forEachKeyValue(r1::addToValue);
+        return r1;
+    }
+
+    public static <T, V> Collector<T, ?, MutableObjectLongMap<V>> sumByIntConcurrent(
+            Function<? super T, ? extends V> groupBy,
+            IntFunction<? super T> function)
+    {
+        return Collectors2.sumByLongConcurrent(groupBy, each -> (long) function.intValueOf(each));
+    }
+
+    public static <T, V> Collector<T, ?, MutableObjectLongMap<V>> sumByLongConcurrent(
+            Function<? super T, ? extends V> groupBy,
+            LongFunction<? super T> function)
+    {
+        return Collector.<T, MutableMap<V, LongAdder>, MutableObjectLongMap<V>>of(
+                ConcurrentHashMap::newMap,
+                (map, each) -> map.getIfAbsentPut(groupBy.valueOf(each), LongAdder::new).add(function.longValueOf(each)),
+                (r1, r2) ->
+                {
+                    r2.forEachKeyValue((key, sum) -> r1.getIfAbsentPut(key, LongAdder::new).add(sum.sum()));
+                    return r1;
+                },
+                map ->
+                {
+                    MutableObjectLongMap<V> result = ObjectLongHashMap.newMap();
+                    map.forEachKeyValue((key, sum) -> result.put(key, sum.sum()));
+                    return result;
+                },
+                CONCURRENT_CHARACTERISTICS);
+    }
+
     private static <T, K, R extends MutableMultimap<K, T>> Collector<T, ?, R> groupBy(
             Function<? super T, ? extends K> groupBy,
             Supplier<R> supplier)
@@ -423,6 +641,37 @@ public final class Collectors2
                 EMPTY_CHARACTERISTICS);
     }
 
+    private static <T, K, R extends MutableMultimap<K, T>> Collector<T, ?, R> groupByConcurrent(
+            Function<? super T, ? extends K> groupBy,
+            Supplier<R> supplier)
+    {
+        return Collector.of(
+                supplier,
+                (map, each) -> map.put(groupBy.valueOf(each), each),
+                (r1, r2) ->
+                {
+                    r1.putAll(r2);
+                    return r1;
+                },
+                CONCURRENT_CHARACTERISTICS);
+    }
+
+    private static <T, K, V, R extends MutableMultimap<K, V>> Collector<T, ?, R> groupByConcurrent(
+            Function<? super T, ? extends K> groupBy,
+            Function<? super T, ? extends V> valueFunction,
+            Supplier<R> supplier)
+    {
+        return Collector.of(
+                supplier,
+                (map, each) -> map.put(groupBy.valueOf(each), valueFunction.valueOf(each)),
+                (r1, r2) ->
+                {
+                    r1.putAll(r2);
+                    return r1;
+                },
+                CONCURRENT_CHARACTERISTICS);
+    }
+
     public static <T, K> Collector<T, ?, MutableListMultimap<K, T>> toListMultimap(
             Function<? super T, ? extends K> groupBy)
     {
@@ -462,6 +711,45 @@ public final class Collectors2
         return Collectors2.groupBy(groupBy, valueFunction, Multimaps.mutable.bag::empty);
     }
 
+    public static <T, K> Collector<T, ?, MutableListMultimap<K, T>> toConcurrentListMultimap(
+            Function<? super T, ? extends K> groupBy)
+    {
+        return Collectors2.groupByConcurrent(groupBy, ConcurrentListMultimap::newMultimap);
+    }
+
+    public static <T, K, V> Collector<T, ?, MutableListMultimap<K, V>> toConcurrentListMultimap(
+            Function<? super T, ? extends K> groupBy,
+            Function<? super T, ? extends V> valueFunction)
+    {
+        return Collectors2.groupByConcurrent(groupBy, valueFunction, ConcurrentListMultimap::newMultimap);
+    }
+
+    public static <T, K> Collector<T, ?, MutableSetMultimap<K, T>> toConcurrentSetMultimap(
+            Function<? super T, ? extends K> groupBy)
+    {
+        return Collectors2.groupByConcurrent(groupBy, ConcurrentSetMultimap::newMultimap);
+    }
+
+    public static <T, K, V> Collector<T, ?, MutableSetMultimap<K, V>> toConcurrentSetMultimap(
+            Function<? super T, ? extends K> groupBy,
+            Function<? super T, ? extends V> valueFunction)
+    {
+        return Collectors2.groupByConcurrent(groupBy, valueFunction, ConcurrentSetMultimap::newMultimap);
+    }
+
+    public static <T, K> Collector<T, ?, MutableBagMultimap<K, T>> toConcurrentBagMultimap(
+            Function<? super T, ? extends K> groupBy)
+    {
+        return Collectors2.groupByConcurrent(groupBy, SynchronizedPutHashBagMultimap::newMultimap);
+    }
+
+    public static <T, K, V> Collector<T, ?, MutableBagMultimap<K, V>> toConcurrentBagMultimap(
+            Function<? super T, ? extends K> groupBy,
+            Function<? super T, ? extends V> valueFunction)
+    {
+        return Collectors2.groupByConcurrent(groupBy, valueFunction, SynchronizedPutHashBagMultimap::newMultimap);
+    }
+
     public static <T, K> Collector<T, ?, ImmutableListMultimap<K, T>> toImmutableListMultimap(
             Function<? super T, ? extends K> groupBy)
     {
@@ -500,5 +788,39 @@ public final class Collectors2
     {
         return Collectors2.groupByImmutable(groupBy, valueFunction, Multimaps.mutable.bag::empty, MutableBagMultimap::toImmutable);
     }
-}
 
+    /**
+     * The Kahan sums of the groups of sumByFloat and sumByDouble, together with their compensations.
+     */
+    private static final class DoubleSums<V>
+    {
+        private final MutableObjectDoubleMap<V> sums = ObjectDoubleMaps.mutable.empty();
+        private final MutableObjectDoubleMap<V> compensations = ObjectDoubleMaps.mutable.empty();
+
+        public void add(V key, double value)
+        {
+            this.addWithCompensation(key, value, 0.0d);
+        }
+
+        private void addWithCompensation(V key, double value, double valueCompensation)
+        {
+            double sum = this.sums.get(key);
+            double compensation = this.compensations.get(key) + valueCompensation;
+            double adjustedValue = value - compensation;
+            double nextSum = sum + adjustedValue;
+            this.compensations.put(key, nextSum - sum - adjustedValue);
+            this.sums.put(key, nextSum);
+        }
+
+        public DoubleSums<V> merge(DoubleSums<V> other)
+        {
+            other.sums.forEachKeyValue((key, value) -> this.addWithCompensation(key, value, other.compensations.get(key)));
+            return this;
+        }
+
+        public MutableObjectDoubleMap<V> getSums()
+        {
+            return this.sums;
+        }
+    }
+}
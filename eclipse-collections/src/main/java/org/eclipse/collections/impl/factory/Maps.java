@@ -26,6 +26,7 @@ import org.eclipse.collections.impl.map.mutable.MutableMapFactoryImpl;
  * MutableMap&lt;String, String&gt; emptyMap = Maps.mutable.empty();
  * MutableMap&lt;String, String&gt; mapWith = Maps.mutable.with("a", "A", "b", "B", "c", "C");
  * MutableMap&lt;String, String&gt; mapOf = Maps.mutable.of("a", "A", "b", "B", "c", "C");
+ * MutableMap&lt;String, String&gt; openAddressingMap = Maps.mutable.emptyOpenAddressing();
  * </pre>
  *
  * Immutable Examples:
@@ -38,6 +38,7 @@ import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
@@ -49,6 +50,7 @@ import org.eclipse.collections.api.partition.list.PartitionMutableList;
 import org.eclipse.collections.api.stack.MutableStack;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.AbstractRichIterable;
+import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
@@ -75,6 +77,12 @@ import org.eclipse.collections.impl.utility.LazyIterate;
 /**
  * AbstractLazyIterable provides a base from which deferred iterables such as SelectIterable,
  * RejectIterable and CollectIterable can be derived.
+ * <p>
+ * Lazy iterables are evaluated by pushing elements: each stage wraps the procedure of the next stage and passes it to
+ * the internal iteration of its source, so a chain of stages runs as a single loop over the original collection.
+ * Operations which may stop early, such as detect and the satisfy methods, are built on {@link #anySatisfy(Predicate)},
+ * which the stages implement on top of the short-circuiting anySatisfy of their source.  {@link #iterator()} is only
+ * used for external iteration.
  */
 @Immutable
 public abstract class AbstractLazyIterable<T>
@@ -126,6 +134,43 @@ public abstract class AbstractLazyIterable<T>
         return result[0];
     }
 
+    @Override
+    public T detect(Predicate<? super T> predicate)
+    {
+        T[] result = (T[]) new Object[1];
+        this.anySatisfy(each -> {
+            if (predicate.accept(each))
+            {
+                result[0] = each;
+                return true;
+            }
+            return false;
+        });
+        return result[0];
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(Predicates.not(predicate));
+    }
+
+    @Override
+    public boolean noneSatisfy(Predicate<? super T> predicate)
+    {
+        return !this.anySatisfy(predicate);
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        Counter index = new Counter();
+        this.each(each -> {
+            objectIntProcedure.value(each, index.getCount());
+            index.increment();
+        });
+    }
+
     @Override
     public LazyIterable<T> select(Predicate<? super T> predicate)
     {
@@ -14,9 +14,13 @@ import java.util.Iterator;
 
 import net.jcip.annotations.Immutable;
 import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.lazy.iterator.ChunkIterator;
-import org.eclipse.collections.impl.utility.internal.IterableIterate;
+import org.eclipse.collections.impl.utility.Iterate;
 
 /**
  * A ChunkIterable is an iterable that partitions a source iterable into fixed size chunks as it iterates.
@@ -48,6 +52,29 @@ public class ChunkIterable<T>
     @Override
     public void each(Procedure<? super RichIterable<T>> procedure)
     {
-        IterableIterate.forEach(this, procedure);
+        this.anySatisfy(each -> {
+            procedure.value(each);
+            return false;
+        });
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super RichIterable<T>> predicate)
+    {
+        Function0<MutableCollection<T>> speciesNewStrategy = this.iterable instanceof MutableCollection
+                ? ((MutableCollection<T>) this.iterable)::newEmpty
+                : Lists.mutable::empty;
+        MutableCollection<T>[] chunk = new MutableCollection[]{speciesNewStrategy.value()};
+        boolean satisfied = Iterate.anySatisfy(this.iterable, each -> {
+            chunk[0].add(each);
+            if (chunk[0].size() < this.size)
+            {
+                return false;
+            }
+            MutableCollection<T> fullChunk = chunk[0];
+            chunk[0] = speciesNewStrategy.value();
+            return predicate.accept(fullChunk);
+        });
+        return satisfied || chunk[0].notEmpty() && predicate.accept(chunk[0]);
     }
 }
@@ -13,10 +13,14 @@ package org.eclipse.collections.impl.lazy;
 import java.util.Iterator;
 
 import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.lazy.iterator.TakeIterator;
+import org.eclipse.collections.impl.utility.Iterate;
 
 /**
  * Iterates over the first count elements of the adapted Iterable or the full size of the adapted
@@ -38,42 +42,57 @@ public class TakeIterable<T> extends AbstractLazyIterable<T>
         this.count = count;
     }
 
-    // TODO: implement in terms of LazyIterate.whileDo() when it is added.
-
     @Override
     public void each(Procedure<? super T> procedure)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
-        {
-            procedure.value(iterator.next());
-            i++;
-        }
+        this.anySatisfyWithIndex((each, index) -> {
+            procedure.value(each);
+            return false;
+        });
     }
 
     @Override
     public void forEachWithIndex(ObjectIntProcedure<? super T> procedure)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
-        {
-            procedure.value(iterator.next(), i);
-            i++;
-        }
+        this.anySatisfyWithIndex((each, index) -> {
+            procedure.value(each, index);
+            return false;
+        });
     }
 
     @Override
     public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
     {
-        int i = 0;
-        Iterator<T> iterator = this.adapted.iterator();
-        while (i < this.count && iterator.hasNext())
+        this.anySatisfyWithIndex((each, index) -> {
+            procedure.value(each, parameter);
+            return false;
+        });
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.anySatisfyWithIndex((each, index) -> predicate.accept(each));
+    }
+
+    /**
+     * Pushes the first count elements into the predicate through the internal iteration of the adapted iterable, and
+     * stops the adapted iterable as soon as the predicate accepts an element or count elements have been seen.
+     */
+    private boolean anySatisfyWithIndex(ObjectIntPredicate<? super T> predicate)
+    {
+        if (this.count == 0)
         {
-            procedure.value(iterator.next(), parameter);
-            i++;
+            return false;
         }
+        Counter index = new Counter();
+        boolean[] result = new boolean[1];
+        Iterate.anySatisfy(this.adapted, each -> {
+            result[0] = predicate.accept(each, index.getCount());
+            index.increment();
+            return result[0] || index.getCount() == this.count;
+        });
+        return result[0];
     }
 
     @Override
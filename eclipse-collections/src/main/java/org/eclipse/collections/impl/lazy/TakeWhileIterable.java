@@ -13,10 +13,13 @@ package org.eclipse.collections.impl.lazy;
 import java.util.Iterator;
 
 import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.primitive.ObjectIntPredicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.lazy.iterator.TakeWhileIterator;
+import org.eclipse.collections.impl.utility.Iterate;
 
 /**
  * Iterates over the elements of the adapted Iterable until the predicate returns false.
@@ -41,42 +44,55 @@ public class TakeWhileIterable<T> extends AbstractLazyIterable<T>
     @Override
     public void each(Procedure<? super T> procedure)
     {
-        for (T each : this.adapted)
-        {
-            if (!this.predicate.accept(each))
-            {
-                return;
-            }
+        this.anySatisfyWithIndex((each, index) -> {
             procedure.value(each);
-        }
+            return false;
+        });
     }
 
     @Override
     public void forEachWithIndex(ObjectIntProcedure<? super T> procedure)
     {
-        int i = 0;
-        for (T each : this.adapted)
-        {
-            if (!this.predicate.accept(each))
-            {
-                return;
-            }
-            procedure.value(each, i);
-            i++;
-        }
+        this.anySatisfyWithIndex((each, index) -> {
+            procedure.value(each, index);
+            return false;
+        });
     }
 
     @Override
     public <P> void forEachWith(Procedure2<? super T, ? super P> procedure, P parameter)
     {
-        for (T each : this.adapted)
-        {
+        this.anySatisfyWithIndex((each, index) -> {
+            procedure.value(each, parameter);
+            return false;
+        });
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super T> predicate)
+    {
+        return this.anySatisfyWithIndex((each, index) -> predicate.accept(each));
+    }
+
+    /**
+     * Pushes the leading elements which satisfy the take predicate into the given predicate through the internal
+     * iteration of the adapted iterable, and stops the adapted iterable as soon as the given predicate accepts an
+     * element or the take predicate rejects one.
+     */
+    private boolean anySatisfyWithIndex(ObjectIntPredicate<? super T> predicate)
+    {
+        Counter index = new Counter();
+        boolean[] result = new boolean[1];
+        Iterate.anySatisfy(this.adapted, each -> {
             if (!this.predicate.accept(each))
             {
-                return;
+                return true;
             }
-            procedure.value(each, parameter);
-        }
+            result[0] = predicate.accept(each, index.getCount());
+            index.increment();
+            return result[0];
+        });
+        return result[0];
     }
 
     @Override
@@ -13,10 +13,12 @@ package org.eclipse.collections.impl.lazy;
 import java.util.Iterator;
 
 import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.lazy.iterator.ZipIterator;
-import org.eclipse.collections.impl.utility.internal.IterableIterate;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.Iterate;
 
 /**
  * A ZipIterable is an iterable that transforms a source iterable on a condition as it iterates.
@@ -43,6 +45,29 @@ public class ZipIterable<X, Y>
     @Override
     public void each(Procedure<? super Pair<X, Y>> procedure)
     {
-        IterableIterate.forEach(this, procedure);
+        this.anySatisfy(each -> {
+            procedure.value(each);
+            return false;
+        });
+    }
+
+    /**
+     * Pushes the elements of xs through their internal iteration, and pulls the matching elements of ys from an
+     * iterator.
+     */
+    @Override
+    public boolean anySatisfy(Predicate<? super Pair<X, Y>> predicate)
+    {
+        Iterator<Y> yIterator = this.ys.iterator();
+        boolean[] result = new boolean[1];
+        Iterate.anySatisfy(this.xs, each -> {
+            if (!yIterator.hasNext())
+            {
+                return true;
+            }
+            result[0] = predicate.accept(Tuples.pair(each, yIterator.next()));
+            return result[0];
+        });
+        return result[0];
     }
 }
@@ -13,10 +13,13 @@ package org.eclipse.collections.impl.lazy;
 import java.util.Iterator;
 
 import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.lazy.iterator.ZipWithIndexIterator;
-import org.eclipse.collections.impl.utility.internal.IterableIterate;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.Iterate;
 
 /**
  * A CollectIterable is an iterable that transforms a source iterable on a condition as it iterates.
@@ -41,6 +44,21 @@ public class ZipWithIndexIterable<T>
     @Override
     public void each(Procedure<? super Pair<T, Integer>> procedure)
     {
-        IterableIterate.forEach(this, procedure);
+        Counter index = new Counter();
+        Iterate.forEach(this.iterable, each -> {
+            procedure.value(Tuples.pair(each, index.getCount()));
+            index.increment();
+        });
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super Pair<T, Integer>> predicate)
+    {
+        Counter index = new Counter();
+        return Iterate.anySatisfy(this.iterable, each -> {
+            Pair<T, Integer> pair = Tuples.pair(each, index.getCount());
+            index.increment();
+            return predicate.accept(pair);
+        });
     }
 }
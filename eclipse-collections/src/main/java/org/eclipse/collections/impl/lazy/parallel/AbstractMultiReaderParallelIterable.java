@@ -764,6 +764,34 @@ public abstract class AbstractMultiReaderParallelIterable<T, PI extends Parallel
         }
     }
 
+    @Override
+    public <K, V> MapIterable<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator, Procedure2<? super V, ? super V> mutatingCombiner)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.aggregateInPlaceBy(groupBy, zeroValueFactory, mutatingAggregator, mutatingCombiner);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator, Function2<? super V, ? super V, ? extends V> nonMutatingCombiner)
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            return this.delegate.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator, nonMutatingCombiner);
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
     @Override
     public String toString()
     {
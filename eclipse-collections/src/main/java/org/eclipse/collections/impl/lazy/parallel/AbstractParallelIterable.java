@@ -11,6 +11,7 @@
 package org.eclipse.collections.impl.lazy.parallel;
 
 import java.io.IOException;
+import java.lang.reflect.Array;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.NoSuchElementException;
@@ -20,7 +21,10 @@ import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.ParallelIterable;
@@ -38,6 +42,7 @@ import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
@@ -57,12 +62,17 @@ import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
 import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
 import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure2;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.CompositeFastList;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
 import org.eclipse.collections.impl.map.mutable.ConcurrentHashMapUnsafe;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.map.sorted.mutable.TreeSortedMap;
+import org.eclipse.collections.impl.parallel.AdaptiveRangeFJTask;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.parallel.PassThruCombiner;
+import org.eclipse.collections.impl.parallel.PassThruObjectIntProcedureFactory;
 import org.eclipse.collections.impl.set.mutable.SetAdapter;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
@@ -72,6 +82,17 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 {
     protected static <T> void forEach(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Procedure<? super T> procedure)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            AbstractParallelIterable.collectOnForkJoinPool(
+                    (ForkJoinPool) parallelIterable.getExecutorService(),
+                    parallelIterable.split(),
+                    chunk -> {
+                        chunk.forEach(procedure);
+                        return null;
+                    });
+            return;
+        }
         LazyIterable<Future<?>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<?>>()
         {
             public Future<?> valueOf(RootBatch<T> chunk)
@@ -101,6 +122,21 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean anySatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            AtomicBoolean satisfied = new AtomicBoolean();
+            AbstractParallelIterable.collectOnForkJoinPool(
+                    (ForkJoinPool) parallelIterable.getExecutorService(),
+                    parallelIterable.split(),
+                    batch -> {
+                        if (!satisfied.get() && batch.anySatisfy(predicate))
+                        {
+                            satisfied.set(true);
+                        }
+                        return null;
+                    });
+            return satisfied.get();
+        }
         CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<Boolean>>()
         {
@@ -140,6 +176,21 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> boolean allSatisfy(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            AtomicBoolean unsatisfied = new AtomicBoolean();
+            AbstractParallelIterable.collectOnForkJoinPool(
+                    (ForkJoinPool) parallelIterable.getExecutorService(),
+                    parallelIterable.split(),
+                    batch -> {
+                        if (!unsatisfied.get() && !batch.allSatisfy(predicate))
+                        {
+                            unsatisfied.set(true);
+                        }
+                        return null;
+                    });
+            return !unsatisfied.get();
+        }
         CompletionService<Boolean> completionService = new ExecutorCompletionService<>(parallelIterable.getExecutorService());
         MutableSet<Future<Boolean>> futures = parallelIterable.split().collect(new Function<RootBatch<T>, Future<Boolean>>()
         {
@@ -179,6 +230,26 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected static <T> T detect(AbstractParallelIterable<T, ? extends RootBatch<T>> parallelIterable, Predicate<? super T> predicate)
     {
+        if (parallelIterable.getExecutorService() instanceof ForkJoinPool)
+        {
+            AtomicBoolean found = new AtomicBoolean();
+            MutableList<T> results = AbstractParallelIterable.collectOnForkJoinPool(
+                    (ForkJoinPool) parallelIterable.getExecutorService(),
+                    parallelIterable.split(),
+                    batch -> {
+                        if (found.get())
+                        {
+                            return null;
+                        }
+                        T result = batch.detect(predicate);
+                        if (result != null)
+                        {
+                            found.set(true);
+                        }
+                        return result;
+                    });
+            return results.detect(Predicates.notNull());
+        }
         LazyIterable<? extends RootBatch<T>> chunks = parallelIterable.split();
         LazyIterable<Future<T>> futures = chunks.collect(new Function<RootBatch<T>, Future<T>>()
         {
@@ -216,6 +287,175 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return null;
     }
 
+    /**
+     * Evaluates the function on each batch on a ForkJoinPool, and returns the results in the order of the batches.
+     * Consecutive batches are run by the same task when they turn out to be cheap, see {@link AdaptiveRangeFJTask}.
+     * A NullPointerException thrown by the function is rethrown as is, any other failure is wrapped in a
+     * RuntimeException.
+     */
+    private static <B, V> MutableList<V> collectOnForkJoinPool(
+            ForkJoinPool pool,
+            LazyIterable<B> batches,
+            Function<? super B, ? extends V> function)
+    {
+        MutableList<B> batchList = batches.toList();
+        int batchCount = batchList.size();
+        MutableList<MutableList<V>> results;
+        try
+        {
+            results = AdaptiveRangeFJTask.invoke(
+                    pool,
+                    FastList::new,
+                    (MutableList<V> result, int from, int to) -> {
+                        for (int i = from; i < to; i++)
+                        {
+                            result.add(function.valueOf(batchList.get(i)));
+                        }
+                    },
+                    batchCount,
+                    (int) Math.ceil((double) batchCount / (double) pool.getParallelism()),
+                    1);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof NullPointerException)
+            {
+                throw (NullPointerException) e.getCause();
+            }
+            throw new RuntimeException(e);
+        }
+        MutableList<V> flattened = FastList.newList(batchCount);
+        for (MutableList<V> result : results)
+        {
+            flattened.addAll(result);
+        }
+        return flattened;
+    }
+
+    /**
+     * Evaluates the function on each unit on the executor, and returns the results in the order of the units.
+     */
+    private static <B, V> MutableList<V> collectOnExecutor(
+            ExecutorService executorService,
+            LazyIterable<B> units,
+            Function<? super B, ? extends V> function)
+    {
+        try
+        {
+            if (executorService instanceof ForkJoinPool)
+            {
+                return AbstractParallelIterable.collectOnForkJoinPool((ForkJoinPool) executorService, units, function);
+            }
+            // The call to toList() is important to stop the lazy evaluation and force all the Callables to start executing.
+            MutableList<Future<V>> futures = units.collect(each -> executorService.submit(() -> (V) function.valueOf(each))).toList();
+            MutableList<V> results = FastList.newList(futures.size());
+            for (Future<V> future : futures)
+            {
+                results.add(future.get());
+            }
+            return results;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static int getParallelism(ExecutorService executorService)
+    {
+        return executorService instanceof ForkJoinPool
+                ? ((ForkJoinPool) executorService).getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Picks the shard of a key from the high bits of its scrambled hash code, so the keys of one shard stay spread over
+     * the low bits which the shard maps use.
+     */
+    private static int shardIndex(Object key, int shardBits)
+    {
+        int hashCode = key == null ? 0 : key.hashCode();
+        return (hashCode * 0x9E3779B9) >>> (Integer.SIZE - shardBits);
+    }
+
+    /**
+     * Aggregates the elements in key-sharded mode, and passes each key with its aggregated value to the result
+     * procedure.
+     * <p>
+     * One task per worker pulls batches and aggregates their elements into its own maps, one map per shard of the key
+     * hash codes, so the hot path neither locks nor shares memory with other workers, however skewed the keys are.
+     * Then one task per shard merges the values of that shard with the combiner.  Each key belongs to a single shard,
+     * so the aggregator and the combiner never see the same value concurrently, and the result procedure is called
+     * concurrently only for different keys.
+     */
+    protected <K, V> void aggregateByKeyShard(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            Function2<? super V, ? super V, ? extends V> nonMutatingCombiner,
+            Procedure2<? super K, ? super V> resultProcedure)
+    {
+        MutableList<B> batches = this.split().toList();
+        if (batches.isEmpty())
+        {
+            return;
+        }
+        ExecutorService executorService = this.getExecutorService();
+        int parallelism = AbstractParallelIterable.getParallelism(executorService);
+        int shardBits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(parallelism - 1));
+        int shardCount = 1 << shardBits;
+        int taskCount = Math.min(parallelism, batches.size());
+        AtomicInteger nextBatch = new AtomicInteger();
+
+        MutableList<MutableMap<K, V>[]> shardsByTask = AbstractParallelIterable.collectOnExecutor(
+                executorService,
+                Interval.zeroTo(taskCount - 1),
+                task -> {
+                    MutableMap<K, V>[] shards = new MutableMap[shardCount];
+                    for (int i = 0; i < shardCount; i++)
+                    {
+                        shards[i] = UnifiedMap.newMap();
+                    }
+                    Procedure<T> procedure = each -> {
+                        K key = groupBy.valueOf(each);
+                        shards[AbstractParallelIterable.shardIndex(key, shardBits)].updateValueWith(key, zeroValueFactory, nonMutatingAggregator, each);
+                    };
+                    for (int index = nextBatch.getAndIncrement(); index < batches.size(); index = nextBatch.getAndIncrement())
+                    {
+                        batches.get(index).forEach(procedure);
+                    }
+                    return shards;
+                });
+
+        AbstractParallelIterable.collectOnExecutor(
+                executorService,
+                Interval.zeroTo(shardCount - 1),
+                shard -> {
+                    MutableMap<K, V> merged = shardsByTask.getFirst()[shard];
+                    for (int task = 1; task < shardsByTask.size(); task++)
+                    {
+                        shardsByTask.get(task)[shard].forEachKeyValue((key, value) -> {
+                            V existing = merged.get(key);
+                            merged.put(key, existing == null && !merged.containsKey(key)
+                                    ? value
+                                    : nonMutatingCombiner.value(existing, value));
+                        });
+                    }
+                    merged.forEachKeyValue(resultProcedure);
+                    return null;
+                });
+    }
+
     public abstract ExecutorService getExecutorService();
 
     public abstract int getBatchSize();
@@ -226,7 +466,7 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     protected <S, V> void collectCombine(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
     {
-        if (this.isOrdered())
+        if (this.isOrdered() || this.getExecutorService() instanceof ForkJoinPool)
         {
             this.collectCombineOrdered(function, combineProcedure, state);
         }
@@ -238,6 +478,15 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private <S, V> void collectCombineOrdered(Function<Batch<T>, V> function, Procedure2<S, V> combineProcedure, S state)
     {
+        if (this.getExecutorService() instanceof ForkJoinPool)
+        {
+            MutableList<V> results = AbstractParallelIterable.collectOnForkJoinPool((ForkJoinPool) this.getExecutorService(), this.split(), function);
+            for (V result : results)
+            {
+                combineProcedure.value(state, result);
+            }
+            return;
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         LazyIterable<Future<V>> futures = chunks.collect(new Function<Batch<T>, Future<V>>()
         {
@@ -303,13 +552,30 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private T collectReduce(Function<Batch<T>, T> map, Function2<T, T, T> function2)
     {
-        return this.isOrdered()
+        return this.isOrdered() || this.getExecutorService() instanceof ForkJoinPool
                 ? this.collectReduceOrdered(map, function2)
                 : this.collectReduceUnordered(map, function2);
     }
 
     private T collectReduceOrdered(Function<Batch<T>, T> map, Function2<T, T, T> function2)
     {
+        if (this.getExecutorService() instanceof ForkJoinPool)
+        {
+            MutableList<T> results = AbstractParallelIterable.collectOnForkJoinPool((ForkJoinPool) this.getExecutorService(), this.split(), map);
+            T result = null;
+            for (T next : results)
+            {
+                if (next != null)
+                {
+                    result = result == null ? next : function2.value(result, next);
+                }
+            }
+            if (result == null)
+            {
+                throw new NoSuchElementException();
+            }
+            return result;
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         LazyIterable<Future<T>> futures = chunks.collect(new Function<Batch<T>, Future<T>>()
         {
@@ -542,13 +808,48 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
     @Override
     public Object[] toArray()
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".toArray() not implemented yet");
+        return this.toArray(new Object[0]);
     }
 
+    /**
+     * Evaluates each batch into its own list, and then copies the lists in parallel into adjacent ranges of a
+     * pre-sized array.  The ranges follow the order of the batches when this iterable is ordered.
+     */
     @Override
     public <E> E[] toArray(E[] array)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".toArray() not implemented yet");
+        Function<Batch<T>, FastList<T>> map = batch -> {
+            FastList<T> list = FastList.newList();
+            batch.forEach(CollectionAddProcedure.on(list));
+            return list;
+        };
+        MutableList<FastList<T>> batchLists = FastList.newList();
+        this.collectCombine(map, MutableList<FastList<T>>::add, batchLists);
+
+        int batchCount = batchLists.size();
+        int[] offsets = new int[batchCount + 1];
+        for (int i = 0; i < batchCount; i++)
+        {
+            offsets[i + 1] = offsets[i] + batchLists.get(i).size();
+        }
+        int size = offsets[batchCount];
+        E[] result = array.length < size
+                ? (E[]) Array.newInstance(array.getClass().getComponentType(), size)
+                : array;
+        ObjectIntProcedure<FastList<T>> copyProcedure =
+                (batchList, index) -> batchList.toArray(result, 0, batchList.size() - 1, offsets[index]);
+        ParallelIterate.forEachWithIndex(
+                batchLists,
+                new PassThruObjectIntProcedureFactory<>(copyProcedure),
+                new PassThruCombiner<>(),
+                1,
+                batchCount,
+                this.getExecutorService());
+        if (result.length > size)
+        {
+            result[size] = null;
+        }
+        return result;
     }
 
     @Override
@@ -567,13 +868,16 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
     @Override
     public MutableList<T> toSortedList()
     {
-        return this.toList().toSortedList();
+        return this.toSortedList(Comparators.naturalOrder());
     }
 
+    /**
+     * Copies the elements into an array in parallel, and then sorts it with a parallel merge sort on the same executor.
+     */
     @Override
     public MutableList<T> toSortedList(Comparator<? super T> comparator)
     {
-        return this.toList().toSortedList(comparator);
+        return FastList.newListWith((T[]) this.toArray()).sortThisParallel(comparator, this.getExecutorService());
     }
 
     @Override
@@ -695,6 +999,41 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
         return map;
     }
 
+    @Override
+    public <K, V> MapIterable<K, V> aggregateBy(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Function2<? super V, ? super T, ? extends V> nonMutatingAggregator,
+            Function2<? super V, ? super V, ? extends V> nonMutatingCombiner)
+    {
+        MutableMap<K, V> map = ConcurrentHashMap.newMap();
+        this.aggregateByKeyShard(groupBy, zeroValueFactory, nonMutatingAggregator, nonMutatingCombiner, map::put);
+        return map;
+    }
+
+    @Override
+    public <K, V> MapIterable<K, V> aggregateInPlaceBy(
+            Function<? super T, ? extends K> groupBy,
+            Function0<? extends V> zeroValueFactory,
+            Procedure2<? super V, ? super T> mutatingAggregator,
+            Procedure2<? super V, ? super V> mutatingCombiner)
+    {
+        MutableMap<K, V> map = ConcurrentHashMap.newMap();
+        this.aggregateByKeyShard(
+                groupBy,
+                zeroValueFactory,
+                (V value, T each) -> {
+                    mutatingAggregator.value(value, each);
+                    return value;
+                },
+                (V value, V other) -> {
+                    mutatingCombiner.value(value, other);
+                    return value;
+                },
+                map::put);
+        return map;
+    }
+
     @Override
     public int count(Predicate<? super T> predicate)
     {
@@ -777,6 +1116,16 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private long sumOfLongOrdered(LongFunction<Batch<T>> map)
     {
+        if (this.getExecutorService() instanceof ForkJoinPool)
+        {
+            MutableList<Long> results = AbstractParallelIterable.collectOnForkJoinPool((ForkJoinPool) this.getExecutorService(), this.split(), map::longValueOf);
+            long result = 0;
+            for (int i = 0; i < results.size(); i++)
+            {
+                result += results.get(i);
+            }
+            return result;
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         LazyIterable<Future<Long>> futures = chunks.collect(new Function<Batch<T>, Future<Long>>()
         {
@@ -809,6 +1158,21 @@ public abstract class AbstractParallelIterable<T, B extends Batch<T>> implements
 
     private double sumOfDoubleOrdered(Function<Batch<T>, DoubleSumResultHolder> map)
     {
+        if (this.getExecutorService() instanceof ForkJoinPool)
+        {
+            MutableList<DoubleSumResultHolder> results = AbstractParallelIterable.collectOnForkJoinPool((ForkJoinPool) this.getExecutorService(), this.split(), map);
+            double sum = 0.0d;
+            double compensation = 0.0d;
+            for (int i = 0; i < results.size(); i++)
+            {
+                compensation += results.get(i).getCompensation();
+                double adjustedValue = results.get(i).getResult() - compensation;
+                double nextSum = sum + adjustedValue;
+                compensation = nextSum - sum - adjustedValue;
+                sum = nextSum;
+            }
+            return sum;
+        }
         LazyIterable<? extends Batch<T>> chunks = this.split();
         LazyIterable<Future<DoubleSumResultHolder>> futures = chunks.collect(new Function<Batch<T>, Future<DoubleSumResultHolder>>()
         {
@@ -12,6 +12,7 @@ package org.eclipse.collections.impl.lazy.parallel;
 
 import org.eclipse.collections.api.ParallelIterable;
 import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
@@ -19,6 +20,7 @@ import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
 import org.eclipse.collections.api.multimap.bag.UnsortedBagMultimap;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.parallel.set.ParallelCollectIterable;
@@ -98,10 +100,12 @@ public abstract class AbstractParallelIterableImpl<T, B extends Batch<T>> extend
     public <V> UnsortedBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
         MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEach(each -> {
-            V key = function.valueOf(each);
-            result.put(key, each);
-        });
+        this.aggregateByKeyShard(
+                function,
+                HashBag::new,
+                (MutableBag<T> values, T each) -> values.with(each),
+                (MutableBag<T> values, MutableBag<T> otherValues) -> values.withAll(otherValues),
+                result::putAll);
         return result;
     }
 
@@ -520,6 +520,24 @@ public abstract class AbstractSynchronizedParallelIterable<T, PI extends Paralle
         }
     }
 
+    @Override
+    public <K, V> MapIterable<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator, Procedure2<? super V, ? super V> mutatingCombiner)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.aggregateInPlaceBy(groupBy, zeroValueFactory, mutatingAggregator, mutatingCombiner);
+        }
+    }
+
+    @Override
+    public <K, V> MapIterable<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator, Function2<? super V, ? super V, ? extends V> nonMutatingCombiner)
+    {
+        synchronized (this.lock)
+        {
+            return this.delegate.aggregateBy(groupBy, zeroValueFactory, nonMutatingAggregator, nonMutatingCombiner);
+        }
+    }
+
     @Override
     public String toString()
     {
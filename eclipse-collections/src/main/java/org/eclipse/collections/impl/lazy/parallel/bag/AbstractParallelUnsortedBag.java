@@ -25,6 +25,7 @@ import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.BagAddOccurrencesProcedure;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.lazy.parallel.ParallelDistinctIterable;
 import org.eclipse.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
 
 @Beta
@@ -39,7 +40,7 @@ public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<
     @Override
     public ParallelUnsortedSetIterable<T> asUnique()
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".asUnique() not implemented yet");
+        return new ParallelDistinctIterable<>(this);
     }
 
     @Override
@@ -93,7 +94,7 @@ public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<
     @Override
     public <V> ParallelUnsortedBag<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
     {
-        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".flatCollect() not implemented yet");
+        return new ParallelFlatCollectUnsortedBag<>(this, function);
     }
 
     @Override
@@ -108,13 +109,12 @@ public abstract class AbstractParallelUnsortedBag<T, B extends UnsortedBagBatch<
     public <V> UnsortedBagMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
         MutableBagMultimap<V, T> result = SynchronizedPutHashBagMultimap.newMultimap();
-        this.forEachWithOccurrences((each, occurrences) -> {
-            V key = function.valueOf(each);
-            for (int i = 0; i < occurrences; i++)
-            {
-                result.put(key, each);
-            }
-        });
+        this.aggregateByKeyShard(
+                function,
+                HashBag::new,
+                (MutableBag<T> values, T each) -> values.with(each),
+                (MutableBag<T> values, MutableBag<T> otherValues) -> values.withAll(otherValues),
+                result::putAll);
         return result;
     }
 
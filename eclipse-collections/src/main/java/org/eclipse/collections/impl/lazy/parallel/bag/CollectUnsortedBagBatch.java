@@ -40,7 +40,14 @@ public class CollectUnsortedBagBatch<T, V> extends AbstractBatch<V> implements U
     @Override
     public void forEachWithOccurrences(ObjectIntProcedure<? super V> procedure)
     {
-        throw new UnsupportedOperationException("not implemented yet");
+        if (this.unsortedBagBatch instanceof UnsortedBagBatch)
+        {
+            ((UnsortedBagBatch<T>) this.unsortedBagBatch).forEachWithOccurrences((each, occurrences) -> procedure.value(this.function.valueOf(each), occurrences));
+        }
+        else
+        {
+            this.unsortedBagBatch.forEach(each -> procedure.value(this.function.valueOf(each), 1));
+        }
     }
 
     /*
@@ -40,7 +40,14 @@ public class FlatCollectUnsortedBagBatch<T, V> extends AbstractBatch<V> implemen
     @Override
     public void forEachWithOccurrences(ObjectIntProcedure<? super V> procedure)
     {
-        throw new UnsupportedOperationException("not implemented yet");
+        if (this.unsortedBagBatch instanceof UnsortedBagBatch)
+        {
+            ((UnsortedBagBatch<T>) this.unsortedBagBatch).forEachWithOccurrences((each, occurrences) -> Iterate.forEach(this.function.valueOf(each), each1 -> procedure.value(each1, occurrences)));
+        }
+        else
+        {
+            this.unsortedBagBatch.forEach(each -> Iterate.forEach(this.function.valueOf(each), each1 -> procedure.value(each1, 1)));
+        }
     }
 
     @Override
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.bag;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.utility.Iterate;
+
+@Beta
+public class ParallelFlatCollectUnsortedBag<T, V> extends AbstractParallelUnsortedBag<V, UnsortedBagBatch<V>>
+{
+    private final AbstractParallelUnsortedBag<T, ? extends UnsortedBagBatch<T>> parallelIterable;
+    private final Function<? super T, ? extends Iterable<V>> function;
+
+    public ParallelFlatCollectUnsortedBag(AbstractParallelUnsortedBag<T, ? extends UnsortedBagBatch<T>> parallelIterable, Function<? super T, ? extends Iterable<V>> function)
+    {
+        this.parallelIterable = parallelIterable;
+        this.function = function;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.parallelIterable.getExecutorService();
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.parallelIterable.getBatchSize();
+    }
+
+    @Override
+    public LazyIterable<UnsortedBagBatch<V>> split()
+    {
+        return this.parallelIterable.split().collect(new Function<UnsortedBagBatch<T>, UnsortedBagBatch<V>>()
+        {
+            public UnsortedBagBatch<V> valueOf(UnsortedBagBatch<T> eachBatch)
+            {
+                return eachBatch.flatCollect(ParallelFlatCollectUnsortedBag.this.function);
+            }
+        });
+    }
+
+    @Override
+    public void forEach(Procedure<? super V> procedure)
+    {
+        this.parallelIterable.forEach(each -> Iterate.forEach(this.function.valueOf(each), procedure));
+    }
+
+    @Override
+    public void forEachWithOccurrences(ObjectIntProcedure<? super V> procedure)
+    {
+        this.parallelIterable.forEachWithOccurrences((each, occurrences) -> Iterate.forEach(this.function.valueOf(each), each1 -> procedure.value(each1, occurrences)));
+    }
+
+    @Override
+    public V detect(Predicate<? super V> predicate)
+    {
+        AtomicReference<V> result = new AtomicReference<>();
+        this.parallelIterable.anySatisfy(each -> Iterate.anySatisfy(this.function.valueOf(each), each1 -> {
+            if (predicate.accept(each1))
+            {
+                result.compareAndSet(null, each1);
+                return true;
+            }
+
+            return false;
+        }));
+
+        return result.get();
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super V> predicate)
+    {
+        return this.parallelIterable.anySatisfy(each -> Iterate.anySatisfy(this.function.valueOf(each), predicate));
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super V> predicate)
+    {
+        return this.parallelIterable.allSatisfy(each -> Iterate.allSatisfy(this.function.valueOf(each), predicate));
+    }
+}
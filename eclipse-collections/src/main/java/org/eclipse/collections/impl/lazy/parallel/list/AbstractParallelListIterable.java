@@ -15,6 +15,7 @@ import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
 import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.multimap.list.ListMultimap;
@@ -22,6 +23,7 @@ import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
 
 @Beta
 public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelListIterable<T>
@@ -113,17 +115,12 @@ public abstract class AbstractParallelListIterable<T, B extends ListBatch<T>> ex
         return this.toList().groupByUniqueKey(function);
     }
 
+    /**
+     * Returns the elements in their original order, in a list which wraps the array built by {@link #toArray()}.
+     */
     @Override
-    public Object[] toArray()
+    public MutableList<T> toList()
     {
-        // TODO: Implement in parallel
-        return this.toList().toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.toList().toArray(array);
+        return FastList.newListWith((T[]) this.toArray());
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.list;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.lazy.parallel.AbstractBatch;
+import org.eclipse.collections.impl.lazy.parallel.set.UnsortedSetBatch;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+
+/**
+ * A batch of an {@link IntervalParallelIterable}, which is itself a sub-interval, so its values are computed as it is
+ * iterated.
+ *
+ * @since 8.0
+ */
+@Beta
+public class IntervalBatch extends AbstractBatch<Integer> implements RootListBatch<Integer>
+{
+    private final Interval interval;
+
+    public IntervalBatch(Interval interval)
+    {
+        this.interval = interval;
+    }
+
+    @Override
+    public void forEach(Procedure<? super Integer> procedure)
+    {
+        this.interval.each(procedure);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super Integer> predicate)
+    {
+        return this.interval.anySatisfy(predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super Integer> predicate)
+    {
+        return this.interval.allSatisfy(predicate);
+    }
+
+    @Override
+    public Integer detect(Predicate<? super Integer> predicate)
+    {
+        return this.interval.detect(predicate);
+    }
+
+    @Override
+    public ListBatch<Integer> select(Predicate<? super Integer> predicate)
+    {
+        return new SelectListBatch<>(this, predicate);
+    }
+
+    @Override
+    public <V> ListBatch<V> collect(Function<? super Integer, ? extends V> function)
+    {
+        return new CollectListBatch<>(this, function);
+    }
+
+    @Override
+    public <V> ListBatch<V> flatCollect(Function<? super Integer, ? extends Iterable<V>> function)
+    {
+        return new FlatCollectListBatch<>(this, function);
+    }
+
+    @Override
+    public UnsortedSetBatch<Integer> distinct(ConcurrentHashMap<Integer, Boolean> distinct)
+    {
+        return new DistinctBatch<>(this, distinct);
+    }
+}
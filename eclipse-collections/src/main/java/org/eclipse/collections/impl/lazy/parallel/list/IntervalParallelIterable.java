@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.list;
+
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
+import org.eclipse.collections.impl.list.Interval;
+
+/**
+ * The root of a parallel evaluation over an {@link Interval}.  The interval is split arithmetically into sub-intervals
+ * of {@link #getBatchSize()} values, which are created lazily as the batches are scheduled, so no values are stored.
+ *
+ * @since 8.0
+ */
+@Beta
+public final class IntervalParallelIterable extends AbstractParallelListIterable<Integer, RootListBatch<Integer>>
+{
+    private final Interval interval;
+    private final ExecutorService executorService;
+    private final int batchSize;
+
+    public IntervalParallelIterable(Interval interval, ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        this.interval = interval;
+        this.executorService = executorService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ExecutorService getExecutorService()
+    {
+        return this.executorService;
+    }
+
+    @Override
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    @Override
+    public LazyIterable<RootListBatch<Integer>> split()
+    {
+        int size = this.interval.size();
+        int batchCount = (size - 1) / this.batchSize + 1;
+        return Interval.zeroTo(batchCount - 1).collect(batchIndex -> {
+            int fromIndex = batchIndex * this.batchSize;
+            int toIndex = fromIndex + Math.min(this.batchSize, size - fromIndex);
+            return new IntervalBatch(this.interval.subList(fromIndex, toIndex));
+        });
+    }
+
+    @Override
+    public void forEach(Procedure<? super Integer> procedure)
+    {
+        AbstractParallelIterable.forEach(this, procedure);
+    }
+
+    @Override
+    public boolean anySatisfy(Predicate<? super Integer> predicate)
+    {
+        return AbstractParallelIterable.anySatisfy(this, predicate);
+    }
+
+    @Override
+    public boolean allSatisfy(Predicate<? super Integer> predicate)
+    {
+        return AbstractParallelIterable.allSatisfy(this, predicate);
+    }
+
+    @Override
+    public Integer detect(Predicate<? super Integer> predicate)
+    {
+        return AbstractParallelIterable.detect(this, predicate);
+    }
+}
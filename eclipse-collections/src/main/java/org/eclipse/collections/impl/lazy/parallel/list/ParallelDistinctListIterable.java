@@ -98,20 +98,6 @@ class ParallelDistinctListIterable<T> extends AbstractParallelUnsortedSetIterabl
         return this.delegate.detect(new DistinctAndPredicate<>(predicate));
     }
 
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toList().distinct().toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toList().distinct().toArray(array);
-    }
-
     @Override
     public <V> UnsortedSetMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
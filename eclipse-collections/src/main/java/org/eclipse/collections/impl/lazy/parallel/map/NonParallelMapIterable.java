@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.ParallelMapIterable;
+
+/**
+ * A {@link ParallelMapIterable} for maps which cannot be split into sections.  It iterates on the calling thread.
+ *
+ * @since 8.0
+ */
+@Beta
+public class NonParallelMapIterable<K, V> implements ParallelMapIterable<K, V>
+{
+    private final MapIterable<K, V> delegate;
+
+    public NonParallelMapIterable(MapIterable<K, V> delegate)
+    {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.delegate.forEachKeyValue(procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.delegate.forEachKey(procedure);
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.delegate.forEachValue(procedure);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.eclipse.collections.api.annotation.Beta;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ParallelMapIterable;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.parallel.BatchMapIterable;
+
+/**
+ * Iterates over the sections of a {@link BatchMapIterable} in parallel, one task per section.  The sections are ranges
+ * of the hash table, so nothing is copied before the tasks start.
+ *
+ * @since 8.0
+ */
+@Beta
+public class ParallelBatchMapIterable<K, V> implements ParallelMapIterable<K, V>
+{
+    private final BatchMapIterable<K, V> delegate;
+    private final ExecutorService executorService;
+    private final int batchSize;
+
+    public ParallelBatchMapIterable(BatchMapIterable<K, V> delegate, ExecutorService executorService, int batchSize)
+    {
+        if (executorService == null)
+        {
+            throw new NullPointerException();
+        }
+        if (batchSize < 1)
+        {
+            throw new IllegalArgumentException();
+        }
+        this.delegate = delegate;
+        this.executorService = executorService;
+        this.batchSize = batchSize;
+    }
+
+    public ExecutorService getExecutorService()
+    {
+        return this.executorService;
+    }
+
+    public int getBatchSize()
+    {
+        return this.batchSize;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        int sectionCount = this.delegate.getBatchCount(this.batchSize);
+        MutableList<Future<?>> futures = FastList.newList(sectionCount);
+        for (int i = 0; i < sectionCount; i++)
+        {
+            int sectionIndex = i;
+            futures.add(this.executorService.submit(() -> this.delegate.batchForEachKeyValue(procedure, sectionIndex, sectionCount)));
+        }
+        for (Future<?> future : futures)
+        {
+            try
+            {
+                future.get();
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            catch (ExecutionException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(key));
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.forEachKeyValue((key, value) -> procedure.value(value));
+    }
+}
@@ -18,11 +18,13 @@ import org.eclipse.collections.api.block.predicate.Predicate;
 import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
 import org.eclipse.collections.api.multimap.set.UnsortedSetMultimap;
+import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.ParallelUnsortedSetIterable;
 import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.lazy.parallel.AbstractParallelIterable;
 import org.eclipse.collections.impl.multimap.set.SynchronizedPutUnifiedSetMultimap;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 
 @Beta
 public abstract class AbstractParallelUnsortedSetIterable<T, B extends UnsortedSetBatch<T>> extends AbstractParallelIterable<T, B> implements ParallelUnsortedSetIterable<T>
@@ -97,10 +99,12 @@ public abstract class AbstractParallelUnsortedSetIterable<T, B extends UnsortedS
     public <V> UnsortedSetMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
     {
         MutableSetMultimap<V, T> result = SynchronizedPutUnifiedSetMultimap.newMultimap();
-        this.forEach(each -> {
-            V key = function.valueOf(each);
-            result.put(key, each);
-        });
+        this.aggregateByKeyShard(
+                function,
+                UnifiedSet::new,
+                (MutableSet<T> values, T each) -> values.with(each),
+                (MutableSet<T> values, MutableSet<T> otherValues) -> values.withAll(otherValues),
+                result::putAll);
         return result;
     }
 
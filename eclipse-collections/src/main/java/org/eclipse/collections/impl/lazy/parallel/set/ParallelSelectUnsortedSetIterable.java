@@ -80,19 +80,6 @@ class ParallelSelectUnsortedSetIterable<T> extends AbstractParallelUnsortedSetIt
         return this.delegate.detect(Predicates.and(this.predicate, predicate));
     }
 
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.delegate.toList().select(this.predicate).toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        return this.delegate.toList().select(this.predicate).toArray(array);
-    }
-
     private static final class SelectAllSatisfyPredicate<T> implements Predicate<T>
     {
         private final Predicate<? super T> left;
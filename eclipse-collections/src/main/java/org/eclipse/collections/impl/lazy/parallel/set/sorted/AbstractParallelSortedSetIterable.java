@@ -127,18 +127,4 @@ public abstract class AbstractParallelSortedSetIterable<T, B extends SortedSetBa
         // TODO: Implement in parallel
         return this.toList().groupByUniqueKey(function);
     }
-
-    @Override
-    public Object[] toArray()
-    {
-        // TODO: Implement in parallel
-        return this.toList().toArray();
-    }
-
-    @Override
-    public <E> E[] toArray(E[] array)
-    {
-        // TODO: Implement in parallel
-        return this.toList().toArray(array);
-    }
 }
@@ -20,8 +20,10 @@ import java.util.NoSuchElementException;
 import java.util.RandomAccess;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.block.function.Function;
 import org.eclipse.collections.api.block.function.Function2;
@@ -36,6 +38,7 @@ import org.eclipse.collections.api.block.procedure.primitive.IntObjectProcedure;
 import org.eclipse.collections.api.block.procedure.primitive.IntProcedure;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.block.procedure.CollectProcedure;
@@ -44,17 +47,22 @@ import org.eclipse.collections.impl.block.procedure.RejectProcedure;
 import org.eclipse.collections.impl.block.procedure.SelectProcedure;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.lazy.parallel.list.IntervalParallelIterable;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.list.mutable.MutableListIterator;
+import org.eclipse.collections.impl.parallel.BatchIterable;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 
 /**
  * An Interval is a range of integers that may be iterated over using a step value.  Interval
  * is an OO implementation of a for-loop.
+ * <p>
+ * Interval is a {@link BatchIterable}, and {@link #asParallel(ExecutorService, int)} returns a parallel view, so it is
+ * split arithmetically into sub-ranges for parallel iteration, without storing its values.
  */
 public final class Interval
         extends AbstractLazyIterable<Integer>
-        implements List<Integer>, Serializable, RandomAccess
+        implements List<Integer>, Serializable, RandomAccess, BatchIterable<Integer>
 {
     private static final long serialVersionUID = 1L;
 
@@ -792,7 +800,7 @@ public final class Interval
         @Override
         public boolean hasNext()
         {
-            if (Interval.this.from <= Interval.this.to)
+            if (Interval.this.goForward())
             {
                 return this.current <= Interval.this.to;
             }
@@ -851,6 +859,44 @@ public final class Interval
         }
     }
 
+    /**
+     * @since 8.0
+     */
+    @Override
+    public void batchForEach(Procedure<? super Integer> procedure, int sectionIndex, int sectionCount)
+    {
+        int size = this.size();
+        int sectionSize = size / sectionCount;
+        int start = sectionSize * sectionIndex;
+        int end = sectionIndex == sectionCount - 1 ? size : start + sectionSize;
+        int value = this.locationAfterN(start);
+        for (int i = start; i < end; i++)
+        {
+            procedure.value(value);
+            value += this.step;
+        }
+    }
+
+    /**
+     * @since 8.0
+     */
+    @Override
+    public int getBatchCount(int batchSize)
+    {
+        return Math.max(1, this.size() / batchSize);
+    }
+
+    /**
+     * Returns a parallel view of this interval which splits it into sub-intervals of {@code batchSize} values.
+     *
+     * @since 8.0
+     */
+    @Beta
+    public ParallelListIterable<Integer> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new IntervalParallelIterable(this, executorService, batchSize);
+    }
+
     public void forEachWithIndex(ObjectIntProcedure<? super Integer> objectIntProcedure, int startIndex, int endIndex)
     {
         this.checkBounds("startIndex", startIndex);
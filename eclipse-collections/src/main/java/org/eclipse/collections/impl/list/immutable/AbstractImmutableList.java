@@ -215,6 +215,18 @@ abstract class AbstractImmutableList<T>
         return Lists.immutable.with(array);
     }
 
+    @Override
+    public ImmutableList<T> newWithAt(int index, T element)
+    {
+        if (index < 0 || index >= this.size())
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size());
+        }
+        T[] array = (T[]) this.toArray();
+        array[index] = element;
+        return Lists.immutable.with(array);
+    }
+
     @Override
     public ImmutableList<T> newWithoutAll(Iterable<? extends T> elements)
     {
@@ -21,6 +21,8 @@ import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Optional;
 import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
@@ -90,6 +92,10 @@ final class ImmutableArrayList<T>
         T[] array = (T[]) new Object[oldSize + 1];
         this.toArray(array);
         array[oldSize] = newItem;
+        if (array.length > ImmutableListFactoryImpl.TRIE_LIST_THRESHOLD)
+        {
+            return ImmutableTrieList.newListWith(array);
+        }
         return new ImmutableArrayList<>(array);
     }
 
@@ -440,6 +446,12 @@ final class ImmutableArrayList<T>
         return Arrays.asList(this.items).iterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return Spliterators.spliterator(this.items, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
     @Override
     public Object[] toArray()
     {
@@ -21,6 +21,12 @@ import org.eclipse.collections.impl.utility.Iterate;
 @Immutable
 public final class ImmutableListFactoryImpl implements ImmutableListFactory
 {
+    /**
+     * Lists larger than this are backed by an {@link ImmutableTrieList}, for which newWith and newWithAt do not copy
+     * the whole list. Smaller lists use a flat array, which is more compact and faster to iterate.
+     */
+    static final int TRIE_LIST_THRESHOLD = 32;
+
     @Override
     public <T> ImmutableList<T> empty()
     {
@@ -197,6 +203,10 @@ public final class ImmutableListFactoryImpl implements ImmutableListFactory
                 return this.of(items[0], items[1], items[2], items[3], items[4], items[5], items[6], items[7], items[8], items[9]);
 
             default:
+                if (items.length > TRIE_LIST_THRESHOLD)
+                {
+                    return ImmutableTrieList.newListWith(items);
+                }
                 return ImmutableArrayList.newListWith(items);
         }
     }
@@ -229,6 +239,10 @@ public final class ImmutableListFactoryImpl implements ImmutableListFactory
                 return this.of(items.get(0), items.get(1), items.get(2), items.get(3), items.get(4), items.get(5), items.get(6), items.get(7), items.get(8), items.get(9));
 
             default:
+                if (items.size() > TRIE_LIST_THRESHOLD)
+                {
+                    return ImmutableTrieList.newListWith((T[]) items.toArray());
+                }
                 return ImmutableArrayList.newListWith((T[]) items.toArray());
         }
     }
@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * An ImmutableTrieList is a persistent vector: a 32-way trie of arrays plus a separate tail array holding the last
+ * 1 to 32 elements. Appending copies only the tail, or the path from the root to the new leaf once the tail is full,
+ * and {@link #newWithAt(int, Object)} copies only the path to the changed element. All other nodes are shared between
+ * the original list and the new one, so building a list by repeated {@link #newWith(Object)} is linear rather than
+ * quadratic.
+ *
+ * @since 8.0
+ */
+@Immutable
+final class ImmutableTrieList<T>
+        extends AbstractImmutableList<T>
+        implements Serializable, RandomAccess
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int SHIFT = 5;
+    private static final int BRANCH_FACTOR = 1 << SHIFT;
+    private static final int MASK = BRANCH_FACTOR - 1;
+    private static final Object[] EMPTY_NODE = {};
+
+    private final int size;
+    private final int shift;
+    private final Object[] root;
+    private final Object[] tail;
+
+    private ImmutableTrieList(int size, int shift, Object[] root, Object[] tail)
+    {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    public static <E> ImmutableTrieList<E> newList(Iterable<? extends E> iterable)
+    {
+        return ImmutableTrieList.newListWith((E[]) Iterate.toArray(iterable));
+    }
+
+    public static <E> ImmutableTrieList<E> newListWith(E... elements)
+    {
+        int size = elements.length;
+        int tailOffset = ImmutableTrieList.tailOffset(size);
+        Object[] tail = Arrays.copyOfRange(elements, tailOffset, size, Object[].class);
+
+        Object[] nodes = new Object[tailOffset / BRANCH_FACTOR];
+        for (int i = 0; i < nodes.length; i++)
+        {
+            nodes[i] = Arrays.copyOfRange(elements, i * BRANCH_FACTOR, (i + 1) * BRANCH_FACTOR, Object[].class);
+        }
+        int shift = SHIFT;
+        while (nodes.length > BRANCH_FACTOR)
+        {
+            Object[] parents = new Object[(nodes.length + MASK) / BRANCH_FACTOR];
+            for (int i = 0; i < parents.length; i++)
+            {
+                parents[i] = Arrays.copyOfRange(nodes, i * BRANCH_FACTOR, Math.min(nodes.length, (i + 1) * BRANCH_FACTOR));
+            }
+            nodes = parents;
+            shift += SHIFT;
+        }
+        return new ImmutableTrieList<>(size, shift, nodes.length == 0 ? EMPTY_NODE : nodes, tail);
+    }
+
+    private static int tailOffset(int size)
+    {
+        return size == 0 ? 0 : ((size - 1) / BRANCH_FACTOR) * BRANCH_FACTOR;
+    }
+
+    private Object[] leafFor(int index)
+    {
+        if (index >= ImmutableTrieList.tailOffset(this.size))
+        {
+            return this.tail;
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= SHIFT)
+        {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= this.size)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.size);
+        }
+    }
+
+    @Override
+    public T get(int index)
+    {
+        this.checkIndex(index);
+        return (T) this.leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public ImmutableList<T> newWith(T newItem)
+    {
+        if (this.tail.length < BRANCH_FACTOR)
+        {
+            Object[] newTail = Arrays.copyOf(this.tail, this.tail.length + 1);
+            newTail[this.tail.length] = newItem;
+            return new ImmutableTrieList<>(this.size + 1, this.shift, this.root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = this.shift;
+        if ((this.size >>> SHIFT) > (1 << this.shift))
+        {
+            newRoot = new Object[]{this.root, ImmutableTrieList.newPath(this.shift, this.tail)};
+            newShift += SHIFT;
+        }
+        else
+        {
+            newRoot = this.pushTail(this.shift, this.root, this.tail);
+        }
+        return new ImmutableTrieList<>(this.size + 1, newShift, newRoot, new Object[]{newItem});
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode)
+    {
+        int childIndex = ((this.size - 1) >>> level) & MASK;
+        Object[] result = Arrays.copyOf(parent, childIndex + 1);
+        if (level == SHIFT)
+        {
+            result[childIndex] = tailNode;
+        }
+        else if (childIndex < parent.length)
+        {
+            result[childIndex] = this.pushTail(level - SHIFT, (Object[]) parent[childIndex], tailNode);
+        }
+        else
+        {
+            result[childIndex] = ImmutableTrieList.newPath(level - SHIFT, tailNode);
+        }
+        return result;
+    }
+
+    private static Object[] newPath(int level, Object[] node)
+    {
+        if (level == 0)
+        {
+            return node;
+        }
+        return new Object[]{ImmutableTrieList.newPath(level - SHIFT, node)};
+    }
+
+    @Override
+    public ImmutableList<T> newWithAt(int index, T element)
+    {
+        this.checkIndex(index);
+        if (index >= ImmutableTrieList.tailOffset(this.size))
+        {
+            Object[] newTail = this.tail.clone();
+            newTail[index & MASK] = element;
+            return new ImmutableTrieList<>(this.size, this.shift, this.root, newTail);
+        }
+        return new ImmutableTrieList<>(this.size, this.shift, ImmutableTrieList.replace(this.shift, this.root, index, element), this.tail);
+    }
+
+    private static Object[] replace(int level, Object[] node, int index, Object element)
+    {
+        Object[] result = node.clone();
+        if (level == 0)
+        {
+            result[index & MASK] = element;
+        }
+        else
+        {
+            int childIndex = (index >>> level) & MASK;
+            result[childIndex] = ImmutableTrieList.replace(level - SHIFT, (Object[]) node[childIndex], index, element);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableList<T> newWithAll(Iterable<? extends T> elements)
+    {
+        ImmutableList<T> result = this;
+        for (T element : elements)
+        {
+            result = result.newWith(element);
+        }
+        return result;
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.get(0);
+    }
+
+    @Override
+    public T getLast()
+    {
+        return this.isEmpty() ? null : (T) this.tail[this.tail.length - 1];
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size > 0;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        for (int i = 0; i < this.size; i += BRANCH_FACTOR)
+        {
+            for (Object each : this.leafFor(i))
+            {
+                procedure.value((T) each);
+            }
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        int index = 0;
+        for (int i = 0; i < this.size; i += BRANCH_FACTOR)
+        {
+            for (Object each : this.leafFor(i))
+            {
+                objectIntProcedure.value((T) each, index++);
+            }
+        }
+    }
+
+    @Override
+    public <IV> IV injectInto(IV injectedValue, Function2<? super IV, ? super T, ? extends IV> function)
+    {
+        IV result = injectedValue;
+        for (int i = 0; i < this.size; i += BRANCH_FACTOR)
+        {
+            for (Object each : this.leafFor(i))
+            {
+                result = function.value(result, (T) each);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new TrieIterator();
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return this.copyInto(new Object[this.size]);
+    }
+
+    @Override
+    public <E> E[] toArray(E[] a)
+    {
+        if (a.length < this.size)
+        {
+            a = (E[]) Array.newInstance(a.getClass().getComponentType(), this.size);
+        }
+        this.copyInto(a);
+        if (a.length > this.size)
+        {
+            a[this.size] = null;
+        }
+        return a;
+    }
+
+    private <E> E[] copyInto(E[] target)
+    {
+        for (int i = 0; i < this.size; i += BRANCH_FACTOR)
+        {
+            Object[] leaf = this.leafFor(i);
+            System.arraycopy(leaf, 0, target, i, leaf.length);
+        }
+        return target;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (int i = 0; i < this.size; i += BRANCH_FACTOR)
+        {
+            for (Object each : this.leafFor(i))
+            {
+                hashCode = 31 * hashCode + (each == null ? 0 : each.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableTrieListSerializationProxy<>(this);
+    }
+
+    private final class TrieIterator implements Iterator<T>
+    {
+        private int index;
+        private Object[] leaf = ImmutableTrieList.this.size == 0 ? EMPTY_NODE : ImmutableTrieList.this.leafFor(0);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < ImmutableTrieList.this.size;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            int offset = this.index & MASK;
+            if (offset == 0 && this.index > 0)
+            {
+                this.leaf = ImmutableTrieList.this.leafFor(this.index);
+            }
+            this.index++;
+            return (T) this.leaf[offset];
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private static class ImmutableTrieListSerializationProxy<T> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private ImmutableList<T> list;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public ImmutableTrieListSerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        protected ImmutableTrieListSerializationProxy(ImmutableList<T> list)
+        {
+            this.list = list;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.list.size());
+            try
+            {
+                this.list.forEach(new CheckedProcedure<T>()
+                {
+                    public void safeValue(T object) throws IOException
+                    {
+                        out.writeObject(object);
+                    }
+                });
+            }
+            catch (RuntimeException e)
+            {
+                if (e.getCause() instanceof IOException)
+                {
+                    throw (IOException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int size = in.readInt();
+            T[] deserializedElements = (T[]) new Object[size];
+
+            for (int i = 0; i < size; i++)
+            {
+                deserializedElements[i] = (T) in.readObject();
+            }
+            this.list = ImmutableTrieList.newListWith(deserializedElements);
+        }
+
+        protected Object readResolve()
+        {
+            return this.list;
+        }
+    }
+}
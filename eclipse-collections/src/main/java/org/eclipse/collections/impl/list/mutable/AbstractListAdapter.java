@@ -50,6 +50,7 @@ import org.eclipse.collections.impl.block.factory.Functions;
 import org.eclipse.collections.impl.collection.mutable.AbstractCollectionAdapter;
 import org.eclipse.collections.impl.lazy.ReverseIterable;
 import org.eclipse.collections.impl.lazy.parallel.list.ListIterableParallelIterable;
+import org.eclipse.collections.impl.parallel.ParallelArrayIterate;
 import org.eclipse.collections.impl.stack.mutable.ArrayStack;
 import org.eclipse.collections.impl.utility.ListIterate;
 
@@ -155,6 +156,26 @@ public abstract class AbstractListAdapter<T>
         return this.getDelegate().listIterator(index);
     }
 
+    @Override
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executorService)
+    {
+        T[] array = (T[]) this.toArray();
+        ParallelArrayIterate.sort(array, array.length, comparator, executorService);
+        ListIterator<T> iterator = this.listIterator();
+        for (T each : array)
+        {
+            iterator.next();
+            iterator.set(each);
+        }
+        return this;
+    }
+
+    @Override
+    public MutableList<T> sortThisParallel(ExecutorService executorService)
+    {
+        return this.sortThisParallel(Comparators.naturalOrder(), executorService);
+    }
+
     @Override
     public <V extends Comparable<? super V>> MutableList<T> sortThisBy(Function<? super T, ? extends V> function)
     {
@@ -14,6 +14,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.RandomAccess;
+import java.util.Spliterator;
 
 import org.eclipse.collections.api.block.HashingStrategy;
 import org.eclipse.collections.api.block.function.Function;
@@ -136,6 +137,12 @@ public final class ArrayListAdapter<T>
         return ArrayListAdapter.newList();
     }
 
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return this.delegate.spliterator();
+    }
+
     @Override
     public void forEach(Procedure<? super T> procedure)
     {
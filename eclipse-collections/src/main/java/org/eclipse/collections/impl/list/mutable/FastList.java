@@ -25,6 +25,9 @@ import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Optional;
 import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
@@ -91,6 +94,7 @@ import org.eclipse.collections.impl.list.mutable.primitive.ShortArrayList;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.eclipse.collections.impl.multimap.list.FastListMultimap;
 import org.eclipse.collections.impl.parallel.BatchIterable;
+import org.eclipse.collections.impl.parallel.ParallelArrayIterate;
 import org.eclipse.collections.impl.partition.list.PartitionFastList;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.ArrayListIterate;
@@ -256,6 +260,16 @@ public class FastList<T>
         return this.toArray((E[]) new Object[sourceToIndex - sourceFromIndex + 1], sourceFromIndex, sourceToIndex, 0);
     }
 
+    /**
+     * Returns a spliterator over the backing array which reports exact sizes and splits by index range.  Like the
+     * rest of FastList, it does not detect concurrent modification.
+     */
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return Spliterators.spliterator(this.items, 0, this.size, Spliterator.ORDERED);
+    }
+
     @Override
     public FastList<T> sortThis(Comparator<? super T> comparator)
     {
@@ -270,6 +284,19 @@ public class FastList<T>
         return this;
     }
 
+    @Override
+    public FastList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executorService)
+    {
+        ParallelArrayIterate.sort(this.items, this.size, comparator, executorService);
+        return this;
+    }
+
+    @Override
+    public FastList<T> sortThisParallel(ExecutorService executorService)
+    {
+        return this.sortThisParallel(null, executorService);
+    }
+
     @Override
     public FastList<T> reverseThis()
     {
@@ -585,6 +585,36 @@ public final class MultiReaderFastList<T>
         }
     }
 
+    @Override
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executorService)
+    {
+        this.acquireWriteLock();
+        try
+        {
+            this.delegate.sortThisParallel(comparator, executorService);
+            return this;
+        }
+        finally
+        {
+            this.unlockWriteLock();
+        }
+    }
+
+    @Override
+    public MutableList<T> sortThisParallel(ExecutorService executorService)
+    {
+        this.acquireWriteLock();
+        try
+        {
+            this.delegate.sortThisParallel(executorService);
+            return this;
+        }
+        finally
+        {
+            this.unlockWriteLock();
+        }
+    }
+
     @Override
     public MutableList<T> sortThis(Comparator<? super T> comparator)
     {
@@ -1359,6 +1389,20 @@ public final class MultiReaderFastList<T>
             return this;
         }
 
+        @Override
+        public MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executorService)
+        {
+            this.getDelegate().sortThisParallel(comparator, executorService);
+            return this;
+        }
+
+        @Override
+        public MutableList<T> sortThisParallel(ExecutorService executorService)
+        {
+            this.getDelegate().sortThisParallel(executorService);
+            return this;
+        }
+
         @Override
         public MutableList<T> sortThis(Comparator<? super T> comparator)
         {
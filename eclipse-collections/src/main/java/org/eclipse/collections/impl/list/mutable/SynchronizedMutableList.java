@@ -407,6 +407,26 @@ public class SynchronizedMutableList<T>
         }
     }
 
+    @Override
+    public MutableList<T> sortThisParallel(Comparator<? super T> comparator, ExecutorService executorService)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().sortThisParallel(comparator, executorService);
+            return this;
+        }
+    }
+
+    @Override
+    public MutableList<T> sortThisParallel(ExecutorService executorService)
+    {
+        synchronized (this.getLock())
+        {
+            this.getDelegate().sortThisParallel(executorService);
+            return this;
+        }
+    }
+
     @Override
     public <V extends Comparable<? super V>> MutableList<T> sortThisBy(Function<? super T, ? extends V> function)
     {
@@ -14,9 +14,12 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.IntIterable;
 import org.eclipse.collections.api.LazyIntIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
+import org.eclipse.collections.api.annotation.Beta;
 import org.eclipse.collections.api.bag.primitive.MutableIntBag;
 import org.eclipse.collections.api.block.function.primitive.IntToObjectFunction;
 import org.eclipse.collections.api.block.function.primitive.ObjectIntIntToObjectFunction;
@@ -32,6 +35,7 @@ import org.eclipse.collections.api.list.primitive.MutableIntList;
 import org.eclipse.collections.api.set.primitive.MutableIntSet;
 import org.eclipse.collections.impl.bag.mutable.primitive.IntHashBag;
 import org.eclipse.collections.impl.block.factory.primitive.IntPredicates;
+import org.eclipse.collections.impl.lazy.parallel.primitive.AbstractParallelIntRangeIterable;
 import org.eclipse.collections.impl.lazy.primitive.CollectIntToObjectIterable;
 import org.eclipse.collections.impl.lazy.primitive.LazyIntIterableAdapter;
 import org.eclipse.collections.impl.lazy.primitive.ReverseIntIterable;
@@ -890,6 +894,59 @@ public final class IntInterval
         return IntArrayList.newList(this).withoutAll(elements).toImmutable();
     }
 
+    /**
+     * Returns a parallel view of this interval which splits its indices into batches of {@code batchSize}.  The values
+     * of each batch are computed from its first index and the step, so no elements are stored, whatever the size of the
+     * interval.
+     *
+     * @since 8.0
+     */
+    @Beta
+    public ParallelIntIterable asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new ParallelIntIntervalIterable(executorService, batchSize);
+    }
+
+    private final class ParallelIntIntervalIterable extends AbstractParallelIntRangeIterable
+    {
+        private ParallelIntIntervalIterable(ExecutorService executorService, int batchSize)
+        {
+            super(executorService, batchSize);
+        }
+
+        @Override
+        protected int getRangeSize()
+        {
+            return IntInterval.this.size();
+        }
+
+        @Override
+        protected void forEachInRange(int fromIndex, int toIndex, IntProcedure procedure)
+        {
+            int value = IntInterval.this.locationAfterN(fromIndex);
+            for (int i = fromIndex; i < toIndex; i++)
+            {
+                procedure.value(value);
+                value += IntInterval.this.step;
+            }
+        }
+
+        @Override
+        protected boolean anySatisfyInRange(int fromIndex, int toIndex, IntPredicate predicate)
+        {
+            int value = IntInterval.this.locationAfterN(fromIndex);
+            for (int i = fromIndex; i < toIndex; i++)
+            {
+                if (predicate.accept(value))
+                {
+                    return true;
+                }
+                value += IntInterval.this.step;
+            }
+            return false;
+        }
+    }
+
     private class IntIntervalIterator implements IntIterator
     {
         private int current = IntInterval.this.from;
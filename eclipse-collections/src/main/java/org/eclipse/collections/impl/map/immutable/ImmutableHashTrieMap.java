@@ -0,0 +1,862 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.tuple.Tuples;
+
+/**
+ * An ImmutableHashTrieMap is a compressed hash-array mapped prefix trie (CHAMP). Each node consumes five bits of the
+ * spread hash code and records in two bitmaps which of its 32 slots hold an inline key/value pair and which hold a
+ * child node, storing only the occupied slots in a compact array. newWithKeyValue and newWithoutKey copy the nodes on
+ * the path to the key, at most seven, and share every other node with the original map.
+ *
+ * @see ImmutableMap
+ * @since 8.0
+ */
+@Immutable
+final class ImmutableHashTrieMap<K, V>
+        extends AbstractImmutableMap<K, V>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int HASH_CODE_LENGTH = 32;
+    private static final int MAX_DEPTH = (HASH_CODE_LENGTH + BITS_PER_LEVEL - 1) / BITS_PER_LEVEL;
+    private static final Object NOT_FOUND = new Object();
+    private static final BitmapNode<?, ?> EMPTY_NODE = new BitmapNode<>(0, 0, new Object[0]);
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private ImmutableHashTrieMap(Node<K, V> root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <K, V> ImmutableHashTrieMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        Node<K, V> root = (Node<K, V>) EMPTY_NODE;
+        Counter sizeChange = new Counter();
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
+        {
+            K key = entry.getKey();
+            root = root.put(key, entry.getValue(), ImmutableHashTrieMap.hash(key), 0, sizeChange);
+        }
+        return new ImmutableHashTrieMap<>(root, sizeChange.getCount());
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key == null ? 0 : key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitpos(int hash, int shift)
+    {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    private ImmutableMap<K, V> withRoot(Node<K, V> newRoot, int newSize)
+    {
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        if (newSize == 0)
+        {
+            return Maps.immutable.empty();
+        }
+        return new ImmutableHashTrieMap<>(newRoot, newSize);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.root.get(key, ImmutableHashTrieMap.hash(key), 0) != NOT_FOUND;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.root.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Object result = this.root.get(key, ImmutableHashTrieMap.hash(key), 0);
+        return result == NOT_FOUND ? null : (V) result;
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithKeyValue(K key, V value)
+    {
+        Counter sizeChange = new Counter(this.size);
+        Node<K, V> newRoot = this.root.put(key, value, ImmutableHashTrieMap.hash(key), 0, sizeChange);
+        return this.withRoot(newRoot, sizeChange.getCount());
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithAllKeyValues(Iterable<? extends Pair<? extends K, ? extends V>> keyValues)
+    {
+        Counter sizeChange = new Counter(this.size);
+        Node<K, V> newRoot = this.root;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValues)
+        {
+            K key = keyValuePair.getOne();
+            newRoot = newRoot.put(key, keyValuePair.getTwo(), ImmutableHashTrieMap.hash(key), 0, sizeChange);
+        }
+        return this.withRoot(newRoot, sizeChange.getCount());
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithAllKeyValueArguments(Pair<? extends K, ? extends V>... keyValuePairs)
+    {
+        Counter sizeChange = new Counter(this.size);
+        Node<K, V> newRoot = this.root;
+        for (Pair<? extends K, ? extends V> keyValuePair : keyValuePairs)
+        {
+            K key = keyValuePair.getOne();
+            newRoot = newRoot.put(key, keyValuePair.getTwo(), ImmutableHashTrieMap.hash(key), 0, sizeChange);
+        }
+        return this.withRoot(newRoot, sizeChange.getCount());
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithoutKey(K key)
+    {
+        Counter sizeChange = new Counter(this.size);
+        Node<K, V> newRoot = this.root.remove(key, ImmutableHashTrieMap.hash(key), 0, sizeChange);
+        return this.withRoot(newRoot, sizeChange.getCount());
+    }
+
+    @Override
+    public ImmutableMap<K, V> newWithoutAllKeys(Iterable<? extends K> keys)
+    {
+        Counter sizeChange = new Counter(this.size);
+        Node<K, V> newRoot = this.root;
+        for (K key : keys)
+        {
+            newRoot = newRoot.remove(key, ImmutableHashTrieMap.hash(key), 0, sizeChange);
+        }
+        return this.withRoot(newRoot, sizeChange.getCount());
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        this.root.forEachKeyValue(procedure);
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        this.root.forEachKey(procedure);
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        this.root.forEachValue(procedure);
+    }
+
+    @Override
+    public RichIterable<K> keysView()
+    {
+        return new KeysView();
+    }
+
+    @Override
+    public RichIterable<V> valuesView()
+    {
+        return new ValuesView();
+    }
+
+    @Override
+    public RichIterable<Pair<K, V>> keyValuesView()
+    {
+        return new KeyValuesView();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return this.keysView().toSet().asUnmodifiable();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return this.valuesView().toList().asUnmodifiable();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+        Map<K, V> other = (Map<K, V>) object;
+        return this.size == other.size() && this.entriesEqual(this.root, other);
+    }
+
+    private boolean entriesEqual(Node<K, V> node, Map<K, V> other)
+    {
+        for (int i = 0; i < node.payloadArity(); i++)
+        {
+            if (!this.keyAndValueEquals(node.getKey(i), node.getValue(i), other))
+            {
+                return false;
+            }
+        }
+        for (int i = 0; i < node.nodeArity(); i++)
+        {
+            if (!this.entriesEqual(node.getNode(i), other))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.hashCode(this.root);
+    }
+
+    private int hashCode(Node<K, V> node)
+    {
+        int hashCode = 0;
+        for (int i = 0; i < node.payloadArity(); i++)
+        {
+            hashCode += this.keyAndValueHashCode(node.getKey(i), node.getValue(i));
+        }
+        for (int i = 0; i < node.nodeArity(); i++)
+        {
+            hashCode += this.hashCode(node.getNode(i));
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.keyValuesView().collect(pair -> pair.getOne() + "=" + pair.getTwo()).makeString("{", ", ", "}");
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableMapSerializationProxy<>(this);
+    }
+
+    private abstract static class Node<K, V>
+    {
+        /**
+         * Returns the value mapped to the key, or NOT_FOUND if the key is absent.
+         */
+        abstract Object get(Object key, int hash, int shift);
+
+        abstract Node<K, V> put(K key, V value, int hash, int shift, Counter sizeChange);
+
+        abstract Node<K, V> remove(Object key, int hash, int shift, Counter sizeChange);
+
+        abstract int payloadArity();
+
+        abstract int nodeArity();
+
+        abstract K getKey(int index);
+
+        abstract V getValue(int index);
+
+        abstract Node<K, V> getNode(int index);
+
+        boolean hasSingleEntry()
+        {
+            return this.nodeArity() == 0 && this.payloadArity() == 1;
+        }
+
+        boolean containsValue(Object value)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                if (Comparators.nullSafeEquals(this.getValue(i), value))
+                {
+                    return true;
+                }
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                if (this.getNode(i).containsValue(value))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.getKey(i), this.getValue(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.getNode(i).forEachKeyValue(procedure);
+            }
+        }
+
+        void forEachKey(Procedure<? super K> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.getKey(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.getNode(i).forEachKey(procedure);
+            }
+        }
+
+        void forEachValue(Procedure<? super V> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.getValue(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.getNode(i).forEachValue(procedure);
+            }
+        }
+    }
+
+    /**
+     * A node whose content holds the inline keys and values interleaved, in slot order, followed by the child nodes,
+     * in slot order.
+     */
+    private static final class BitmapNode<K, V> extends Node<K, V>
+    {
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+
+        private BitmapNode(int dataMap, int nodeMap, Object[] content)
+        {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private static <K, V> Node<K, V> mergeTwoEntries(K key0, V value0, int hash0, K key1, V value1, int hash1, int shift)
+        {
+            if (shift >= HASH_CODE_LENGTH)
+            {
+                return new CollisionNode<>(new Object[]{key0, value0, key1, value1});
+            }
+            int bit0 = ImmutableHashTrieMap.bitpos(hash0, shift);
+            int bit1 = ImmutableHashTrieMap.bitpos(hash1, shift);
+            if (bit0 == bit1)
+            {
+                Node<K, V> node = BitmapNode.mergeTwoEntries(key0, value0, hash0, key1, value1, hash1, shift + BITS_PER_LEVEL);
+                return new BitmapNode<>(0, bit0, new Object[]{node});
+            }
+            if (Integer.compareUnsigned(bit0, bit1) < 0)
+            {
+                return new BitmapNode<>(bit0 | bit1, 0, new Object[]{key0, value0, key1, value1});
+            }
+            return new BitmapNode<>(bit0 | bit1, 0, new Object[]{key1, value1, key0, value0});
+        }
+
+        private int dataIndex(int bit)
+        {
+            return Integer.bitCount(this.dataMap & (bit - 1));
+        }
+
+        private int nodeOffset(int bit)
+        {
+            return 2 * Integer.bitCount(this.dataMap) + Integer.bitCount(this.nodeMap & (bit - 1));
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        K getKey(int index)
+        {
+            return (K) this.content[2 * index];
+        }
+
+        @Override
+        V getValue(int index)
+        {
+            return (V) this.content[2 * index + 1];
+        }
+
+        @Override
+        Node<K, V> getNode(int index)
+        {
+            return (Node<K, V>) this.content[2 * this.payloadArity() + index];
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit);
+                return Comparators.nullSafeEquals(this.content[2 * index], key) ? this.content[2 * index + 1] : NOT_FOUND;
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return ((Node<K, V>) this.content[this.nodeOffset(bit)]).get(key, hash, shift + BITS_PER_LEVEL);
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node<K, V> put(K key, V value, int hash, int shift, Counter sizeChange)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit);
+                K currentKey = this.getKey(index);
+                if (Comparators.nullSafeEquals(currentKey, key))
+                {
+                    if (this.content[2 * index + 1] == value)
+                    {
+                        return this;
+                    }
+                    Object[] newContent = this.content.clone();
+                    newContent[2 * index + 1] = value;
+                    return new BitmapNode<>(this.dataMap, this.nodeMap, newContent);
+                }
+                Node<K, V> node = BitmapNode.mergeTwoEntries(
+                        currentKey, this.getValue(index), ImmutableHashTrieMap.hash(currentKey),
+                        key, value, hash,
+                        shift + BITS_PER_LEVEL);
+                sizeChange.increment();
+                return this.copyAndMigrateFromInlineToNode(bit, node);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int offset = this.nodeOffset(bit);
+                Node<K, V> node = (Node<K, V>) this.content[offset];
+                Node<K, V> newNode = node.put(key, value, hash, shift + BITS_PER_LEVEL, sizeChange);
+                return newNode == node ? this : this.copyAndSetNode(offset, newNode);
+            }
+            sizeChange.increment();
+            return this.copyAndInsertValue(bit, key, value);
+        }
+
+        @Override
+        Node<K, V> remove(Object key, int hash, int shift, Counter sizeChange)
+        {
+            int bit = ImmutableHashTrieMap.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                int index = this.dataIndex(bit);
+                if (!Comparators.nullSafeEquals(this.content[2 * index], key))
+                {
+                    return this;
+                }
+                sizeChange.decrement();
+                return this.copyAndRemoveValue(bit);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int offset = this.nodeOffset(bit);
+                Node<K, V> node = (Node<K, V>) this.content[offset];
+                Node<K, V> newNode = node.remove(key, hash, shift + BITS_PER_LEVEL, sizeChange);
+                if (newNode == node)
+                {
+                    return this;
+                }
+                if (newNode.hasSingleEntry())
+                {
+                    return this.copyAndMigrateFromNodeToInline(bit, newNode.getKey(0), newNode.getValue(0));
+                }
+                return this.copyAndSetNode(offset, newNode);
+            }
+            return this;
+        }
+
+        private Node<K, V> copyAndSetNode(int offset, Node<K, V> node)
+        {
+            Object[] newContent = this.content.clone();
+            newContent[offset] = node;
+            return new BitmapNode<>(this.dataMap, this.nodeMap, newContent);
+        }
+
+        private Node<K, V> copyAndInsertValue(int bit, K key, V value)
+        {
+            int index = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = key;
+            newContent[index + 1] = value;
+            System.arraycopy(this.content, index, newContent, index + 2, this.content.length - index);
+            return new BitmapNode<>(this.dataMap | bit, this.nodeMap, newContent);
+        }
+
+        private Node<K, V> copyAndRemoveValue(int bit)
+        {
+            int index = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            return new BitmapNode<>(this.dataMap ^ bit, this.nodeMap, newContent);
+        }
+
+        private Node<K, V> copyAndMigrateFromInlineToNode(int bit, Node<K, V> node)
+        {
+            int oldIndex = 2 * this.dataIndex(bit);
+            int newOffset = this.nodeOffset(bit) - 2;
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, oldIndex);
+            System.arraycopy(this.content, oldIndex + 2, newContent, oldIndex, newOffset - oldIndex);
+            newContent[newOffset] = node;
+            System.arraycopy(this.content, newOffset + 2, newContent, newOffset + 1, this.content.length - newOffset - 2);
+            return new BitmapNode<>(this.dataMap ^ bit, this.nodeMap | bit, newContent);
+        }
+
+        private Node<K, V> copyAndMigrateFromNodeToInline(int bit, K key, V value)
+        {
+            int oldOffset = this.nodeOffset(bit);
+            int newIndex = 2 * this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, newIndex);
+            newContent[newIndex] = key;
+            newContent[newIndex + 1] = value;
+            System.arraycopy(this.content, newIndex, newContent, newIndex + 2, oldOffset - newIndex);
+            System.arraycopy(this.content, oldOffset + 1, newContent, oldOffset + 2, this.content.length - oldOffset - 1);
+            return new BitmapNode<>(this.dataMap | bit, this.nodeMap ^ bit, newContent);
+        }
+    }
+
+    /**
+     * A leaf below the last level of the trie holding keys whose spread hash codes are all equal.
+     */
+    private static final class CollisionNode<K, V> extends Node<K, V>
+    {
+        private final Object[] content;
+
+        private CollisionNode(Object[] content)
+        {
+            this.content = content;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < this.content.length; i += 2)
+            {
+                if (Comparators.nullSafeEquals(this.content[i], key))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return this.content.length / 2;
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return 0;
+        }
+
+        @Override
+        K getKey(int index)
+        {
+            return (K) this.content[2 * index];
+        }
+
+        @Override
+        V getValue(int index)
+        {
+            return (V) this.content[2 * index + 1];
+        }
+
+        @Override
+        Node<K, V> getNode(int index)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: 0");
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift)
+        {
+            int index = this.indexOf(key);
+            return index < 0 ? NOT_FOUND : this.content[index + 1];
+        }
+
+        @Override
+        Node<K, V> put(K key, V value, int hash, int shift, Counter sizeChange)
+        {
+            int index = this.indexOf(key);
+            if (index >= 0)
+            {
+                if (this.content[index + 1] == value)
+                {
+                    return this;
+                }
+                Object[] newContent = this.content.clone();
+                newContent[index + 1] = value;
+                return new CollisionNode<>(newContent);
+            }
+            Object[] newContent = new Object[this.content.length + 2];
+            System.arraycopy(this.content, 0, newContent, 0, this.content.length);
+            newContent[this.content.length] = key;
+            newContent[this.content.length + 1] = value;
+            sizeChange.increment();
+            return new CollisionNode<>(newContent);
+        }
+
+        @Override
+        Node<K, V> remove(Object key, int hash, int shift, Counter sizeChange)
+        {
+            int index = this.indexOf(key);
+            if (index < 0)
+            {
+                return this;
+            }
+            Object[] newContent = new Object[this.content.length - 2];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 2, newContent, index, this.content.length - index - 2);
+            sizeChange.decrement();
+            return new CollisionNode<>(newContent);
+        }
+    }
+
+    private abstract static class NodeIterator<K, V, T> implements Iterator<T>
+    {
+        private final Node<K, V>[] nodes = new Node[MAX_DEPTH];
+        private final int[] cursors = new int[MAX_DEPTH];
+        private int depth = -1;
+        private Node<K, V> current;
+        private int currentIndex;
+
+        NodeIterator(Node<K, V> root)
+        {
+            this.current = root;
+            this.push(root);
+        }
+
+        protected abstract T valueAt(Node<K, V> node, int index);
+
+        private void push(Node<K, V> node)
+        {
+            if (node.nodeArity() > 0)
+            {
+                this.depth++;
+                this.nodes[this.depth] = node;
+                this.cursors[this.depth] = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.currentIndex >= this.current.payloadArity())
+            {
+                if (!this.advance())
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean advance()
+        {
+            while (this.depth >= 0)
+            {
+                Node<K, V> node = this.nodes[this.depth];
+                if (this.cursors[this.depth] < node.nodeArity())
+                {
+                    Node<K, V> child = node.getNode(this.cursors[this.depth]++);
+                    this.push(child);
+                    this.current = child;
+                    this.currentIndex = 0;
+                    return true;
+                }
+                this.nodes[this.depth] = null;
+                this.depth--;
+            }
+            return false;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.valueAt(this.current, this.currentIndex++);
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+
+    private final class KeysView extends AbstractLazyIterable<K>
+    {
+        @Override
+        public void each(Procedure<? super K> procedure)
+        {
+            ImmutableHashTrieMap.this.forEachKey(procedure);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return ImmutableHashTrieMap.this.size == 0;
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new NodeIterator<K, V, K>(ImmutableHashTrieMap.this.root)
+            {
+                @Override
+                protected K valueAt(Node<K, V> node, int index)
+                {
+                    return node.getKey(index);
+                }
+            };
+        }
+    }
+
+    private final class ValuesView extends AbstractLazyIterable<V>
+    {
+        @Override
+        public void each(Procedure<? super V> procedure)
+        {
+            ImmutableHashTrieMap.this.forEachValue(procedure);
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return ImmutableHashTrieMap.this.size == 0;
+        }
+
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new NodeIterator<K, V, V>(ImmutableHashTrieMap.this.root)
+            {
+                @Override
+                protected V valueAt(Node<K, V> node, int index)
+                {
+                    return node.getValue(index);
+                }
+            };
+        }
+    }
+
+    private final class KeyValuesView extends AbstractLazyIterable<Pair<K, V>>
+    {
+        @Override
+        public void each(Procedure<? super Pair<K, V>> procedure)
+        {
+            ImmutableHashTrieMap.this.forEachKeyValue((key, value) -> procedure.value(Tuples.pair(key, value)));
+        }
+
+        @Override
+        public int size()
+        {
+            return ImmutableHashTrieMap.this.size;
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return ImmutableHashTrieMap.this.size == 0;
+        }
+
+        @Override
+        public Iterator<Pair<K, V>> iterator()
+        {
+            return new NodeIterator<K, V, Pair<K, V>>(ImmutableHashTrieMap.this.root)
+            {
+                @Override
+                protected Pair<K, V> valueAt(Node<K, V> node, int index)
+                {
+                    return Tuples.pair(node.getKey(index), node.getValue(index));
+                }
+            };
+        }
+    }
+}
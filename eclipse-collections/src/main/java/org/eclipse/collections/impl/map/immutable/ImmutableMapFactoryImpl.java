@@ -20,6 +20,12 @@ import org.eclipse.collections.impl.block.factory.Comparators;
 @Immutable
 public final class ImmutableMapFactoryImpl implements ImmutableMapFactory
 {
+    /**
+     * Maps larger than this are backed by an {@link ImmutableHashTrieMap}, for which newWithKeyValue and newWithoutKey
+     * do not copy the whole map. Smaller maps use a UnifiedMap, which is more compact and faster to read.
+     */
+    static final int HASH_TRIE_THRESHOLD = 32;
+
     @Override
     public <K, V> ImmutableMap<K, V> empty()
     {
@@ -155,6 +161,11 @@ public final class ImmutableMapFactoryImpl implements ImmutableMapFactory
             return this.of();
         }
 
+        if (map.size() > HASH_TRIE_THRESHOLD)
+        {
+            return ImmutableHashTrieMap.newMap(map);
+        }
+
         if (map.size() > 4)
         {
             return new ImmutableUnifiedMap<>(map);
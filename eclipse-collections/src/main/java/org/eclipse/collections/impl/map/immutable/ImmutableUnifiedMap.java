@@ -26,7 +26,7 @@ import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.collection.mutable.UnmodifiableMutableCollection;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
-import org.eclipse.collections.impl.parallel.BatchIterable;
+import org.eclipse.collections.impl.parallel.BatchMapIterable;
 import org.eclipse.collections.impl.set.mutable.UnmodifiableMutableSet;
 
 @Immutable
@@ -34,7 +34,7 @@ import org.eclipse.collections.impl.set.mutable.UnmodifiableMutableSet;
  * @see ImmutableMap
  */
 public class ImmutableUnifiedMap<K, V>
-        extends AbstractImmutableMap<K, V> implements BatchIterable<V>, Serializable
+        extends AbstractImmutableMap<K, V> implements BatchMapIterable<K, V>, Serializable
 {
     private static final long serialVersionUID = 1L;
     private final UnifiedMap<K, V> delegate;
@@ -103,6 +103,12 @@ public class ImmutableUnifiedMap<K, V>
         this.delegate.batchForEach(procedure, sectionIndex, sectionCount);
     }
 
+    @Override
+    public void batchForEachKeyValue(Procedure2<? super K, ? super V> procedure, int sectionIndex, int sectionCount)
+    {
+        this.delegate.batchForEachKeyValue(procedure, sectionIndex, sectionCount);
+    }
+
     @Override
     public void forEachValue(Procedure<? super V> procedure)
     {
@@ -11,6 +11,7 @@
 package org.eclipse.collections.impl.map.mutable;
 
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.primitive.MutableBooleanBag;
@@ -36,6 +37,7 @@ import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.ParallelMapIterable;
 import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
 import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
 import org.eclipse.collections.api.ordered.OrderedIterable;
@@ -65,6 +67,7 @@ import org.eclipse.collections.impl.block.procedure.primitive.CollectIntProcedur
 import org.eclipse.collections.impl.block.procedure.primitive.CollectLongProcedure;
 import org.eclipse.collections.impl.block.procedure.primitive.CollectShortProcedure;
 import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.lazy.parallel.map.NonParallelMapIterable;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.multimap.bag.HashBagMultimap;
 import org.eclipse.collections.impl.partition.bag.PartitionHashBag;
@@ -101,6 +104,12 @@ public abstract class AbstractMutableMap<K, V> extends AbstractMutableMapIterabl
         return SynchronizedMutableMap.of(this);
     }
 
+    @Override
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new NonParallelMapIterable<>(this);
+    }
+
     @Override
     public MutableSetMultimap<V, K> flip()
     {
@@ -47,6 +47,18 @@ public final class MutableMapFactoryImpl implements MutableMapFactory
         return UnifiedMap.newMap(capacity);
     }
 
+    @Override
+    public <K, V> MutableMap<K, V> emptyOpenAddressing()
+    {
+        return OpenAddressingMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> withInitialCapacityOpenAddressing(int capacity)
+    {
+        return OpenAddressingMap.newMap(capacity);
+    }
+
     @Override
     public <K, V> MutableMap<K, V> of(K key, V value)
     {
@@ -0,0 +1,1026 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.jcip.annotations.NotThreadSafe;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.map.MapIterable;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.UnsortedMapIterable;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * OpenAddressingMap stores key/value pairs in alternate slots of a single array, like {@link UnifiedMap}, but resolves
+ * collisions by linear probing into the neighbouring slots instead of allocating chain arrays.  Removal shifts the rest
+ * of a probe run back into the freed slot, so the table never contains tombstones and lookups stop at the first empty
+ * slot.  Hash codes are spread with a multiplicative mix before masking so that keys whose hash codes differ only in the
+ * high bits still land in different runs.
+ * <p>
+ * The lower default load factor keeps probe runs short; presize the map or pass a higher load factor to trade lookup
+ * speed for memory.
+ *
+ * @since 8.0
+ */
+@NotThreadSafe
+@SuppressWarnings("ObjectEquality")
+public class OpenAddressingMap<K, V> extends AbstractMutableMap<K, V>
+        implements Externalizable
+{
+    protected static final Object NULL_KEY = new Object()
+    {
+        @Override
+        public boolean equals(Object obj)
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public int hashCode()
+        {
+            throw new RuntimeException("Possible corruption through unsynchronized concurrent modification.");
+        }
+
+        @Override
+        public String toString()
+        {
+            return "OpenAddressingMap.NULL_KEY";
+        }
+    };
+
+    protected static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+    protected static final int DEFAULT_INITIAL_CAPACITY = 8;
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int SPREAD = 0x9E3779B9;
+
+    protected transient Object[] table;
+
+    protected transient int occupied;
+
+    protected float loadFactor = DEFAULT_LOAD_FACTOR;
+
+    protected int maxSize;
+
+    public OpenAddressingMap()
+    {
+        this.allocate(DEFAULT_INITIAL_CAPACITY << 1);
+    }
+
+    public OpenAddressingMap(int initialCapacity)
+    {
+        this(initialCapacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    public OpenAddressingMap(int initialCapacity, float loadFactor)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("initial capacity cannot be less than 0");
+        }
+        if (loadFactor <= 0.0)
+        {
+            throw new IllegalArgumentException("load factor cannot be less than or equal to 0");
+        }
+        if (loadFactor >= 1.0)
+        {
+            throw new IllegalArgumentException("load factor must be less than 1");
+        }
+
+        this.loadFactor = loadFactor;
+        this.init((int) Math.ceil(initialCapacity / (double) loadFactor));
+    }
+
+    public OpenAddressingMap(Map<? extends K, ? extends V> map)
+    {
+        this(Math.max(map.size(), DEFAULT_INITIAL_CAPACITY), DEFAULT_LOAD_FACTOR);
+
+        this.putAll(map);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newMap()
+    {
+        return new OpenAddressingMap<>();
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newMap(int size)
+    {
+        return new OpenAddressingMap<>(size);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newMap(int size, float loadFactor)
+    {
+        return new OpenAddressingMap<>(size, loadFactor);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newMap(Map<? extends K, ? extends V> map)
+    {
+        return new OpenAddressingMap<>(map);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newWithKeysValues(K key, V value)
+    {
+        return new OpenAddressingMap<K, V>(1).withKeysValues(key, value);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return new OpenAddressingMap<K, V>(2).withKeysValues(key1, value1, key2, value2);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return new OpenAddressingMap<K, V>(3).withKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    public static <K, V> OpenAddressingMap<K, V> newWithKeysValues(
+            K key1, V value1,
+            K key2, V value2,
+            K key3, V value3,
+            K key4, V value4)
+    {
+        return new OpenAddressingMap<K, V>(4).withKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    public OpenAddressingMap<K, V> withKeysValues(K key, V value)
+    {
+        this.put(key, value);
+        return this;
+    }
+
+    public OpenAddressingMap<K, V> withKeysValues(K key1, V value1, K key2, V value2)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        return this;
+    }
+
+    public OpenAddressingMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        return this;
+    }
+
+    public OpenAddressingMap<K, V> withKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        this.put(key1, value1);
+        this.put(key2, value2);
+        this.put(key3, value3);
+        this.put(key4, value4);
+        return this;
+    }
+
+    @Override
+    public OpenAddressingMap<K, V> clone()
+    {
+        return new OpenAddressingMap<>(this);
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty()
+    {
+        return new OpenAddressingMap<>();
+    }
+
+    @Override
+    public MutableMap<K, V> newEmpty(int capacity)
+    {
+        return OpenAddressingMap.newMap(capacity);
+    }
+
+    protected int init(int initialCapacity)
+    {
+        int capacity = 1;
+        while (capacity < initialCapacity)
+        {
+            capacity <<= 1;
+        }
+
+        return this.allocate(capacity);
+    }
+
+    protected int allocate(int capacity)
+    {
+        this.table = new Object[capacity << 1]; // the table size is twice the capacity to handle both keys and values
+        // need at least one free slot so that every probe run terminates
+        this.maxSize = Math.min(capacity - 1, (int) (capacity * this.loadFactor));
+        return capacity;
+    }
+
+    /**
+     * Returns the key slot of the table at which the probe run for {@code key} starts.
+     */
+    protected final int index(Object key)
+    {
+        int h = key == null ? 0 : key.hashCode();
+        h *= SPREAD;
+        h ^= h >>> 16;
+        return (h << 1) & (this.table.length - 1);
+    }
+
+    /**
+     * Returns the key slot holding {@code key}, or the empty slot which ends its probe run if the key is absent.
+     */
+    private int probe(Object key)
+    {
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        int index = this.index(key);
+        Object cur = table[index];
+        while (cur != null && !OpenAddressingMap.nonNullTableObjectEquals(cur, key))
+        {
+            index = (index + 2) & mask;
+            cur = table[index];
+        }
+        return index;
+    }
+
+    private void addAt(int index, K key, V value)
+    {
+        this.table[index] = OpenAddressingMap.toSentinelIfNull(key);
+        this.table[index + 1] = value;
+        if (++this.occupied > this.maxSize)
+        {
+            this.rehash(this.table.length);
+        }
+    }
+
+    /**
+     * Removes the entry at {@code index} and closes the gap by moving back every later entry of the probe run whose home
+     * slot does not lie between the gap and its current slot.  Entries which wrap around from the start of the table to
+     * its end are reported to {@code iterator}, which has already passed the end of the table.
+     */
+    private void removeAt(int index, PositionalIterator<?> iterator)
+    {
+        Object[] table = this.table;
+        int mask = table.length - 1;
+        int gap = index;
+        int current = (gap + 2) & mask;
+        Object cur = table[current];
+        while (cur != null)
+        {
+            int home = this.index(this.nonSentinel(cur));
+            boolean movable = gap <= current ? home <= gap || home > current : home <= gap && home > current;
+            if (movable)
+            {
+                if (current < gap && iterator != null)
+                {
+                    iterator.addWrapped(cur, table[current + 1]);
+                }
+                table[gap] = cur;
+                table[gap + 1] = table[current + 1];
+                gap = current;
+            }
+            current = (current + 2) & mask;
+            cur = table[current];
+        }
+        table[gap] = null;
+        table[gap + 1] = null;
+        this.occupied--;
+    }
+
+    protected void rehash(int newCapacity)
+    {
+        Object[] old = this.table;
+        this.allocate(newCapacity);
+        Object[] table = this.table;
+        int mask = table.length - 1;
+
+        for (int i = 0; i < old.length; i += 2)
+        {
+            Object cur = old[i];
+            if (cur != null)
+            {
+                int index = this.index(this.nonSentinel(cur));
+                while (table[index] != null)
+                {
+                    index = (index + 2) & mask;
+                }
+                table[index] = cur;
+                table[index + 1] = old[i + 1];
+            }
+        }
+    }
+
+    /**
+     * Returns the length of the longest run of occupied slots in the table, which bounds the number of slots a lookup visits.
+     */
+    public int getLongestProbeRun()
+    {
+        int longest = 0;
+        int run = 0;
+        int leading = -1;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            if (this.table[i] == null)
+            {
+                if (leading < 0)
+                {
+                    leading = run;
+                }
+                longest = Math.max(longest, run);
+                run = 0;
+            }
+            else
+            {
+                run++;
+            }
+        }
+        return Math.max(longest, run + Math.max(leading, 0));
+    }
+
+    @Override
+    public void clear()
+    {
+        if (this.occupied == 0)
+        {
+            return;
+        }
+        this.occupied = 0;
+        Object[] set = this.table;
+
+        for (int i = set.length; i-- > 0; )
+        {
+            set[i] = null;
+        }
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            this.addAt(index, key, value);
+            return null;
+        }
+        V result = (V) this.table[index + 1];
+        this.table[index + 1] = value;
+        return result;
+    }
+
+    @Override
+    public V updateValue(K key, Function0<? extends V> factory, Function<? super V, ? extends V> function)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            V result = function.valueOf(factory.value());
+            this.addAt(index, key, result);
+            return result;
+        }
+        V result = function.valueOf((V) this.table[index + 1]);
+        this.table[index + 1] = result;
+        return result;
+    }
+
+    @Override
+    public <P> V updateValueWith(K key, Function0<? extends V> factory, Function2<? super V, ? super P, ? extends V> function, P parameter)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            V result = function.value(factory.value(), parameter);
+            this.addAt(index, key, result);
+            return result;
+        }
+        V result = function.value((V) this.table[index + 1], parameter);
+        this.table[index + 1] = result;
+        return result;
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, Function0<? extends V> function)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            V result = function.value();
+            this.addAt(index, key, result);
+            return result;
+        }
+        return (V) this.table[index + 1];
+    }
+
+    @Override
+    public V getIfAbsentPut(K key, V value)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            this.addAt(index, key, value);
+            return value;
+        }
+        return (V) this.table[index + 1];
+    }
+
+    @Override
+    public <P> V getIfAbsentPutWith(K key, Function<? super P, ? extends V> function, P parameter)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            V result = function.valueOf(parameter);
+            this.addAt(index, key, result);
+            return result;
+        }
+        return (V) this.table[index + 1];
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        int index = this.probe(key);
+        return (V) this.table[index + 1];
+    }
+
+    @Override
+    public V getIfAbsent(K key, Function0<? extends V> function)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            return function.value();
+        }
+        return (V) this.table[index + 1];
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.table[this.probe(key)] != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            if (this.table[i] != null && Comparators.nullSafeEquals(this.table[i + 1], value))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        Object[] table = this.table;
+        for (int i = table.length - 2; i >= 0; i -= 2)
+        {
+            Object cur = table[i];
+            if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur), (V) table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        Object[] table = this.table;
+        for (int i = table.length - 2; i >= 0; i -= 2)
+        {
+            Object cur = table[i];
+            if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur));
+            }
+        }
+    }
+
+    @Override
+    public void forEachValue(Procedure<? super V> procedure)
+    {
+        Object[] table = this.table;
+        for (int i = table.length - 2; i >= 0; i -= 2)
+        {
+            if (table[i] != null)
+            {
+                procedure.value((V) table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public <E> MutableMap<K, V> collectKeysAndValues(
+            Iterable<E> iterable,
+            Function<? super E, ? extends K> keyFunction,
+            Function<? super E, ? extends V> valueFunction)
+    {
+        Iterate.forEach(iterable, new MapCollectProcedure<>(this, keyFunction, valueFunction));
+        return this;
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.remove(key);
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        int index = this.probe(key);
+        if (this.table[index] == null)
+        {
+            return null;
+        }
+        V result = (V) this.table[index + 1];
+        this.removeAt(index, null);
+        return result;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.occupied == 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return this.occupied;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map instanceof UnsortedMapIterable)
+        {
+            MapIterable<K, V> mapIterable = (MapIterable<K, V>) map;
+            mapIterable.forEachKeyValue(this::put);
+        }
+        else
+        {
+            for (Entry<? extends K, ? extends V> entry : map.entrySet())
+            {
+                this.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet();
+    }
+
+    @Override
+    public Set<K> keySet()
+    {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return new ValuesCollection();
+    }
+
+    @Override
+    public Iterator<V> iterator()
+    {
+        return new ValuesIterator();
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+
+        if (!(object instanceof Map))
+        {
+            return false;
+        }
+
+        Map<?, ?> other = (Map<?, ?>) object;
+        if (this.size() != other.size())
+        {
+            return false;
+        }
+
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                K key = this.nonSentinel(cur);
+                V value = (V) this.table[i + 1];
+                Object otherValue = other.get(key);
+                if (!Comparators.nullSafeEquals(otherValue, value) || (value == null && otherValue == null && !other.containsKey(key)))
+                {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                Object value = this.table[i + 1];
+                hashCode += (cur == NULL_KEY ? 0 : cur.hashCode()) ^ (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        builder.append('{');
+
+        this.forEachKeyValue(new Procedure2<K, V>()
+        {
+            private boolean first = true;
+
+            public void value(K key, V value)
+            {
+                if (this.first)
+                {
+                    this.first = false;
+                }
+                else
+                {
+                    builder.append(", ");
+                }
+
+                builder.append(key == OpenAddressingMap.this ? "(this Map)" : key);
+                builder.append('=');
+                builder.append(value == OpenAddressingMap.this ? "(this Map)" : value);
+            }
+        });
+
+        builder.append('}');
+        return builder.toString();
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        int size = in.readInt();
+        this.loadFactor = in.readFloat();
+        this.init(Math.max((int) (size / this.loadFactor) + 1, DEFAULT_INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++)
+        {
+            this.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeInt(this.size());
+        out.writeFloat(this.loadFactor);
+        for (int i = 0; i < this.table.length; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur != null)
+            {
+                out.writeObject(this.nonSentinel(cur));
+                out.writeObject(this.table[i + 1]);
+            }
+        }
+    }
+
+    /**
+     * Walks the table from the last slot to the first.  Removing through the iterator may move entries from the start of
+     * the table into slots the iterator has already passed; those entries are remembered and returned once the walk
+     * reaches the start of the table.
+     */
+    protected abstract class PositionalIterator<T> implements Iterator<T>
+    {
+        protected int position = OpenAddressingMap.this.table.length;
+        protected int count;
+        protected int lastReturned = -1;
+        protected FastList<Object> wrapped;
+        protected int wrappedIndex;
+
+        protected abstract T next(K key, V value);
+
+        protected void addWrapped(Object key, Object value)
+        {
+            if (this.wrapped == null)
+            {
+                this.wrapped = FastList.newList();
+            }
+            this.wrapped.add(key);
+            this.wrapped.add(value);
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.count < OpenAddressingMap.this.occupied;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            this.count++;
+            Object[] table = OpenAddressingMap.this.table;
+            while (this.position > 0)
+            {
+                this.position -= 2;
+                Object cur = table[this.position];
+                if (cur != null)
+                {
+                    this.lastReturned = this.position;
+                    return this.next(OpenAddressingMap.this.nonSentinel(cur), (V) table[this.position + 1]);
+                }
+            }
+            if (this.wrapped == null || this.wrappedIndex >= this.wrapped.size())
+            {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.wrappedIndex;
+            this.wrappedIndex += 2;
+            return this.next(OpenAddressingMap.this.nonSentinel(this.wrapped.get(this.lastReturned)), (V) this.wrapped.get(this.lastReturned + 1));
+        }
+
+        @Override
+        public void remove()
+        {
+            if (this.lastReturned == -1)
+            {
+                throw new IllegalStateException();
+            }
+            if (this.position > 0 || this.wrapped == null || this.wrappedIndex == 0)
+            {
+                OpenAddressingMap.this.removeAt(this.lastReturned, this);
+            }
+            else
+            {
+                OpenAddressingMap.this.remove(OpenAddressingMap.this.nonSentinel(this.wrapped.get(this.lastReturned)));
+            }
+            this.count--;
+            this.lastReturned = -1;
+        }
+    }
+
+    protected class KeySetIterator extends PositionalIterator<K>
+    {
+        @Override
+        protected K next(K key, V value)
+        {
+            return key;
+        }
+    }
+
+    protected class ValuesIterator extends PositionalIterator<V>
+    {
+        @Override
+        protected V next(K key, V value)
+        {
+            return value;
+        }
+    }
+
+    protected class EntrySetIterator extends PositionalIterator<Entry<K, V>>
+    {
+        @Override
+        protected Entry<K, V> next(K key, V value)
+        {
+            return new BoundEntry(key, value);
+        }
+    }
+
+    protected class BoundEntry implements Entry<K, V>
+    {
+        protected final K key;
+        protected V value;
+
+        protected BoundEntry(K key, V value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public K getKey()
+        {
+            return this.key;
+        }
+
+        @Override
+        public V getValue()
+        {
+            return this.value;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            this.value = value;
+            int index = OpenAddressingMap.this.probe(this.key);
+            if (OpenAddressingMap.this.table[index] == null)
+            {
+                return null;
+            }
+            V result = (V) OpenAddressingMap.this.table[index + 1];
+            OpenAddressingMap.this.table[index + 1] = value;
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (obj instanceof Entry)
+            {
+                Entry<?, ?> other = (Entry<?, ?>) obj;
+                return Comparators.nullSafeEquals(this.key, other.getKey())
+                        && Comparators.nullSafeEquals(this.value, other.getValue());
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return (this.key == null ? 0 : this.key.hashCode())
+                    ^ (this.value == null ? 0 : this.value.hashCode());
+        }
+
+        @Override
+        public String toString()
+        {
+            return this.key + "=" + this.value;
+        }
+    }
+
+    protected class KeySet extends AbstractSet<K>
+    {
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressingMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return OpenAddressingMap.this.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            int oldSize = OpenAddressingMap.this.occupied;
+            OpenAddressingMap.this.remove(o);
+            return OpenAddressingMap.this.occupied != oldSize;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressingMap.this.clear();
+        }
+    }
+
+    protected class ValuesCollection extends AbstractCollection<V>
+    {
+        @Override
+        public Iterator<V> iterator()
+        {
+            return new ValuesIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressingMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return OpenAddressingMap.this.containsValue(o);
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressingMap.this.clear();
+        }
+    }
+
+    protected class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntrySetIterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return OpenAddressingMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Entry<?, ?>))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            int index = OpenAddressingMap.this.probe(entry.getKey());
+            return OpenAddressingMap.this.table[index] != null
+                    && Comparators.nullSafeEquals(OpenAddressingMap.this.table[index + 1], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (!this.contains(o))
+            {
+                return false;
+            }
+            OpenAddressingMap.this.remove(((Entry<?, ?>) o).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear()
+        {
+            OpenAddressingMap.this.clear();
+        }
+    }
+
+    private K nonSentinel(Object key)
+    {
+        return key == NULL_KEY ? null : (K) key;
+    }
+
+    private static Object toSentinelIfNull(Object key)
+    {
+        if (key == null)
+        {
+            return NULL_KEY;
+        }
+        return key;
+    }
+
+    private static boolean nonNullTableObjectEquals(Object cur, Object key)
+    {
+        return cur == key || (cur == NULL_KEY ? key == null : cur.equals(key));
+    }
+}
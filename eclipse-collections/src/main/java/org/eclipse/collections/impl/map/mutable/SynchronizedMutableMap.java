@@ -15,6 +15,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.bag.MutableBag;
@@ -41,6 +42,7 @@ import org.eclipse.collections.api.block.predicate.Predicate2;
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.ParallelMapIterable;
 import org.eclipse.collections.api.multimap.bag.MutableBagMultimap;
 import org.eclipse.collections.api.multimap.set.MutableSetMultimap;
 import org.eclipse.collections.api.ordered.OrderedIterable;
@@ -49,6 +51,7 @@ import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.collection.mutable.SynchronizedMutableCollection;
 import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.lazy.parallel.map.SynchronizedParallelMapIterable;
 import org.eclipse.collections.impl.list.fixed.ArrayAdapter;
 import org.eclipse.collections.impl.map.AbstractSynchronizedMapIterable;
 import org.eclipse.collections.impl.set.mutable.SynchronizedMutableSet;
@@ -539,6 +542,12 @@ public class SynchronizedMutableMap<K, V>
         return this;
     }
 
+    @Override
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new SynchronizedParallelMapIterable<>(this.getDelegate().asParallel(executorService, batchSize), this.lock);
+    }
+
     @Override
     public ImmutableMap<K, V> toImmutable()
     {
@@ -23,6 +23,9 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 import net.jcip.annotations.NotThreadSafe;
 import org.eclipse.collections.api.block.function.Function;
@@ -36,6 +39,7 @@ import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.ParallelMapIterable;
 import org.eclipse.collections.api.map.UnsortedMapIterable;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.block.factory.Functions;
@@ -43,8 +47,10 @@ import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
 import org.eclipse.collections.impl.factory.Maps;
 import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.lazy.parallel.map.ParallelBatchMapIterable;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.parallel.BatchIterable;
+import org.eclipse.collections.impl.parallel.BatchMapIterable;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
 import org.eclipse.collections.impl.tuple.ImmutableEntry;
 import org.eclipse.collections.impl.tuple.Tuples;
@@ -65,7 +71,7 @@ import org.eclipse.collections.impl.utility.Iterate;
 @NotThreadSafe
 @SuppressWarnings("ObjectEquality")
 public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
-        implements Externalizable, BatchIterable<V>
+        implements Externalizable, BatchMapIterable<K, V>
 {
     protected static final Object NULL_KEY = new Object()
     {
@@ -1080,6 +1086,36 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    @Override
+    public void batchForEachKeyValue(Procedure2<? super K, ? super V> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.table.length / sectionCount;
+        int start = sectionIndex * sectionSize;
+        int end = sectionIndex == sectionCount - 1 ? this.table.length : start + sectionSize;
+        if (start % 2 != 0)
+        {
+            start++;
+        }
+        for (int i = start; i < end; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur == CHAINED_KEY)
+            {
+                this.chainedForEachEntry((Object[]) this.table[i + 1], procedure);
+            }
+            else if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur), (V) this.table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new ParallelBatchMapIterable<>(this, executorService, batchSize);
+    }
+
     @Override
     public void forEachKey(Procedure<? super K> procedure)
     {
@@ -1920,6 +1956,12 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
             return new KeySetIterator();
         }
 
+        @Override
+        public Spliterator<K> spliterator()
+        {
+            return new KeySetSpliterator();
+        }
+
         @Override
         public boolean remove(Object key)
         {
@@ -2422,6 +2464,12 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
             return new EntrySetIterator(this.holder);
         }
 
+        @Override
+        public Spliterator<Entry<K, V>> spliterator()
+        {
+            return new EntrySetSpliterator(this.holder);
+        }
+
         @Override
         public boolean remove(Object e)
         {
@@ -2823,6 +2871,12 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
             return new ValuesIterator();
         }
 
+        @Override
+        public Spliterator<V> spliterator()
+        {
+            return new ValuesSpliterator();
+        }
+
         @Override
         public boolean remove(Object o)
         {
@@ -3047,6 +3101,214 @@ public class UnifiedMap<K, V> extends AbstractMutableMap<K, V>
         }
     }
 
+    /**
+     * Splits by table index range, so a split never copies elements. Only the root spliterator reports an exact
+     * size, since the number of entries in a range of the table (including its chains) is not known without walking it.
+     */
+    protected abstract class PositionalSpliterator<T> implements Spliterator<T>
+    {
+        protected final Object[] table;
+        protected int position;
+        protected int fence;
+        protected int chainPosition;
+        protected long estimatedSize;
+        protected int characteristics;
+
+        protected PositionalSpliterator(int characteristics)
+        {
+            this.table = UnifiedMap.this.table;
+            this.fence = this.table.length;
+            this.estimatedSize = UnifiedMap.this.occupied;
+            this.characteristics = characteristics | Spliterator.SIZED;
+        }
+
+        protected PositionalSpliterator(PositionalSpliterator<T> prefix, int position)
+        {
+            this.table = prefix.table;
+            this.position = position;
+            this.fence = prefix.fence;
+            this.estimatedSize = prefix.estimatedSize;
+            this.characteristics = prefix.characteristics;
+        }
+
+        protected abstract T valueOf(Object key, Object value);
+
+        protected abstract PositionalSpliterator<T> suffix(int position);
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            while (this.position < this.fence)
+            {
+                Object cur = this.table[this.position];
+                if (cur == CHAINED_KEY)
+                {
+                    Object[] chain = (Object[]) this.table[this.position + 1];
+                    Object key = chain[this.chainPosition];
+                    Object value = chain[this.chainPosition + 1];
+                    this.chainPosition += 2;
+                    if (this.chainPosition >= chain.length
+                            || chain[this.chainPosition] == null)
+                    {
+                        this.chainPosition = 0;
+                        this.position += 2;
+                    }
+                    action.accept(this.valueOf(key, value));
+                    return true;
+                }
+                this.position += 2;
+                if (cur != null)
+                {
+                    action.accept(this.valueOf(cur, this.table[this.position - 1]));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            while (this.chainPosition != 0)
+            {
+                this.tryAdvance(action);
+            }
+            for (int i = this.position; i < this.fence; i += 2)
+            {
+                Object cur = this.table[i];
+                if (cur == CHAINED_KEY)
+                {
+                    this.chainedForEachRemaining((Object[]) this.table[i + 1], action);
+                }
+                else if (cur != null)
+                {
+                    action.accept(this.valueOf(cur, this.table[i + 1]));
+                }
+            }
+            this.position = this.fence;
+        }
+
+        private void chainedForEachRemaining(Object[] chain, Consumer<? super T> action)
+        {
+            for (int i = 0; i < chain.length; i += 2)
+            {
+                Object cur = chain[i];
+                if (cur == null)
+                {
+                    return;
+                }
+                action.accept(this.valueOf(cur, chain[i + 1]));
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            int low = this.chainPosition == 0 ? this.position : this.position + 2;
+            int mid = ((low + this.fence) >>> 1) & ~1;
+            if (low >= mid)
+            {
+                return null;
+            }
+            this.estimatedSize >>>= 1;
+            this.characteristics &= ~Spliterator.SIZED;
+            PositionalSpliterator<T> suffix = this.suffix(mid);
+            this.fence = mid;
+            return suffix;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return this.estimatedSize;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return this.characteristics;
+        }
+    }
+
+    protected class KeySetSpliterator extends PositionalSpliterator<K>
+    {
+        protected KeySetSpliterator()
+        {
+            super(Spliterator.DISTINCT);
+        }
+
+        protected KeySetSpliterator(KeySetSpliterator prefix, int position)
+        {
+            super(prefix, position);
+        }
+
+        @Override
+        protected K valueOf(Object key, Object value)
+        {
+            return UnifiedMap.this.nonSentinel(key);
+        }
+
+        @Override
+        protected KeySetSpliterator suffix(int position)
+        {
+            return new KeySetSpliterator(this, position);
+        }
+    }
+
+    protected class EntrySetSpliterator extends PositionalSpliterator<Entry<K, V>>
+    {
+        private final WeakReference<UnifiedMap<K, V>> holder;
+
+        protected EntrySetSpliterator(WeakReference<UnifiedMap<K, V>> holder)
+        {
+            super(Spliterator.DISTINCT);
+            this.holder = holder;
+        }
+
+        protected EntrySetSpliterator(EntrySetSpliterator prefix, int position)
+        {
+            super(prefix, position);
+            this.holder = prefix.holder;
+        }
+
+        @Override
+        protected Entry<K, V> valueOf(Object key, Object value)
+        {
+            return new WeakBoundEntry<>(UnifiedMap.this.nonSentinel(key), (V) value, this.holder);
+        }
+
+        @Override
+        protected EntrySetSpliterator suffix(int position)
+        {
+            return new EntrySetSpliterator(this, position);
+        }
+    }
+
+    protected class ValuesSpliterator extends PositionalSpliterator<V>
+    {
+        protected ValuesSpliterator()
+        {
+            super(0);
+        }
+
+        protected ValuesSpliterator(ValuesSpliterator prefix, int position)
+        {
+            super(prefix, position);
+        }
+
+        @Override
+        protected V valueOf(Object key, Object value)
+        {
+            return (V) value;
+        }
+
+        @Override
+        protected ValuesSpliterator suffix(int position)
+        {
+            return new ValuesSpliterator(this, position);
+        }
+    }
+
     private K nonSentinel(Object key)
     {
         return key == NULL_KEY ? null : (K) key;
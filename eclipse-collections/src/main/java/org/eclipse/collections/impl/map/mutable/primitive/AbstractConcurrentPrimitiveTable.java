@@ -0,0 +1,467 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable.primitive;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The open addressed table shared by the generated concurrent maps, such as ConcurrentIntIntHashMap,
+ * ConcurrentIntObjectHashMap and ConcurrentObjectIntHashMap.  Subclasses keep the keys in a plain array and the values
+ * in an atomic array, and every change to a slot starts with a compare-and-set of its entry in {@link #states}:
+ * <ul>
+ * <li>an insert claims a FREE slot, stores the key and the value, and then publishes the slot as LIVE;</li>
+ * <li>a LIVE slot is held as WRITING while its value is replaced, so that a removal or a resize cannot miss the new
+ * value;</li>
+ * <li>a removal turns a LIVE slot DEAD.  Slots never become FREE again, so a key is always found before the first FREE
+ * slot of its probe sequence, and a key is stored once and never changed.</li>
+ * </ul>
+ * A resize follows {@link org.eclipse.collections.impl.map.mutable.ConcurrentHashMap}: every thread which runs into it
+ * helps to move the slots to the next table through a ResizeContainer, and waits until all of them have been moved
+ * before it carries on in the next table.
+ *
+ * @since 8.0
+ */
+abstract class AbstractConcurrentPrimitiveTable<T extends AbstractConcurrentPrimitiveTable<T>>
+{
+    /**
+     * Returned by the locate methods of the subclasses when the key may be in the next table.
+     */
+    static final int RESIZING = Integer.MIN_VALUE;
+
+    /**
+     * Returned by the locate methods of the subclasses when the key is not in the table and there is no slot left to
+     * add it to.
+     */
+    static final int FULL = Integer.MIN_VALUE + 1;
+
+    static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private static final int FREE = 0;
+    private static final int CLAIMED = 1;
+    private static final int LIVE = 2;
+    private static final int WRITING = 3;
+    private static final int DEAD = 4;
+    private static final int MOVING = 5;
+    private static final int MOVED = 6;
+    private static final int COPIED = 7;
+
+    /**
+     * The maximum capacity, used if a higher value is implicitly specified by either of the constructors with arguments.
+     * MUST be a power of two <= 1<<30.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    protected final int mask;
+
+    /**
+     * The number of mappings in the map, shared by all of its tables.
+     */
+    protected final LongAdder size;
+
+    private final AtomicIntegerArray states;
+
+    /**
+     * The number of slots which are no longer FREE.
+     */
+    private final LongAdder used = new LongAdder();
+
+    private volatile ResizeContainer<T> resizeContainer;
+
+    protected AbstractConcurrentPrimitiveTable(int length, LongAdder size)
+    {
+        this.mask = length - 1;
+        this.size = size;
+        this.states = new AtomicIntegerArray(length);
+    }
+
+    /**
+     * Returns the length of a table which holds {@code initialCapacity} mappings without a resize.
+     */
+    static int lengthFor(int initialCapacity)
+    {
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException("Illegal Initial Capacity: " + initialCapacity);
+        }
+        int threshold = Math.min(initialCapacity, MAXIMUM_CAPACITY);
+        threshold += threshold >> 1; // threshold = length * 0.75
+
+        int capacity = 2;
+        while (capacity < threshold)
+        {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Returns the spread hash code of the key in slot {@code index}.
+     */
+    protected abstract int hash(int index);
+
+    protected abstract T newTable(int length);
+
+    /**
+     * Stores the key and the value of slot {@code index} in slot {@code destIndex} of {@code dest}.
+     */
+    protected abstract void copy(int index, T dest, int destIndex);
+
+    public int length()
+    {
+        return this.mask + 1;
+    }
+
+    /**
+     * Returns the state of slot {@code index} once it is no longer CLAIMED, as the key of a claimed slot is not known
+     * until the slot is published.
+     */
+    protected int state(int index)
+    {
+        int state = this.states.get(index);
+        for (int spins = 1; state == CLAIMED; spins++)
+        {
+            if ((spins & 63) == 0)
+            {
+                Thread.yield();
+            }
+            state = this.states.get(index);
+        }
+        return state;
+    }
+
+    /**
+     * Returns whether a slot in {@code state} holds a key which a lookup has to compare.
+     */
+    protected static boolean holdsKey(int state)
+    {
+        return state == LIVE || state == WRITING;
+    }
+
+    /**
+     * Returns whether a slot in {@code state} has been, or is being, moved to the next table.
+     */
+    protected static boolean isMoved(int state)
+    {
+        return state >= MOVING;
+    }
+
+    protected static boolean isFree(int state)
+    {
+        return state == FREE;
+    }
+
+    protected boolean claim(int index)
+    {
+        return this.states.compareAndSet(index, FREE, CLAIMED);
+    }
+
+    /**
+     * Publishes a slot claimed with {@link #claim(int)} once its key and value have been stored, and resizes the table
+     * if the key did not land in the slot it hashes to and the table is getting full.
+     */
+    protected void publish(int index, int hash)
+    {
+        this.states.set(index, LIVE);
+        this.size.increment();
+        this.used.increment();
+        if (index != (hash & this.mask) && this.used.sum() > this.length() - (this.length() >>> 2))
+        {
+            this.resize();
+        }
+    }
+
+    /**
+     * Holds a LIVE slot so that its value can be replaced.  The slot must be released with {@link #unlock(int)}.
+     */
+    protected boolean lock(int index)
+    {
+        return this.states.compareAndSet(index, LIVE, WRITING);
+    }
+
+    protected void unlock(int index)
+    {
+        this.states.set(index, LIVE);
+    }
+
+    /**
+     * Removes the mapping in a LIVE slot.  Nothing writes to the slot afterwards, so its value can still be read.
+     */
+    protected boolean kill(int index)
+    {
+        if (this.states.compareAndSet(index, LIVE, DEAD))
+        {
+            this.size.decrement();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the first slot at or after {@code index} which holds a mapping, or {@link #length()} if there is none.
+     * A slot which has been copied to the next table still holds the mapping as it was when it was moved.
+     */
+    public int nextMapping(int index)
+    {
+        int length = this.length();
+        for (int i = index; i < length; i++)
+        {
+            int state = this.states.get(i);
+            if (state == LIVE || state == WRITING || state == MOVING || state == COPIED)
+            {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Removes every mapping in this table, and returns the next table if a resize was met before the end of the table,
+     * or null.  Mappings which are being added at the same time may survive.
+     */
+    public T clear()
+    {
+        int length = this.length();
+        for (int i = 0; i < length; )
+        {
+            int state = this.states.get(i);
+            if (isMoved(state))
+            {
+                return this.resize();
+            }
+            if (state != WRITING && (state != LIVE || this.kill(i)))
+            {
+                i++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Starts a resize of this table, or joins the one which is under way, and returns the next table once every slot
+     * has been moved to it.  The table doubles if more than a quarter of it holds mappings, and is otherwise rebuilt at
+     * the same length to drop the DEAD slots.
+     */
+    public T resize()
+    {
+        ResizeContainer<T> container = this.resizeContainer;
+        boolean ownResize = false;
+        if (container == null)
+        {
+            synchronized (this) // allocating the next table is too expensive to make this an atomic operation
+            {
+                container = this.resizeContainer;
+                if (container == null)
+                {
+                    int length = this.length();
+                    int newLength = this.size.sum() > length >>> 2 ? length << 1 : length;
+                    if (newLength > MAXIMUM_CAPACITY)
+                    {
+                        throw new RuntimeException("index is too large!");
+                    }
+                    container = new ResizeContainer<>(this.newTable(newLength), length);
+                    this.resizeContainer = container;
+                    ownResize = true;
+                }
+            }
+        }
+        if (ownResize)
+        {
+            this.transfer(container);
+        }
+        else
+        {
+            this.helpWithResize(container);
+        }
+        return container.nextTable;
+    }
+
+    private void helpWithResize(ResizeContainer<T> container)
+    {
+        if (container.getQueuePosition() > ResizeContainer.QUEUE_INCREMENT)
+        {
+            container.incrementResizer();
+            this.reverseTransfer(container);
+            container.decrementResizerAndNotify();
+        }
+        container.waitForAllResizers();
+    }
+
+    /*
+     * Transfer all slots from this table to the next one
+     */
+    private void transfer(ResizeContainer<T> container)
+    {
+        T dest = container.nextTable;
+        int length = this.length();
+        for (int j = 0; j < length; )
+        {
+            if (isMoved(this.states.get(j)))
+            {
+                j = (j & ~(ResizeContainer.QUEUE_INCREMENT - 1)) + ResizeContainer.QUEUE_INCREMENT;
+                if (container.resizers.get() == 1)
+                {
+                    break;
+                }
+            }
+            else if (this.move(j, dest))
+            {
+                j++;
+            }
+        }
+        container.decrementResizerAndNotify();
+        container.waitForAllResizers();
+    }
+
+    private void reverseTransfer(ResizeContainer<T> container)
+    {
+        T dest = container.nextTable;
+        while (container.getQueuePosition() > 0)
+        {
+            int start = container.subtractAndGetQueuePosition();
+            int end = start + ResizeContainer.QUEUE_INCREMENT;
+            if (end > 0)
+            {
+                if (start < 0)
+                {
+                    start = 0;
+                }
+                for (int j = end - 1; j >= start; )
+                {
+                    if (isMoved(this.states.get(j)))
+                    {
+                        container.zeroOutQueuePosition();
+                        return;
+                    }
+                    if (this.move(j, dest))
+                    {
+                        j--;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves slot {@code index} to {@code dest}, and returns false if the slot changed or is being written to, in which
+     * case it has to be tried again.
+     */
+    private boolean move(int index, T dest)
+    {
+        int state = this.states.get(index);
+        if (state == FREE || state == DEAD)
+        {
+            return this.states.compareAndSet(index, state, MOVED);
+        }
+        if (state == LIVE && this.states.compareAndSet(index, LIVE, MOVING))
+        {
+            AbstractConcurrentPrimitiveTable<T> next = dest;
+            int destIndex = this.hash(index) & next.mask;
+            // The next table is only filled by transfers until the resize is over, and it has room for every mapping
+            while (!next.claim(destIndex))
+            {
+                destIndex = destIndex + 1 & next.mask;
+            }
+            this.copy(index, dest, destIndex);
+            next.states.set(destIndex, LIVE);
+            next.used.increment();
+            this.states.set(index, COPIED);
+            return true;
+        }
+        return false;
+    }
+
+    private static final class ResizeContainer<T>
+    {
+        private static final int QUEUE_INCREMENT = Math.min(1 << 10, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()) << 4);
+        private final AtomicInteger resizers = new AtomicInteger(1);
+        private final T nextTable;
+        private final AtomicInteger queuePosition;
+
+        private ResizeContainer(T nextTable, int oldSize)
+        {
+            this.nextTable = nextTable;
+            this.queuePosition = new AtomicInteger(oldSize);
+        }
+
+        public void incrementResizer()
+        {
+            this.resizers.incrementAndGet();
+        }
+
+        public void decrementResizerAndNotify()
+        {
+            int remaining = this.resizers.decrementAndGet();
+            if (remaining == 0)
+            {
+                synchronized (this)
+                {
+                    this.notifyAll();
+                }
+            }
+        }
+
+        public int getQueuePosition()
+        {
+            return this.queuePosition.get();
+        }
+
+        public int subtractAndGetQueuePosition()
+        {
+            return this.queuePosition.addAndGet(-QUEUE_INCREMENT);
+        }
+
+        public void waitForAllResizers()
+        {
+            if (this.resizers.get() > 0)
+            {
+                for (int i = 0; i < 16; i++)
+                {
+                    if (this.resizers.get() == 0)
+                    {
+                        break;
+                    }
+                }
+                for (int i = 0; i < 16; i++)
+                {
+                    if (this.resizers.get() == 0)
+                    {
+                        break;
+                    }
+                    Thread.yield();
+                }
+            }
+            if (this.resizers.get() > 0)
+            {
+                synchronized (this)
+                {
+                    while (this.resizers.get() > 0)
+                    {
+                        try
+                        {
+                            this.wait();
+                        }
+                        catch (InterruptedException e)
+                        {
+                            // ignore
+                        }
+                    }
+                }
+            }
+        }
+
+        public void zeroOutQueuePosition()
+        {
+            this.queuePosition.set(0);
+        }
+    }
+}
@@ -0,0 +1,1176 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * The B+tree shared by {@link BTreeMap}, {@link BTreeSet} and {@link BTreeCountMap}.  The leaves hold the keys in an
+ * array and are linked to each other, and a subclass that stores something per key keeps it in arrays parallel to the
+ * keys by extending {@link Leaf}.  Branches only hold separator keys and children, along with the weight of the
+ * entries beneath them, which is what {@link #rank(Object)} and {@link #keyAt(int)} descend by.  The weight of an
+ * entry is one, unless its leaf says otherwise, as the leaves of BTreeCountMap do.
+ *
+ * @since 8.0
+ */
+abstract class AbstractBTree<K>
+{
+    static final int MAX_LEAF_SIZE = 64;
+    static final int MIN_LEAF_SIZE = MAX_LEAF_SIZE / 2;
+    static final int INITIAL_LEAF_CAPACITY = 8;
+    static final int MAX_CHILDREN = 64;
+    static final int MIN_CHILDREN = MAX_CHILDREN / 2;
+
+    final Comparator<? super K> comparator;
+    final Range unbounded = new Range(false, null, false, null);
+    Node root;
+    Leaf firstLeaf;
+    Leaf lastLeaf;
+    int height;
+    int size;
+    int modCount;
+
+    AbstractBTree(Comparator<? super K> comparator)
+    {
+        this.comparator = comparator;
+        this.clear();
+    }
+
+    abstract Leaf newLeaf(int capacity);
+
+    Branch newBranch()
+    {
+        return new Branch();
+    }
+
+    /**
+     * Removes the key and whatever is kept with it, on behalf of iterators and views.
+     */
+    abstract void removeKey(Object key);
+
+    /**
+     * Adds the key on behalf of the key set views, which only trees without values support.
+     */
+    boolean addKey(K key)
+    {
+        throw new UnsupportedOperationException("Cannot call add() on " + this.getClass().getSimpleName() + ".keySet()");
+    }
+
+    public Comparator<? super K> comparator()
+    {
+        return this.comparator;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    public void clear()
+    {
+        Leaf leaf = this.newLeaf(INITIAL_LEAF_CAPACITY);
+        this.root = leaf;
+        this.firstLeaf = leaf;
+        this.lastLeaf = leaf;
+        this.height = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the total weight of the keys less than the given key, which is the index the key has, or would have, in
+     * iteration order.  Each branch keeps the weight beneath it, so this descends the tree once in O(log n).
+     */
+    public int rank(K key)
+    {
+        if (key == null && this.comparator == null)
+        {
+            throw new NullPointerException();
+        }
+        int rank = 0;
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int childIndex = this.indexInBranch(branch, key);
+            for (int i = 0; i < childIndex; i++)
+            {
+                rank += branch.children[i].count();
+            }
+            node = branch.children[childIndex];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = this.indexInLeaf(leaf, key);
+        return rank + leaf.countBefore(index < 0 ? -index - 1 : index);
+    }
+
+    /**
+     * Returns the key at the given index in iteration order, in O(log n).
+     */
+    public K keyAt(int index)
+    {
+        int count = this.root.count();
+        if (index < 0 || index >= count)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + count);
+        }
+        Cursor cursor = new Cursor();
+        this.seekPosition(cursor, index);
+        return (K) cursor.leaf.keys[cursor.index];
+    }
+
+    /**
+     * Iterates over the keys in order, reading them straight out of the leaves.
+     */
+    public void forEachKey(Procedure<? super K> procedure)
+    {
+        int expectedModCount = this.modCount;
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            Object[] keys = leaf.keys;
+            for (int i = 0; i < leaf.size; i++)
+            {
+                procedure.value((K) keys[i]);
+            }
+            if (this.modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    final int compare(Object key1, Object key2)
+    {
+        return this.comparator == null
+                ? ((Comparable<Object>) key1).compareTo(key2)
+                : ((Comparator<Object>) this.comparator).compare(key1, key2);
+    }
+
+    boolean containsKey(Object key)
+    {
+        Leaf leaf = this.findLeaf(key, null, null);
+        return this.indexInLeaf(leaf, key) >= 0;
+    }
+
+    /**
+     * Descends to the leaf that may contain the key, recording the branches and child indices on the way down when a
+     * path is given.
+     */
+    final Leaf findLeaf(Object key, Branch[] path, int[] childIndices)
+    {
+        if (key == null && this.comparator == null)
+        {
+            throw new NullPointerException();
+        }
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int childIndex = this.indexInBranch(branch, key);
+            if (path != null)
+            {
+                path[level] = branch;
+                childIndices[level] = childIndex;
+            }
+            node = branch.children[childIndex];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Returns the index of the child that may contain the key, which is the number of separators less than or equal to it.
+     */
+    private int indexInBranch(Branch branch, Object key)
+    {
+        Object[] keys = branch.keys;
+        int low = 0;
+        int high = branch.size - 2;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            if (this.compare(keys[mid], key) <= 0)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the key in the leaf, or (-(insertion point) - 1) when it is absent, like Arrays.binarySearch.
+     */
+    final int indexInLeaf(Leaf leaf, Object key)
+    {
+        Object[] keys = leaf.keys;
+        int low = 0;
+        int high = leaf.size - 1;
+        while (low <= high)
+        {
+            int mid = (low + high) >>> 1;
+            int result = this.compare(keys[mid], key);
+            if (result < 0)
+            {
+                low = mid + 1;
+            }
+            else if (result > 0)
+            {
+                high = mid - 1;
+            }
+            else
+            {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Points the cursor at the first entry whose key is greater than (or equal to, if inclusive) the given key.
+     */
+    final void seekCeiling(Cursor cursor, Object key, boolean inclusive)
+    {
+        Leaf leaf = this.findLeaf(key, null, null);
+        int index = this.indexInLeaf(leaf, key);
+        if (index < 0)
+        {
+            index = -index - 1;
+        }
+        else if (!inclusive)
+        {
+            index++;
+        }
+        cursor.moveTo(leaf, index);
+    }
+
+    /**
+     * Points the cursor at the entry covering the given position and returns how far into that entry's weight the
+     * position lies, which is always zero for entries of weight one.
+     */
+    final int seekPosition(Cursor cursor, int position)
+    {
+        int remaining = position;
+        Node node = this.root;
+        for (int level = 0; level < this.height; level++)
+        {
+            Branch branch = (Branch) node;
+            int childIndex = 0;
+            while (childIndex < branch.size - 1 && remaining >= branch.children[childIndex].count())
+            {
+                remaining -= branch.children[childIndex].count();
+                childIndex++;
+            }
+            node = branch.children[childIndex];
+        }
+        Leaf leaf = (Leaf) node;
+        int index = leaf.indexAtPosition(remaining);
+        int offset = remaining - leaf.countBefore(index);
+        cursor.moveTo(leaf, index);
+        return offset;
+    }
+
+    /**
+     * Splits the leaf after a key was inserted at the given index if that left it with one key too many.  Subclasses
+     * fill in the rest of the new entry before calling this, so that both halves can recount their weight.
+     */
+    final void splitIfOverfull(Leaf leaf, int index, Branch[] path, int[] childIndices)
+    {
+        if (leaf.size <= MAX_LEAF_SIZE)
+        {
+            return;
+        }
+
+        Leaf right;
+        if (leaf.next == null && index == leaf.size - 1)
+        {
+            // appending to the last leaf starts a new one, so ascending inserts fill the leaves completely
+            right = this.newLeaf(INITIAL_LEAF_CAPACITY);
+            right.size = 1;
+            leaf.copyEntries(index, right, 0, 1);
+            leaf.clearEntries(index, leaf.size);
+            leaf.size = index;
+        }
+        else
+        {
+            int splitIndex = leaf.size / 2;
+            right = this.newLeaf(MAX_LEAF_SIZE);
+            right.size = leaf.size - splitIndex;
+            leaf.copyEntries(splitIndex, right, 0, right.size);
+            leaf.clearEntries(splitIndex, leaf.size);
+            leaf.size = splitIndex;
+        }
+        leaf.recount();
+        right.recount();
+
+        right.previous = leaf;
+        right.next = leaf.next;
+        if (leaf.next == null)
+        {
+            this.lastLeaf = right;
+        }
+        else
+        {
+            leaf.next.previous = right;
+        }
+        leaf.next = right;
+
+        this.insertIntoParent(right.keys[0], right, path, childIndices);
+    }
+
+    private void insertIntoParent(Object separator, Node right, Branch[] path, int[] childIndices)
+    {
+        Object currentSeparator = separator;
+        Node currentRight = right;
+        for (int level = this.height - 1; level >= 0; level--)
+        {
+            Branch branch = path[level];
+            int childIndex = childIndices[level];
+            System.arraycopy(branch.keys, childIndex, branch.keys, childIndex + 1, branch.size - 1 - childIndex);
+            System.arraycopy(branch.children, childIndex + 1, branch.children, childIndex + 2, branch.size - 1 - childIndex);
+            branch.keys[childIndex] = currentSeparator;
+            branch.children[childIndex + 1] = currentRight;
+            branch.size++;
+            if (branch.size <= MAX_CHILDREN)
+            {
+                return;
+            }
+
+            // the branch has one child too many, so its upper half moves to a new branch and the middle separator moves up
+            int leftSize = (MAX_CHILDREN + 1) / 2;
+            Branch newBranch = this.newBranch();
+            newBranch.size = branch.size - leftSize;
+            System.arraycopy(branch.children, leftSize, newBranch.children, 0, newBranch.size);
+            System.arraycopy(branch.keys, leftSize, newBranch.keys, 0, newBranch.size - 1);
+            currentSeparator = branch.keys[leftSize - 1];
+            for (int i = leftSize; i < branch.size; i++)
+            {
+                branch.children[i] = null;
+                branch.keys[i - 1] = null;
+            }
+            branch.size = leftSize;
+            branch.recount();
+            newBranch.recount();
+            currentRight = newBranch;
+        }
+
+        Branch newRoot = this.newBranch();
+        newRoot.children[0] = this.root;
+        newRoot.children[1] = currentRight;
+        newRoot.keys[0] = currentSeparator;
+        newRoot.size = 2;
+        newRoot.recount();
+        this.root = newRoot;
+        this.height++;
+    }
+
+    /**
+     * Restores the minimum leaf size after an entry was removed from the leaf, once the weights along the path have
+     * been updated.
+     */
+    final void rebalanceAfterRemove(Leaf leaf, Branch[] path, int[] childIndices)
+    {
+        if (this.height > 0 && leaf.size < MIN_LEAF_SIZE)
+        {
+            this.rebalanceLeaf(leaf, path, childIndices);
+        }
+    }
+
+    private void rebalanceLeaf(Leaf leaf, Branch[] path, int[] childIndices)
+    {
+        int level = this.height - 1;
+        Branch parent = path[level];
+        int childIndex = childIndices[level];
+        Leaf left = childIndex > 0 ? (Leaf) parent.children[childIndex - 1] : null;
+        Leaf right = childIndex < parent.size - 1 ? (Leaf) parent.children[childIndex + 1] : null;
+
+        if (left != null && left.size > MIN_LEAF_SIZE)
+        {
+            int last = left.size - 1;
+            leaf.insertAt(0, left.keys[last]);
+            left.copyEntries(last, leaf, 0, 1);
+            left.removeAt(last);
+            left.recount();
+            leaf.recount();
+            parent.keys[childIndex - 1] = leaf.keys[0];
+            return;
+        }
+        if (right != null && right.size > MIN_LEAF_SIZE)
+        {
+            leaf.insertAt(leaf.size, right.keys[0]);
+            right.copyEntries(0, leaf, leaf.size - 1, 1);
+            right.removeAt(0);
+            right.recount();
+            leaf.recount();
+            parent.keys[childIndex] = right.keys[0];
+            return;
+        }
+        if (left != null)
+        {
+            this.mergeLeaves(left, leaf);
+            parent.removeChild(childIndex);
+        }
+        else
+        {
+            this.mergeLeaves(leaf, right);
+            parent.removeChild(childIndex + 1);
+        }
+        this.rebalanceBranch(level, path, childIndices);
+    }
+
+    private void mergeLeaves(Leaf left, Leaf right)
+    {
+        left.ensureCapacity(left.size + right.size);
+        right.copyEntries(0, left, left.size, right.size);
+        left.size += right.size;
+        left.recount();
+        left.next = right.next;
+        if (right.next == null)
+        {
+            this.lastLeaf = left;
+        }
+        else
+        {
+            right.next.previous = left;
+        }
+    }
+
+    private void rebalanceBranch(int level, Branch[] path, int[] childIndices)
+    {
+        Branch branch = path[level];
+        if (level == 0)
+        {
+            if (branch.size == 1)
+            {
+                this.root = branch.children[0];
+                this.height--;
+            }
+            return;
+        }
+        if (branch.size >= MIN_CHILDREN)
+        {
+            return;
+        }
+
+        Branch parent = path[level - 1];
+        int childIndex = childIndices[level - 1];
+        Branch left = childIndex > 0 ? (Branch) parent.children[childIndex - 1] : null;
+        Branch right = childIndex < parent.size - 1 ? (Branch) parent.children[childIndex + 1] : null;
+
+        if (left != null && left.size > MIN_CHILDREN)
+        {
+            // rotate the last child of the left sibling through the parent separator
+            System.arraycopy(branch.keys, 0, branch.keys, 1, branch.size - 1);
+            System.arraycopy(branch.children, 0, branch.children, 1, branch.size);
+            branch.keys[0] = parent.keys[childIndex - 1];
+            branch.children[0] = left.children[left.size - 1];
+            branch.size++;
+            parent.keys[childIndex - 1] = left.keys[left.size - 2];
+            left.keys[left.size - 2] = null;
+            left.children[left.size - 1] = null;
+            left.size--;
+            left.recount();
+            branch.recount();
+            return;
+        }
+        if (right != null && right.size > MIN_CHILDREN)
+        {
+            // rotate the first child of the right sibling through the parent separator
+            branch.keys[branch.size - 1] = parent.keys[childIndex];
+            branch.children[branch.size] = right.children[0];
+            branch.size++;
+            parent.keys[childIndex] = right.keys[0];
+            right.removeChild(0);
+            right.recount();
+            branch.recount();
+            return;
+        }
+        if (left != null)
+        {
+            this.mergeBranches(left, parent.keys[childIndex - 1], branch);
+            parent.removeChild(childIndex);
+        }
+        else
+        {
+            this.mergeBranches(branch, parent.keys[childIndex], right);
+            parent.removeChild(childIndex + 1);
+        }
+        this.rebalanceBranch(level - 1, path, childIndices);
+    }
+
+    private void mergeBranches(Branch left, Object separator, Branch right)
+    {
+        left.keys[left.size - 1] = separator;
+        System.arraycopy(right.keys, 0, left.keys, left.size, right.size - 1);
+        System.arraycopy(right.children, 0, left.children, left.size, right.size);
+        left.size += right.size;
+        left.recount();
+    }
+
+    /**
+     * Removes the entries whose keys satisfy the predicate.  The keys are all tested before anything is removed, so that
+     * a few removals can be done in place, and a tree losing a large share of its keys is instead rebuilt bottom up from
+     * the remaining entries, rather than being rebalanced after every removal.
+     */
+    final <P> boolean removeKeysIf(Predicate2<? super K, ? super P> predicate, P parameter)
+    {
+        FastList<Object> removed = FastList.newList();
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                if (predicate.accept((K) leaf.keys[i], parameter))
+                {
+                    removed.add(leaf.keys[i]);
+                }
+            }
+        }
+        if (removed.isEmpty())
+        {
+            return false;
+        }
+        if (removed.size() < this.size / 4)
+        {
+            for (int i = 0; i < removed.size(); i++)
+            {
+                this.removeKey(removed.get(i));
+            }
+        }
+        else
+        {
+            this.rebuildWithout(removed);
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the tree with one built bottom up from the entries whose keys are not in the given list, which holds
+     * keys taken from the leaves in order.  Entries are spread evenly over as few leaves and branches as possible.
+     */
+    private void rebuildWithout(FastList<Object> removed)
+    {
+        int newSize = this.size - removed.size();
+        if (newSize == 0)
+        {
+            this.clear();
+            return;
+        }
+
+        int leafCount = (newSize + MAX_LEAF_SIZE - 1) / MAX_LEAF_SIZE;
+        FastList<Node> nodes = FastList.newList(leafCount);
+        FastList<Object> firstKeys = FastList.newList(leafCount);
+        Leaf target = null;
+        int targetCapacity = 0;
+        int next = 0;
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            for (int i = 0; i < leaf.size; i++)
+            {
+                if (next < removed.size() && leaf.keys[i] == removed.get(next))
+                {
+                    next++;
+                    continue;
+                }
+                if (target == null || target.size == targetCapacity)
+                {
+                    targetCapacity = newSize / leafCount + (nodes.size() < newSize % leafCount ? 1 : 0);
+                    Leaf newLeaf = this.newLeaf(targetCapacity);
+                    if (target != null)
+                    {
+                        target.recount();
+                        target.next = newLeaf;
+                        newLeaf.previous = target;
+                    }
+                    nodes.add(newLeaf);
+                    firstKeys.add(leaf.keys[i]);
+                    target = newLeaf;
+                }
+                leaf.copyEntries(i, target, target.size, 1);
+                target.size++;
+            }
+        }
+        target.recount();
+        this.firstLeaf = (Leaf) nodes.getFirst();
+        this.lastLeaf = target;
+
+        int newHeight = 0;
+        while (nodes.size() > 1)
+        {
+            int branchCount = (nodes.size() + MAX_CHILDREN - 1) / MAX_CHILDREN;
+            FastList<Node> branches = FastList.newList(branchCount);
+            FastList<Object> branchFirstKeys = FastList.newList(branchCount);
+            int start = 0;
+            for (int b = 0; b < branchCount; b++)
+            {
+                int childCount = nodes.size() / branchCount + (b < nodes.size() % branchCount ? 1 : 0);
+                Branch branch = this.newBranch();
+                for (int i = 0; i < childCount; i++)
+                {
+                    branch.children[i] = nodes.get(start + i);
+                    if (i > 0)
+                    {
+                        branch.keys[i - 1] = firstKeys.get(start + i);
+                    }
+                }
+                branch.size = childCount;
+                branch.recount();
+                branches.add(branch);
+                branchFirstKeys.add(firstKeys.get(start));
+                start += childCount;
+            }
+            nodes = branches;
+            firstKeys = branchFirstKeys;
+            newHeight++;
+        }
+        this.root = nodes.getFirst();
+        this.height = newHeight;
+        this.size = newSize;
+        this.modCount++;
+    }
+
+    abstract static class Node
+    {
+        /**
+         * The number of keys in a leaf, or the number of children in a branch.
+         */
+        int size;
+
+        /**
+         * Returns the total weight of the entries beneath this node.
+         */
+        abstract int count();
+
+        /**
+         * Recomputes whatever this node keeps about the entries beneath it after they moved between nodes.
+         */
+        abstract void recount();
+    }
+
+    /**
+     * A leaf holding only keys, each of weight one.  Subclasses add arrays parallel to the keys by overriding
+     * {@link #resize(int)}, {@link #copyEntries(int, Leaf, int, int)} and {@link #clearEntries(int, int)}.  A leaf can
+     * hold one key more than {@link #MAX_LEAF_SIZE} so that it can split after the insert.
+     */
+    static class Leaf extends Node
+    {
+        Object[] keys;
+        Leaf previous;
+        Leaf next;
+
+        Leaf(int capacity)
+        {
+            this.keys = new Object[capacity];
+        }
+
+        @Override
+        int count()
+        {
+            return this.size;
+        }
+
+        @Override
+        void recount()
+        {
+        }
+
+        /**
+         * Returns the total weight of the first {@code index} entries.
+         */
+        int countBefore(int index)
+        {
+            return index;
+        }
+
+        /**
+         * Returns the index of the entry covering the given position within this leaf.
+         */
+        int indexAtPosition(int position)
+        {
+            return position;
+        }
+
+        final void ensureCapacity(int capacity)
+        {
+            if (capacity > this.keys.length)
+            {
+                this.resize(Math.min(Math.max(capacity, this.keys.length << 1), MAX_LEAF_SIZE + 1));
+            }
+        }
+
+        void resize(int capacity)
+        {
+            this.keys = Arrays.copyOf(this.keys, capacity);
+        }
+
+        void copyEntries(int from, Leaf target, int to, int length)
+        {
+            System.arraycopy(this.keys, from, target.keys, to, length);
+        }
+
+        void clearEntries(int from, int to)
+        {
+            Arrays.fill(this.keys, from, to, null);
+        }
+
+        /**
+         * Opens a slot for the key at the given index.  Whatever else is kept for the key is left for the caller to set.
+         */
+        final void insertAt(int index, Object key)
+        {
+            this.ensureCapacity(this.size + 1);
+            this.copyEntries(index, this, index + 1, this.size - index);
+            this.keys[index] = key;
+            this.size++;
+        }
+
+        final void removeAt(int index)
+        {
+            this.copyEntries(index + 1, this, index, this.size - index - 1);
+            this.size--;
+            this.clearEntries(this.size, this.size + 1);
+        }
+    }
+
+    /**
+     * A branch with n children has n - 1 separators, where separator i is greater than every key under child i and less
+     * than or equal to every key under child i + 1.  The arrays have room for one extra child so that a split can
+     * happen after the insert.
+     */
+    static class Branch extends Node
+    {
+        final Object[] keys = new Object[MAX_CHILDREN];
+        final Node[] children = new Node[MAX_CHILDREN + 1];
+        int count;
+
+        @Override
+        int count()
+        {
+            return this.count;
+        }
+
+        @Override
+        void recount()
+        {
+            int count = 0;
+            for (int i = 0; i < this.size; i++)
+            {
+                count += this.children[i].count();
+            }
+            this.count = count;
+        }
+
+        /**
+         * Removes the child at the given index together with the separator to its left, or to its right for the first child.
+         */
+        final void removeChild(int childIndex)
+        {
+            int keyIndex = childIndex == 0 ? 0 : childIndex - 1;
+            System.arraycopy(this.keys, keyIndex + 1, this.keys, keyIndex, this.size - 2 - keyIndex);
+            System.arraycopy(this.children, childIndex + 1, this.children, childIndex, this.size - 1 - childIndex);
+            this.size--;
+            this.keys[this.size - 1] = null;
+            this.children[this.size] = null;
+        }
+    }
+
+    static class Cursor
+    {
+        Leaf leaf;
+        int index;
+
+        void moveTo(Leaf newLeaf, int newIndex)
+        {
+            if (newIndex < newLeaf.size)
+            {
+                this.leaf = newLeaf;
+                this.index = newIndex;
+            }
+            else
+            {
+                this.leaf = newLeaf.next;
+                this.index = 0;
+            }
+        }
+    }
+
+    /**
+     * The bounds of a view, with an inclusive lower bound and an exclusive upper bound as in SortedMap.
+     */
+    final class Range
+    {
+        private final boolean hasLow;
+        private final K low;
+        private final boolean hasHigh;
+        private final K high;
+
+        private Range(boolean hasLow, K low, boolean hasHigh, K high)
+        {
+            this.hasLow = hasLow;
+            this.low = low;
+            this.hasHigh = hasHigh;
+            this.high = high;
+        }
+
+        private boolean isUnbounded()
+        {
+            return !this.hasLow && !this.hasHigh;
+        }
+
+        private boolean tooLow(Object key)
+        {
+            return this.hasLow && AbstractBTree.this.compare(key, this.low) < 0;
+        }
+
+        boolean tooHigh(Object key)
+        {
+            return this.hasHigh && AbstractBTree.this.compare(key, this.high) >= 0;
+        }
+
+        boolean inRange(Object key)
+        {
+            return !this.tooLow(key) && !this.tooHigh(key);
+        }
+
+        private boolean inClosedRange(Object key)
+        {
+            return !this.tooLow(key) && !(this.hasHigh && AbstractBTree.this.compare(key, this.high) > 0);
+        }
+
+        Range subRange(boolean hasFrom, K from, boolean hasTo, K to)
+        {
+            if (hasFrom)
+            {
+                if (hasTo && AbstractBTree.this.compare(from, to) > 0)
+                {
+                    throw new IllegalArgumentException("fromKey > toKey");
+                }
+                AbstractBTree.this.compare(from, from);
+                if (!this.inRange(from))
+                {
+                    throw new IllegalArgumentException("fromKey out of range");
+                }
+            }
+            if (hasTo)
+            {
+                AbstractBTree.this.compare(to, to);
+                if (!this.inClosedRange(to))
+                {
+                    throw new IllegalArgumentException("toKey out of range");
+                }
+            }
+            return new Range(
+                    hasFrom || this.hasLow,
+                    hasFrom ? from : this.low,
+                    hasTo || this.hasHigh,
+                    hasTo ? to : this.high);
+        }
+
+        void seekFirst(Cursor cursor)
+        {
+            if (this.hasLow)
+            {
+                AbstractBTree.this.seekCeiling(cursor, this.low, true);
+            }
+            else
+            {
+                cursor.moveTo(AbstractBTree.this.firstLeaf, 0);
+            }
+            if (cursor.leaf != null && this.tooHigh(cursor.leaf.keys[cursor.index]))
+            {
+                cursor.leaf = null;
+            }
+        }
+
+        private void seekLast(Cursor cursor)
+        {
+            Leaf leaf;
+            int index;
+            if (this.hasHigh)
+            {
+                leaf = AbstractBTree.this.findLeaf(this.high, null, null);
+                index = AbstractBTree.this.indexInLeaf(leaf, this.high);
+                index = index < 0 ? -index - 2 : index - 1;
+                if (index < 0)
+                {
+                    leaf = leaf.previous;
+                    index = leaf == null ? 0 : leaf.size - 1;
+                }
+            }
+            else
+            {
+                leaf = AbstractBTree.this.lastLeaf;
+                index = leaf.size - 1;
+            }
+            if (leaf == null || index < 0 || this.tooLow(leaf.keys[index]))
+            {
+                cursor.leaf = null;
+            }
+            else
+            {
+                cursor.leaf = leaf;
+                cursor.index = index;
+            }
+        }
+
+        K firstKey()
+        {
+            Cursor cursor = new Cursor();
+            this.seekFirst(cursor);
+            if (cursor.leaf == null)
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) cursor.leaf.keys[cursor.index];
+        }
+
+        K lastKey()
+        {
+            Cursor cursor = new Cursor();
+            this.seekLast(cursor);
+            if (cursor.leaf == null)
+            {
+                throw new NoSuchElementException();
+            }
+            return (K) cursor.leaf.keys[cursor.index];
+        }
+
+        /**
+         * Returns the weight of the entries in range as the difference between the ranks of its bounds.
+         */
+        int size()
+        {
+            int highRank = this.hasHigh ? AbstractBTree.this.rank(this.high) : AbstractBTree.this.root.count();
+            int lowRank = this.hasLow ? AbstractBTree.this.rank(this.low) : 0;
+            return highRank - lowRank;
+        }
+
+        boolean isEmpty()
+        {
+            Cursor cursor = new Cursor();
+            this.seekFirst(cursor);
+            return cursor.leaf == null;
+        }
+
+        void clear()
+        {
+            if (this.isUnbounded())
+            {
+                AbstractBTree.this.clear();
+            }
+            else
+            {
+                Iterator<?> iterator = new KeyIterator(this);
+                while (iterator.hasNext())
+                {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    abstract class TreeIterator<E> extends Cursor implements Iterator<E>
+    {
+        private final Range range;
+        private int expectedModCount = AbstractBTree.this.modCount;
+        private Object lastReturnedKey;
+        private boolean canRemove;
+
+        TreeIterator(Range range)
+        {
+            this.range = range;
+            range.seekFirst(this);
+        }
+
+        abstract E valueAt(Leaf leaf, int index);
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.leaf != null;
+        }
+
+        @Override
+        public E next()
+        {
+            if (AbstractBTree.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (this.leaf == null)
+            {
+                throw new NoSuchElementException();
+            }
+            Leaf currentLeaf = this.leaf;
+            int currentIndex = this.index;
+            this.lastReturnedKey = currentLeaf.keys[currentIndex];
+            this.canRemove = true;
+            this.moveTo(currentLeaf, currentIndex + 1);
+            if (this.leaf != null && this.range.tooHigh(this.leaf.keys[this.index]))
+            {
+                this.leaf = null;
+            }
+            return this.valueAt(currentLeaf, currentIndex);
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            if (AbstractBTree.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            AbstractBTree.this.removeKey(this.lastReturnedKey);
+            this.expectedModCount = AbstractBTree.this.modCount;
+            this.canRemove = false;
+            if (this.leaf != null)
+            {
+                // removing may have moved entries between leaves, so find the next entry again
+                AbstractBTree.this.seekCeiling(this, this.lastReturnedKey, false);
+            }
+        }
+    }
+
+    final class KeyIterator extends TreeIterator<K>
+    {
+        KeyIterator(Range range)
+        {
+            super(range);
+        }
+
+        @Override
+        K valueAt(Leaf leaf, int index)
+        {
+            return (K) leaf.keys[index];
+        }
+    }
+
+    /**
+     * A view of the keys in a range, which supports adding keys only when the tree does.
+     */
+    final class KeySet extends AbstractSet<K> implements SortedSet<K>
+    {
+        private final Range range;
+
+        KeySet(Range range)
+        {
+            this.range = range;
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new KeyIterator(this.range);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.range.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return this.range.inRange(o) && AbstractBTree.this.containsKey(o);
+        }
+
+        @Override
+        public boolean add(K key)
+        {
+            if (!this.range.inRange(key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return AbstractBTree.this.addKey(key);
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (this.contains(o))
+            {
+                AbstractBTree.this.removeKey(o);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear()
+        {
+            this.range.clear();
+        }
+
+        @Override
+        public Comparator<? super K> comparator()
+        {
+            return AbstractBTree.this.comparator;
+        }
+
+        @Override
+        public SortedSet<K> subSet(K fromElement, K toElement)
+        {
+            return new KeySet(this.range.subRange(true, fromElement, true, toElement));
+        }
+
+        @Override
+        public SortedSet<K> headSet(K toElement)
+        {
+            return new KeySet(this.range.subRange(false, null, true, toElement));
+        }
+
+        @Override
+        public SortedSet<K> tailSet(K fromElement)
+        {
+            return new KeySet(this.range.subRange(true, fromElement, false, null));
+        }
+
+        @Override
+        public K first()
+        {
+            return this.range.firstKey();
+        }
+
+        @Override
+        public K last()
+        {
+            return this.range.lastKey();
+        }
+    }
+}
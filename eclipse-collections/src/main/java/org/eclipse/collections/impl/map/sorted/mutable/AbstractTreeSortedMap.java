@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedMap;
+
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.api.partition.list.PartitionMutableList;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.collection.mutable.CollectionAdapter;
+import org.eclipse.collections.impl.set.mutable.SetAdapter;
+import org.eclipse.collections.impl.utility.MapIterate;
+
+/**
+ * The MutableSortedMap behaviour shared by {@link TreeSortedMap} and {@link BTreeSortedMap}, which differ only in the
+ * JDK SortedMap they wrap.  Subclasses supply the backing map and keep their own factories and covariant
+ * {@code with} methods.
+ * <p>
+ * This class is not Serializable, so the Externalizable subclasses keep their serialized form; it only provides their
+ * {@code writeExternal} and {@code readExternal}.
+ *
+ * @since 8.0
+ */
+abstract class AbstractTreeSortedMap<K, V>
+        extends AbstractMutableSortedMap<K, V>
+{
+    SortedMap<K, V> treeMap;
+
+    AbstractTreeSortedMap(SortedMap<K, V> treeMap)
+    {
+        this.treeMap = treeMap;
+    }
+
+    abstract SortedMap<K, V> newTreeMap(Comparator<? super K> comparator);
+
+    @Override
+    public int size()
+    {
+        return this.treeMap.size();
+    }
+
+    @Override
+    public V removeKey(K key)
+    {
+        return this.treeMap.remove(key);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        return this.treeMap.equals(o);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.treeMap.hashCode();
+    }
+
+    @Override
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure2)
+    {
+        MapIterate.forEachKeyValue(this.treeMap, procedure2);
+    }
+
+    @Override
+    public K firstKey()
+    {
+        return this.treeMap.firstKey();
+    }
+
+    @Override
+    public K lastKey()
+    {
+        return this.treeMap.lastKey();
+    }
+
+    @Override
+    public MutableSet<Entry<K, V>> entrySet()
+    {
+        return SetAdapter.adapt(this.treeMap.entrySet());
+    }
+
+    @Override
+    public MutableSet<K> keySet()
+    {
+        return SetAdapter.adapt(this.treeMap.keySet());
+    }
+
+    @Override
+    public MutableCollection<V> values()
+    {
+        return CollectionAdapter.adapt(this.treeMap.values());
+    }
+
+    @Override
+    public Comparator<? super K> comparator()
+    {
+        return this.treeMap.comparator();
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        return this.treeMap.get(key);
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        return this.treeMap.put(key, value);
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        return this.treeMap.remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        this.treeMap.putAll(map);
+    }
+
+    @Override
+    public void clear()
+    {
+        this.treeMap.clear();
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return this.treeMap.containsKey(key);
+    }
+
+    @Override
+    public MutableSortedMap<K, V> headMap(K toKey)
+    {
+        return SortedMapAdapter.adapt(this.treeMap.headMap(toKey));
+    }
+
+    @Override
+    public MutableSortedMap<K, V> tailMap(K fromKey)
+    {
+        return SortedMapAdapter.adapt(this.treeMap.tailMap(fromKey));
+    }
+
+    @Override
+    public MutableSortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        return SortedMapAdapter.adapt(this.treeMap.subMap(fromKey, toKey));
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return this.treeMap.containsValue(value);
+    }
+
+    @Override
+    public MutableSortedMap<K, V> toReversed()
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".toReversed() not implemented yet");
+    }
+
+    @Override
+    public MutableSortedMap<K, V> take(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        MutableSortedMap<K, V> output = this.newEmpty();
+        Iterator<Entry<K, V>> iterator = this.treeMap.entrySet().iterator();
+        int countCopy = count;
+        while (iterator.hasNext() && countCopy-- > 0)
+        {
+            Entry<K, V> next = iterator.next();
+            output.put(next.getKey(), next.getValue());
+        }
+        return output;
+    }
+
+    @Override
+    public MutableSortedMap<K, V> takeWhile(Predicate<? super V> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".takeWhile() not implemented yet");
+    }
+
+    @Override
+    public MutableSortedMap<K, V> drop(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be greater than zero, but was: " + count);
+        }
+
+        MutableSortedMap<K, V> output = this.newEmpty();
+        Iterator<Entry<K, V>> iterator = this.treeMap.entrySet().iterator();
+        int start = Math.min(count, this.size());
+        if (start == this.size())
+        {
+            return output;
+        }
+        int i = 0;
+        while (iterator.hasNext())
+        {
+            if (i >= start)
+            {
+                Entry<K, V> next = iterator.next();
+                output.put(next.getKey(), next.getValue());
+            }
+            else
+            {
+                iterator.next();
+            }
+            i++;
+        }
+        return output;
+    }
+
+    @Override
+    public MutableSortedMap<K, V> dropWhile(Predicate<? super V> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".dropWhile() not implemented yet");
+    }
+
+    @Override
+    public PartitionMutableList<V> partitionWhile(Predicate<? super V> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".partitionWhile() not implemented yet");
+    }
+
+    @Override
+    public MutableList<V> distinct()
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".distinct() not implemented yet");
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.treeMap.toString();
+    }
+
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        out.writeObject(this.comparator());
+        out.writeInt(this.size());
+        for (Entry<K, V> entry : this.treeMap.entrySet())
+        {
+            out.writeObject(entry.getKey());
+            out.writeObject(entry.getValue());
+        }
+    }
+
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+    {
+        this.treeMap = this.newTreeMap((Comparator<? super K>) in.readObject());
+        int size = in.readInt();
+        for (int i = 0; i < size; ++i)
+        {
+            this.treeMap.put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+}
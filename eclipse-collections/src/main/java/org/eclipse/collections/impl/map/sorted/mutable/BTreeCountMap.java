@@ -0,0 +1,639 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.UnmodifiableIteratorAdapter;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.lazy.AbstractLazyIterable;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+
+/**
+ * A sorted map from keys to positive int counts, backed by the same B+tree as {@link BTreeMap}.  The leaves hold the
+ * counts in an int array parallel to the keys, so no count is ever boxed, and the weight of each key in the tree is its
+ * count.  {@link #rank(Object)} and {@link #keyAt(int)} therefore work on positions among all the occurrences, which is
+ * what a sorted bag needs.  Every node also keeps the largest count beneath it, which lets {@link #topCounts(int)}
+ * skip every subtree that cannot contribute to the result.
+ * <p>
+ * This is the structure behind {@link org.eclipse.collections.impl.bag.sorted.mutable.BTreeBag}.  A key is removed
+ * once its count drops to zero.
+ *
+ * @since 8.0
+ */
+public final class BTreeCountMap<K>
+        extends AbstractBTree<K>
+{
+    public BTreeCountMap()
+    {
+        this(null);
+    }
+
+    public BTreeCountMap(Comparator<? super K> comparator)
+    {
+        super(comparator);
+    }
+
+    @Override
+    Leaf newLeaf(int capacity)
+    {
+        return new CountLeaf(capacity);
+    }
+
+    @Override
+    Branch newBranch()
+    {
+        return new CountBranch();
+    }
+
+    private static int maxCount(Node node)
+    {
+        return node instanceof CountBranch ? ((CountBranch) node).maxCount : ((CountLeaf) node).maxCount;
+    }
+
+    /**
+     * Returns the sum of all the counts.
+     */
+    public int totalCount()
+    {
+        return this.root.count();
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return super.containsKey(key);
+    }
+
+    /**
+     * Returns the count of the key, which is zero if the key is absent.
+     */
+    public int countOf(Object key)
+    {
+        CountLeaf leaf = (CountLeaf) this.findLeaf(key, null, null);
+        int index = this.indexInLeaf(leaf, key);
+        return index < 0 ? 0 : leaf.counts[index];
+    }
+
+    /**
+     * Adds to the count of the key, inserting the key if it is absent, and returns the new count.
+     */
+    public int addCount(K key, int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Cannot add a negative count");
+        }
+        if (count == 0)
+        {
+            return this.countOf(key);
+        }
+        if (this.size == 0)
+        {
+            // type and null check, as TreeMap does
+            this.compare(key, key);
+        }
+        Branch[] path = new Branch[this.height];
+        int[] childIndices = new int[this.height];
+        CountLeaf leaf = (CountLeaf) this.findLeaf(key, path, childIndices);
+        int index = this.indexInLeaf(leaf, key);
+        int newCount = index < 0 ? count : leaf.counts[index] + count;
+
+        // splits keep the totals of the nodes above them, so the path can be updated before the tree changes shape
+        leaf.occurrences += count;
+        leaf.maxCount = Math.max(leaf.maxCount, newCount);
+        for (Branch branch : path)
+        {
+            branch.count += count;
+            ((CountBranch) branch).maxCount = Math.max(((CountBranch) branch).maxCount, newCount);
+        }
+
+        if (index >= 0)
+        {
+            leaf.counts[index] = newCount;
+        }
+        else
+        {
+            int insertionIndex = -index - 1;
+            leaf.insertAt(insertionIndex, key);
+            leaf.counts[insertionIndex] = newCount;
+            this.splitIfOverfull(leaf, insertionIndex, path, childIndices);
+            this.size++;
+            this.modCount++;
+        }
+        return newCount;
+    }
+
+    /**
+     * Subtracts up to the given amount from the count of the key, removing the key if its count drops to zero, and
+     * returns how much was subtracted.
+     */
+    public int removeCount(Object key, int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Cannot remove a negative count");
+        }
+        Branch[] path = new Branch[this.height];
+        int[] childIndices = new int[this.height];
+        CountLeaf leaf = (CountLeaf) this.findLeaf(key, path, childIndices);
+        int index = this.indexInLeaf(leaf, key);
+        if (index < 0 || count == 0)
+        {
+            return 0;
+        }
+        int oldCount = leaf.counts[index];
+        int removed = Math.min(oldCount, count);
+        boolean wasMax = oldCount == leaf.maxCount;
+
+        leaf.occurrences -= removed;
+        for (Branch branch : path)
+        {
+            branch.count -= removed;
+        }
+        if (removed == oldCount)
+        {
+            leaf.removeAt(index);
+            this.size--;
+            this.modCount++;
+        }
+        else
+        {
+            leaf.counts[index] = oldCount - removed;
+        }
+        if (wasMax)
+        {
+            this.refreshMaxCounts(leaf, path);
+        }
+        if (removed == oldCount)
+        {
+            this.rebalanceAfterRemove(leaf, path, childIndices);
+        }
+        return removed;
+    }
+
+    private void refreshMaxCounts(CountLeaf leaf, Branch[] path)
+    {
+        leaf.recount();
+        for (int level = this.height - 1; level >= 0; level--)
+        {
+            CountBranch branch = (CountBranch) path[level];
+            int oldMax = branch.maxCount;
+            branch.recount();
+            if (branch.maxCount == oldMax)
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the key whatever its count.
+     */
+    @Override
+    public void removeKey(Object key)
+    {
+        this.removeCount(key, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes the keys that satisfy the predicate, whatever their counts.  A few keys are removed in place, while
+     * removing a large share of the keys rebuilds the tree from the rest.
+     */
+    public <P> boolean removeIf(Predicate2<? super K, ? super P> predicate, P parameter)
+    {
+        return this.removeKeysIf(predicate, parameter);
+    }
+
+    public K firstKey()
+    {
+        return this.unbounded.firstKey();
+    }
+
+    public K lastKey()
+    {
+        return this.unbounded.lastKey();
+    }
+
+    /**
+     * Returns the sum of the counts of the keys greater than or equal to {@code from} and less than {@code to}, in
+     * O(log n).
+     */
+    public int countBetween(K from, K to)
+    {
+        return this.unbounded.subRange(true, from, true, to).size();
+    }
+
+    public void forEachKeyCount(ObjectIntProcedure<? super K> procedure)
+    {
+        int expectedModCount = this.modCount;
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            Object[] keys = leaf.keys;
+            int[] counts = ((CountLeaf) leaf).counts;
+            for (int i = 0; i < leaf.size; i++)
+            {
+                procedure.value((K) keys[i], counts[i]);
+            }
+            if (this.modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over every occurrence of every key, with each key repeated as many times as its count,
+     * starting at the given position.  Its {@code remove()} removes one occurrence.
+     */
+    public Iterator<K> occurrenceIterator(int startPosition)
+    {
+        return new OccurrenceIterator(startPosition);
+    }
+
+    public LazyIterable<K> keysView()
+    {
+        return new KeysView();
+    }
+
+    public LazyIterable<ObjectIntPair<K>> keyCountsView()
+    {
+        return new KeyCountsView();
+    }
+
+    /**
+     * Returns the keys with the highest counts, ordered by count, highest first, like
+     * {@link org.eclipse.collections.api.bag.Bag#topOccurrences(int)}, without sorting all the keys.  The nodes are
+     * visited largest maximum first until the n-th highest count is known, and then only the subtrees whose maximum
+     * reaches that count are walked to collect the results.
+     */
+    public MutableList<ObjectIntPair<K>> topCounts(int n)
+    {
+        if (n < 0)
+        {
+            throw new IllegalArgumentException("Cannot use a value of n < 0");
+        }
+        MutableList<ObjectIntPair<K>> results = Lists.mutable.empty();
+        if (n == 0 || this.isEmpty())
+        {
+            return results;
+        }
+        int threshold = n >= this.size ? 1 : this.nthHighestCount(n);
+        this.collectCountsAtLeast(this.root, threshold, results);
+        return results.sortThisByInt(each -> -each.getTwo());
+    }
+
+    private int nthHighestCount(int n)
+    {
+        PriorityQueue<Node> pending = new PriorityQueue<>((node1, node2) -> Integer.compare(maxCount(node2), maxCount(node1)));
+        PriorityQueue<Integer> highest = new PriorityQueue<>(n);
+        pending.add(this.root);
+        while (!pending.isEmpty())
+        {
+            Node node = pending.poll();
+            if (highest.size() == n && maxCount(node) <= highest.peek())
+            {
+                break;
+            }
+            if (node instanceof Branch)
+            {
+                Branch branch = (Branch) node;
+                for (int i = 0; i < branch.size; i++)
+                {
+                    pending.add(branch.children[i]);
+                }
+            }
+            else
+            {
+                CountLeaf leaf = (CountLeaf) node;
+                for (int i = 0; i < leaf.size; i++)
+                {
+                    int count = leaf.counts[i];
+                    if (highest.size() < n)
+                    {
+                        highest.add(count);
+                    }
+                    else if (count > highest.peek())
+                    {
+                        highest.poll();
+                        highest.add(count);
+                    }
+                }
+            }
+        }
+        return highest.peek();
+    }
+
+    private void collectCountsAtLeast(Node node, int threshold, MutableList<ObjectIntPair<K>> target)
+    {
+        if (maxCount(node) < threshold)
+        {
+            return;
+        }
+        if (node instanceof Branch)
+        {
+            Branch branch = (Branch) node;
+            for (int i = 0; i < branch.size; i++)
+            {
+                this.collectCountsAtLeast(branch.children[i], threshold, target);
+            }
+        }
+        else
+        {
+            CountLeaf leaf = (CountLeaf) node;
+            for (int i = 0; i < leaf.size; i++)
+            {
+                if (leaf.counts[i] >= threshold)
+                {
+                    target.add(PrimitiveTuples.pair((K) leaf.keys[i], leaf.counts[i]));
+                }
+            }
+        }
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 0;
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            int[] counts = ((CountLeaf) leaf).counts;
+            for (int i = 0; i < leaf.size; i++)
+            {
+                Object each = leaf.keys[i];
+                hashCode += (each == null ? 0 : each.hashCode()) ^ counts[i];
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof BTreeCountMap))
+        {
+            return false;
+        }
+        BTreeCountMap<?> other = (BTreeCountMap<?>) object;
+        return this.size == other.size && this.keyCountsView().allSatisfy(each -> other.countOf(each.getOne()) == each.getTwo());
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder("{");
+        this.forEachKeyCount((key, count) -> {
+            if (builder.length() > 1)
+            {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(count);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * A leaf that keeps the count of each key, the sum of its counts and the largest of them.
+     */
+    private static final class CountLeaf extends Leaf
+    {
+        private int[] counts;
+        private int occurrences;
+        private int maxCount;
+
+        private CountLeaf(int capacity)
+        {
+            super(capacity);
+            this.counts = new int[capacity];
+        }
+
+        @Override
+        int count()
+        {
+            return this.occurrences;
+        }
+
+        @Override
+        void recount()
+        {
+            int occurrences = 0;
+            int max = 0;
+            for (int i = 0; i < this.size; i++)
+            {
+                occurrences += this.counts[i];
+                max = Math.max(max, this.counts[i]);
+            }
+            this.occurrences = occurrences;
+            this.maxCount = max;
+        }
+
+        @Override
+        int countBefore(int index)
+        {
+            int count = 0;
+            for (int i = 0; i < index; i++)
+            {
+                count += this.counts[i];
+            }
+            return count;
+        }
+
+        @Override
+        int indexAtPosition(int position)
+        {
+            int remaining = position;
+            int index = 0;
+            while (index < this.size && remaining >= this.counts[index])
+            {
+                remaining -= this.counts[index];
+                index++;
+            }
+            return index;
+        }
+
+        @Override
+        void resize(int capacity)
+        {
+            super.resize(capacity);
+            this.counts = Arrays.copyOf(this.counts, capacity);
+        }
+
+        @Override
+        void copyEntries(int from, Leaf target, int to, int length)
+        {
+            super.copyEntries(from, target, to, length);
+            System.arraycopy(this.counts, from, ((CountLeaf) target).counts, to, length);
+        }
+    }
+
+    /**
+     * A branch that also keeps the largest count of any key beneath it.
+     */
+    private static final class CountBranch extends Branch
+    {
+        private int maxCount;
+
+        @Override
+        void recount()
+        {
+            super.recount();
+            int max = 0;
+            for (int i = 0; i < this.size; i++)
+            {
+                max = Math.max(max, maxCount(this.children[i]));
+            }
+            this.maxCount = max;
+        }
+    }
+
+    private final class OccurrenceIterator extends Cursor implements Iterator<K>
+    {
+        private int remaining;
+        private int expectedModCount = BTreeCountMap.this.modCount;
+        private K lastReturnedKey;
+        private boolean canRemove;
+
+        /**
+         * Starts the iteration at the given position by descending the counts, the same way as keyAt does.
+         */
+        private OccurrenceIterator(int startPosition)
+        {
+            int offset = BTreeCountMap.this.seekPosition(this, startPosition);
+            this.remaining -= offset;
+        }
+
+        @Override
+        void moveTo(Leaf newLeaf, int newIndex)
+        {
+            super.moveTo(newLeaf, newIndex);
+            this.remaining = this.leaf == null ? 0 : ((CountLeaf) this.leaf).counts[this.index];
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.leaf != null;
+        }
+
+        @Override
+        public K next()
+        {
+            if (BTreeCountMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            if (this.leaf == null)
+            {
+                throw new NoSuchElementException();
+            }
+            this.lastReturnedKey = (K) this.leaf.keys[this.index];
+            this.remaining--;
+            if (this.remaining == 0)
+            {
+                this.moveTo(this.leaf, this.index + 1);
+            }
+            this.canRemove = true;
+            return this.lastReturnedKey;
+        }
+
+        @Override
+        public void remove()
+        {
+            if (!this.canRemove)
+            {
+                throw new IllegalStateException();
+            }
+            if (BTreeCountMap.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+            this.canRemove = false;
+            BTreeCountMap.this.removeCount(this.lastReturnedKey, 1);
+            if (BTreeCountMap.this.modCount != this.expectedModCount)
+            {
+                // removing the last occurrence may have reshaped the tree, so find the next key again
+                this.expectedModCount = BTreeCountMap.this.modCount;
+                BTreeCountMap.this.seekCeiling(this, this.lastReturnedKey, false);
+            }
+        }
+    }
+
+    private final class KeyCountIterator extends TreeIterator<ObjectIntPair<K>>
+    {
+        private KeyCountIterator()
+        {
+            super(BTreeCountMap.this.unbounded);
+        }
+
+        @Override
+        ObjectIntPair<K> valueAt(Leaf leaf, int index)
+        {
+            return PrimitiveTuples.pair((K) leaf.keys[index], ((CountLeaf) leaf).counts[index]);
+        }
+    }
+
+    private final class KeysView extends AbstractLazyIterable<K>
+    {
+        @Override
+        public void each(Procedure<? super K> procedure)
+        {
+            BTreeCountMap.this.forEachKey(procedure);
+        }
+
+        @Override
+        public int size()
+        {
+            return BTreeCountMap.this.size;
+        }
+
+        @Override
+        public Iterator<K> iterator()
+        {
+            return new UnmodifiableIteratorAdapter<>(new KeyIterator(BTreeCountMap.this.unbounded));
+        }
+    }
+
+    private final class KeyCountsView extends AbstractLazyIterable<ObjectIntPair<K>>
+    {
+        @Override
+        public void each(Procedure<? super ObjectIntPair<K>> procedure)
+        {
+            BTreeCountMap.this.forEachKeyCount((key, count) -> procedure.value(PrimitiveTuples.pair(key, count)));
+        }
+
+        @Override
+        public int size()
+        {
+            return BTreeCountMap.this.size;
+        }
+
+        @Override
+        public Iterator<ObjectIntPair<K>> iterator()
+        {
+            return new UnmodifiableIteratorAdapter<>(new KeyCountIterator());
+        }
+    }
+}
@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+
+import org.eclipse.collections.api.block.procedure.Procedure2;
+
+/**
+ * A {@link SortedMap} backed by a B+tree.  Keys and values are packed into parallel arrays in the leaves and the leaves
+ * are linked to each other, so in-order and range iteration walk arrays instead of following a pointer per entry the
+ * way {@link java.util.TreeMap} does.  Branches only hold separator keys and children, which keeps the tree shallow,
+ * along with the number of entries beneath them, so {@link #rank(Object)}, {@link #keyAt(int)} and the size of a range
+ * view take O(log n).
+ * <p>
+ * This is the JDK level structure behind {@link BTreeSortedMap}.  Like TreeMap, it does not permit null keys when using
+ * natural ordering, it is not synchronized, and its iterators are fail-fast.
+ *
+ * @since 8.0
+ */
+public final class BTreeMap<K, V>
+        extends AbstractBTree<K>
+        implements SortedMap<K, V>
+{
+    private final SubMap all = new SubMap(this.unbounded);
+
+    public BTreeMap()
+    {
+        this((Comparator<? super K>) null);
+    }
+
+    public BTreeMap(Comparator<? super K> comparator)
+    {
+        super(comparator);
+    }
+
+    public BTreeMap(Map<? extends K, ? extends V> map)
+    {
+        this((Comparator<? super K>) null);
+        this.putAll(map);
+    }
+
+    public BTreeMap(SortedMap<K, ? extends V> map)
+    {
+        this(map.comparator());
+        this.putAll(map);
+    }
+
+    @Override
+    Leaf newLeaf(int capacity)
+    {
+        return new ValueLeaf(capacity);
+    }
+
+    @Override
+    void removeKey(Object key)
+    {
+        this.remove(key);
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        Leaf leaf = this.findLeaf(key, null, null);
+        int index = this.indexInLeaf(leaf, key);
+        return index < 0 ? null : (V) ((ValueLeaf) leaf).values[index];
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return super.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            Object[] values = ((ValueLeaf) leaf).values;
+            for (int i = 0; i < leaf.size; i++)
+            {
+                if (value == null ? values[i] == null : value.equals(values[i]))
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        if (this.size == 0)
+        {
+            // type and null check, as TreeMap does
+            this.compare(key, key);
+        }
+        Branch[] path = new Branch[this.height];
+        int[] childIndices = new int[this.height];
+        ValueLeaf leaf = (ValueLeaf) this.findLeaf(key, path, childIndices);
+        int index = this.indexInLeaf(leaf, key);
+        if (index >= 0)
+        {
+            V oldValue = (V) leaf.values[index];
+            leaf.values[index] = value;
+            return oldValue;
+        }
+        for (Branch branch : path)
+        {
+            branch.count++;
+        }
+        int insertionIndex = -index - 1;
+        leaf.insertAt(insertionIndex, key);
+        leaf.values[insertionIndex] = value;
+        this.splitIfOverfull(leaf, insertionIndex, path, childIndices);
+        this.size++;
+        this.modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        Branch[] path = new Branch[this.height];
+        int[] childIndices = new int[this.height];
+        ValueLeaf leaf = (ValueLeaf) this.findLeaf(key, path, childIndices);
+        int index = this.indexInLeaf(leaf, key);
+        if (index < 0)
+        {
+            return null;
+        }
+        V oldValue = (V) leaf.values[index];
+        leaf.removeAt(index);
+        for (Branch branch : path)
+        {
+            branch.count--;
+        }
+        this.size--;
+        this.modCount++;
+        this.rebalanceAfterRemove(leaf, path, childIndices);
+        return oldValue;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        this.all.putAll(map);
+    }
+
+    @Override
+    public K firstKey()
+    {
+        return this.unbounded.firstKey();
+    }
+
+    @Override
+    public K lastKey()
+    {
+        return this.unbounded.lastKey();
+    }
+
+    @Override
+    public SortedMap<K, V> headMap(K toKey)
+    {
+        return new SubMap(this.unbounded.subRange(false, null, true, toKey));
+    }
+
+    @Override
+    public SortedMap<K, V> tailMap(K fromKey)
+    {
+        return new SubMap(this.unbounded.subRange(true, fromKey, false, null));
+    }
+
+    @Override
+    public SortedMap<K, V> subMap(K fromKey, K toKey)
+    {
+        return new SubMap(this.unbounded.subRange(true, fromKey, true, toKey));
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new EntrySet(this.unbounded);
+    }
+
+    @Override
+    public SortedSet<K> keySet()
+    {
+        return new KeySet(this.unbounded);
+    }
+
+    @Override
+    public Collection<V> values()
+    {
+        return this.all.values();
+    }
+
+    /**
+     * Iterates over the entries in key order, reading them straight out of the leaves.
+     */
+    public void forEachKeyValue(Procedure2<? super K, ? super V> procedure)
+    {
+        int expectedModCount = this.modCount;
+        for (Leaf leaf = this.firstLeaf; leaf != null; leaf = leaf.next)
+        {
+            Object[] keys = leaf.keys;
+            Object[] values = ((ValueLeaf) leaf).values;
+            for (int i = 0; i < leaf.size; i++)
+            {
+                procedure.value((K) keys[i], (V) values[i]);
+            }
+            if (this.modCount != expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        return o == this || this.all.equals(o);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.all.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.all.toString();
+    }
+
+    private static final class ValueLeaf extends Leaf
+    {
+        private Object[] values;
+
+        private ValueLeaf(int capacity)
+        {
+            super(capacity);
+            this.values = new Object[capacity];
+        }
+
+        @Override
+        void resize(int capacity)
+        {
+            super.resize(capacity);
+            this.values = Arrays.copyOf(this.values, capacity);
+        }
+
+        @Override
+        void copyEntries(int from, Leaf target, int to, int length)
+        {
+            super.copyEntries(from, target, to, length);
+            System.arraycopy(this.values, from, ((ValueLeaf) target).values, to, length);
+        }
+
+        @Override
+        void clearEntries(int from, int to)
+        {
+            super.clearEntries(from, to);
+            Arrays.fill(this.values, from, to, null);
+        }
+    }
+
+    private final class EntryIterator extends TreeIterator<Entry<K, V>>
+    {
+        private EntryIterator(Range range)
+        {
+            super(range);
+        }
+
+        @Override
+        Entry<K, V> valueAt(Leaf leaf, int index)
+        {
+            return new WriteThroughEntry((K) leaf.keys[index], (V) ((ValueLeaf) leaf).values[index]);
+        }
+    }
+
+    private final class WriteThroughEntry extends AbstractMap.SimpleEntry<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private WriteThroughEntry(K key, V value)
+        {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            V oldValue = super.setValue(value);
+            BTreeMap.this.put(this.getKey(), value);
+            return oldValue;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        private final Range range;
+
+        private EntrySet(Range range)
+        {
+            this.range = range;
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            return new EntryIterator(this.range);
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size();
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Entry))
+            {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            Object key = entry.getKey();
+            if (!this.range.inRange(key))
+            {
+                return false;
+            }
+            Leaf leaf = BTreeMap.this.findLeaf(key, null, null);
+            int index = BTreeMap.this.indexInLeaf(leaf, key);
+            if (index < 0)
+            {
+                return false;
+            }
+            Object value = ((ValueLeaf) leaf).values[index];
+            return value == null ? entry.getValue() == null : value.equals(entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o)
+        {
+            if (this.contains(o))
+            {
+                BTreeMap.this.remove(((Entry<?, ?>) o).getKey());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void clear()
+        {
+            this.range.clear();
+        }
+    }
+
+    private final class SubMap extends AbstractMap<K, V> implements SortedMap<K, V>
+    {
+        private final Range range;
+
+        private SubMap(Range range)
+        {
+            this.range = range;
+        }
+
+        @Override
+        public int size()
+        {
+            return this.range.size();
+        }
+
+        @Override
+        public boolean isEmpty()
+        {
+            return this.range.isEmpty();
+        }
+
+        @Override
+        public V get(Object key)
+        {
+            return this.range.inRange(key) ? BTreeMap.this.get(key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return this.range.inRange(key) && BTreeMap.this.containsKey(key);
+        }
+
+        @Override
+        public V put(K key, V value)
+        {
+            if (!this.range.inRange(key))
+            {
+                throw new IllegalArgumentException("key out of range");
+            }
+            return BTreeMap.this.put(key, value);
+        }
+
+        @Override
+        public V remove(Object key)
+        {
+            return this.range.inRange(key) ? BTreeMap.this.remove(key) : null;
+        }
+
+        @Override
+        public void clear()
+        {
+            this.range.clear();
+        }
+
+        @Override
+        public Comparator<? super K> comparator()
+        {
+            return BTreeMap.this.comparator;
+        }
+
+        @Override
+        public SortedMap<K, V> subMap(K fromKey, K toKey)
+        {
+            return new SubMap(this.range.subRange(true, fromKey, true, toKey));
+        }
+
+        @Override
+        public SortedMap<K, V> headMap(K toKey)
+        {
+            return new SubMap(this.range.subRange(false, null, true, toKey));
+        }
+
+        @Override
+        public SortedMap<K, V> tailMap(K fromKey)
+        {
+            return new SubMap(this.range.subRange(true, fromKey, false, null));
+        }
+
+        @Override
+        public K firstKey()
+        {
+            return this.range.firstKey();
+        }
+
+        @Override
+        public K lastKey()
+        {
+            return this.range.lastKey();
+        }
+
+        @Override
+        public SortedSet<K> keySet()
+        {
+            return new KeySet(this.range);
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet()
+        {
+            return new EntrySet(this.range);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.SortedSet;
+
+/**
+ * A {@link SortedSet} backed by the same B+tree as {@link BTreeMap}, whose leaves hold nothing but the keys.  It lives
+ * next to BTreeMap because the two share the tree, the way {@link java.util.TreeSet} sits next to
+ * {@link java.util.TreeMap}, but unlike TreeSet it does not spend a value slot on every element.
+ * <p>
+ * This is the JDK level structure behind {@link org.eclipse.collections.impl.set.sorted.mutable.BTreeSortedSet}.  Like
+ * TreeSet, it does not permit null elements when using natural ordering, it is not synchronized, and its iterators are
+ * fail-fast.
+ *
+ * @since 8.0
+ */
+public final class BTreeSet<K>
+        extends AbstractBTree<K>
+        implements SortedSet<K>
+{
+    private final KeySet all = new KeySet(this.unbounded);
+
+    public BTreeSet()
+    {
+        this((Comparator<? super K>) null);
+    }
+
+    public BTreeSet(Comparator<? super K> comparator)
+    {
+        super(comparator);
+    }
+
+    public BTreeSet(SortedSet<K> set)
+    {
+        this(set.comparator());
+        this.addAll(set);
+    }
+
+    @Override
+    Leaf newLeaf(int capacity)
+    {
+        return new Leaf(capacity);
+    }
+
+    @Override
+    void removeKey(Object key)
+    {
+        this.remove(key);
+    }
+
+    @Override
+    boolean addKey(K key)
+    {
+        return this.add(key);
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return this.containsKey(o);
+    }
+
+    @Override
+    public boolean add(K key)
+    {
+        if (this.size == 0)
+        {
+            // type and null check, as TreeSet does
+            this.compare(key, key);
+        }
+        Branch[] path = new Branch[this.height];
+        int[] childIndices = new int[this.height];
+        Leaf leaf = this.findLeaf(key, path, childIndices);
+        int index = this.indexInLeaf(leaf, key);
+        if (index >= 0)
+        {
+            return false;
+        }
+        for (Branch branch : path)
+        {
+            branch.count++;
+        }
+        int insertionIndex = -index - 1;
+        leaf.insertAt(insertionIndex, key);
+        this.splitIfOverfull(leaf, insertionIndex, path, childIndices);
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object key)
+    {
+        Branch[] path = new Branch[this.height];
+        int[] childIndices = new int[this.height];
+        Leaf leaf = this.findLeaf(key, path, childIndices);
+        int index = this.indexInLeaf(leaf, key);
+        if (index < 0)
+        {
+            return false;
+        }
+        leaf.removeAt(index);
+        for (Branch branch : path)
+        {
+            branch.count--;
+        }
+        this.size--;
+        this.modCount++;
+        this.rebalanceAfterRemove(leaf, path, childIndices);
+        return true;
+    }
+
+    @Override
+    public Iterator<K> iterator()
+    {
+        return new KeyIterator(this.unbounded);
+    }
+
+    @Override
+    public K first()
+    {
+        return this.unbounded.firstKey();
+    }
+
+    @Override
+    public K last()
+    {
+        return this.unbounded.lastKey();
+    }
+
+    @Override
+    public SortedSet<K> subSet(K fromElement, K toElement)
+    {
+        return new KeySet(this.unbounded.subRange(true, fromElement, true, toElement));
+    }
+
+    @Override
+    public SortedSet<K> headSet(K toElement)
+    {
+        return new KeySet(this.unbounded.subRange(false, null, true, toElement));
+    }
+
+    @Override
+    public SortedSet<K> tailSet(K fromElement)
+    {
+        return new KeySet(this.unbounded.subRange(true, fromElement, false, null));
+    }
+
+    @Override
+    public Object[] toArray()
+    {
+        return this.all.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a)
+    {
+        return this.all.toArray(a);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> collection)
+    {
+        return this.all.containsAll(collection);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends K> collection)
+    {
+        return this.all.addAll(collection);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+        return this.all.retainAll(collection);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        return this.all.removeAll(collection);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        return o == this || this.all.equals(o);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.all.hashCode();
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.all.toString();
+    }
+}
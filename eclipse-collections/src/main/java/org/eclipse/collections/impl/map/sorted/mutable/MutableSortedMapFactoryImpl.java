@@ -161,4 +161,16 @@ public final class MutableSortedMapFactoryImpl implements MutableSortedMapFactor
     {
         return TreeSortedMap.newMap(map);
     }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> emptyBTree()
+    {
+        return BTreeSortedMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableSortedMap<K, V> emptyBTree(Comparator<? super K> comparator)
+    {
+        return BTreeSortedMap.newMap(comparator);
+    }
 }
@@ -29,7 +29,7 @@ import org.eclipse.collections.impl.block.factory.HashingStrategies;
 import org.eclipse.collections.impl.collection.mutable.UnmodifiableMutableCollection;
 import org.eclipse.collections.impl.map.immutable.AbstractImmutableMap;
 import org.eclipse.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy;
-import org.eclipse.collections.impl.parallel.BatchIterable;
+import org.eclipse.collections.impl.parallel.BatchMapIterable;
 import org.eclipse.collections.impl.set.mutable.UnmodifiableMutableSet;
 import org.eclipse.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy;
 import org.eclipse.collections.impl.utility.MapIterate;
@@ -39,7 +39,7 @@ import org.eclipse.collections.impl.utility.MapIterate;
  * @see ImmutableMap
  */
 public class ImmutableUnifiedMapWithHashingStrategy<K, V>
-        extends AbstractImmutableMap<K, V> implements BatchIterable<V>, Serializable
+        extends AbstractImmutableMap<K, V> implements BatchMapIterable<K, V>, Serializable
 {
     private static final long serialVersionUID = 1L;
     private final UnifiedMapWithHashingStrategy<K, V> delegate;
@@ -110,6 +110,12 @@ public class ImmutableUnifiedMapWithHashingStrategy<K, V>
         this.delegate.batchForEach(procedure, sectionIndex, sectionCount);
     }
 
+    @Override
+    public void batchForEachKeyValue(Procedure2<? super K, ? super V> procedure, int sectionIndex, int sectionCount)
+    {
+        this.delegate.batchForEachKeyValue(procedure, sectionIndex, sectionCount);
+    }
+
     @Override
     public void forEachValue(Procedure<? super V> procedure)
     {
@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import net.jcip.annotations.NotThreadSafe;
 import org.eclipse.collections.api.block.HashingStrategy;
@@ -35,6 +36,7 @@ import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.ParallelMapIterable;
 import org.eclipse.collections.api.map.UnsortedMapIterable;
 import org.eclipse.collections.api.tuple.Pair;
 import org.eclipse.collections.impl.block.factory.Functions;
@@ -42,9 +44,11 @@ import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.MapCollectProcedure;
 import org.eclipse.collections.impl.factory.HashingStrategyMaps;
 import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.lazy.parallel.map.ParallelBatchMapIterable;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.map.mutable.AbstractMutableMap;
 import org.eclipse.collections.impl.parallel.BatchIterable;
+import org.eclipse.collections.impl.parallel.BatchMapIterable;
 import org.eclipse.collections.impl.set.strategy.mutable.UnifiedSetWithHashingStrategy;
 import org.eclipse.collections.impl.tuple.ImmutableEntry;
 import org.eclipse.collections.impl.utility.ArrayIterate;
@@ -64,7 +68,7 @@ import org.eclipse.collections.impl.utility.Iterate;
 @NotThreadSafe
 @SuppressWarnings("ObjectEquality")
 public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V>
-        implements Externalizable, BatchIterable<V>
+        implements Externalizable, BatchMapIterable<K, V>
 {
     protected static final Object NULL_KEY = new Object()
     {
@@ -1122,6 +1126,36 @@ public class UnifiedMapWithHashingStrategy<K, V> extends AbstractMutableMap<K, V
         }
     }
 
+    @Override
+    public void batchForEachKeyValue(Procedure2<? super K, ? super V> procedure, int sectionIndex, int sectionCount)
+    {
+        int sectionSize = this.table.length / sectionCount;
+        int start = sectionIndex * sectionSize;
+        int end = sectionIndex == sectionCount - 1 ? this.table.length : start + sectionSize;
+        if (start % 2 != 0)
+        {
+            start++;
+        }
+        for (int i = start; i < end; i += 2)
+        {
+            Object cur = this.table[i];
+            if (cur == CHAINED_KEY)
+            {
+                this.chainedForEachEntry((Object[]) this.table[i + 1], procedure);
+            }
+            else if (cur != null)
+            {
+                procedure.value(this.nonSentinel(cur), (V) this.table[i + 1]);
+            }
+        }
+    }
+
+    @Override
+    public ParallelMapIterable<K, V> asParallel(ExecutorService executorService, int batchSize)
+    {
+        return new ParallelBatchMapIterable<>(this, executorService, batchSize);
+    }
+
     @Override
     public void forEachKey(Procedure<? super K> procedure)
     {
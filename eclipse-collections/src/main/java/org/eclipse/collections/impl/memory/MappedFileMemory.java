@@ -0,0 +1,313 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.memory;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * Memory backed by a file which is mapped in segments of 1GB, the largest power of two a {@link MappedByteBuffer} can
+ * address.  Values are aligned to their width, so no value straddles two segments.
+ * <p>
+ * The file only ever grows while it is mapped, because touching a mapping past the end of a truncated file crashes
+ * the process.  Shrinking the region zeroes the bytes beyond the new size instead.  The mappings are released by the
+ * garbage collector after {@link #close()}, which flushes them to the file.
+ * <p>
+ * A file mapped read-only is closed as soon as it has been mapped, since the mappings stay valid without it.  The region
+ * keeps the length of the file, and every write throws a {@link ReadOnlyBufferException}.
+ *
+ * @since 8.0
+ */
+final class MappedFileMemory extends OffHeapMemory
+{
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = (int) SEGMENT_SIZE - 1;
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private final RandomAccessFile file;
+    private final boolean readOnly;
+    private MappedByteBuffer[] segments;
+    private long mappedSize;
+    private long size;
+
+    MappedFileMemory(Path path, long bytes)
+    {
+        if (bytes < 0L)
+        {
+            throw new IllegalArgumentException("Size must be non-negative: " + bytes);
+        }
+        try
+        {
+            this.file = new RandomAccessFile(path.toFile(), "rw");
+            this.file.setLength(0L);
+            this.file.setLength(bytes);
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+        this.readOnly = false;
+        this.map(bytes);
+        this.size = bytes;
+    }
+
+    MappedFileMemory(Path path)
+    {
+        try
+        {
+            this.file = new RandomAccessFile(path.toFile(), "r");
+            this.readOnly = true;
+            this.map(this.file.length());
+            this.size = this.mappedSize;
+            this.file.close();
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void map(long bytes)
+    {
+        int segmentCount = (int) ((bytes + SEGMENT_SIZE - 1L) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] newSegments = new MappedByteBuffer[segmentCount];
+        FileChannel.MapMode mode = this.readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+        try
+        {
+            FileChannel channel = this.file.getChannel();
+            for (int i = 0; i < segmentCount; i++)
+            {
+                long position = (long) i << SEGMENT_SHIFT;
+                long length = Math.min(SEGMENT_SIZE, bytes - position);
+                newSegments[i] = channel.map(mode, position, length);
+                newSegments[i].order(ByteOrder.nativeOrder());
+            }
+        }
+        catch (IOException e)
+        {
+            throw new RuntimeException(e);
+        }
+        this.segments = newSegments;
+        this.mappedSize = bytes;
+    }
+
+    @Override
+    public long size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public void resize(long newBytes)
+    {
+        if (this.segments == null)
+        {
+            throw new IllegalStateException("Memory has been closed");
+        }
+        if (this.readOnly)
+        {
+            throw new ReadOnlyBufferException();
+        }
+        if (newBytes < 0L)
+        {
+            throw new IllegalArgumentException("Size must be non-negative: " + newBytes);
+        }
+        if (newBytes < this.size)
+        {
+            this.clear(newBytes, this.size - newBytes);
+        }
+        else if (newBytes > this.mappedSize)
+        {
+            try
+            {
+                this.file.setLength(newBytes);
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException(e);
+            }
+            this.map(newBytes);
+        }
+        this.size = newBytes;
+    }
+
+    private ByteBuffer segment(long offset, int width)
+    {
+        if (offset < 0L || offset > this.size - width)
+        {
+            throw new IndexOutOfBoundsException("Offset: " + offset + " Size: " + this.size);
+        }
+        return this.segments[(int) (offset >>> SEGMENT_SHIFT)];
+    }
+
+    private static int position(long offset)
+    {
+        return (int) offset & SEGMENT_MASK;
+    }
+
+    @Override
+    public byte getByte(long offset)
+    {
+        return this.segment(offset, 1).get(MappedFileMemory.position(offset));
+    }
+
+    @Override
+    public void putByte(long offset, byte value)
+    {
+        this.segment(offset, 1).put(MappedFileMemory.position(offset), value);
+    }
+
+    @Override
+    public short getShort(long offset)
+    {
+        return this.segment(offset, 2).getShort(MappedFileMemory.position(offset));
+    }
+
+    @Override
+    public void putShort(long offset, short value)
+    {
+        this.segment(offset, 2).putShort(MappedFileMemory.position(offset), value);
+    }
+
+    @Override
+    public char getChar(long offset)
+    {
+        return this.segment(offset, 2).getChar(MappedFileMemory.position(offset));
+    }
+
+    @Override
+    public void putChar(long offset, char value)
+    {
+        this.segment(offset, 2).putChar(MappedFileMemory.position(offset), value);
+    }
+
+    @Override
+    public int getInt(long offset)
+    {
+        return this.segment(offset, 4).getInt(MappedFileMemory.position(offset));
+    }
+
+    @Override
+    public void putInt(long offset, int value)
+    {
+        this.segment(offset, 4).putInt(MappedFileMemory.position(offset), value);
+    }
+
+    @Override
+    public long getLong(long offset)
+    {
+        return this.segment(offset, 8).getLong(MappedFileMemory.position(offset));
+    }
+
+    @Override
+    public void putLong(long offset, long value)
+    {
+        this.segment(offset, 8).putLong(MappedFileMemory.position(offset), value);
+    }
+
+    @Override
+    public void clear(long offset, long bytes)
+    {
+        this.checkRange(offset, bytes);
+        byte[] zeros = new byte[(int) Math.min(CHUNK_SIZE, bytes)];
+        for (long done = 0L; done < bytes; done += zeros.length)
+        {
+            this.write(offset + done, zeros, (int) Math.min(zeros.length, bytes - done));
+        }
+    }
+
+    @Override
+    public void copy(long fromOffset, long toOffset, long bytes)
+    {
+        this.checkRange(fromOffset, bytes);
+        this.checkRange(toOffset, bytes);
+        byte[] chunk = new byte[(int) Math.min(CHUNK_SIZE, bytes)];
+        if (fromOffset < toOffset)
+        {
+            for (long end = bytes; end > 0L; end -= chunk.length)
+            {
+                int length = (int) Math.min(chunk.length, end);
+                this.read(fromOffset + end - length, chunk, length);
+                this.write(toOffset + end - length, chunk, length);
+            }
+        }
+        else
+        {
+            for (long done = 0L; done < bytes; done += chunk.length)
+            {
+                int length = (int) Math.min(chunk.length, bytes - done);
+                this.read(fromOffset + done, chunk, length);
+                this.write(toOffset + done, chunk, length);
+            }
+        }
+    }
+
+    private void read(long offset, byte[] target, int length)
+    {
+        int done = 0;
+        while (done < length)
+        {
+            long current = offset + done;
+            ByteBuffer segment = this.segments[(int) (current >>> SEGMENT_SHIFT)].duplicate();
+            segment.position(MappedFileMemory.position(current));
+            int count = Math.min(length - done, segment.remaining());
+            segment.get(target, done, count);
+            done += count;
+        }
+    }
+
+    private void write(long offset, byte[] source, int length)
+    {
+        int done = 0;
+        while (done < length)
+        {
+            long current = offset + done;
+            ByteBuffer segment = this.segments[(int) (current >>> SEGMENT_SHIFT)].duplicate();
+            segment.position(MappedFileMemory.position(current));
+            int count = Math.min(length - done, segment.remaining());
+            segment.put(source, done, count);
+            done += count;
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        if (this.segments != null)
+        {
+            if (!this.readOnly)
+            {
+                for (MappedByteBuffer segment : this.segments)
+                {
+                    segment.force();
+                }
+            }
+            this.segments = null;
+            this.mappedSize = 0L;
+            this.size = 0L;
+            try
+            {
+                this.file.close();
+            }
+            catch (IOException e)
+            {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
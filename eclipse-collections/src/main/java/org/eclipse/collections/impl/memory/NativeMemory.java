@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.memory;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import sun.misc.Unsafe;
+
+/**
+ * Memory allocated with {@link Unsafe#allocateMemory(long)}.  Every access is bounds checked, so a stale offset fails
+ * with an {@link IndexOutOfBoundsException} instead of corrupting the process.
+ * <p>
+ * Memory which is never closed is freed by a later allocation once the garbage collector has found the region to be
+ * unreachable.
+ *
+ * @since 8.0
+ */
+final class NativeMemory extends OffHeapMemory
+{
+    private static final Unsafe UNSAFE = NativeMemory.getUnsafe();
+    private static final ReferenceQueue<NativeMemory> UNREACHABLE = new ReferenceQueue<>();
+    private static final Set<Deallocator> DEALLOCATORS = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private final Deallocator deallocator;
+    private long address;
+    private long size;
+    private boolean closed;
+
+    NativeMemory(long bytes)
+    {
+        if (bytes < 0L)
+        {
+            throw new IllegalArgumentException("Size must be non-negative: " + bytes);
+        }
+        NativeMemory.freeUnreachable();
+        this.address = bytes == 0L ? 0L : UNSAFE.allocateMemory(bytes);
+        UNSAFE.setMemory(this.address, bytes, (byte) 0);
+        this.size = bytes;
+        this.deallocator = new Deallocator(this, this.address);
+        DEALLOCATORS.add(this.deallocator);
+    }
+
+    private static void freeUnreachable()
+    {
+        Deallocator deallocator;
+        while ((deallocator = (Deallocator) UNREACHABLE.poll()) != null)
+        {
+            deallocator.free();
+        }
+    }
+
+    @Override
+    public long size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public void resize(long newBytes)
+    {
+        if (this.closed)
+        {
+            throw new IllegalStateException("Memory has been closed");
+        }
+        if (newBytes < 0L)
+        {
+            throw new IllegalArgumentException("Size must be non-negative: " + newBytes);
+        }
+        long newAddress;
+        if (newBytes == 0L)
+        {
+            UNSAFE.freeMemory(this.address);
+            newAddress = 0L;
+        }
+        else
+        {
+            newAddress = UNSAFE.reallocateMemory(this.address, newBytes);
+        }
+        if (newBytes > this.size)
+        {
+            UNSAFE.setMemory(newAddress + this.size, newBytes - this.size, (byte) 0);
+        }
+        this.address = newAddress;
+        this.deallocator.address = newAddress;
+        this.size = newBytes;
+    }
+
+    private long address(long offset, int width)
+    {
+        if (offset < 0L || offset > this.size - width)
+        {
+            throw new IndexOutOfBoundsException("Offset: " + offset + " Size: " + this.size);
+        }
+        return this.address + offset;
+    }
+
+    @Override
+    public byte getByte(long offset)
+    {
+        return UNSAFE.getByte(this.address(offset, 1));
+    }
+
+    @Override
+    public void putByte(long offset, byte value)
+    {
+        UNSAFE.putByte(this.address(offset, 1), value);
+    }
+
+    @Override
+    public short getShort(long offset)
+    {
+        return UNSAFE.getShort(this.address(offset, 2));
+    }
+
+    @Override
+    public void putShort(long offset, short value)
+    {
+        UNSAFE.putShort(this.address(offset, 2), value);
+    }
+
+    @Override
+    public char getChar(long offset)
+    {
+        return UNSAFE.getChar(this.address(offset, 2));
+    }
+
+    @Override
+    public void putChar(long offset, char value)
+    {
+        UNSAFE.putChar(this.address(offset, 2), value);
+    }
+
+    @Override
+    public int getInt(long offset)
+    {
+        return UNSAFE.getInt(this.address(offset, 4));
+    }
+
+    @Override
+    public void putInt(long offset, int value)
+    {
+        UNSAFE.putInt(this.address(offset, 4), value);
+    }
+
+    @Override
+    public long getLong(long offset)
+    {
+        return UNSAFE.getLong(this.address(offset, 8));
+    }
+
+    @Override
+    public void putLong(long offset, long value)
+    {
+        UNSAFE.putLong(this.address(offset, 8), value);
+    }
+
+    @Override
+    public float getFloat(long offset)
+    {
+        return UNSAFE.getFloat(this.address(offset, 4));
+    }
+
+    @Override
+    public void putFloat(long offset, float value)
+    {
+        UNSAFE.putFloat(this.address(offset, 4), value);
+    }
+
+    @Override
+    public double getDouble(long offset)
+    {
+        return UNSAFE.getDouble(this.address(offset, 8));
+    }
+
+    @Override
+    public void putDouble(long offset, double value)
+    {
+        UNSAFE.putDouble(this.address(offset, 8), value);
+    }
+
+    @Override
+    public void clear(long offset, long bytes)
+    {
+        this.checkRange(offset, bytes);
+        UNSAFE.setMemory(this.address + offset, bytes, (byte) 0);
+    }
+
+    @Override
+    public void copy(long fromOffset, long toOffset, long bytes)
+    {
+        this.checkRange(fromOffset, bytes);
+        this.checkRange(toOffset, bytes);
+        UNSAFE.copyMemory(this.address + fromOffset, this.address + toOffset, bytes);
+    }
+
+    @Override
+    public void close()
+    {
+        if (!this.closed)
+        {
+            this.closed = true;
+            this.deallocator.free();
+            this.address = 0L;
+            this.size = 0L;
+        }
+    }
+
+    private static Unsafe getUnsafe()
+    {
+        try
+        {
+            return Unsafe.getUnsafe();
+        }
+        catch (SecurityException ignored)
+        {
+            try
+            {
+                return AccessController.doPrivileged(new PrivilegedExceptionAction<Unsafe>()
+                {
+                    public Unsafe run() throws Exception
+                    {
+                        Field f = Unsafe.class.getDeclaredField("theUnsafe");
+                        f.setAccessible(true);
+                        return (Unsafe) f.get(null);
+                    }
+                });
+            }
+            catch (PrivilegedActionException e)
+            {
+                throw new RuntimeException("Could not initialize intrinsics", e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Frees the memory when the owning region is closed or becomes unreachable.  It is held in {@link #DEALLOCATORS}
+     * until then, so that it is not collected along with the region.
+     */
+    private static final class Deallocator extends PhantomReference<NativeMemory>
+    {
+        private long address;
+
+        private Deallocator(NativeMemory memory, long address)
+        {
+            super(memory, UNREACHABLE);
+            this.address = address;
+        }
+
+        private void free()
+        {
+            if (DEALLOCATORS.remove(this))
+            {
+                UNSAFE.freeMemory(this.address);
+                this.address = 0L;
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.memory;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+
+/**
+ * A resizable region of memory which lives outside of the Java heap.  The region is addressed by byte offsets, and
+ * each access must lie within {@link #size()} bytes and be aligned to the width of the value being read or written.
+ * Newly allocated and newly grown memory is zeroed.
+ * <p>
+ * Memory is released by {@link #close()}.  Memory which is never closed is released once the region becomes
+ * unreachable, but as with direct buffers that may not happen until long after it is last used, so owners of large
+ * regions should close them explicitly.  A closed region has a size of zero and cannot be resized.
+ *
+ * @since 8.0
+ */
+public abstract class OffHeapMemory implements Closeable
+{
+    /**
+     * Allocates {@code bytes} bytes of zeroed native memory.
+     */
+    public static OffHeapMemory allocate(long bytes)
+    {
+        return new NativeMemory(bytes);
+    }
+
+    /**
+     * Maps {@code bytes} bytes of {@code file} into memory, creating the file if it does not exist.  The file is
+     * truncated or extended to {@code bytes} bytes, and grows along with the region when it is resized.
+     */
+    public static OffHeapMemory map(Path file, long bytes)
+    {
+        return new MappedFileMemory(file, bytes);
+    }
+
+    /**
+     * Maps all of {@code file} into memory for reading.  The region cannot be resized, and writing to it throws a
+     * {@link java.nio.ReadOnlyBufferException}.  Any number of processes may map the same file, and they share the
+     * pages of the operating system's file cache.
+     */
+    public static OffHeapMemory mapReadOnly(Path file)
+    {
+        return new MappedFileMemory(file);
+    }
+
+    /**
+     * Returns the number of bytes which may be accessed.
+     */
+    public abstract long size();
+
+    /**
+     * Changes the size of the region to {@code newBytes} bytes, preserving the contents up to the smaller of the old
+     * and new sizes.  Bytes beyond the old size are zeroed.
+     */
+    public abstract void resize(long newBytes);
+
+    public abstract byte getByte(long offset);
+
+    public abstract void putByte(long offset, byte value);
+
+    public abstract short getShort(long offset);
+
+    public abstract void putShort(long offset, short value);
+
+    public abstract char getChar(long offset);
+
+    public abstract void putChar(long offset, char value);
+
+    public abstract int getInt(long offset);
+
+    public abstract void putInt(long offset, int value);
+
+    public abstract long getLong(long offset);
+
+    public abstract void putLong(long offset, long value);
+
+    public float getFloat(long offset)
+    {
+        return Float.intBitsToFloat(this.getInt(offset));
+    }
+
+    public void putFloat(long offset, float value)
+    {
+        this.putInt(offset, Float.floatToRawIntBits(value));
+    }
+
+    public double getDouble(long offset)
+    {
+        return Double.longBitsToDouble(this.getLong(offset));
+    }
+
+    public void putDouble(long offset, double value)
+    {
+        this.putLong(offset, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Sets {@code bytes} bytes starting at {@code offset} to zero.
+     */
+    public void clear(long offset, long bytes)
+    {
+        this.checkRange(offset, bytes);
+        for (long i = 0; i < bytes; i++)
+        {
+            this.putByte(offset + i, (byte) 0);
+        }
+    }
+
+    /**
+     * Copies {@code bytes} bytes from {@code fromOffset} to {@code toOffset}.  The ranges may overlap.
+     */
+    public void copy(long fromOffset, long toOffset, long bytes)
+    {
+        this.checkRange(fromOffset, bytes);
+        this.checkRange(toOffset, bytes);
+        if (fromOffset < toOffset)
+        {
+            for (long i = bytes - 1; i >= 0; i--)
+            {
+                this.putByte(toOffset + i, this.getByte(fromOffset + i));
+            }
+        }
+        else
+        {
+            for (long i = 0; i < bytes; i++)
+            {
+                this.putByte(toOffset + i, this.getByte(fromOffset + i));
+            }
+        }
+    }
+
+    /**
+     * Releases the memory.  Closing a region more than once has no effect.
+     */
+    public abstract void close();
+
+    protected void checkRange(long offset, long bytes)
+    {
+        if (offset < 0L || bytes < 0L || offset + bytes > this.size())
+        {
+            throw new IndexOutOfBoundsException("Offset: " + offset + " Length: " + bytes + " Size: " + this.size());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains regions of memory outside of the Java heap, which back the off-heap primitive collections.
+ * <p>
+ *     Memory is allocated natively with {@link org.eclipse.collections.impl.memory.OffHeapMemory#allocate(long)}
+ *     or mapped from a file with {@link org.eclipse.collections.impl.memory.OffHeapMemory#map(java.nio.file.Path, long)}.
+ */
+package org.eclipse.collections.impl.memory;
@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.multimap;
+
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.collections.api.collection.MutableCollection;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A Multimap which is safe for concurrent reads and writes.  Keys are held in a {@link ConcurrentHashMap}, so threads
+ * working on different keys never contend, and each key's values are held in a synchronized collection which is also
+ * the lock for every update to that key.
+ * <p>
+ * A collection which becomes empty is removed from the map while its lock is held, and writers check that the collection
+ * they locked is still the one mapped to the key before changing it, so values are never added to a detached collection.
+ * Iterating the collection returned by {@link #get(Object)} requires synchronizing on it, as with any synchronized
+ * collection.
+ *
+ * @since 8.0
+ */
+public abstract class AbstractConcurrentMultimap<K, V, C extends MutableCollection<V>>
+        extends AbstractMutableMultimap<K, V, C>
+{
+    private final LongAdder stripedTotalSize = new LongAdder();
+
+    protected AbstractConcurrentMultimap()
+    {
+    }
+
+    protected AbstractConcurrentMultimap(MutableMap<K, C> newMap)
+    {
+        super(newMap);
+    }
+
+    /**
+     * Implementations must return a synchronized collection which uses itself as its lock.
+     */
+    @Override
+    protected abstract C createCollection();
+
+    @Override
+    protected MutableMap<K, C> createMap()
+    {
+        return ConcurrentHashMap.newMap();
+    }
+
+    @Override
+    protected MutableMap<K, C> createMapWithKeyCount(int keyCount)
+    {
+        return ConcurrentHashMap.newMap(keyCount);
+    }
+
+    @Override
+    public int size()
+    {
+        return (int) this.stripedTotalSize.sum();
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    protected void incrementTotalSize()
+    {
+        this.stripedTotalSize.increment();
+    }
+
+    @Override
+    protected void decrementTotalSize()
+    {
+        this.stripedTotalSize.decrement();
+    }
+
+    @Override
+    protected void addToTotalSize(int value)
+    {
+        this.stripedTotalSize.add(value);
+    }
+
+    @Override
+    protected void subtractFromTotalSize(int value)
+    {
+        this.stripedTotalSize.add(-value);
+    }
+
+    @Override
+    protected void clearTotalSize()
+    {
+        this.stripedTotalSize.reset();
+    }
+
+    @Override
+    public boolean put(K key, V value)
+    {
+        while (true)
+        {
+            C collection = this.map.getIfAbsentPutWith(key, this.createCollectionBlock(), this);
+            synchronized (collection)
+            {
+                if (this.map.get(key) == collection)
+                {
+                    if (collection.add(value))
+                    {
+                        this.incrementTotalSize();
+                        return true;
+                    }
+                    return false;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean putAll(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return false;
+        }
+        while (true)
+        {
+            C collection = this.map.getIfAbsentPutWith(key, this.createCollectionBlock(), this);
+            synchronized (collection)
+            {
+                if (this.map.get(key) == collection)
+                {
+                    int oldSize = collection.size();
+                    int newSize = Iterate.addAllTo(values, collection).size();
+                    this.addToTotalSize(newSize - oldSize);
+                    return newSize > oldSize;
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean remove(Object key, Object value)
+    {
+        while (true)
+        {
+            C collection = this.map.get(key);
+            if (collection == null)
+            {
+                return false;
+            }
+            synchronized (collection)
+            {
+                if (this.map.get(key) == collection)
+                {
+                    boolean changed = collection.remove(value);
+                    if (changed)
+                    {
+                        this.decrementTotalSize();
+                        if (collection.isEmpty())
+                        {
+                            this.map.remove(key, collection);
+                        }
+                    }
+                    return changed;
+                }
+            }
+        }
+    }
+
+    @Override
+    public C replaceValues(K key, Iterable<? extends V> values)
+    {
+        if (Iterate.isEmpty(values))
+        {
+            return this.removeAll(key);
+        }
+
+        C newValues = Iterate.addAllTo(values, this.createCollection());
+        this.addToTotalSize(newValues.size());
+        C oldValues = this.map.put(key, newValues);
+        return this.detach(oldValues, false);
+    }
+
+    @Override
+    public C removeAll(Object key)
+    {
+        return this.detach(this.map.remove(key), false);
+    }
+
+    @Override
+    public void clear()
+    {
+        // Clear each collection, to make previously returned collections empty.
+        for (K key : this.map.keySet())
+        {
+            this.detach(this.map.remove(key), true);
+        }
+    }
+
+    /**
+     * Accounts for a collection which has just been unmapped.  Writers which locked it before it was unmapped finish
+     * before the lock is acquired here, and writers which lock it afterwards see that it is no longer mapped.
+     */
+    private C detach(C collection, boolean clear)
+    {
+        if (collection == null)
+        {
+            return (C) this.createCollection().asUnmodifiable();
+        }
+        synchronized (collection)
+        {
+            this.subtractFromTotalSize(collection.size());
+            if (clear)
+            {
+                collection.clear();
+            }
+        }
+        return (C) collection.asUnmodifiable();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException
+    {
+        MutableList<Pair<K, MutableList<V>>> snapshot = FastList.newList(this.map.size());
+        this.map.forEachKeyValue((key, collection) -> {
+            synchronized (collection)
+            {
+                if (collection.notEmpty())
+                {
+                    snapshot.add(Tuples.pair(key, collection.toList()));
+                }
+            }
+        });
+        out.writeInt(snapshot.size());
+        for (Pair<K, MutableList<V>> each : snapshot)
+        {
+            out.writeObject(each.getOne());
+            out.writeInt(each.getTwo().size());
+            for (V value : each.getTwo())
+            {
+                out.writeObject(value);
+            }
+        }
+    }
+}
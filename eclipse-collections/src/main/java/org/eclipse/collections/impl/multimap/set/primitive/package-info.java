@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+/**
+ * This package contains multimaps with primitive values, which use a primitive hash set as the underlying store for the multiple values of a given key.
+ * <p>
+ *     This package contains the following implementations:
+ * <ul>
+ *     <li>
+ *          Object&lt;Primitive&gt;SetMultimap - a multimap from object keys to primitive values, for example {@code ObjectIntSetMultimap}.
+ *     </li>
+ *     <li>
+ *          &lt;Primitive&gt;&lt;Primitive&gt;SetMultimap - a multimap from primitive keys to primitive values, for example {@code LongLongSetMultimap}.
+ *     </li>
+ * </ul>
+ */
+package org.eclipse.collections.impl.multimap.set.primitive;
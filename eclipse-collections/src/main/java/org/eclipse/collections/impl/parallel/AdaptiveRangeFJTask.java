@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import java.io.Serializable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.list.mutable.FastList;
+
+/**
+ * A work-stealing task which runs procedures over a range of units, which may be the elements of a list or an array,
+ * the sections of a {@link BatchIterable} or the batches of a parallel iterable.
+ * <p>
+ * The range is first split in halves until each task holds at most {@code splitThreshold} units.  Each task then runs
+ * its first {@code grainSize} units and times them.  If the rest of the task is estimated to take longer than
+ * {@link #TARGET_BATCH_NANOS}, and the worker does not already have surplus tasks queued, the rest is split in halves
+ * again, and each half is timed in turn.  Cheap elements therefore stay in a few large batches, while expensive or
+ * unevenly expensive elements end up in small batches which idle workers can steal.
+ * <p>
+ * Every task creates its own procedure, and the procedures are returned in the order of the range, so they can be
+ * combined in the same way as those of the fixed size batches of {@link ParallelIterate}.  The first failure of any
+ * task stops the tasks which have not started yet, and is reported like the failure of a {@link java.util.concurrent.Future}.
+ *
+ * @since 8.0
+ */
+public final class AdaptiveRangeFJTask<PT> extends RecursiveTask<MutableList<PT>>
+{
+    public static final long TARGET_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_SURPLUS_QUEUED_TASK_COUNT = 3;
+
+    private final Function0<? extends PT> procedureFactory;
+    private final RangeProcedure<? super PT> rangeProcedure;
+    private final int from;
+    private final int to;
+    private final int splitThreshold;
+    private final int grainSize;
+    private final AtomicReference<Throwable> failure;
+
+    private AdaptiveRangeFJTask(
+            Function0<? extends PT> procedureFactory,
+            RangeProcedure<? super PT> rangeProcedure,
+            int from,
+            int to,
+            int splitThreshold,
+            int grainSize,
+            AtomicReference<Throwable> failure)
+    {
+        this.procedureFactory = procedureFactory;
+        this.rangeProcedure = rangeProcedure;
+        this.from = from;
+        this.to = to;
+        this.splitThreshold = splitThreshold;
+        this.grainSize = grainSize;
+        this.failure = failure;
+    }
+
+    /**
+     * Runs the units from 0 (inclusive) to size (exclusive) on the pool, and returns the procedures which were created
+     * in the order of the range.  When called from a worker of the same pool, the task is forked on that worker, so
+     * nested parallel iteration does not block a worker thread.
+     *
+     * @throws ExecutionException   if any task failed, with the first failure as the cause
+     * @throws InterruptedException if the calling thread was interrupted while waiting
+     */
+    public static <PT> MutableList<PT> invoke(
+            ForkJoinPool pool,
+            Function0<? extends PT> procedureFactory,
+            RangeProcedure<? super PT> rangeProcedure,
+            int size,
+            int splitThreshold,
+            int grainSize) throws InterruptedException, ExecutionException
+    {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AdaptiveRangeFJTask<PT> task = new AdaptiveRangeFJTask<>(
+                procedureFactory,
+                rangeProcedure,
+                0,
+                size,
+                Math.max(1, splitThreshold),
+                Math.max(1, grainSize),
+                failure);
+        MutableList<PT> procedures;
+        if (ForkJoinTask.getPool() == pool)
+        {
+            procedures = task.invoke();
+        }
+        else
+        {
+            try
+            {
+                procedures = pool.submit(task).get();
+            }
+            catch (InterruptedException e)
+            {
+                failure.compareAndSet(null, e);
+                throw e;
+            }
+        }
+        if (failure.get() != null)
+        {
+            throw new ExecutionException(failure.get());
+        }
+        return procedures;
+    }
+
+    @Override
+    protected MutableList<PT> compute()
+    {
+        int size = this.to - this.from;
+        if (size > this.splitThreshold)
+        {
+            return this.split(this.from);
+        }
+
+        MutableList<PT> procedures = FastList.newList();
+        if (this.failure.get() != null)
+        {
+            return procedures;
+        }
+        try
+        {
+            PT procedure = this.procedureFactory.value();
+            procedures.add(procedure);
+            int probeEnd = size > this.grainSize ? this.from + this.grainSize : this.to;
+            long start = System.nanoTime();
+            this.rangeProcedure.value(procedure, this.from, probeEnd);
+            long probeNanos = System.nanoTime() - start;
+
+            int remaining = this.to - probeEnd;
+            if (remaining > 0)
+            {
+                if (this.isWorthSplitting(probeEnd - this.from, probeNanos, remaining))
+                {
+                    procedures.addAll(this.split(probeEnd));
+                }
+                else
+                {
+                    this.rangeProcedure.value(procedure, probeEnd, this.to);
+                }
+            }
+        }
+        catch (Throwable newError)
+        {
+            this.failure.compareAndSet(null, newError);
+        }
+        return procedures;
+    }
+
+    private boolean isWorthSplitting(int probeSize, long probeNanos, int remaining)
+    {
+        if (remaining <= this.grainSize || ForkJoinTask.getSurplusQueuedTaskCount() > MAX_SURPLUS_QUEUED_TASK_COUNT)
+        {
+            return false;
+        }
+        double estimatedNanos = (double) probeNanos * (double) remaining / (double) probeSize;
+        return estimatedNanos > TARGET_BATCH_NANOS;
+    }
+
+    private MutableList<PT> split(int start)
+    {
+        int middle = start + (this.to - start) / 2;
+        AdaptiveRangeFJTask<PT> right = new AdaptiveRangeFJTask<>(
+                this.procedureFactory,
+                this.rangeProcedure,
+                middle,
+                this.to,
+                this.splitThreshold,
+                this.grainSize,
+                this.failure);
+        right.fork();
+        MutableList<PT> procedures = new AdaptiveRangeFJTask<>(
+                this.procedureFactory,
+                this.rangeProcedure,
+                start,
+                middle,
+                this.splitThreshold,
+                this.grainSize,
+                this.failure).compute();
+        procedures.addAll(right.join());
+        return procedures;
+    }
+
+    /**
+     * Runs a procedure over the units from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    public interface RangeProcedure<PT>
+            extends Serializable
+    {
+        void value(PT procedure, int from, int to);
+    }
+}
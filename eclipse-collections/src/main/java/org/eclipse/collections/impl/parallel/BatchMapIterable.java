@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.parallel;
+
+import org.eclipse.collections.api.block.procedure.Procedure2;
+
+/**
+ * A map which can iterate over its keys and values in sections, like the values of a {@link BatchIterable}.
+ *
+ * @since 8.0
+ */
+public interface BatchMapIterable<K, V> extends BatchIterable<V>
+{
+    void batchForEachKeyValue(Procedure2<? super K, ? super V> procedure, int sectionIndex, int sectionCount);
+}
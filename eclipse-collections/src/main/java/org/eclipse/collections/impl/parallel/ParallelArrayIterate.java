@@ -10,9 +10,15 @@
 
 package org.eclipse.collections.impl.parallel;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.IntIntProcedure;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 
 import static org.eclipse.collections.impl.factory.Iterables.iList;
@@ -21,9 +27,19 @@ import static org.eclipse.collections.impl.factory.Iterables.iList;
  * The ParallelArrayIterate class contains a parallel forEach algorithm that work with Java arrays.  The forEach
  * algorithm employs a batching fork and join approach approach.  All Collections that are not array based use
  * ParallelArrayIterate to parallelize, by converting themselves to an array using toArray().
+ * <p>
+ * It also contains a parallel merge sort, which sorts batches of the array concurrently and then merges neighbouring
+ * batches in rounds, each round merging its pairs of batches concurrently.
  */
 public final class ParallelArrayIterate
 {
+    /**
+     * Arrays with fewer elements than this are sorted serially by the sort methods.
+     *
+     * @since 8.0
+     */
+    public static final int MIN_PARALLEL_SORT_SIZE = 1 << 13;
+
     private ParallelArrayIterate()
     {
         throw new AssertionError("Suppress default constructor for noninstantiability");
@@ -65,6 +81,16 @@ public final class ParallelArrayIterate
                 ArrayIterate.forEach(array, procedure);
                 ParallelArrayIterate.combineSingleProcedure(combiner, procedure);
             }
+            else if (executor instanceof ForkJoinPool)
+            {
+                ParallelIterate.forEachOnForkJoinPool(
+                        (ForkJoinPool) executor,
+                        procedureFactory::create,
+                        combiner,
+                        (procedure, from, to) -> ArrayIterate.forEach(array, from, to - 1, procedure),
+                        size,
+                        taskCount);
+            }
             else
             {
                 int threadCount = Math.min(size, taskCount);
@@ -84,4 +110,89 @@ public final class ParallelArrayIterate
             combiner.combineAll(iList(procedure));
         }
     }
+
+    /**
+     * Sorts the first {@code size} elements of the array in parallel on the executor.  The sort is stable, and a
+     * {@code null} comparator sorts by natural order, as with {@link Arrays#sort(Object[], int, int, Comparator)}.
+     *
+     * @since 8.0
+     */
+    public static <T> void sort(T[] array, int size, Comparator<? super T> comparator, Executor executor)
+    {
+        Comparator<? super T> sortComparator = comparator == null ? Comparators.naturalOrder() : comparator;
+        if (size < MIN_PARALLEL_SORT_SIZE)
+        {
+            Arrays.sort(array, 0, size, sortComparator);
+            return;
+        }
+        T[] buffer = (T[]) new Object[size];
+        ParallelArrayIterate.sortInBatches(
+                size,
+                (from, to) -> Arrays.sort(array, from, to, sortComparator),
+                (from, middle, to) -> ParallelArrayIterate.merge(array, buffer, from, middle, to, sortComparator),
+                executor);
+    }
+
+    /**
+     * Sorts the range from 0 (inclusive) to size (exclusive) in parallel on the executor.  The range is divided into
+     * batches which are each sorted by the sortProcedure, after which neighbouring sorted ranges are merged by the
+     * mergeProcedure until one range remains.  Sorts and merges which run concurrently never overlap.  This lets
+     * containers which do not expose an object array, such as the primitive lists, share the same scheduling.
+     *
+     * @since 8.0
+     */
+    public static void sortInBatches(int size, IntIntProcedure sortProcedure, MergeProcedure mergeProcedure, Executor executor)
+    {
+        int batchCount = Math.max(1, Math.min(ParallelIterate.getDefaultTaskCount(), size / MIN_PARALLEL_SORT_SIZE));
+        int[] bounds = new int[batchCount + 1];
+        for (int i = 0; i <= batchCount; i++)
+        {
+            bounds[i] = (int) ((long) size * i / batchCount);
+        }
+        ParallelIterate.forEach(
+                Interval.zeroTo(batchCount - 1),
+                each -> sortProcedure.value(bounds[each], bounds[each + 1]),
+                2,
+                batchCount,
+                executor);
+        for (int width = 1; width < batchCount; width *= 2)
+        {
+            int runWidth = width;
+            Interval merges = Interval.fromToBy(0, batchCount - 1 - width, 2 * width);
+            ParallelIterate.forEach(
+                    merges,
+                    each -> mergeProcedure.value(bounds[each], bounds[each + runWidth], bounds[Math.min(each + 2 * runWidth, batchCount)]),
+                    2,
+                    merges.size(),
+                    executor);
+        }
+    }
+
+    private static <T> void merge(T[] array, T[] buffer, int from, int middle, int to, Comparator<? super T> comparator)
+    {
+        if (comparator.compare(array[middle - 1], array[middle]) <= 0)
+        {
+            return;
+        }
+        System.arraycopy(array, from, buffer, from, middle - from);
+        int left = from;
+        int right = middle;
+        int index = from;
+        while (left < middle && right < to)
+        {
+            array[index++] = comparator.compare(array[right], buffer[left]) < 0 ? array[right++] : buffer[left++];
+        }
+        System.arraycopy(buffer, left, array, index, middle - left);
+    }
+
+    /**
+     * Merges the sorted ranges from {@code from} (inclusive) to {@code middle} (exclusive) and from {@code middle}
+     * (inclusive) to {@code to} (exclusive) into one sorted range.
+     *
+     * @since 8.0
+     */
+    public interface MergeProcedure
+    {
+        void value(int from, int middle, int to);
+    }
 }
@@ -15,8 +15,10 @@ import java.math.BigInteger;
 import java.util.Collection;
 import java.util.List;
 import java.util.RandomAccess;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -33,6 +35,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.map.primitive.ObjectDoubleMap;
 import org.eclipse.collections.api.map.primitive.ObjectLongMap;
@@ -51,6 +54,7 @@ import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
 import org.eclipse.collections.impl.multimap.list.SynchronizedPutFastListMultimap;
 import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
 import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.ListIterate;
 
 import static org.eclipse.collections.impl.factory.Iterables.iList;
 
@@ -61,6 +65,12 @@ import static org.eclipse.collections.impl.factory.Iterables.iList;
  * <p>
  * All Collections that are not either a {@link RandomAccess} or {@link List} are first converted to a Java array
  * using {@link Iterate#toArray(Iterable)}, and then run with one of the {@code ParallelArrayIterate.forEach} methods.
+ * <p>
+ * When the executor is a {@link ForkJoinPool}, the batches are not fixed in size.  They are split recursively based
+ * on how long their first elements took, and are balanced across the pool by work-stealing, see
+ * {@link AdaptiveRangeFJTask}.  Setting the system property
+ * {@code org.eclipse.collections.impl.parallel.ParallelIterate.useCommonForkJoinPool} to true makes
+ * {@link ForkJoinPool#commonPool()} the default executor, instead of a fixed size pool owned by ParallelIterate.
  *
  * @see ParallelArrayIterate
  */
@@ -70,13 +80,24 @@ public final class ParallelIterate
     static final int AVAILABLE_PROCESSORS = Runtime.getRuntime().availableProcessors();
     static final int TASK_RATIO = 2;
     static final int DEFAULT_PARALLEL_TASK_COUNT = ParallelIterate.getDefaultTaskCount();
-    static final ExecutorService EXECUTOR_SERVICE = ParallelIterate.newPooledExecutor(ParallelIterate.class.getSimpleName(), true);
+    static final int ADAPTIVE_GRAIN_RATIO = 8;
+    static final String USE_COMMON_FORK_JOIN_POOL_PROPERTY = ParallelIterate.class.getName() + ".useCommonForkJoinPool";
+    static final ExecutorService EXECUTOR_SERVICE = ParallelIterate.newDefaultExecutor();
 
     private ParallelIterate()
     {
         throw new AssertionError("Suppress default constructor for noninstantiability");
     }
 
+    private static ExecutorService newDefaultExecutor()
+    {
+        if (Boolean.getBoolean(ParallelIterate.USE_COMMON_FORK_JOIN_POOL_PROPERTY))
+        {
+            return ForkJoinPool.commonPool();
+        }
+        return ParallelIterate.newPooledExecutor(ParallelIterate.class.getSimpleName(), true);
+    }
+
     static boolean isExecutorShutdown()
     {
         return ParallelIterate.EXECUTOR_SERVICE.isShutdown();
@@ -246,6 +267,16 @@ public final class ParallelIterate
                 combiner.combineAll(iList(procedure));
             }
         }
+        else if (executor instanceof ForkJoinPool)
+        {
+            ParallelIterate.forEachOnForkJoinPool(
+                    (ForkJoinPool) executor,
+                    procedureFactory::create,
+                    combiner,
+                    (procedure, from, to) -> ListIterate.forEachWithIndex(list, from, to - 1, procedure),
+                    size,
+                    taskCount);
+        }
         else
         {
             int threadCount = Math.min(size, taskCount);
@@ -492,6 +523,16 @@ public final class ParallelIterate
                 combiner.combineAll(iList(procedure));
             }
         }
+        else if (executor instanceof ForkJoinPool)
+        {
+            ParallelIterate.forEachOnForkJoinPool(
+                    (ForkJoinPool) executor,
+                    procedureFactory::create,
+                    combiner,
+                    (procedure, from, to) -> ListIterate.forEach(list, from, to - 1, procedure),
+                    size,
+                    taskCount);
+        }
         else
         {
             int threadCount = Math.min(size, taskCount);
@@ -523,6 +564,22 @@ public final class ParallelIterate
                 combiner.combineAll(iList(procedure));
             }
         }
+        else if (executor instanceof ForkJoinPool)
+        {
+            int sectionCount = set.getBatchCount((int) Math.ceil((double) size / (double) (taskCount * ParallelIterate.ADAPTIVE_GRAIN_RATIO)));
+            ParallelIterate.forEachOnForkJoinPool(
+                    (ForkJoinPool) executor,
+                    procedureFactory::create,
+                    combiner,
+                    (procedure, from, to) -> {
+                        for (int sectionIndex = from; sectionIndex < to; sectionIndex++)
+                        {
+                            set.batchForEach(procedure, sectionIndex, sectionCount);
+                        }
+                    },
+                    sectionCount,
+                    taskCount);
+        }
         else
         {
             int threadCount = Math.min(size, Math.min(taskCount, set.getBatchCount((int) Math.ceil((double) size / (double) taskCount))));
@@ -532,6 +589,51 @@ public final class ParallelIterate
         }
     }
 
+    /**
+     * Runs {@code size} units as adaptive batches on the pool, starting with about {@code taskCount} batches, and
+     * combines the procedures of the batches in order.
+     */
+    static <BT> void forEachOnForkJoinPool(
+            ForkJoinPool pool,
+            Function0<? extends BT> procedureFactory,
+            Combiner<BT> combiner,
+            AdaptiveRangeFJTask.RangeProcedure<? super BT> rangeProcedure,
+            int size,
+            int taskCount)
+    {
+        int splitThreshold = (int) Math.ceil((double) size / (double) Math.max(1, taskCount));
+        MutableList<BT> procedures;
+        try
+        {
+            procedures = AdaptiveRangeFJTask.invoke(
+                    pool,
+                    procedureFactory,
+                    rangeProcedure,
+                    size,
+                    splitThreshold,
+                    splitThreshold / ParallelIterate.ADAPTIVE_GRAIN_RATIO);
+        }
+        catch (InterruptedException e)
+        {
+            throw new RuntimeException("Combine failed", e);
+        }
+        catch (ExecutionException e)
+        {
+            throw new RuntimeException("One or more parallel tasks failed", e.getCause());
+        }
+        if (combiner.useCombineOne())
+        {
+            for (BT procedure : procedures)
+            {
+                combiner.combineOne(procedure);
+            }
+        }
+        else
+        {
+            combiner.combineAll(procedures);
+        }
+    }
+
     /**
      * Same effect as {@link Iterate#select(Iterable, Predicate)}, but executed in parallel batches.
      *
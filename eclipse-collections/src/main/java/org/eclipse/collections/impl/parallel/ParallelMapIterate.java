@@ -11,7 +11,9 @@
 package org.eclipse.collections.impl.parallel;
 
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.Procedure2;
@@ -24,7 +26,8 @@ import org.eclipse.collections.impl.utility.MapIterate;
  * The forEachEtry algorithm employs a batching fork and join approach approach which does
  * not yet allow for specification of a Factory for the blocks or a Combiner for the results.
  * This means that forEachKeyValue can only support pure forking or forking with a shared
- * thread-safe data structure collecting results.
+ * thread-safe data structure collecting results.  Maps which implement {@link BatchMapIterable}, like UnifiedMap,
+ * are split directly over the sections of their hash tables; other maps are first copied into a list of pairs.
  */
 public final class ParallelMapIterate
 {
@@ -70,7 +73,11 @@ public final class ParallelMapIterate
             int minForkSize,
             int taskCount)
     {
-        if (map.size() > minForkSize)
+        if (map.size() > minForkSize && map instanceof BatchMapIterable)
+        {
+            ParallelMapIterate.forEachKeyValueInBatches((BatchMapIterable<K, V>) map, procedure, taskCount, ParallelIterate.EXECUTOR_SERVICE);
+        }
+        else if (map.size() > minForkSize)
         {
             Procedure<Pair<K, V>> pairProcedure = new PairProcedure<>(procedure);
             ParallelIterate.forEach(MapIterate.toListOfPairs(map), new PassThruProcedureFactory<>(pairProcedure), new PassThruCombiner<>(), minForkSize, taskCount);
@@ -94,7 +101,11 @@ public final class ParallelMapIterate
             int taskCount,
             Executor executor)
     {
-        if (map.size() > minForkSize)
+        if (map.size() > minForkSize && map instanceof BatchMapIterable)
+        {
+            ParallelMapIterate.forEachKeyValueInBatches((BatchMapIterable<K, V>) map, procedure, taskCount, executor);
+        }
+        else if (map.size() > minForkSize)
         {
             Procedure<Pair<K, V>> pairProcedure = new PairProcedure<>(procedure);
             ParallelIterate.forEachInListOnExecutor(
@@ -111,6 +122,51 @@ public final class ParallelMapIterate
         }
     }
 
+    /**
+     * Iterates over the sections of the hash table of the map directly, so no Pair is created for each entry.
+     */
+    private static <K, V> void forEachKeyValueInBatches(
+            BatchMapIterable<K, V> map,
+            Procedure2<? super K, ? super V> procedure,
+            int taskCount,
+            Executor executor)
+    {
+        int size = map.size();
+        int sectionCount = Math.min(size, Math.min(taskCount, map.getBatchCount((int) Math.ceil((double) size / (double) taskCount))));
+        CountDownLatch latch = new CountDownLatch(sectionCount);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        for (int sectionIndex = 0; sectionIndex < sectionCount; sectionIndex++)
+        {
+            int index = sectionIndex;
+            executor.execute(() -> {
+                try
+                {
+                    map.batchForEachKeyValue(procedure, index, sectionCount);
+                }
+                catch (Throwable newError)
+                {
+                    error.compareAndSet(null, newError);
+                }
+                finally
+                {
+                    latch.countDown();
+                }
+            });
+        }
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            throw new RuntimeException("Combine failed", e);
+        }
+        if (error.get() != null)
+        {
+            throw new RuntimeException("One or more parallel tasks failed", error.get());
+        }
+    }
+
     private static final class PairProcedure<T1, T2> implements Procedure<Pair<T1, T2>>
     {
         private static final long serialVersionUID = 1L;
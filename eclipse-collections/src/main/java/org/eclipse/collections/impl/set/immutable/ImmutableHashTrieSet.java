@@ -0,0 +1,615 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.factory.Sets;
+
+/**
+ * An ImmutableHashTrieSet is a compressed hash-array mapped prefix trie (CHAMP). Each node consumes five bits of the
+ * spread hash code and records in two bitmaps which of its 32 slots hold an inline element and which hold a child
+ * node, storing only the occupied slots in a compact array. newWith and newWithout copy the nodes on the path to the
+ * element, at most seven, and share every other node with the original set.
+ *
+ * @since 8.0
+ */
+@Immutable
+final class ImmutableHashTrieSet<T>
+        extends AbstractImmutableSet<T>
+        implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int HASH_CODE_LENGTH = 32;
+    private static final int MAX_DEPTH = (HASH_CODE_LENGTH + BITS_PER_LEVEL - 1) / BITS_PER_LEVEL;
+    private static final BitmapNode<?> EMPTY_NODE = new BitmapNode<>(0, 0, new Object[0]);
+
+    private final Node<T> root;
+    private final int size;
+
+    private ImmutableHashTrieSet(Node<T> root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static <T> ImmutableHashTrieSet<T> newSetWith(T... elements)
+    {
+        Node<T> root = (Node<T>) EMPTY_NODE;
+        Counter sizeChange = new Counter();
+        for (T element : elements)
+        {
+            root = root.add(element, ImmutableHashTrieSet.hash(element), 0, sizeChange);
+        }
+        return new ImmutableHashTrieSet<>(root, sizeChange.getCount());
+    }
+
+    private static int hash(Object element)
+    {
+        int h = element == null ? 0 : element.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitpos(int hash, int shift)
+    {
+        return 1 << ((hash >>> shift) & 31);
+    }
+
+    private ImmutableSet<T> withRoot(Node<T> newRoot, int newSize)
+    {
+        if (newRoot == this.root)
+        {
+            return this;
+        }
+        if (newSize == 0)
+        {
+            return Sets.immutable.empty();
+        }
+        return new ImmutableHashTrieSet<>(newRoot, newSize);
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(Object object)
+    {
+        return this.root.contains(object, ImmutableHashTrieSet.hash(object), 0);
+    }
+
+    @Override
+    public ImmutableSet<T> newWith(T element)
+    {
+        Counter sizeChange = new Counter(this.size);
+        Node<T> newRoot = this.root.add(element, ImmutableHashTrieSet.hash(element), 0, sizeChange);
+        return this.withRoot(newRoot, sizeChange.getCount());
+    }
+
+    @Override
+    public ImmutableSet<T> newWithout(T element)
+    {
+        Counter sizeChange = new Counter(this.size);
+        Node<T> newRoot = this.root.remove(element, ImmutableHashTrieSet.hash(element), 0, sizeChange);
+        return this.withRoot(newRoot, sizeChange.getCount());
+    }
+
+    @Override
+    public ImmutableSet<T> newWithAll(Iterable<? extends T> elements)
+    {
+        Counter sizeChange = new Counter(this.size);
+        Node<T> newRoot = this.root;
+        for (T element : elements)
+        {
+            newRoot = newRoot.add(element, ImmutableHashTrieSet.hash(element), 0, sizeChange);
+        }
+        return this.withRoot(newRoot, sizeChange.getCount());
+    }
+
+    @Override
+    public ImmutableSet<T> newWithoutAll(Iterable<? extends T> elements)
+    {
+        Counter sizeChange = new Counter(this.size);
+        Node<T> newRoot = this.root;
+        for (T element : elements)
+        {
+            newRoot = newRoot.remove(element, ImmutableHashTrieSet.hash(element), 0, sizeChange);
+        }
+        return this.withRoot(newRoot, sizeChange.getCount());
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.root.forEach(procedure);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new NodeIterator<>(this.root);
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.isEmpty() ? null : this.iterator().next();
+    }
+
+    @Override
+    public T getLast()
+    {
+        Node<T> node = this.root;
+        while (node.nodeArity() > 0)
+        {
+            node = node.getNode(node.nodeArity() - 1);
+        }
+        return node.payloadArity() == 0 ? null : node.getElement(node.payloadArity() - 1);
+    }
+
+    @Override
+    public boolean equals(Object object)
+    {
+        if (this == object)
+        {
+            return true;
+        }
+        if (!(object instanceof Set))
+        {
+            return false;
+        }
+        Set<?> other = (Set<?>) object;
+        return this.size == other.size() && this.containsAllIn(this.root, other);
+    }
+
+    private boolean containsAllIn(Node<T> node, Set<?> other)
+    {
+        for (int i = 0; i < node.payloadArity(); i++)
+        {
+            if (!other.contains(node.getElement(i)))
+            {
+                return false;
+            }
+        }
+        for (int i = 0; i < node.nodeArity(); i++)
+        {
+            if (!this.containsAllIn(node.getNode(i), other))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return this.hashCode(this.root);
+    }
+
+    private int hashCode(Node<T> node)
+    {
+        int hashCode = 0;
+        for (int i = 0; i < node.payloadArity(); i++)
+        {
+            hashCode += this.nullSafeHashCode(node.getElement(i));
+        }
+        for (int i = 0; i < node.nodeArity(); i++)
+        {
+            hashCode += this.hashCode(node.getNode(i));
+        }
+        return hashCode;
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableSetSerializationProxy<>(this);
+    }
+
+    private abstract static class Node<T>
+    {
+        abstract boolean contains(Object element, int hash, int shift);
+
+        abstract Node<T> add(T element, int hash, int shift, Counter sizeChange);
+
+        abstract Node<T> remove(Object element, int hash, int shift, Counter sizeChange);
+
+        abstract int payloadArity();
+
+        abstract int nodeArity();
+
+        abstract T getElement(int index);
+
+        abstract Node<T> getNode(int index);
+
+        boolean hasSingleElement()
+        {
+            return this.nodeArity() == 0 && this.payloadArity() == 1;
+        }
+
+        void forEach(Procedure<? super T> procedure)
+        {
+            for (int i = 0; i < this.payloadArity(); i++)
+            {
+                procedure.value(this.getElement(i));
+            }
+            for (int i = 0; i < this.nodeArity(); i++)
+            {
+                this.getNode(i).forEach(procedure);
+            }
+        }
+    }
+
+    /**
+     * A node whose content holds the inline elements, in slot order, followed by the child nodes, in slot order.
+     */
+    private static final class BitmapNode<T> extends Node<T>
+    {
+        private final int dataMap;
+        private final int nodeMap;
+        private final Object[] content;
+
+        private BitmapNode(int dataMap, int nodeMap, Object[] content)
+        {
+            this.dataMap = dataMap;
+            this.nodeMap = nodeMap;
+            this.content = content;
+        }
+
+        private static <T> Node<T> mergeTwoElements(T element0, int hash0, T element1, int hash1, int shift)
+        {
+            if (shift >= HASH_CODE_LENGTH)
+            {
+                return new CollisionNode<>(new Object[]{element0, element1});
+            }
+            int bit0 = ImmutableHashTrieSet.bitpos(hash0, shift);
+            int bit1 = ImmutableHashTrieSet.bitpos(hash1, shift);
+            if (bit0 == bit1)
+            {
+                Node<T> node = BitmapNode.mergeTwoElements(element0, hash0, element1, hash1, shift + BITS_PER_LEVEL);
+                return new BitmapNode<>(0, bit0, new Object[]{node});
+            }
+            if (Integer.compareUnsigned(bit0, bit1) < 0)
+            {
+                return new BitmapNode<>(bit0 | bit1, 0, new Object[]{element0, element1});
+            }
+            return new BitmapNode<>(bit0 | bit1, 0, new Object[]{element1, element0});
+        }
+
+        private int dataIndex(int bit)
+        {
+            return Integer.bitCount(this.dataMap & (bit - 1));
+        }
+
+        private int nodeOffset(int bit)
+        {
+            return Integer.bitCount(this.dataMap) + Integer.bitCount(this.nodeMap & (bit - 1));
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return Integer.bitCount(this.dataMap);
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return Integer.bitCount(this.nodeMap);
+        }
+
+        @Override
+        T getElement(int index)
+        {
+            return (T) this.content[index];
+        }
+
+        @Override
+        Node<T> getNode(int index)
+        {
+            return (Node<T>) this.content[this.payloadArity() + index];
+        }
+
+        @Override
+        boolean contains(Object element, int hash, int shift)
+        {
+            int bit = ImmutableHashTrieSet.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                return Comparators.nullSafeEquals(this.content[this.dataIndex(bit)], element);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                return ((Node<T>) this.content[this.nodeOffset(bit)]).contains(element, hash, shift + BITS_PER_LEVEL);
+            }
+            return false;
+        }
+
+        @Override
+        Node<T> add(T element, int hash, int shift, Counter sizeChange)
+        {
+            int bit = ImmutableHashTrieSet.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                T current = this.getElement(this.dataIndex(bit));
+                if (Comparators.nullSafeEquals(current, element))
+                {
+                    return this;
+                }
+                Node<T> node = BitmapNode.mergeTwoElements(
+                        current, ImmutableHashTrieSet.hash(current),
+                        element, hash,
+                        shift + BITS_PER_LEVEL);
+                sizeChange.increment();
+                return this.copyAndMigrateFromInlineToNode(bit, node);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int offset = this.nodeOffset(bit);
+                Node<T> node = (Node<T>) this.content[offset];
+                Node<T> newNode = node.add(element, hash, shift + BITS_PER_LEVEL, sizeChange);
+                return newNode == node ? this : this.copyAndSetNode(offset, newNode);
+            }
+            sizeChange.increment();
+            return this.copyAndInsertElement(bit, element);
+        }
+
+        @Override
+        Node<T> remove(Object element, int hash, int shift, Counter sizeChange)
+        {
+            int bit = ImmutableHashTrieSet.bitpos(hash, shift);
+            if ((this.dataMap & bit) != 0)
+            {
+                if (!Comparators.nullSafeEquals(this.content[this.dataIndex(bit)], element))
+                {
+                    return this;
+                }
+                sizeChange.decrement();
+                return this.copyAndRemoveElement(bit);
+            }
+            if ((this.nodeMap & bit) != 0)
+            {
+                int offset = this.nodeOffset(bit);
+                Node<T> node = (Node<T>) this.content[offset];
+                Node<T> newNode = node.remove(element, hash, shift + BITS_PER_LEVEL, sizeChange);
+                if (newNode == node)
+                {
+                    return this;
+                }
+                if (newNode.hasSingleElement())
+                {
+                    return this.copyAndMigrateFromNodeToInline(bit, newNode.getElement(0));
+                }
+                return this.copyAndSetNode(offset, newNode);
+            }
+            return this;
+        }
+
+        private Node<T> copyAndSetNode(int offset, Node<T> node)
+        {
+            Object[] newContent = this.content.clone();
+            newContent[offset] = node;
+            return new BitmapNode<>(this.dataMap, this.nodeMap, newContent);
+        }
+
+        private Node<T> copyAndInsertElement(int bit, T element)
+        {
+            int index = this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            newContent[index] = element;
+            System.arraycopy(this.content, index, newContent, index + 1, this.content.length - index);
+            return new BitmapNode<>(this.dataMap | bit, this.nodeMap, newContent);
+        }
+
+        private Node<T> copyAndRemoveElement(int bit)
+        {
+            int index = this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 1, newContent, index, this.content.length - index - 1);
+            return new BitmapNode<>(this.dataMap ^ bit, this.nodeMap, newContent);
+        }
+
+        private Node<T> copyAndMigrateFromInlineToNode(int bit, Node<T> node)
+        {
+            int oldIndex = this.dataIndex(bit);
+            int newOffset = this.nodeOffset(bit) - 1;
+            Object[] newContent = new Object[this.content.length];
+            System.arraycopy(this.content, 0, newContent, 0, oldIndex);
+            System.arraycopy(this.content, oldIndex + 1, newContent, oldIndex, newOffset - oldIndex);
+            newContent[newOffset] = node;
+            System.arraycopy(this.content, newOffset + 1, newContent, newOffset + 1, this.content.length - newOffset - 1);
+            return new BitmapNode<>(this.dataMap ^ bit, this.nodeMap | bit, newContent);
+        }
+
+        private Node<T> copyAndMigrateFromNodeToInline(int bit, T element)
+        {
+            int oldOffset = this.nodeOffset(bit);
+            int newIndex = this.dataIndex(bit);
+            Object[] newContent = new Object[this.content.length];
+            System.arraycopy(this.content, 0, newContent, 0, newIndex);
+            newContent[newIndex] = element;
+            System.arraycopy(this.content, newIndex, newContent, newIndex + 1, oldOffset - newIndex);
+            System.arraycopy(this.content, oldOffset + 1, newContent, oldOffset + 1, this.content.length - oldOffset - 1);
+            return new BitmapNode<>(this.dataMap | bit, this.nodeMap ^ bit, newContent);
+        }
+    }
+
+    /**
+     * A leaf below the last level of the trie holding elements whose spread hash codes are all equal.
+     */
+    private static final class CollisionNode<T> extends Node<T>
+    {
+        private final Object[] content;
+
+        private CollisionNode(Object[] content)
+        {
+            this.content = content;
+        }
+
+        private int indexOf(Object element)
+        {
+            for (int i = 0; i < this.content.length; i++)
+            {
+                if (Comparators.nullSafeEquals(this.content[i], element))
+                {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        int payloadArity()
+        {
+            return this.content.length;
+        }
+
+        @Override
+        int nodeArity()
+        {
+            return 0;
+        }
+
+        @Override
+        T getElement(int index)
+        {
+            return (T) this.content[index];
+        }
+
+        @Override
+        Node<T> getNode(int index)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: 0");
+        }
+
+        @Override
+        boolean contains(Object element, int hash, int shift)
+        {
+            return this.indexOf(element) >= 0;
+        }
+
+        @Override
+        Node<T> add(T element, int hash, int shift, Counter sizeChange)
+        {
+            if (this.indexOf(element) >= 0)
+            {
+                return this;
+            }
+            Object[] newContent = new Object[this.content.length + 1];
+            System.arraycopy(this.content, 0, newContent, 0, this.content.length);
+            newContent[this.content.length] = element;
+            sizeChange.increment();
+            return new CollisionNode<>(newContent);
+        }
+
+        @Override
+        Node<T> remove(Object element, int hash, int shift, Counter sizeChange)
+        {
+            int index = this.indexOf(element);
+            if (index < 0)
+            {
+                return this;
+            }
+            Object[] newContent = new Object[this.content.length - 1];
+            System.arraycopy(this.content, 0, newContent, 0, index);
+            System.arraycopy(this.content, index + 1, newContent, index, this.content.length - index - 1);
+            sizeChange.decrement();
+            return new CollisionNode<>(newContent);
+        }
+    }
+
+    private static final class NodeIterator<T> implements Iterator<T>
+    {
+        private final Node<T>[] nodes = new Node[MAX_DEPTH];
+        private final int[] cursors = new int[MAX_DEPTH];
+        private int depth = -1;
+        private Node<T> current;
+        private int currentIndex;
+
+        private NodeIterator(Node<T> root)
+        {
+            this.current = root;
+            this.push(root);
+        }
+
+        private void push(Node<T> node)
+        {
+            if (node.nodeArity() > 0)
+            {
+                this.depth++;
+                this.nodes[this.depth] = node;
+                this.cursors[this.depth] = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            while (this.currentIndex >= this.current.payloadArity())
+            {
+                if (!this.advance())
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean advance()
+        {
+            while (this.depth >= 0)
+            {
+                Node<T> node = this.nodes[this.depth];
+                if (this.cursors[this.depth] < node.nodeArity())
+                {
+                    Node<T> child = node.getNode(this.cursors[this.depth]++);
+                    this.push(child);
+                    this.current = child;
+                    this.currentIndex = 0;
+                    return true;
+                }
+                this.nodes[this.depth] = null;
+                this.depth--;
+            }
+            return false;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            return this.current.getElement(this.currentIndex++);
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot call remove() on " + this.getClass().getSimpleName());
+        }
+    }
+}
@@ -19,6 +19,12 @@ import org.eclipse.collections.impl.utility.Iterate;
 @Immutable
 public final class ImmutableSetFactoryImpl implements ImmutableSetFactory
 {
+    /**
+     * Sets larger than this are backed by an {@link ImmutableHashTrieSet}, for which newWith and newWithout do not copy
+     * the whole set. Smaller sets use a UnifiedSet, which is more compact and faster to read.
+     */
+    static final int HASH_TRIE_THRESHOLD = 32;
+
     @Override
     public <T> ImmutableSet<T> empty()
     {
@@ -150,6 +156,10 @@ public final class ImmutableSetFactoryImpl implements ImmutableSetFactory
             case 4:
                 return this.of(items[0], items[1], items[2], items[3]);
             default:
+                if (items.length > HASH_TRIE_THRESHOLD)
+                {
+                    return ImmutableHashTrieSet.newSetWith(items);
+                }
                 return ImmutableUnifiedSet.newSetWith(items);
         }
     }
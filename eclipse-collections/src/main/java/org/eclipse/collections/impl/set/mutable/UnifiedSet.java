@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.RandomAccess;
 import java.util.Set;
+import java.util.Spliterator;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
 import net.jcip.annotations.NotThreadSafe;
 import org.eclipse.collections.api.LazyIterable;
@@ -1568,6 +1570,12 @@ public class UnifiedSet<T>
         return new PositionalIterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator()
+    {
+        return new UnifiedSetSpliterator(this.table, 0, this.table.length, this.occupied, Spliterator.SIZED | Spliterator.DISTINCT);
+    }
+
     protected class PositionalIterator implements Iterator<T>
     {
         protected int count;
@@ -1668,6 +1676,109 @@ public class UnifiedSet<T>
         }
     }
 
+    /**
+     * Splits by table index range, so a split never copies elements. Only the root spliterator reports an exact
+     * size, since the number of elements in a range of the table is not known without walking it.
+     */
+    private final class UnifiedSetSpliterator implements Spliterator<T>
+    {
+        private final Object[] table;
+        private int index;
+        private int fence;
+        private int chainPosition;
+        private long estimatedSize;
+        private int characteristics;
+
+        private UnifiedSetSpliterator(Object[] table, int index, int fence, long estimatedSize, int characteristics)
+        {
+            this.table = table;
+            this.index = index;
+            this.fence = fence;
+            this.estimatedSize = estimatedSize;
+            this.characteristics = characteristics;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            while (this.index < this.fence)
+            {
+                Object cur = this.table[this.index];
+                if (cur instanceof ChainedBucket)
+                {
+                    ChainedBucket bucket = (ChainedBucket) cur;
+                    Object each = bucket.get(this.chainPosition);
+                    this.chainPosition++;
+                    if (bucket.get(this.chainPosition) == null)
+                    {
+                        this.chainPosition = 0;
+                        this.index++;
+                    }
+                    action.accept(UnifiedSet.this.nonSentinel(each));
+                    return true;
+                }
+                this.index++;
+                if (cur != null)
+                {
+                    action.accept(UnifiedSet.this.nonSentinel(cur));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            while (this.chainPosition != 0)
+            {
+                this.tryAdvance(action);
+            }
+            Procedure<? super T> procedure = action::accept;
+            for (int i = this.index; i < this.fence; i++)
+            {
+                Object cur = this.table[i];
+                if (cur instanceof ChainedBucket)
+                {
+                    UnifiedSet.this.chainedForEach((ChainedBucket) cur, procedure);
+                }
+                else if (cur != null)
+                {
+                    action.accept(UnifiedSet.this.nonSentinel(cur));
+                }
+            }
+            this.index = this.fence;
+        }
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            int low = this.chainPosition == 0 ? this.index : this.index + 1;
+            int mid = (low + this.fence) >>> 1;
+            if (low >= mid)
+            {
+                return null;
+            }
+            this.estimatedSize >>>= 1;
+            this.characteristics &= ~Spliterator.SIZED;
+            UnifiedSetSpliterator suffix = new UnifiedSetSpliterator(this.table, mid, this.fence, this.estimatedSize, this.characteristics);
+            this.fence = mid;
+            return suffix;
+        }
+
+        @Override
+        public long estimateSize()
+        {
+            return this.estimatedSize;
+        }
+
+        @Override
+        public int characteristics()
+        {
+            return this.characteristics;
+        }
+    }
+
     private static final class ChainedBucket
     {
         private Object zero;
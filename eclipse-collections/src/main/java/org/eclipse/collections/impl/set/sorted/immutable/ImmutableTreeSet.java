@@ -27,6 +27,7 @@ import org.eclipse.collections.api.block.procedure.Procedure;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
 import org.eclipse.collections.api.map.MapIterable;
 import org.eclipse.collections.api.multimap.sortedset.ImmutableSortedSetMultimap;
+import org.eclipse.collections.api.ordered.OrderStatisticIterable;
 import org.eclipse.collections.api.ordered.OrderedIterable;
 import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
 import org.eclipse.collections.api.set.sorted.MutableSortedSet;
@@ -53,7 +54,7 @@ import org.eclipse.collections.impl.utility.internal.InternalArrayIterate;
 @Immutable
 final class ImmutableTreeSet<T>
         extends AbstractImmutableSortedSet<T>
-        implements Serializable
+        implements Serializable, OrderStatisticIterable<T>
 {
     private static final long serialVersionUID = 2L;
 
@@ -501,7 +502,38 @@ final class ImmutableTreeSet<T>
     @Override
     public int indexOf(Object object)
     {
-        return ArrayIterate.indexOf(this.delegate, object);
+        int index = Arrays.binarySearch(this.delegate, (T) object, this.comparator);
+        return index < 0 ? -1 : index;
+    }
+
+    @Override
+    public int rank(T element)
+    {
+        int index = Arrays.binarySearch(this.delegate, element, this.comparator);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    @Override
+    public T select(int index)
+    {
+        if (index < 0 || index >= this.delegate.length)
+        {
+            throw new IndexOutOfBoundsException("Index: " + index + " Size: " + this.delegate.length);
+        }
+        return this.delegate[index];
+    }
+
+    @Override
+    public int countBetween(T from, T to)
+    {
+        int compare = this.comparator == null
+                ? ((Comparable<? super T>) from).compareTo(to)
+                : this.comparator.compare(from, to);
+        if (compare > 0)
+        {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+        return this.rank(to) - this.rank(from);
     }
 
     @Override
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.mutable;
+
+import java.io.Externalizable;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.SortedSet;
+
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.ordered.OrderStatisticIterable;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.block.factory.Functions;
+import org.eclipse.collections.impl.block.procedure.CollectionAddProcedure;
+import org.eclipse.collections.impl.block.procedure.SelectInstancesOfProcedure;
+import org.eclipse.collections.impl.map.sorted.mutable.BTreeSet;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.eclipse.collections.impl.utility.ListIterate;
+
+/**
+ * A MutableSortedSet backed by a {@link BTreeSet} rather than a TreeSet.  It behaves like {@link TreeSortedSet}, but
+ * keeps its elements in array-packed, linked leaves, so it is more compact and faster to iterate in order or over a
+ * range.  The branches of the tree count the elements beneath them, so positional queries such as
+ * {@link #rank(Object)}, {@link #select(int)}, {@link #indexOf(Object)} and {@link #countBetween(Object, Object)} take
+ * O(log n) instead of walking an iterator.
+ *
+ * @since 8.0
+ */
+public class BTreeSortedSet<T> extends AbstractTreeSortedSet<T, BTreeSortedSet<T>>
+        implements Externalizable, OrderStatisticIterable<T>
+{
+    private static final long serialVersionUID = 1L;
+
+    public BTreeSortedSet()
+    {
+        super(new BTreeSet<>());
+    }
+
+    public BTreeSortedSet(Iterable<? extends T> iterable)
+    {
+        this();
+        this.addAllIterable(iterable);
+    }
+
+    public BTreeSortedSet(Comparator<? super T> comparator)
+    {
+        super(new BTreeSet<>(comparator));
+    }
+
+    public BTreeSortedSet(SortedSet<T> set)
+    {
+        super(new BTreeSet<>(set));
+    }
+
+    public BTreeSortedSet(Comparator<? super T> comparator, Iterable<? extends T> iterable)
+    {
+        this(comparator);
+        this.addAllIterable(iterable);
+    }
+
+    public static <T> BTreeSortedSet<T> newSet()
+    {
+        return new BTreeSortedSet<>();
+    }
+
+    public static <T> BTreeSortedSet<T> newSet(Comparator<? super T> comparator)
+    {
+        return new BTreeSortedSet<>(comparator);
+    }
+
+    public static <T> BTreeSortedSet<T> newSet(Iterable<? extends T> source)
+    {
+        if (source instanceof SortedSet<?>)
+        {
+            return new BTreeSortedSet<>((SortedSet<T>) source);
+        }
+        BTreeSortedSet<T> sortedSet = BTreeSortedSet.newSet();
+        Iterate.forEach(source, CollectionAddProcedure.on(sortedSet));
+        return sortedSet;
+    }
+
+    public static <T> BTreeSortedSet<T> newSet(Comparator<? super T> comparator, Iterable<? extends T> iterable)
+    {
+        return new BTreeSortedSet<>(comparator, iterable);
+    }
+
+    public static <T> BTreeSortedSet<T> newSetWith(T... elements)
+    {
+        return new BTreeSortedSet<T>().with(elements);
+    }
+
+    public static <T> BTreeSortedSet<T> newSetWith(Comparator<? super T> comparator, T... elements)
+    {
+        return new BTreeSortedSet<T>(comparator).with(elements);
+    }
+
+    private BTreeSet<T> getBTreeSet()
+    {
+        return (BTreeSet<T>) this.treeSet;
+    }
+
+    @Override
+    SortedSet<T> newTreeSet(Comparator<? super T> comparator)
+    {
+        return new BTreeSet<>(comparator);
+    }
+
+    @Override
+    public BTreeSortedSet<T> newEmpty()
+    {
+        return BTreeSortedSet.newSet(this.comparator());
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        this.getBTreeSet().forEachKey(procedure);
+    }
+
+    @Override
+    public <S> BTreeSortedSet<S> selectInstancesOf(Class<S> clazz)
+    {
+        BTreeSortedSet<S> result = (BTreeSortedSet<S>) this.newEmpty();
+        this.forEach(new SelectInstancesOfProcedure<>(clazz, result));
+        return result;
+    }
+
+    @Override
+    public BTreeSortedSet<Pair<T, Integer>> zipWithIndex()
+    {
+        Comparator<? super T> comparator = this.comparator();
+        if (comparator == null)
+        {
+            BTreeSortedSet<Pair<T, Integer>> pairs = BTreeSortedSet.newSet(Comparators.byFunction(Functions.firstOfPair(), Comparators.naturalOrder()));
+            return Iterate.zipWithIndex(this, pairs);
+        }
+        return Iterate.zipWithIndex(this, BTreeSortedSet.newSet(Comparators.byFirstOfPair(comparator)));
+    }
+
+    @Override
+    public void forEach(int fromIndex, int toIndex, Procedure<? super T> procedure)
+    {
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size());
+
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
+        }
+
+        Iterator<T> iterator = this.treeSet.tailSet(this.select(fromIndex)).iterator();
+        for (int i = fromIndex; i <= toIndex; i++)
+        {
+            procedure.value(iterator.next());
+        }
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        ListIterate.rangeCheck(fromIndex, toIndex, this.size());
+
+        if (fromIndex > toIndex)
+        {
+            throw new IllegalArgumentException("fromIndex must not be greater than toIndex");
+        }
+
+        Iterator<T> iterator = this.treeSet.tailSet(this.select(fromIndex)).iterator();
+        for (int i = fromIndex; i <= toIndex; i++)
+        {
+            objectIntProcedure.value(iterator.next(), i);
+        }
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+        if (this.treeSet.contains(object))
+        {
+            return this.getBTreeSet().rank((T) object);
+        }
+        return -1;
+    }
+
+    @Override
+    public int rank(T element)
+    {
+        return this.getBTreeSet().rank(element);
+    }
+
+    @Override
+    public T select(int index)
+    {
+        return this.getBTreeSet().keyAt(index);
+    }
+
+    @Override
+    public int countBetween(T from, T to)
+    {
+        return this.treeSet.subSet(from, to).size();
+    }
+}
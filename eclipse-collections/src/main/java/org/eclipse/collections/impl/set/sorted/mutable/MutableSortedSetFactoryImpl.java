@@ -96,4 +96,16 @@ public final class MutableSortedSetFactoryImpl implements MutableSortedSetFactor
     {
         return TreeSortedSet.newSet(comparator, items);
     }
+
+    @Override
+    public <T> MutableSortedSet<T> emptyBTree()
+    {
+        return BTreeSortedSet.newSet();
+    }
+
+    @Override
+    public <T> MutableSortedSet<T> emptyBTree(Comparator<? super T> comparator)
+    {
+        return BTreeSortedSet.newSet(comparator);
+    }
 }
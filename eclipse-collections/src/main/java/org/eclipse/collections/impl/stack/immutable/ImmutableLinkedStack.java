@@ -0,0 +1,742 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stack.immutable;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.jcip.annotations.Immutable;
+import org.eclipse.collections.api.RichIterable;
+import org.eclipse.collections.api.block.function.Function;
+import org.eclipse.collections.api.block.function.Function0;
+import org.eclipse.collections.api.block.function.Function2;
+import org.eclipse.collections.api.block.function.primitive.BooleanFunction;
+import org.eclipse.collections.api.block.function.primitive.ByteFunction;
+import org.eclipse.collections.api.block.function.primitive.CharFunction;
+import org.eclipse.collections.api.block.function.primitive.DoubleFunction;
+import org.eclipse.collections.api.block.function.primitive.FloatFunction;
+import org.eclipse.collections.api.block.function.primitive.IntFunction;
+import org.eclipse.collections.api.block.function.primitive.LongFunction;
+import org.eclipse.collections.api.block.function.primitive.ObjectIntToObjectFunction;
+import org.eclipse.collections.api.block.function.primitive.ShortFunction;
+import org.eclipse.collections.api.block.predicate.Predicate;
+import org.eclipse.collections.api.block.predicate.Predicate2;
+import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.block.procedure.Procedure2;
+import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.ImmutableObjectDoubleMap;
+import org.eclipse.collections.api.map.primitive.ImmutableObjectLongMap;
+import org.eclipse.collections.api.multimap.list.ImmutableListMultimap;
+import org.eclipse.collections.api.ordered.OrderedIterable;
+import org.eclipse.collections.api.partition.stack.PartitionImmutableStack;
+import org.eclipse.collections.api.stack.ImmutableStack;
+import org.eclipse.collections.api.stack.MutableStack;
+import org.eclipse.collections.api.stack.StackIterable;
+import org.eclipse.collections.api.stack.primitive.ImmutableBooleanStack;
+import org.eclipse.collections.api.stack.primitive.ImmutableByteStack;
+import org.eclipse.collections.api.stack.primitive.ImmutableCharStack;
+import org.eclipse.collections.api.stack.primitive.ImmutableDoubleStack;
+import org.eclipse.collections.api.stack.primitive.ImmutableFloatStack;
+import org.eclipse.collections.api.stack.primitive.ImmutableIntStack;
+import org.eclipse.collections.api.stack.primitive.ImmutableLongStack;
+import org.eclipse.collections.api.stack.primitive.ImmutableShortStack;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.AbstractRichIterable;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.block.factory.Predicates;
+import org.eclipse.collections.impl.block.factory.PrimitiveFunctions;
+import org.eclipse.collections.impl.block.procedure.MutatingAggregationProcedure;
+import org.eclipse.collections.impl.block.procedure.NonMutatingAggregationProcedure;
+import org.eclipse.collections.impl.block.procedure.checked.CheckedProcedure;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.list.mutable.primitive.BooleanArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.ByteArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.CharArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.DoubleArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.FloatArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.IntArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.LongArrayList;
+import org.eclipse.collections.impl.list.mutable.primitive.ShortArrayList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectDoubleHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.ObjectLongHashMap;
+import org.eclipse.collections.impl.multimap.list.FastListMultimap;
+import org.eclipse.collections.impl.partition.stack.PartitionArrayStack;
+import org.eclipse.collections.impl.stack.mutable.ArrayStack;
+import org.eclipse.collections.impl.stack.mutable.primitive.BooleanArrayStack;
+import org.eclipse.collections.impl.stack.mutable.primitive.ByteArrayStack;
+import org.eclipse.collections.impl.stack.mutable.primitive.CharArrayStack;
+import org.eclipse.collections.impl.stack.mutable.primitive.DoubleArrayStack;
+import org.eclipse.collections.impl.stack.mutable.primitive.FloatArrayStack;
+import org.eclipse.collections.impl.stack.mutable.primitive.IntArrayStack;
+import org.eclipse.collections.impl.stack.mutable.primitive.LongArrayStack;
+import org.eclipse.collections.impl.stack.mutable.primitive.ShortArrayStack;
+import org.eclipse.collections.impl.utility.Iterate;
+
+/**
+ * A persistent ImmutableStack made of singly linked cells. Each stack holds its top element and the stack beneath it,
+ * so push, pop and peek are O(1) and every stack shares its cells with the stacks it was derived from.
+ *
+ * @since 8.0
+ */
+@Immutable
+final class ImmutableLinkedStack<T> extends AbstractRichIterable<T> implements ImmutableStack<T>, Serializable
+{
+    private static final long serialVersionUID = 1L;
+
+    private static final ImmutableLinkedStack<?> EMPTY = new ImmutableLinkedStack<>(null, null, 0);
+
+    private final T top;
+    private final ImmutableLinkedStack<T> rest;
+    private final int size;
+
+    private ImmutableLinkedStack(T top, ImmutableLinkedStack<T> rest, int size)
+    {
+        this.top = top;
+        this.rest = rest;
+        this.size = size;
+    }
+
+    public static <T> ImmutableLinkedStack<T> newStack()
+    {
+        return (ImmutableLinkedStack<T>) EMPTY;
+    }
+
+    public static <T> ImmutableLinkedStack<T> newStack(Iterable<? extends T> items)
+    {
+        ImmutableLinkedStack<T> result = ImmutableLinkedStack.newStack();
+        for (T item : items)
+        {
+            result = result.push(item);
+        }
+        return result;
+    }
+
+    public static <T> ImmutableLinkedStack<T> newStackWith(T... elements)
+    {
+        ImmutableLinkedStack<T> result = ImmutableLinkedStack.newStack();
+        for (T element : elements)
+        {
+            result = result.push(element);
+        }
+        return result;
+    }
+
+    public static <T> ImmutableLinkedStack<T> newStackFromTopToBottom(Iterable<? extends T> items)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom((T[]) Iterate.toArray(items));
+    }
+
+    public static <T> ImmutableLinkedStack<T> newStackFromTopToBottom(T... items)
+    {
+        ImmutableLinkedStack<T> result = ImmutableLinkedStack.newStack();
+        for (int i = items.length - 1; i >= 0; i--)
+        {
+            result = result.push(items[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public ImmutableLinkedStack<T> push(T item)
+    {
+        return new ImmutableLinkedStack<>(item, this, this.size + 1);
+    }
+
+    @Override
+    public ImmutableStack<T> pop()
+    {
+        this.checkEmptyStack();
+        return this.rest;
+    }
+
+    @Override
+    public ImmutableStack<T> pop(int count)
+    {
+        this.checkNegativeCount(count);
+        if (count == 0)
+        {
+            return this;
+        }
+        this.checkEmptyStack();
+        this.checkSizeLessThanCount(count);
+        return this.cellAt(count);
+    }
+
+    @Override
+    public T peek()
+    {
+        this.checkEmptyStack();
+        return this.top;
+    }
+
+    @Override
+    public ListIterable<T> peek(int count)
+    {
+        this.checkNegativeCount(count);
+        if (count == 0)
+        {
+            return FastList.newList();
+        }
+        this.checkEmptyStack();
+        this.checkSizeLessThanCount(count);
+        FastList<T> result = FastList.newList(count);
+        ImmutableLinkedStack<T> cell = this;
+        for (int i = 0; i < count; i++)
+        {
+            result.add(cell.top);
+            cell = cell.rest;
+        }
+        return result;
+    }
+
+    @Override
+    public T peekAt(int index)
+    {
+        this.checkNegativeCount(index);
+        this.checkEmptyStack();
+        if (this.size <= index)
+        {
+            throw new IllegalArgumentException("Count must be less than size: Count = " + index + " Size = " + this.size);
+        }
+        return this.cellAt(index).top;
+    }
+
+    private ImmutableLinkedStack<T> cellAt(int index)
+    {
+        ImmutableLinkedStack<T> cell = this;
+        for (int i = 0; i < index; i++)
+        {
+            cell = cell.rest;
+        }
+        return cell;
+    }
+
+    private void checkEmptyStack()
+    {
+        if (this.size == 0)
+        {
+            throw new EmptyStackException();
+        }
+    }
+
+    private void checkSizeLessThanCount(int count)
+    {
+        if (this.size < count)
+        {
+            throw new IllegalArgumentException("Count must be less than size: Count = " + count + " Size = " + this.size);
+        }
+    }
+
+    private void checkNegativeCount(int count)
+    {
+        if (count < 0)
+        {
+            throw new IllegalArgumentException("Count must be positive but was " + count);
+        }
+    }
+
+    @Override
+    public T getFirst()
+    {
+        return this.peek();
+    }
+
+    @Override
+    public T getLast()
+    {
+        throw new UnsupportedOperationException("Cannot call getLast() on " + this.getClass().getSimpleName());
+    }
+
+    @Override
+    public MutableStack<T> toStack()
+    {
+        return ArrayStack.newStackFromTopToBottom(this);
+    }
+
+    @Override
+    public ImmutableStack<T> select(Predicate<? super T> predicate)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.select(predicate, FastList.newList()));
+    }
+
+    @Override
+    public <P> ImmutableStack<T> selectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.select(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public ImmutableStack<T> reject(Predicate<? super T> predicate)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.reject(predicate, FastList.newList()));
+    }
+
+    @Override
+    public <P> ImmutableStack<T> rejectWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        return this.reject(Predicates.bind(predicate, parameter));
+    }
+
+    @Override
+    public PartitionImmutableStack<T> partition(Predicate<? super T> predicate)
+    {
+        PartitionArrayStack<T> partitionMutableStack = new PartitionArrayStack<>();
+        this.forEach(new PartitionArrayStack.PartitionProcedure<>(predicate, partitionMutableStack));
+        return partitionMutableStack.toImmutable();
+    }
+
+    @Override
+    public <P> PartitionImmutableStack<T> partitionWith(Predicate2<? super T, ? super P> predicate, P parameter)
+    {
+        PartitionArrayStack<T> partitionMutableStack = new PartitionArrayStack<>();
+        this.forEach(new PartitionArrayStack.PartitionPredicate2Procedure<>(predicate, parameter, partitionMutableStack));
+        return partitionMutableStack.toImmutable();
+    }
+
+    @Override
+    public <S> ImmutableStack<S> selectInstancesOf(Class<S> clazz)
+    {
+        FastList<S> result = FastList.newList();
+        this.forEach(each -> {
+            if (clazz.isInstance(each))
+            {
+                result.add((S) each);
+            }
+        });
+        return ImmutableLinkedStack.newStackFromTopToBottom(result);
+    }
+
+    @Override
+    public <V> ImmutableStack<V> collect(Function<? super T, ? extends V> function)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.collect(function, FastList.newList(this.size)));
+    }
+
+    @Override
+    public ImmutableBooleanStack collectBoolean(BooleanFunction<? super T> booleanFunction)
+    {
+        return BooleanArrayStack.newStackFromTopToBottom(this.collectBoolean(booleanFunction, new BooleanArrayList(this.size))).toImmutable();
+    }
+
+    @Override
+    public ImmutableByteStack collectByte(ByteFunction<? super T> byteFunction)
+    {
+        return ByteArrayStack.newStackFromTopToBottom(this.collectByte(byteFunction, new ByteArrayList(this.size))).toImmutable();
+    }
+
+    @Override
+    public ImmutableCharStack collectChar(CharFunction<? super T> charFunction)
+    {
+        return CharArrayStack.newStackFromTopToBottom(this.collectChar(charFunction, new CharArrayList(this.size))).toImmutable();
+    }
+
+    @Override
+    public ImmutableDoubleStack collectDouble(DoubleFunction<? super T> doubleFunction)
+    {
+        return DoubleArrayStack.newStackFromTopToBottom(this.collectDouble(doubleFunction, new DoubleArrayList(this.size))).toImmutable();
+    }
+
+    @Override
+    public ImmutableFloatStack collectFloat(FloatFunction<? super T> floatFunction)
+    {
+        return FloatArrayStack.newStackFromTopToBottom(this.collectFloat(floatFunction, new FloatArrayList(this.size))).toImmutable();
+    }
+
+    @Override
+    public ImmutableIntStack collectInt(IntFunction<? super T> intFunction)
+    {
+        return IntArrayStack.newStackFromTopToBottom(this.collectInt(intFunction, new IntArrayList(this.size))).toImmutable();
+    }
+
+    @Override
+    public ImmutableLongStack collectLong(LongFunction<? super T> longFunction)
+    {
+        return LongArrayStack.newStackFromTopToBottom(this.collectLong(longFunction, new LongArrayList(this.size))).toImmutable();
+    }
+
+    @Override
+    public ImmutableShortStack collectShort(ShortFunction<? super T> shortFunction)
+    {
+        return ShortArrayStack.newStackFromTopToBottom(this.collectShort(shortFunction, new ShortArrayList(this.size))).toImmutable();
+    }
+
+    @Override
+    public <P, V> ImmutableStack<V> collectWith(Function2<? super T, ? super P, ? extends V> function, P parameter)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.collectWith(function, parameter, FastList.newList(this.size)));
+    }
+
+    @Override
+    public <V> ImmutableStack<V> collectIf(Predicate<? super T> predicate, Function<? super T, ? extends V> function)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.collectIf(predicate, function, FastList.newList()));
+    }
+
+    @Override
+    public <V> ImmutableStack<V> flatCollect(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.flatCollect(function, FastList.newList()));
+    }
+
+    @Override
+    public <V> ImmutableObjectLongMap<V> sumByInt(Function<? super T, ? extends V> groupBy, IntFunction<? super T> function)
+    {
+        ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByIntFunction(groupBy, function)).toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableObjectDoubleMap<V> sumByFloat(Function<? super T, ? extends V> groupBy, FloatFunction<? super T> function)
+    {
+        ObjectDoubleHashMap<V> result = ObjectDoubleHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByFloatFunction(groupBy, function)).toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableObjectLongMap<V> sumByLong(Function<? super T, ? extends V> groupBy, LongFunction<? super T> function)
+    {
+        ObjectLongHashMap<V> result = ObjectLongHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByLongFunction(groupBy, function)).toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableObjectDoubleMap<V> sumByDouble(Function<? super T, ? extends V> groupBy, DoubleFunction<? super T> function)
+    {
+        ObjectDoubleHashMap<V> result = ObjectDoubleHashMap.newMap();
+        return this.injectInto(result, PrimitiveFunctions.sumByDoubleFunction(groupBy, function)).toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableListMultimap<V, T> groupBy(Function<? super T, ? extends V> function)
+    {
+        return this.groupBy(function, FastListMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableListMultimap<V, T> groupByEach(Function<? super T, ? extends Iterable<V>> function)
+    {
+        return this.groupByEach(function, FastListMultimap.<V, T>newMultimap()).toImmutable();
+    }
+
+    @Override
+    public <V> ImmutableMap<V, T> groupByUniqueKey(Function<? super T, ? extends V> function)
+    {
+        return this.groupByUniqueKey(function, UnifiedMap.<V, T>newMap()).toImmutable();
+    }
+
+    @Override
+    public <S> ImmutableStack<Pair<T, S>> zip(Iterable<S> that)
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.zip(that, FastList.newList()));
+    }
+
+    @Override
+    public ImmutableStack<Pair<T, Integer>> zipWithIndex()
+    {
+        return ImmutableLinkedStack.newStackFromTopToBottom(this.zipWithIndex(FastList.newList(this.size)));
+    }
+
+    @Override
+    public ImmutableStack<T> toImmutable()
+    {
+        return this;
+    }
+
+    @Override
+    public RichIterable<RichIterable<T>> chunk(int size)
+    {
+        return this.toList().chunk(size);
+    }
+
+    @Override
+    public <K, V> ImmutableMap<K, V> aggregateInPlaceBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Procedure2<? super V, ? super T> mutatingAggregator)
+    {
+        MutableMap<K, V> map = UnifiedMap.newMap();
+        this.forEach(new MutatingAggregationProcedure<>(map, groupBy, zeroValueFactory, mutatingAggregator));
+        return map.toImmutable();
+    }
+
+    @Override
+    public <K, V> ImmutableMap<K, V> aggregateBy(Function<? super T, ? extends K> groupBy, Function0<? extends V> zeroValueFactory, Function2<? super V, ? super T, ? extends V> nonMutatingAggregator)
+    {
+        MutableMap<K, V> map = UnifiedMap.newMap();
+        this.forEach(new NonMutatingAggregationProcedure<>(map, groupBy, zeroValueFactory, nonMutatingAggregator));
+        return map.toImmutable();
+    }
+
+    @Override
+    public int size()
+    {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean notEmpty()
+    {
+        return this.size != 0;
+    }
+
+    @Override
+    public ImmutableStack<T> tap(Procedure<? super T> procedure)
+    {
+        this.forEach(procedure);
+        return this;
+    }
+
+    @Override
+    public void each(Procedure<? super T> procedure)
+    {
+        for (ImmutableLinkedStack<T> cell = this; cell.size != 0; cell = cell.rest)
+        {
+            procedure.value(cell.top);
+        }
+    }
+
+    @Override
+    public ImmutableStack<T> takeWhile(Predicate<? super T> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".takeWhile() not implemented yet");
+    }
+
+    @Override
+    public ImmutableStack<T> dropWhile(Predicate<? super T> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".dropWhile() not implemented yet");
+    }
+
+    @Override
+    public PartitionImmutableStack<T> partitionWhile(Predicate<? super T> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".partitionWhile() not implemented yet");
+    }
+
+    @Override
+    public ImmutableStack<T> distinct()
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".distinct() not implemented yet");
+    }
+
+    @Override
+    public int indexOf(Object object)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".indexOf() not implemented yet");
+    }
+
+    @Override
+    public <S> boolean corresponds(OrderedIterable<S> other, Predicate2<? super T, ? super S> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".corresponds() not implemented yet");
+    }
+
+    @Override
+    public void forEach(int startIndex, int endIndex, Procedure<? super T> procedure)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEach() not implemented yet");
+    }
+
+    @Override
+    public void forEachWithIndex(int fromIndex, int toIndex, ObjectIntProcedure<? super T> objectIntProcedure)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".forEachWithIndex() not implemented yet");
+    }
+
+    @Override
+    public <V> ImmutableStack<V> collectWithIndex(ObjectIntToObjectFunction<? super T, ? extends V> function)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".collectWithIndex() not implemented yet");
+    }
+
+    @Override
+    public int detectIndex(Predicate<? super T> predicate)
+    {
+        throw new UnsupportedOperationException(this.getClass().getSimpleName() + ".detectIndex() not implemented yet");
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        return new LinkedStackIterator<>(this);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof StackIterable<?>))
+        {
+            return false;
+        }
+
+        StackIterable<?> that = (StackIterable<?>) o;
+        if (this.size != that.size())
+        {
+            return false;
+        }
+
+        if (that instanceof ImmutableLinkedStack<?>)
+        {
+            ImmutableLinkedStack<?> thisCell = this;
+            ImmutableLinkedStack<?> thatCell = (ImmutableLinkedStack<?>) that;
+            // Stacks derived from one another share their tails, so the walk can stop at the first shared cell
+            while (thisCell != thatCell)
+            {
+                if (!Comparators.nullSafeEquals(thisCell.top, thatCell.top))
+                {
+                    return false;
+                }
+                thisCell = thisCell.rest;
+                thatCell = thatCell.rest;
+            }
+            return true;
+        }
+        Iterator<T> thisIterator = this.iterator();
+        Iterator<?> thatIterator = that.iterator();
+        while (thisIterator.hasNext() && thatIterator.hasNext())
+        {
+            if (!Comparators.nullSafeEquals(thisIterator.next(), thatIterator.next()))
+            {
+                return false;
+            }
+        }
+        return !thisIterator.hasNext() && !thatIterator.hasNext();
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int hashCode = 1;
+        for (ImmutableLinkedStack<T> cell = this; cell.size != 0; cell = cell.rest)
+        {
+            T each = cell.top;
+            hashCode = 31 * hashCode + (each == null ? 0 : each.hashCode());
+        }
+        return hashCode;
+    }
+
+    private Object writeReplace()
+    {
+        return new ImmutableStackSerializationProxy<>(this);
+    }
+
+    private static final class LinkedStackIterator<T> implements Iterator<T>
+    {
+        private ImmutableLinkedStack<T> next;
+
+        private LinkedStackIterator(ImmutableLinkedStack<T> next)
+        {
+            this.next = next;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.next.size != 0;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!this.hasNext())
+            {
+                throw new NoSuchElementException();
+            }
+            T result = this.next.top;
+            this.next = this.next.rest;
+            return result;
+        }
+
+        @Override
+        public void remove()
+        {
+            throw new UnsupportedOperationException("Cannot remove from an ImmutableStack");
+        }
+    }
+
+    private static class ImmutableStackSerializationProxy<T> implements Externalizable
+    {
+        private static final long serialVersionUID = 1L;
+
+        private StackIterable<T> stack;
+
+        @SuppressWarnings("UnusedDeclaration")
+        public ImmutableStackSerializationProxy()
+        {
+            // Empty constructor for Externalizable class
+        }
+
+        protected ImmutableStackSerializationProxy(StackIterable<T> stack)
+        {
+            this.stack = stack;
+        }
+
+        @Override
+        public void writeExternal(ObjectOutput out) throws IOException
+        {
+            out.writeInt(this.stack.size());
+            try
+            {
+                this.stack.forEach(new CheckedProcedure<T>()
+                {
+                    public void safeValue(T object) throws IOException
+                    {
+                        out.writeObject(object);
+                    }
+                });
+            }
+            catch (RuntimeException e)
+            {
+                if (e.getCause() instanceof IOException)
+                {
+                    throw (IOException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        @Override
+        public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException
+        {
+            int size = in.readInt();
+            T[] deserializedElements = (T[]) new Object[size];
+
+            for (int i = 0; i < size; i++)
+            {
+                deserializedElements[i] = (T) in.readObject();
+            }
+
+            this.stack = ImmutableLinkedStack.newStackFromTopToBottom(deserializedElements);
+        }
+
+        protected Object readResolve()
+        {
+            return this.stack;
+        }
+    }
+}
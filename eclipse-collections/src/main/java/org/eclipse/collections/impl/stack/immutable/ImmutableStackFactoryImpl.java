@@ -18,7 +18,7 @@ public class ImmutableStackFactoryImpl implements ImmutableStackFactory
     @Override
     public <T> ImmutableStack<T> empty()
     {
-        return ImmutableArrayStack.newStack();
+        return ImmutableLinkedStack.newStack();
     }
 
     @Override
@@ -42,7 +42,7 @@ public class ImmutableStackFactoryImpl implements ImmutableStackFactory
     @Override
     public <T> ImmutableStack<T> with(T element)
     {
-        return ImmutableArrayStack.newStackWith(element);
+        return ImmutableLinkedStack.newStackWith(element);
     }
 
     @Override
@@ -54,7 +54,7 @@ public class ImmutableStackFactoryImpl implements ImmutableStackFactory
     @Override
     public <T> ImmutableStack<T> with(T... elements)
     {
-        return ImmutableArrayStack.newStackWith(elements);
+        return ImmutableLinkedStack.newStackWith(elements);
     }
 
     @Override
@@ -66,7 +66,7 @@ public class ImmutableStackFactoryImpl implements ImmutableStackFactory
     @Override
     public <T> ImmutableStack<T> withAll(Iterable<? extends T> items)
     {
-        return ImmutableArrayStack.newStack(items);
+        return ImmutableLinkedStack.newStack(items);
     }
 
     @Override
@@ -78,7 +78,7 @@ public class ImmutableStackFactoryImpl implements ImmutableStackFactory
     @Override
     public <T> ImmutableStack<T> withReversed(T... elements)
     {
-        return ImmutableArrayStack.newStackFromTopToBottom(elements);
+        return ImmutableLinkedStack.newStackFromTopToBottom(elements);
     }
 
     @Override
@@ -90,6 +90,6 @@ public class ImmutableStackFactoryImpl implements ImmutableStackFactory
     @Override
     public <T> ImmutableStack<T> withAllReversed(Iterable<? extends T> items)
     {
-        return ImmutableArrayStack.newStackFromTopToBottom(items);
+        return ImmutableLinkedStack.newStackFromTopToBottom(items);
     }
 }
@@ -18,6 +18,9 @@
  *     <li>
  *          {@link org.eclipse.collections.impl.stack.immutable.ImmutableArrayStack} - an ImmutableStack backed by a FastList.
  *     </li>
+ *     <li>
+ *          {@link org.eclipse.collections.impl.stack.immutable.ImmutableLinkedStack} - a persistent ImmutableStack made of linked cells which share structure between versions.
+ *     </li>
  * </ul>
  * <p>
  *     This package contains one factory implementation:
@@ -21,6 +21,7 @@ import com.carrotsearch.hppc.ObjectObjectMap;
 import org.apache.commons.lang.RandomStringUtils;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.OpenAddressingMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -83,6 +84,26 @@ public class ChainMapPutTest extends AbstractJMHTestRunner
         return ec;
     }
 
+    @Benchmark
+    public MutableMap<String, String> ecOpenAddressing()
+    {
+        int localSize = this.size;
+        float localLoadFactor = this.loadFactor;
+        String[] localElements = this.elements;
+        /**
+         * @see OpenAddressingMap#DEFAULT_INITIAL_CAPACITY
+         */
+        int defaultInitialCapacity = 8;
+
+        MutableMap<String, String> ec = this.isPresized ? OpenAddressingMap.newMap(localSize, localLoadFactor) : OpenAddressingMap.newMap(defaultInitialCapacity, localLoadFactor);
+
+        for (int i = 0; i < localSize; i++)
+        {
+            ec.put(localElements[i], "dummy");
+        }
+        return ec;
+    }
+
     @Benchmark
     public ObjectObjectMap<String, String> hppc()
     {
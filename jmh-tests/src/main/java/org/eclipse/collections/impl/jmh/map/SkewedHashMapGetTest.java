@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.jmh.map;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.jmh.runner.AbstractJMHTestRunner;
+import org.eclipse.collections.impl.map.mutable.OpenAddressingMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares lookups in {@link UnifiedMap} and {@link OpenAddressingMap} for keys whose hash codes only differ in the
+ * high bits, which makes UnifiedMap build collision chains.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SkewedHashMapGetTest extends AbstractJMHTestRunner
+{
+    @Param({"250000", "1000000", "4000000"})
+    public int size;
+    @Param({"0", "8", "16"})
+    public int shift;
+    private SkewedKey[] elements;
+    private MutableMap<SkewedKey, String> unifiedMap;
+    private MutableMap<SkewedKey, String> openAddressingMap;
+
+    @Setup
+    public void setUp()
+    {
+        this.elements = new SkewedKey[this.size];
+        this.unifiedMap = UnifiedMap.newMap(this.size);
+        this.openAddressingMap = OpenAddressingMap.newMap(this.size);
+
+        for (int i = 0; i < this.size; i++)
+        {
+            SkewedKey element = new SkewedKey(i, i << this.shift);
+            this.elements[i] = element;
+            this.unifiedMap.put(element, "dummy");
+            this.openAddressingMap.put(element, "dummy");
+        }
+    }
+
+    @Benchmark
+    public void unifiedMap()
+    {
+        this.get(this.unifiedMap);
+    }
+
+    @Benchmark
+    public void openAddressingMap()
+    {
+        this.get(this.openAddressingMap);
+    }
+
+    private void get(MutableMap<SkewedKey, String> map)
+    {
+        int localSize = this.size;
+        SkewedKey[] localElements = this.elements;
+
+        for (int i = 0; i < localSize; i++)
+        {
+            if (map.get(localElements[i]) == null)
+            {
+                throw new AssertionError(i);
+            }
+        }
+    }
+
+    private static final class SkewedKey
+    {
+        private final int value;
+        private final int hashCode;
+
+        private SkewedKey(int value, int hashCode)
+        {
+            this.value = value;
+            this.hashCode = hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return this == o || o instanceof SkewedKey && this.value == ((SkewedKey) o).value;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return this.hashCode;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sorted.mutable;
+
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class BTreeBagSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyADhvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLmJhZy5zb3J0ZWQubXV0YWJsZS5C\n"
+                        + "VHJlZUJhZwAAAAAAAAABDAAAeHBzcgBIb3JnLmVjbGlwc2UuY29sbGVjdGlvbnMuaW1wbC5ibG9j\n"
+                        + "ay5mYWN0b3J5LkNvbXBhcmF0b3JzJFJldmVyc2VDb21wYXJhdG9yAAAAAAAAAAECAAFMAApjb21w\n"
+                        + "YXJhdG9ydAAWTGphdmEvdXRpbC9Db21wYXJhdG9yO3hwc3IATW9yZy5lY2xpcHNlLmNvbGxlY3Rp\n"
+                        + "b25zLmltcGwuYmxvY2suZmFjdG9yeS5Db21wYXJhdG9ycyROYXR1cmFsT3JkZXJDb21wYXJhdG9y\n"
+                        + "AAAAAAAAAAECAAB4cHcEAAAAAHg=",
+                BTreeBag.newBag(Comparators.reverseNaturalOrder()));
+    }
+}
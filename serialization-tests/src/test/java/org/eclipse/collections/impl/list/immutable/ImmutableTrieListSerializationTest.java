@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Test;
+
+public class ImmutableTrieListSerializationTest
+{
+    @Test
+    public void serializedForm()
+    {
+        Verify.assertSerializedForm(
+                1L,
+                "rO0ABXNyAGFvcmcuZWNsaXBzZS5jb2xsZWN0aW9ucy5pbXBsLmxpc3QuaW1tdXRhYmxlLkltbXV0\n"
+                        + "YWJsZVRyaWVMaXN0JEltbXV0YWJsZVRyaWVMaXN0U2VyaWFsaXphdGlvblByb3h5AAAAAAAAAAEM\n"
+                        + "AAB4cHcEAAAAIXNyABFqYXZhLmxhbmcuSW50ZWdlchLioKT3gYc4AgABSQAFdmFsdWV4cgAQamF2\n"
+                        + "YS5sYW5nLk51bWJlcoaslR0LlOCLAgAAeHAAAAABc3EAfgACAAAAAnNxAH4AAgAAAANzcQB+AAIA\n"
+                        + "AAAEc3EAfgACAAAABXNxAH4AAgAAAAZzcQB+AAIAAAAHc3EAfgACAAAACHNxAH4AAgAAAAlzcQB+\n"
+                        + "AAIAAAAKc3EAfgACAAAAC3NxAH4AAgAAAAxzcQB+AAIAAAANc3EAfgACAAAADnNxAH4AAgAAAA9z\n"
+                        + "cQB+AAIAAAAQc3EAfgACAAAAEXNxAH4AAgAAABJzcQB+AAIAAAATc3EAfgACAAAAFHNxAH4AAgAA\n"
+                        + "ABVzcQB+AAIAAAAWc3EAfgACAAAAF3NxAH4AAgAAABhzcQB+AAIAAAAZc3EAfgACAAAAGnNxAH4A\n"
+                        + "AgAAABtzcQB+AAIAAAAcc3EAfgACAAAAHXNxAH4AAgAAAB5zcQB+AAIAAAAfc3EAfgACAAAAIHNx\n"
+                        + "AH4AAgAAACF4",
+                ImmutableTrieList.newList(Interval.oneTo(33)));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.mutable;
+
+import java.util.Iterator;
+
+import org.eclipse.collections.api.bag.MutableBag;
+import org.eclipse.collections.api.tuple.primitive.ObjectIntPair;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ConcurrentHashBag}.
+ */
+public class ConcurrentHashBagTest extends MutableBagTestCase
+{
+    @Override
+    protected <T> MutableBag<T> newWith(T... littleElements)
+    {
+        return ConcurrentHashBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableBag<T> newWithOccurrences(ObjectIntPair<T>... elementsWithOccurrences)
+    {
+        MutableBag<T> bag = this.newWith();
+        for (int i = 0; i < elementsWithOccurrences.length; i++)
+        {
+            ObjectIntPair<T> itemToAdd = elementsWithOccurrences[i];
+            bag.addOccurrences(itemToAdd.getOne(), itemToAdd.getTwo());
+        }
+        return bag;
+    }
+
+    @Test
+    public void concurrentAddOccurrences()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(100000), each -> bag.addOccurrences(each % 10, 2), 1);
+        Assert.assertEquals(200000, bag.size());
+        Assert.assertEquals(10, bag.sizeDistinct());
+        Interval.zeroTo(9).forEach((int each) -> Assert.assertEquals(20000, bag.occurrencesOf(each)));
+    }
+
+    @Test
+    public void concurrentAddAndRemove()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBag();
+        ParallelIterate.forEach(Interval.oneTo(100000), each -> {
+            bag.add(each % 3);
+            Assert.assertTrue(bag.remove(each % 3));
+        }, 1);
+        Verify.assertEmpty(bag);
+        Assert.assertEquals(0, bag.sizeDistinct());
+
+        ParallelIterate.forEach(Interval.oneTo(100000), each -> bag.add(each % 3), 1);
+        Assert.assertEquals(HashBag.newBag(Interval.oneTo(100000).collect(each -> each % 3)), bag);
+    }
+
+    @Test
+    public void retiredCounterIsReplaced()
+    {
+        ConcurrentHashBag<String> bag = ConcurrentHashBag.newBagWith("a", "a", null);
+        Assert.assertTrue(bag.removeOccurrences("a", 5));
+        Assert.assertFalse(bag.contains("a"));
+        Assert.assertEquals(3, bag.addOccurrences("a", 3));
+        Assert.assertTrue(bag.setOccurrences(null, 0));
+        Assert.assertFalse(bag.setOccurrences(null, 0));
+        Assert.assertEquals(HashBag.newBagWith("a", "a", "a"), bag);
+    }
+
+    @Test
+    public void iteratorRemove()
+    {
+        ConcurrentHashBag<Integer> bag = ConcurrentHashBag.newBagWith(1, 2, 2, 3, 3, 3);
+        Iterator<Integer> iterator = bag.iterator();
+        Verify.assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext())
+        {
+            if (iterator.next() > 1)
+            {
+                iterator.remove();
+            }
+        }
+        Assert.assertEquals(HashBag.newBagWith(1), bag);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.bag.sorted.mutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.eclipse.collections.api.bag.sorted.MutableSortedBag;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.primitive.PrimitiveTuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link BTreeBag}.
+ */
+public class BTreeBagTest extends AbstractMutableSortedBagTestCase
+{
+    @Override
+    protected <T> MutableSortedBag<T> newWith(T... littleElements)
+    {
+        return BTreeBag.newBagWith(littleElements);
+    }
+
+    @Override
+    protected <T> MutableSortedBag<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return BTreeBag.newBagWith(comparator, elements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedSortedBag.class, this.newWith().asSynchronized());
+    }
+
+    @Test
+    public void sortedBagConstructor()
+    {
+        TreeBag<Integer> treeBag = TreeBag.newBagWith(Collections.reverseOrder(), 1, 2, 2, 3, 3, 3);
+        BTreeBag<Integer> bag = BTreeBag.newBag(treeBag);
+        Verify.assertSortedBagsEqual(treeBag, bag);
+        Assert.assertEquals(Collections.reverseOrder(), bag.comparator());
+        Verify.assertSortedBagsEqual(bag, bag.clone());
+    }
+
+    @Test
+    public void rankAndSelect()
+    {
+        BTreeBag<Integer> bag = BTreeBag.newBagWith(5, 1, 3, 3, 5, 5);
+        Assert.assertEquals(0, bag.rank(0));
+        Assert.assertEquals(0, bag.rank(1));
+        Assert.assertEquals(1, bag.rank(2));
+        Assert.assertEquals(1, bag.rank(3));
+        Assert.assertEquals(3, bag.rank(5));
+        Assert.assertEquals(6, bag.rank(6));
+        Assert.assertEquals(3, bag.indexOf(5));
+        Assert.assertEquals(-1, bag.indexOf(4));
+        Assert.assertEquals(FastList.newListWith(1, 3, 3, 5, 5, 5), Interval.zeroTo(5).collect(bag::select).toList());
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> bag.select(6));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> bag.select(-1));
+    }
+
+    @Test
+    public void percentileAndCountBetween()
+    {
+        BTreeBag<Integer> bag = BTreeBag.newBagWith(5, 1, 3, 3, 5, 5);
+        Assert.assertEquals(Integer.valueOf(1), bag.percentile(0.0));
+        Assert.assertEquals(Integer.valueOf(3), bag.percentile(50.0));
+        Assert.assertEquals(Integer.valueOf(5), bag.percentile(51.0));
+        Assert.assertEquals(Integer.valueOf(5), bag.percentile(100.0));
+        Assert.assertEquals(2, bag.countBetween(2, 5));
+        Assert.assertEquals(5, bag.countBetween(3, 6));
+        Assert.assertEquals(0, bag.countBetween(4, 5));
+        Verify.assertThrows(IllegalArgumentException.class, () -> bag.countBetween(5, 3));
+        Verify.assertThrows(NoSuchElementException.class, () -> BTreeBag.newBag().percentile(50.0));
+    }
+
+    @Test
+    public void topOccurrences_pruned()
+    {
+        BTreeBag<Integer> bag = BTreeBag.newBag();
+        for (int i = 0; i < 10000; i++)
+        {
+            bag.addOccurrences(i, i % 97 + 1);
+        }
+        Assert.assertEquals(PrimitiveTuples.pair(Integer.valueOf(96), 97), bag.topOccurrences(1).getFirst());
+        Verify.assertSize(103, bag.topOccurrences(1));
+        Verify.assertSize(206, bag.topOccurrences(104));
+        Assert.assertEquals(TreeBag.newBag(bag).topOccurrences(104), bag.topOccurrences(104));
+        Assert.assertEquals(TreeBag.newBag(bag).topOccurrences(300), bag.topOccurrences(300));
+        Assert.assertEquals(TreeBag.newBag(bag).topOccurrences(20000), bag.topOccurrences(20000));
+        Assert.assertEquals(TreeBag.newBag(bag).bottomOccurrences(3), bag.bottomOccurrences(3));
+    }
+
+    @Test
+    public void randomOperationsMatchTreeBag()
+    {
+        Random random = new Random(42L);
+        BTreeBag<Integer> bag = BTreeBag.newBag();
+        TreeBag<Integer> expected = TreeBag.newBag();
+        for (int i = 0; i < 50000; i++)
+        {
+            Integer item = random.nextInt(5000);
+            int occurrences = random.nextInt(4);
+            switch (random.nextInt(4))
+            {
+                case 0:
+                    Assert.assertEquals(expected.removeOccurrences(item, occurrences), bag.removeOccurrences(item, occurrences));
+                    break;
+                case 1:
+                    Assert.assertEquals(expected.setOccurrences(item, occurrences), bag.setOccurrences(item, occurrences));
+                    break;
+                default:
+                    Assert.assertEquals(expected.addOccurrences(item, occurrences), bag.addOccurrences(item, occurrences));
+                    break;
+            }
+        }
+        Verify.assertSortedBagsEqual(expected, bag);
+        Assert.assertEquals(expected.sizeDistinct(), bag.sizeDistinct());
+        for (int i = 0; i < bag.size(); i += 97)
+        {
+            Integer item = bag.select(i);
+            Assert.assertEquals(expected.toList().get(i), item);
+            Assert.assertEquals(expected.indexOf(item), bag.rank(item));
+        }
+        Assert.assertEquals(expected.topOccurrences(10), bag.topOccurrences(10));
+
+        Iterator<Integer> iterator = bag.iterator();
+        while (iterator.hasNext())
+        {
+            Integer item = iterator.next();
+            if (random.nextBoolean())
+            {
+                iterator.remove();
+                expected.remove(item);
+            }
+        }
+        Verify.assertSortedBagsEqual(expected, bag);
+
+        bag.removeIf(each -> each % 3 == 0);
+        expected.removeIf(each -> each % 3 == 0);
+        Verify.assertSortedBagsEqual(expected, bag);
+        Assert.assertEquals(expected.indexOf(2500), bag.indexOf(2500));
+    }
+
+    @Test
+    public void removeIfWith_fewAndMany()
+    {
+        BTreeBag<Integer> bag = BTreeBag.newBag();
+        TreeBag<Integer> expected = TreeBag.newBag();
+        for (int i = 0; i < 10000; i++)
+        {
+            bag.addOccurrences(i, i % 5 + 1);
+            expected.addOccurrences(i, i % 5 + 1);
+        }
+
+        Assert.assertFalse(bag.removeIfWith((each, limit) -> each > limit, 10000));
+        Assert.assertTrue(bag.removeIfWith((each, step) -> each % step == 0, 100));
+        expected.removeIfWith((each, step) -> each % step == 0, 100);
+        Verify.assertSortedBagsEqual(expected, bag);
+        Assert.assertEquals(expected.indexOf(5001), bag.indexOf(5001));
+
+        Assert.assertTrue(bag.removeIfWith((each, limit) -> each < limit, 9000));
+        expected.removeIfWith((each, limit) -> each < limit, 9000);
+        Verify.assertSortedBagsEqual(expected, bag);
+        Assert.assertEquals(expected.topOccurrences(3), bag.topOccurrences(3));
+        Assert.assertEquals(expected.indexOf(9501), bag.rank(9501));
+    }
+
+    @Test
+    public void forEachFromIndex()
+    {
+        BTreeBag<Integer> bag = BTreeBag.newBag();
+        for (int i = 0; i < 1000; i++)
+        {
+            bag.addOccurrences(i, 3);
+        }
+        FastList<Integer> result = FastList.newList();
+        bag.forEach(1500, 1505, result::add);
+        Assert.assertEquals(FastList.newListWith(500, 500, 500, 501, 501, 501), result);
+    }
+
+    @Test
+    public void iterableConstructor()
+    {
+        BTreeBag<Integer> sortedBag = BTreeBag.newBag(Comparators.reverseNaturalOrder(), FastList.newListWith(2, 4, 1, 3).asLazy());
+        Verify.assertSortedBagsEqual(TreeBag.newBagWith(Comparators.reverseNaturalOrder(), 1, 2, 3, 4), sortedBag);
+    }
+
+    @Override
+    @Test
+    public void serialization()
+    {
+        MutableSortedBag<Integer> bag = this.newWith(1, 2, 3, 4, 5);
+        Verify.assertPostSerializedEqualsAndHashCode(bag);
+    }
+
+    @Override
+    @Test(expected = NullPointerException.class)
+    public void min_null_safe()
+    {
+        super.min_null_safe();
+    }
+
+    @Override
+    @Test(expected = NullPointerException.class)
+    public void max_null_safe()
+    {
+        super.max_null_safe();
+    }
+}
@@ -16,6 +16,7 @@ import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.factory.SortedBags;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -83,4 +84,12 @@ public class MutableSortedBagFactoryTest
         Assert.assertEquals(TreeBag.newBag(), SortedBags.mutable.empty());
         Assert.assertEquals(TreeBag.newBag(Comparator.reverseOrder()), SortedBags.mutable.empty(Comparator.reverseOrder()));
     }
+
+    @Test
+    public void emptyBTree()
+    {
+        Verify.assertInstanceOf(BTreeBag.class, SortedBags.mutable.emptyBTree());
+        Assert.assertEquals(TreeBag.newBag(), SortedBags.mutable.emptyBTree());
+        Assert.assertEquals(Comparator.reverseOrder(), SortedBags.mutable.emptyBTree(Comparator.reverseOrder()).comparator());
+    }
 }
@@ -12,12 +12,27 @@ package org.eclipse.collections.impl.collector;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.primitive.MutableObjectDoubleMap;
+import org.eclipse.collections.api.multimap.Multimap;
+import org.eclipse.collections.impl.bag.mutable.ConcurrentHashBag;
+import org.eclipse.collections.impl.block.factory.Functions0;
 import org.eclipse.collections.impl.factory.BiMaps;
 import org.eclipse.collections.impl.factory.Stacks;
 import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.multimap.bag.SynchronizedPutHashBagMultimap;
+import org.eclipse.collections.impl.multimap.list.ConcurrentListMultimap;
+import org.eclipse.collections.impl.multimap.set.ConcurrentSetMultimap;
+import org.eclipse.collections.impl.test.Verify;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -1015,4 +1030,254 @@ public class Collectors2Test
                 LARGE_INTERVAL.reduceInPlace(Collectors2.toImmutableBagMultimap(Object::toString, Object::toString)),
                 this.bigData.parallelStream().collect(Collectors2.toImmutableBagMultimap(Object::toString, Object::toString)));
     }
+
+    @Test
+    public void toConcurrentBag()
+    {
+        Verify.assertInstanceOf(ConcurrentHashBag.class, this.smallData.stream().collect(Collectors2.toConcurrentBag()));
+        Assert.assertEquals(
+                SMALL_INTERVAL.toBag(),
+                this.smallData.stream().collect(Collectors2.toConcurrentBag()));
+    }
+
+    @Test
+    public void toConcurrentBagParallel()
+    {
+        Assert.assertEquals(
+                LARGE_INTERVAL.collect(each -> each % 100).toBag(),
+                this.bigData.parallelStream().map(each -> each % 100).collect(Collectors2.toConcurrentBag()));
+    }
+
+    @Test
+    public void toConcurrentListMultimap()
+    {
+        Verify.assertInstanceOf(ConcurrentListMultimap.class, this.smallData.stream().collect(Collectors2.toConcurrentListMultimap(Object::toString)));
+        Assert.assertEquals(
+                SMALL_INTERVAL.groupBy(Object::toString),
+                this.smallData.stream().collect(Collectors2.toConcurrentListMultimap(Object::toString)));
+        Assert.assertEquals(
+                SMALL_INTERVAL.collect(Object::toString).groupBy(Object::toString),
+                this.smallData.stream().collect(Collectors2.toConcurrentListMultimap(Object::toString, Object::toString)));
+    }
+
+    @Test
+    public void toConcurrentListMultimapParallel()
+    {
+        Collectors2Test.assertGroupsEqual(
+                LARGE_INTERVAL.groupBy(each -> each % 100),
+                this.bigData.parallelStream().collect(Collectors2.toConcurrentListMultimap(each -> each % 100)));
+        Collectors2Test.assertGroupsEqual(
+                LARGE_INTERVAL.groupBy(each -> each % 100).collectValues(Object::toString),
+                this.bigData.parallelStream().collect(Collectors2.toConcurrentListMultimap(each -> each % 100, Object::toString)));
+    }
+
+    @Test
+    public void toConcurrentSetMultimap()
+    {
+        Verify.assertInstanceOf(ConcurrentSetMultimap.class, this.smallData.stream().collect(Collectors2.toConcurrentSetMultimap(Object::toString)));
+        Assert.assertEquals(
+                SMALL_INTERVAL.toSet().groupBy(Object::toString),
+                this.smallData.stream().collect(Collectors2.toConcurrentSetMultimap(Object::toString)));
+        Assert.assertEquals(
+                SMALL_INTERVAL.toSet().collect(Object::toString).groupBy(Object::toString),
+                this.smallData.stream().collect(Collectors2.toConcurrentSetMultimap(Object::toString, Object::toString)));
+    }
+
+    @Test
+    public void toConcurrentSetMultimapParallel()
+    {
+        Assert.assertEquals(
+                LARGE_INTERVAL.toSet().groupBy(each -> each % 100),
+                this.bigData.parallelStream().collect(Collectors2.toConcurrentSetMultimap(each -> each % 100)));
+        Assert.assertEquals(
+                LARGE_INTERVAL.toSet().collect(each -> each % 1000).groupBy(each -> each % 100),
+                this.bigData.parallelStream().collect(Collectors2.toConcurrentSetMultimap(each -> each % 100, each -> each % 1000)));
+    }
+
+    @Test
+    public void toConcurrentBagMultimap()
+    {
+        Verify.assertInstanceOf(SynchronizedPutHashBagMultimap.class, this.smallData.stream().collect(Collectors2.toConcurrentBagMultimap(Object::toString)));
+        Assert.assertEquals(
+                SMALL_INTERVAL.toBag().groupBy(Object::toString),
+                this.smallData.stream().collect(Collectors2.toConcurrentBagMultimap(Object::toString)));
+        Assert.assertEquals(
+                SMALL_INTERVAL.toBag().collect(Object::toString).groupBy(Object::toString),
+                this.smallData.stream().collect(Collectors2.toConcurrentBagMultimap(Object::toString, Object::toString)));
+    }
+
+    @Test
+    public void toConcurrentBagMultimapParallel()
+    {
+        Assert.assertEquals(
+                LARGE_INTERVAL.toBag().groupBy(each -> each % 100),
+                this.bigData.parallelStream().collect(Collectors2.toConcurrentBagMultimap(each -> each % 100)));
+        Assert.assertEquals(
+                LARGE_INTERVAL.toBag().collect(each -> each % 1000).groupBy(each -> each % 100),
+                this.bigData.parallelStream().collect(Collectors2.toConcurrentBagMultimap(each -> each % 100, each -> each % 1000)));
+    }
+
+    @Test
+    public void aggregateInPlaceByConcurrent()
+    {
+        Verify.assertInstanceOf(
+                ConcurrentHashMap.class,
+                this.smallData.stream().collect(Collectors2.aggregateInPlaceByConcurrent(each -> each % 2, Functions0.zeroAtomicLong(), (AtomicLong sum, Integer each) -> sum.addAndGet(each), (AtomicLong sum, AtomicLong other) -> sum.addAndGet(other.get()))));
+        Assert.assertEquals(
+                LARGE_INTERVAL.aggregateBy(each -> each % 100, () -> 0L, (sum, each) -> sum + each),
+                this.bigData.parallelStream()
+                        .collect(Collectors2.aggregateInPlaceByConcurrent(each -> each % 100, Functions0.zeroAtomicLong(), (AtomicLong sum, Integer each) -> sum.addAndGet(each), (AtomicLong sum, AtomicLong other) -> sum.addAndGet(other.get())))
+                        .collectValues((key, sum) -> sum.get()));
+    }
+
+    @Test
+    public void aggregateInPlaceByConcurrentPartitioned()
+    {
+        Map<Boolean, MutableMap<Integer, AtomicLong>> partitioned = this.bigData.parallelStream().collect(Collectors.partitioningBy(
+                each -> each % 2 == 0,
+                Collectors2.aggregateInPlaceByConcurrent(each -> each % 100, Functions0.zeroAtomicLong(), (AtomicLong sum, Integer each) -> sum.addAndGet(each), (AtomicLong sum, AtomicLong other) -> sum.addAndGet(other.get()))));
+        Assert.assertEquals(
+                LARGE_INTERVAL.select(each -> each % 2 == 0).aggregateBy(each -> each % 100, () -> 0L, (sum, each) -> sum + each),
+                partitioned.get(Boolean.TRUE).collectValues((key, sum) -> sum.get()));
+        Assert.assertEquals(
+                LARGE_INTERVAL.reject(each -> each % 2 == 0).aggregateBy(each -> each % 100, () -> 0L, (sum, each) -> sum + each),
+                partitioned.get(Boolean.FALSE).collectValues((key, sum) -> sum.get()));
+    }
+
+    @Test
+    public void sumByIntConcurrent()
+    {
+        Assert.assertEquals(
+                SMALL_INTERVAL.sumByInt(each -> each % 2, each -> each),
+                this.smallData.stream().collect(Collectors2.sumByIntConcurrent(each -> each % 2, each -> each)));
+        Assert.assertEquals(
+                LARGE_INTERVAL.sumByInt(each -> each % 100, each -> each),
+                this.bigData.parallelStream().collect(Collectors2.sumByIntConcurrent(each -> each % 100, each -> each)));
+    }
+
+    @Test
+    public void sumByLongConcurrent()
+    {
+        Assert.assertEquals(
+                SMALL_INTERVAL.sumByLong(each -> each % 2, each -> (long) each),
+                this.smallData.stream().collect(Collectors2.sumByLongConcurrent(each -> each % 2, each -> (long) each)));
+        Assert.assertEquals(
+                LARGE_INTERVAL.sumByLong(each -> each % 100, each -> Integer.MAX_VALUE + (long) each),
+                this.bigData.parallelStream().collect(Collectors2.sumByLongConcurrent(each -> each % 100, each -> Integer.MAX_VALUE + (long) each)));
+    }
+
+    @Test
+    public void countBy()
+    {
+        Assert.assertEquals(
+                SMALL_INTERVAL.collect(each -> each % 2).toBag(),
+                this.smallData.stream().collect(Collectors2.countBy(each -> each % 2)));
+        Assert.assertEquals(
+                LARGE_INTERVAL.collect(each -> each % 100).toBag(),
+                this.bigData.parallelStream().collect(Collectors2.countBy(each -> each % 100)));
+    }
+
+    @Test
+    public void sumByInt()
+    {
+        Assert.assertEquals(
+                SMALL_INTERVAL.sumByInt(each -> each % 2, each -> each),
+                this.smallData.stream().collect(Collectors2.sumByInt(each -> each % 2, each -> each)));
+        Assert.assertEquals(
+                LARGE_INTERVAL.sumByInt(each -> each % 100, each -> each),
+                this.bigData.parallelStream().collect(Collectors2.sumByInt(each -> each % 100, each -> each)));
+        Assert.assertEquals(
+                LARGE_INTERVAL.sumByInt(each -> each % 10000, each -> each),
+                this.bigData.parallelStream().collect(Collectors2.sumByInt(each -> each % 10000, each -> each)));
+    }
+
+    @Test
+    public void sumByLong()
+    {
+        Assert.assertEquals(
+                SMALL_INTERVAL.sumByLong(each -> each % 2, each -> (long) each),
+                this.smallData.stream().collect(Collectors2.sumByLong(each -> each % 2, each -> (long) each)));
+        Assert.assertEquals(
+                LARGE_INTERVAL.sumByLong(each -> each % 100, each -> Integer.MAX_VALUE + (long) each),
+                this.bigData.parallelStream().collect(Collectors2.sumByLong(each -> each % 100, each -> Integer.MAX_VALUE + (long) each)));
+    }
+
+    @Test
+    public void sumByFloat()
+    {
+        Assert.assertEquals(
+                SMALL_INTERVAL.sumByFloat(each -> each % 2, each -> each / 3.0f),
+                this.smallData.stream().collect(Collectors2.sumByFloat(each -> each % 2, each -> each / 3.0f)));
+        MutableObjectDoubleMap<Integer> actual = this.bigData.parallelStream().collect(Collectors2.sumByFloat(each -> each % 100, each -> each / 3.0f));
+        LARGE_INTERVAL.sumByFloat(each -> each % 100, each -> each / 3.0f).forEachKeyValue((key, sum) -> Assert.assertEquals(sum, actual.get(key), 1.0e-6));
+    }
+
+    @Test
+    public void sumByDouble()
+    {
+        Assert.assertEquals(
+                SMALL_INTERVAL.sumByDouble(each -> each % 2, each -> each / 3.0d),
+                this.smallData.stream().collect(Collectors2.sumByDouble(each -> each % 2, each -> each / 3.0d)));
+        MutableMap<Integer, Double> actual = this.bigData.parallelStream()
+                .collect(Collectors2.sumByDouble(each -> each % 100, each -> 0.1d))
+                .keyValuesView()
+                .toMap(pair -> pair.getOne(), pair -> pair.getTwo());
+        Verify.assertSize(100, actual);
+        actual.forEachValue(sum -> Assert.assertEquals(20.0d, sum, 0.0d));
+    }
+
+    @Test
+    public void summarizeIntBy()
+    {
+        MutableMap<Integer, IntSummaryStatistics> actual =
+                this.bigData.parallelStream().collect(Collectors2.summarizeIntBy(each -> each % 100, each -> each));
+        Verify.assertSize(100, actual);
+        actual.forEachKeyValue((key, statistics) -> {
+            IntSummaryStatistics expected = LARGE_INTERVAL.select(each -> each % 100 == key).summarizeInt(each -> each);
+            Assert.assertEquals(expected.getCount(), statistics.getCount());
+            Assert.assertEquals(expected.getSum(), statistics.getSum());
+            Assert.assertEquals(expected.getMin(), statistics.getMin());
+            Assert.assertEquals(expected.getMax(), statistics.getMax());
+        });
+    }
+
+    @Test
+    public void summarizeLongBy()
+    {
+        MutableMap<Integer, LongSummaryStatistics> actual =
+                this.bigData.parallelStream().collect(Collectors2.summarizeLongBy(each -> each % 100, each -> (long) each));
+        Verify.assertSize(100, actual);
+        actual.forEachKeyValue((key, statistics) -> {
+            LongSummaryStatistics expected = LARGE_INTERVAL.select(each -> each % 100 == key).summarizeLong(each -> (long) each);
+            Assert.assertEquals(expected.getCount(), statistics.getCount());
+            Assert.assertEquals(expected.getSum(), statistics.getSum());
+            Assert.assertEquals(expected.getMin(), statistics.getMin());
+            Assert.assertEquals(expected.getMax(), statistics.getMax());
+        });
+    }
+
+    @Test
+    public void summarizeFloatAndDoubleBy()
+    {
+        MutableMap<Integer, DoubleSummaryStatistics> floats =
+                this.bigData.parallelStream().collect(Collectors2.summarizeFloatBy(each -> each % 100, each -> (float) each));
+        MutableMap<Integer, DoubleSummaryStatistics> doubles =
+                this.bigData.parallelStream().collect(Collectors2.summarizeDoubleBy(each -> each % 100, each -> (double) each));
+        Verify.assertSize(100, floats);
+        Verify.assertSize(100, doubles);
+        doubles.forEachKeyValue((key, statistics) -> {
+            DoubleSummaryStatistics expected = LARGE_INTERVAL.select(each -> each % 100 == key).summarizeDouble(each -> (double) each);
+            Assert.assertEquals(expected.getCount(), statistics.getCount());
+            Assert.assertEquals(expected.getSum(), statistics.getSum(), 0.0d);
+            Assert.assertEquals(expected.getMin(), statistics.getMin(), 0.0d);
+            Assert.assertEquals(expected.getMax(), statistics.getMax(), 0.0d);
+            Assert.assertEquals(expected.getSum(), floats.get(key).getSum(), 0.0d);
+        });
+    }
+
+    private static <K, V> void assertGroupsEqual(Multimap<K, V> expected, Multimap<K, V> actual)
+    {
+        Assert.assertEquals(expected.keySet(), actual.keySet());
+        expected.forEachKeyMultiValues((key, values) -> Assert.assertEquals(expected.get(key).toBag(), actual.get(key).toBag()));
+    }
 }
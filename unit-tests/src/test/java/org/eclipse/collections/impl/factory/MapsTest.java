@@ -18,7 +18,9 @@ import org.eclipse.collections.api.factory.map.sorted.MutableSortedMapFactory;
 import org.eclipse.collections.api.map.FixedSizeMap;
 import org.eclipse.collections.api.map.ImmutableMap;
 import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.sorted.mutable.BTreeSortedMap;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.test.domain.Key;
 import org.junit.Assert;
@@ -172,6 +174,9 @@ public class MapsTest
     {
         MutableSortedMapFactory factory = SortedMaps.mutable;
         Assert.assertEquals(UnifiedMap.newWithKeysValues(1, 2, 3, 4), factory.ofSortedMap(UnifiedMap.newWithKeysValues(1, 2, 3, 4)));
+        Verify.assertInstanceOf(BTreeSortedMap.class, factory.emptyBTree());
+        Verify.assertEmpty(factory.emptyBTree());
+        Assert.assertEquals(Comparators.reverseNaturalOrder(), factory.emptyBTree(Comparators.reverseNaturalOrder()).comparator());
     }
 
     @Test
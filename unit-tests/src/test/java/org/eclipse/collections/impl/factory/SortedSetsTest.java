@@ -17,6 +17,7 @@ import org.eclipse.collections.api.set.sorted.MutableSortedSet;
 import org.eclipse.collections.impl.block.factory.Comparators;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.set.sorted.mutable.BTreeSortedSet;
 import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
 import org.eclipse.collections.impl.test.Verify;
 import org.junit.Assert;
@@ -60,6 +61,9 @@ public class SortedSetsTest
         Verify.assertInstanceOf(MutableSortedSet.class, factory.of(Comparators.naturalOrder()));
         Assert.assertEquals(TreeSortedSet.newSetWith(8, 7, 6, 5, 4, 3, 2, 1), factory.ofAll(Comparators.reverseNaturalOrder(), FastList.newListWith(1, 2, 3, 4, 5, 6, 7, 8)));
         Verify.assertInstanceOf(MutableSortedSet.class, factory.ofAll(Comparators.reverseNaturalOrder(), FastList.newListWith(1, 2, 3, 4, 5, 6, 7, 8)));
+        Verify.assertInstanceOf(BTreeSortedSet.class, factory.emptyBTree());
+        Assert.assertEquals(TreeSortedSet.newSet(), factory.emptyBTree());
+        Assert.assertEquals(Comparators.reverseNaturalOrder(), factory.emptyBTree(Comparators.reverseNaturalOrder()).comparator());
     }
 
     @Test
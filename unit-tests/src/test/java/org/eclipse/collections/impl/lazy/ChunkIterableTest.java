@@ -10,7 +10,10 @@
 
 package org.eclipse.collections.impl.lazy;
 
+import java.util.Iterator;
+
 import org.eclipse.collections.impl.block.factory.Procedures;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.junit.Assert;
 import org.junit.Before;
@@ -56,4 +59,25 @@ public class ChunkIterableTest
         }, 'A');
         Assert.assertEquals("|[1, 2]A|[3, 4]A|[5]A", this.buffer.toString());
     }
+
+    @Test
+    public void pushesThroughInternalIterationAndShortCircuits()
+    {
+        FastList<Integer> source = new FastList<Integer>(Interval.oneTo(10))
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                throw new AssertionError("iterator() should not be called");
+            }
+        };
+        ChunkIterable<Integer> chunks = new ChunkIterable<>(source, 3);
+        Assert.assertEquals(
+                FastList.newListWith(FastList.newListWith(1, 2, 3), FastList.newListWith(4, 5, 6), FastList.newListWith(7, 8, 9), FastList.newListWith(10)),
+                chunks.toList());
+        Assert.assertEquals(FastList.newListWith(4, 5, 6), chunks.detect(each -> each.contains(5)));
+        Assert.assertEquals(FastList.newListWith(10), chunks.detect(each -> each.size() == 1));
+        Assert.assertFalse(chunks.anySatisfy(each -> each.contains(11)));
+        Assert.assertTrue(chunks.allSatisfy(each -> each.size() <= 3));
+    }
 }
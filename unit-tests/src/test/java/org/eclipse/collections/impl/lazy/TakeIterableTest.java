@@ -10,9 +10,13 @@
 
 package org.eclipse.collections.impl.lazy;
 
+import java.util.Iterator;
+
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.Counter;
+import org.eclipse.collections.impl.block.function.AddFunction;
 import org.eclipse.collections.impl.block.procedure.CountProcedure;
 import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
@@ -191,4 +195,28 @@ public class TakeIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 1),
                 new TakeIterable<>(FastList.newListWith(3, 2, 2, 4, 1, 3, 1, 5), 7).distinct().toList());
     }
+
+    @Test
+    public void pushesThroughInternalIterationAndShortCircuits()
+    {
+        Counter visited = new Counter();
+        FastList<Integer> source = new FastList<Integer>(Interval.oneTo(10))
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                throw new AssertionError("iterator() should not be called");
+            }
+        };
+        LazyIterable<Integer> lazy = source.asLazy().tap(each -> visited.increment()).select(each -> each % 2 == 0).take(2);
+        Assert.assertEquals(FastList.newListWith(2, 4), lazy.toList());
+        Assert.assertEquals(4, visited.getCount());
+        Assert.assertEquals(Integer.valueOf(4), lazy.detect(each -> each > 2));
+        Assert.assertTrue(lazy.anySatisfy(each -> each == 2));
+        Assert.assertFalse(lazy.anySatisfy(each -> each == 6));
+        Assert.assertTrue(lazy.allSatisfy(each -> each <= 4));
+        Assert.assertTrue(lazy.noneSatisfy(each -> each > 4));
+        Assert.assertEquals(6, lazy.injectInto(0, AddFunction.INTEGER).intValue());
+        Assert.assertEquals(0, source.asLazy().take(0).tap(each -> Assert.fail()).size());
+    }
 }
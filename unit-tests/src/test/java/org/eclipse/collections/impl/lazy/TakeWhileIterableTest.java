@@ -10,9 +10,12 @@
 
 package org.eclipse.collections.impl.lazy;
 
+import java.util.Iterator;
+
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.procedure.Procedure2;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.impl.Counter;
 import org.eclipse.collections.impl.block.factory.Predicates;
 import org.eclipse.collections.impl.block.procedure.CountProcedure;
 import org.eclipse.collections.impl.list.Interval;
@@ -164,4 +167,25 @@ public class TakeWhileIterableTest extends AbstractLazyIterableTestCase
                 FastList.newListWith(3, 2, 4, 1),
                 new TakeWhileIterable<>(FastList.newListWith(3, 2, 2, 4, 1, 3, 1, 5), each -> each < 5).distinct().toList());
     }
+
+    @Test
+    public void pushesThroughInternalIterationAndShortCircuits()
+    {
+        Counter visited = new Counter();
+        FastList<Integer> source = new FastList<Integer>(Interval.oneTo(10))
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                throw new AssertionError("iterator() should not be called");
+            }
+        };
+        LazyIterable<Integer> lazy = source.asLazy().tap(each -> visited.increment()).collect(each -> each * 10).takeWhile(each -> each < 40);
+        Assert.assertEquals(FastList.newListWith(10, 20, 30), lazy.toList());
+        Assert.assertEquals(4, visited.getCount());
+        Assert.assertEquals(Integer.valueOf(20), lazy.detect(each -> each > 10));
+        Assert.assertFalse(lazy.anySatisfy(each -> each == 40));
+        Assert.assertTrue(lazy.allSatisfy(each -> each < 40));
+        Assert.assertEquals(3, lazy.size());
+    }
 }
@@ -10,7 +10,12 @@
 
 package org.eclipse.collections.impl.lazy;
 
+import java.util.Iterator;
+
 import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -53,4 +58,24 @@ public class ZipIterableTest
 
         Assert.assertEquals("|a0|b1|c2", sb.toString());
     }
+
+    @Test
+    public void pushesThroughInternalIterationOfFirstIterable()
+    {
+        FastList<Integer> source = new FastList<Integer>(Interval.oneTo(10))
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                throw new AssertionError("iterator() should not be called");
+            }
+        };
+        ZipIterable<Integer, Character> zipped = new ZipIterable<>(source, Lists.immutable.of('a', 'b', 'c'));
+        Assert.assertEquals(
+                Lists.mutable.of(Tuples.pair(1, 'a'), Tuples.pair(2, 'b'), Tuples.pair(3, 'c')),
+                zipped.toList());
+        Assert.assertEquals(Tuples.pair(2, 'b'), zipped.detect(each -> each.getTwo() == 'b'));
+        Assert.assertFalse(zipped.anySatisfy(each -> each.getOne() > 3));
+        Assert.assertEquals(3, zipped.size());
+    }
 }
@@ -10,8 +10,13 @@
 
 package org.eclipse.collections.impl.lazy;
 
+import java.util.Iterator;
+
 import org.eclipse.collections.impl.block.factory.Procedures;
 import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.tuple.Tuples;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -66,4 +71,21 @@ public class ZipWithIndexIterableTest
         }, "A");
         this.assertBufferContains("|(1:0),A|(2:1),A|(3:2),A|(4:3),A");
     }
+
+    @Test
+    public void pushesThroughInternalIteration()
+    {
+        FastList<Integer> source = new FastList<Integer>(Interval.oneTo(10))
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                throw new AssertionError("iterator() should not be called");
+            }
+        };
+        ZipWithIndexIterable<Integer> zipped = new ZipWithIndexIterable<>(source);
+        Assert.assertEquals(Interval.oneTo(10).zipWithIndex().toList(), zipped.toList());
+        Assert.assertEquals(Tuples.pair(5, 4), zipped.detect(each -> each.getTwo() == 4));
+        Assert.assertFalse(zipped.anySatisfy(each -> each.getTwo() >= 10));
+    }
 }
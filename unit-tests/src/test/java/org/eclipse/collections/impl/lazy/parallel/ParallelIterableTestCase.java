@@ -846,6 +846,26 @@ public abstract class ParallelIterableTestCase
                 this.classUnderTest().aggregateInPlaceBy(isOddFunction, AtomicInteger::new, AtomicInteger::addAndGet).collect(atomicIntToInt));
     }
 
+    @Test
+    public void aggregateBy_with_combiner()
+    {
+        Function<Integer, Integer> skewedFunction = each -> each % 4 == 0 ? each : 0;
+
+        Assert.assertEquals(
+                this.getExpected().aggregateBy(skewedFunction, () -> 0, (sum, each) -> sum + each),
+                this.classUnderTest().aggregateBy(skewedFunction, () -> 0, (sum, each) -> sum + each, Integer::sum));
+    }
+
+    @Test
+    public void aggregateInPlaceBy_with_combiner()
+    {
+        Function<Integer, Integer> skewedFunction = each -> each % 4 == 0 ? each : 0;
+
+        Assert.assertEquals(
+                this.getExpected().aggregateInPlaceBy(skewedFunction, HashBag::new, HashBag::add),
+                this.classUnderTest().aggregateInPlaceBy(skewedFunction, HashBag::new, HashBag::add, HashBag::addAll));
+    }
+
     @Test
     public void sumOfInt()
     {
@@ -12,8 +12,10 @@ package org.eclipse.collections.impl.lazy.parallel.bag;
 
 import org.eclipse.collections.api.bag.MutableBag;
 import org.eclipse.collections.api.bag.ParallelBag;
+import org.eclipse.collections.api.bag.ParallelUnsortedBag;
 import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.lazy.parallel.ParallelIterableTestCase;
+import org.eclipse.collections.impl.list.mutable.FastList;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -57,6 +59,27 @@ public abstract class ParallelBagTestCase extends ParallelIterableTestCase
         Assert.assertEquals(this.getExpected().toBag(), actual);
     }
 
+    @Test
+    public void asUnique()
+    {
+        Assert.assertEquals(this.getExpected().toSet(), this.classUnderTest().asUnique().toSet());
+        Assert.assertEquals(this.getExpected().toSet(), this.classUnderTest().asUnique().toList().toSet());
+        Assert.assertEquals(this.getExpected().toSet().size(), this.classUnderTest().asUnique().toList().size());
+    }
+
+    @Test
+    public void flatCollect_forEachWithOccurrences()
+    {
+        ParallelUnsortedBag<Integer> parallelBag = (ParallelUnsortedBag<Integer>) this.classUnderTest();
+        MutableBag<Integer> actual = HashBag.<Integer>newBag().asSynchronized();
+        parallelBag.flatCollect(each -> FastList.newListWith(each, -each)).forEachWithOccurrences(actual::addOccurrences);
+        Assert.assertEquals(this.getExpected().flatCollect(each -> FastList.newListWith(each, -each)).toBag(), actual);
+
+        MutableBag<String> collected = HashBag.<String>newBag().asSynchronized();
+        parallelBag.collect(String::valueOf).forEachWithOccurrences(collected::addOccurrences);
+        Assert.assertEquals(this.getExpected().collect(String::valueOf).toBag(), collected);
+    }
+
     @Override
     @Test
     public void forEach_executionException()
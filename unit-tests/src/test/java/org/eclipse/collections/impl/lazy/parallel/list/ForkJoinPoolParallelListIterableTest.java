@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.list;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Before;
+
+/**
+ * Runs the tests of {@link ParallelListIterableTest} on a ForkJoinPool, where batches are scheduled adaptively.
+ */
+public class ForkJoinPoolParallelListIterableTest extends ParallelListIterableTest
+{
+    @Override
+    @Before
+    public void setUp()
+    {
+        super.setUp();
+        this.executorService.shutdownNow();
+        this.executorService = new ForkJoinPool(10);
+    }
+}
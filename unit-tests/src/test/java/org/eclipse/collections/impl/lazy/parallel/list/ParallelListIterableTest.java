@@ -10,9 +10,14 @@
 
 package org.eclipse.collections.impl.lazy.parallel.list;
 
+import java.util.Collections;
+
 import org.eclipse.collections.api.list.ListIterable;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class ParallelListIterableTest extends ParallelListIterableTestCase
@@ -46,4 +51,26 @@ public class ParallelListIterableTest extends ParallelListIterableTestCase
     {
         FastList.newListWith(1, 2, 2, 3, 3, 3, 4, 4, 4, 4).asParallel(null, 2);
     }
+
+    @Test
+    public void toList_toArray_ordered_large()
+    {
+        FastList<Integer> list = FastList.newList(Interval.oneTo(20000));
+        ParallelListIterable<Integer> parallel = list.asParallel(this.executorService, this.batchSize)
+                .select(each -> each % 3 != 0)
+                .flatCollect(each -> FastList.newListWith(each, -each));
+        MutableList<Integer> expected = list.select(each -> each % 3 != 0).flatCollect(each -> FastList.newListWith(each, -each));
+        Assert.assertEquals(expected, parallel.toList());
+        Assert.assertArrayEquals(expected.toArray(new Integer[]{}), parallel.toArray(new Integer[]{}));
+    }
+
+    @Test
+    public void toSortedList_large()
+    {
+        MutableList<Integer> list = FastList.newList(Interval.oneTo(50000)).shuffleThis();
+        ParallelListIterable<Integer> parallel = list.asParallel(this.executorService, this.batchSize);
+        Assert.assertEquals(Interval.oneTo(50000).toList(), parallel.toSortedList());
+        Assert.assertEquals(Interval.fromToBy(50000, 1, -1).toList(), parallel.toSortedList(Collections.reverseOrder()));
+        Assert.assertEquals(list.toSortedListBy(each -> each % 10), parallel.toSortedListBy(each -> each % 10));
+    }
 }
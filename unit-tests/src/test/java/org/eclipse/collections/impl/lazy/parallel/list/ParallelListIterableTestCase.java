@@ -15,6 +15,8 @@ import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.impl.lazy.parallel.ParallelIterableTestCase;
 import org.eclipse.collections.impl.list.mutable.FastList;
+import org.junit.Assert;
+import org.junit.Test;
 
 public abstract class ParallelListIterableTestCase extends ParallelIterableTestCase
 {
@@ -47,4 +49,23 @@ public abstract class ParallelListIterableTestCase extends ParallelIterableTestC
     {
         return false;
     }
+
+    @Test
+    public void toList_ordered()
+    {
+        Assert.assertEquals(this.getExpected(), this.classUnderTest().toList());
+    }
+
+    @Test
+    public void toArray_ordered()
+    {
+        Assert.assertArrayEquals(this.getExpected().toArray(), this.classUnderTest().toArray());
+
+        Integer[] array = new Integer[12];
+        array[11] = 0;
+        Integer[] result = this.classUnderTest().toArray(array);
+        Assert.assertSame(array, result);
+        Assert.assertArrayEquals(this.getExpected().toArray(), FastList.newListWith(result).subList(0, 10).toArray());
+        Assert.assertNull(result[10]);
+    }
 }
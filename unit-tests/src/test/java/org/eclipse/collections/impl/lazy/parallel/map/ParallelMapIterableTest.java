@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.lazy.parallel.map;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.collections.api.block.HashingStrategy;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.map.ParallelMapIterable;
+import org.eclipse.collections.impl.map.mutable.ConcurrentHashMap;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelMapIterableTest
+{
+    private static final int SIZE = 5000;
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp()
+    {
+        this.executorService = Executors.newFixedThreadPool(10);
+    }
+
+    @After
+    public void tearDown()
+    {
+        this.executorService.shutdownNow();
+    }
+
+    private static MutableMap<Integer, String> fill(MutableMap<Integer, String> map)
+    {
+        for (int i = 0; i < SIZE; i++)
+        {
+            map.put(i, String.valueOf(i));
+        }
+        return map;
+    }
+
+    @Test
+    public void unifiedMap()
+    {
+        MutableMap<Integer, String> map = ParallelMapIterableTest.fill(UnifiedMap.newMap());
+        map.put(null, "null");
+        Assert.assertTrue(map.asParallel(this.executorService, 100) instanceof ParallelBatchMapIterable);
+        this.assertParallelMapIterable(map, 1);
+        this.assertParallelMapIterable(map, 100);
+        this.assertParallelMapIterable(map, SIZE * 2);
+    }
+
+    @Test
+    public void unifiedMapWithHashingStrategy()
+    {
+        MutableMap<Integer, String> map = ParallelMapIterableTest.fill(
+                UnifiedMapWithHashingStrategy.newMap(new HashingStrategy<Integer>()
+                {
+                    public int computeHashCode(Integer object)
+                    {
+                        return object % 64;
+                    }
+
+                    public boolean equals(Integer object1, Integer object2)
+                    {
+                        return object1.equals(object2);
+                    }
+                }));
+        Assert.assertTrue(map.asParallel(this.executorService, 100) instanceof ParallelBatchMapIterable);
+        this.assertParallelMapIterable(map, 1);
+        this.assertParallelMapIterable(map, 100);
+    }
+
+    @Test
+    public void nonBatchMap()
+    {
+        MutableMap<Integer, String> map = ParallelMapIterableTest.fill(ConcurrentHashMap.newMap());
+        Assert.assertTrue(map.asParallel(this.executorService, 100) instanceof NonParallelMapIterable);
+        this.assertParallelMapIterable(map, 100);
+    }
+
+    @Test
+    public void unmodifiableAndSynchronized()
+    {
+        MutableMap<Integer, String> map = ParallelMapIterableTest.fill(UnifiedMap.newMap());
+        this.assertParallelMapIterable(map.asUnmodifiable(), 100);
+        Assert.assertTrue(map.asSynchronized().asParallel(this.executorService, 100) instanceof SynchronizedParallelMapIterable);
+        this.assertParallelMapIterable(map.asSynchronized(), 100);
+    }
+
+    @Test
+    public void emptyMap()
+    {
+        ParallelMapIterable<Integer, String> parallel = UnifiedMap.<Integer, String>newMap().asParallel(this.executorService, 10);
+        parallel.forEachKeyValue((key, value) -> Assert.fail());
+        parallel.forEachKey(key -> Assert.fail());
+        parallel.forEachValue(value -> Assert.fail());
+    }
+
+    @Test
+    public void illegalArguments()
+    {
+        MutableMap<Integer, String> map = UnifiedMap.newWithKeysValues(1, "1");
+        Verify.assertThrows(NullPointerException.class, () -> map.asParallel(null, 10));
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.asParallel(this.executorService, 0));
+    }
+
+    @Test
+    public void forEachKeyValueThrows()
+    {
+        MutableMap<Integer, String> map = ParallelMapIterableTest.fill(UnifiedMap.newMap());
+        Verify.assertThrowsWithCause(RuntimeException.class, ExecutionException.class, () -> map.asParallel(this.executorService, 100).forEachKeyValue((key, value) -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    private void assertParallelMapIterable(MutableMap<Integer, String> map, int batchSize)
+    {
+        ParallelMapIterable<Integer, String> parallel = map.asParallel(this.executorService, batchSize);
+
+        MutableMap<Integer, String> keyValues = UnifiedMap.<Integer, String>newMap().asSynchronized();
+        parallel.forEachKeyValue(keyValues::put);
+        Assert.assertEquals(map, keyValues);
+
+        UnifiedSet<Integer> keys = UnifiedSet.newSet();
+        parallel.forEachKey(key -> {
+            synchronized (keys)
+            {
+                keys.add(key);
+            }
+        });
+        Assert.assertEquals(map.keySet(), keys);
+
+        MutableMap<String, Integer> values = UnifiedMap.<String, Integer>newMap().asSynchronized();
+        parallel.forEachValue(value -> values.put(value, 1));
+        Assert.assertEquals(map.valuesView().toSet(), values.keySet());
+    }
+}
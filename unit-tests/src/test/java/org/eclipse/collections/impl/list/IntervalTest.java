@@ -17,11 +17,14 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.procedure.primitive.ObjectIntProcedure;
+import org.eclipse.collections.api.list.ListIterable;
 import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.list.ParallelListIterable;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.impl.block.factory.IntegerPredicates;
 import org.eclipse.collections.impl.block.factory.Predicates;
@@ -30,6 +33,7 @@ import org.eclipse.collections.impl.block.procedure.CollectionAddProcedure;
 import org.eclipse.collections.impl.factory.Lists;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.math.IntegerSum;
+import org.eclipse.collections.impl.parallel.ParallelIterate;
 import org.eclipse.collections.impl.test.Verify;
 import org.eclipse.collections.impl.utility.ArrayIterate;
 import org.eclipse.collections.impl.utility.Iterate;
@@ -126,6 +130,87 @@ public class IntervalTest
         Assert.assertEquals(FastList.newListWith(5, 4, 3, 2, 1), result);
     }
 
+    @Test
+    public void iteratorOfSingleValueWithNegativeStep()
+    {
+        Assert.assertEquals(FastList.newListWith(5), FastList.newList(Interval.fromToBy(5, 5, -2)));
+        Assert.assertTrue(Interval.fromToBy(5, 5, -2).allSatisfy(each -> each == 5));
+    }
+
+    @Test
+    public void batchForEach()
+    {
+        for (Interval interval : Lists.immutable.of(Interval.oneTo(10), Interval.fromToBy(1, 10, 3), Interval.fromToBy(10, -10, -5), Interval.zero()))
+        {
+            for (int batchSize = 1; batchSize <= 11; batchSize++)
+            {
+                int sectionCount = interval.getBatchCount(batchSize);
+                MutableList<Integer> result = Lists.mutable.of();
+                for (int sectionIndex = 0; sectionIndex < sectionCount; sectionIndex++)
+                {
+                    interval.batchForEach(CollectionAddProcedure.on(result), sectionIndex, sectionCount);
+                }
+                Assert.assertEquals(interval, result);
+            }
+        }
+    }
+
+    @Test
+    public void parallelIterateWithoutCopying()
+    {
+        Interval interval = Interval.fromToBy(-1_000_000, 1_000_000, 3);
+        Assert.assertEquals(
+                interval.count(IntegerPredicates.isEven()),
+                ParallelIterate.count(interval, IntegerPredicates.isEven(), 1000, new ForkJoinPool(4)));
+        Assert.assertEquals(
+                interval.count(IntegerPredicates.isEven()),
+                ParallelIterate.count(interval, IntegerPredicates.isEven(), 1000, Executors.newFixedThreadPool(4)));
+    }
+
+    @Test
+    public void asParallel()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            for (Interval interval : Lists.immutable.of(Interval.oneTo(100_000), Interval.fromToBy(50_000, -50_000, -7), Interval.zero()))
+            {
+                for (int batchSize : new int[]{1, 1000, 200_000})
+                {
+                    ParallelListIterable<Integer> parallel = interval.asParallel(executorService, batchSize);
+                    Assert.assertEquals(interval.sumOfLong(Integer::longValue), parallel.sumOfLong(Integer::longValue));
+                    Assert.assertEquals(interval.max(), parallel.max());
+                    Assert.assertEquals(interval.min(), parallel.min());
+                    ListIterable<Integer> expected = interval.select(IntegerPredicates.isOdd()).collect(each -> each * 2).toList();
+                    Assert.assertEquals(expected, parallel.select(IntegerPredicates.isOdd()).collect(each -> each * 2).toList());
+                    Assert.assertEquals(interval.getLast(), parallel.detect(each -> each.equals(interval.getLast())));
+                    Assert.assertTrue(parallel.anySatisfy(each -> each.equals(interval.getFirst())));
+                    Assert.assertTrue(parallel.allSatisfy(interval::contains));
+                }
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void asParallel_forkJoinPool()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            Interval interval = Interval.oneTo(1_000_000);
+            Assert.assertEquals(500_000_500_000L, interval.asParallel(pool, 1 << 12).sumOfLong(Integer::longValue));
+            Assert.assertEquals(interval.toList(), interval.asParallel(pool, 1 << 12).toList());
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
     @Test
     public void runWithExecutor() throws InterruptedException
     {
@@ -393,6 +393,22 @@ public abstract class AbstractImmutableListTestCase extends AbstractImmutableCol
         Verify.assertThrows(UnsupportedOperationException.class, () -> this.classUnderTest().castToList().set(0, 1));
     }
 
+    @Test
+    public void newWithAt()
+    {
+        ImmutableList<Integer> list = this.classUnderTest();
+        for (int i = 0; i < list.size(); i++)
+        {
+            MutableList<Integer> expected = FastList.newList(list);
+            expected.set(i, 0);
+            ImmutableList<Integer> withAt = list.newWithAt(i, 0);
+            Assert.assertEquals(expected, withAt);
+            Assert.assertEquals(this.classUnderTest(), list);
+        }
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> list.newWithAt(-1, 0));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> list.newWithAt(list.size(), 0));
+    }
+
     @Test
     public void addAtIndex()
     {
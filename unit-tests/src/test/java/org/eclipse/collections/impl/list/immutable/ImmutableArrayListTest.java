@@ -10,6 +10,10 @@
 
 package org.eclipse.collections.impl.list.immutable;
 
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import org.eclipse.collections.api.list.ImmutableList;
 import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
@@ -217,4 +221,14 @@ public class ImmutableArrayListTest extends AbstractImmutableListTestCase
     {
         this.classUnderTest().groupByUniqueKey(id -> id, UnifiedMap.newWithKeysValues(2, 2));
     }
+
+    @Test
+    public void spliterator()
+    {
+        List<Integer> integers = this.classUnderTest().castToList();
+        Spliterator<Integer> spliterator = integers.spliterator();
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.SUBSIZED));
+        Assert.assertEquals(integers.size(), spliterator.getExactSizeIfKnown());
+        Assert.assertEquals(integers, integers.parallelStream().collect(Collectors.toList()));
+    }
 }
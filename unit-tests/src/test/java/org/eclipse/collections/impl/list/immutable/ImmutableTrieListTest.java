@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.list.immutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.list.ImmutableList;
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.set.sorted.mutable.TreeSortedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableTrieList}.
+ */
+public class ImmutableTrieListTest extends AbstractImmutableListTestCase
+{
+    @Override
+    protected ImmutableList<Integer> classUnderTest()
+    {
+        return ImmutableTrieList.newList(Interval.oneTo(10));
+    }
+
+    @Override
+    @Test
+    public void toSortedSetBy()
+    {
+        MutableList<Integer> expected = TreeSortedSet.newSetWith("1", "2", "3", "4", "5", "6", "7", "8", "9", "10").collect(Integer::valueOf);
+        MutableList<Integer> sortedList = this.classUnderTest().toSortedSetBy(String::valueOf).toList();
+        Verify.assertListsEqual(expected, sortedList);
+    }
+
+    @Test
+    public void factoryThreshold()
+    {
+        Verify.assertInstanceOf(ImmutableArrayList.class, Lists.immutable.withAll(Interval.oneTo(ImmutableListFactoryImpl.TRIE_LIST_THRESHOLD)));
+        Verify.assertInstanceOf(ImmutableTrieList.class, Lists.immutable.withAll(Interval.oneTo(ImmutableListFactoryImpl.TRIE_LIST_THRESHOLD + 1)));
+        Verify.assertInstanceOf(ImmutableTrieList.class, Lists.immutable.withAll(FastList.newList(Interval.oneTo(ImmutableListFactoryImpl.TRIE_LIST_THRESHOLD + 1))));
+        Verify.assertInstanceOf(
+                ImmutableTrieList.class,
+                Lists.immutable.withAll(Interval.oneTo(ImmutableListFactoryImpl.TRIE_LIST_THRESHOLD)).newWith(0));
+    }
+
+    @Test
+    public void newWith()
+    {
+        ImmutableList<Integer> list = Lists.immutable.empty();
+        MutableList<Integer> expected = FastList.newList();
+        for (int i = 0; i < 40000; i++)
+        {
+            Assert.assertEquals(i, list.size());
+            list = list.newWith(i);
+            expected.add(i);
+            if (i % 997 == 0 || (i & 31) == 31 || (i & 31) == 0)
+            {
+                Assert.assertEquals(expected, list);
+                Assert.assertEquals(Integer.valueOf(i), list.getLast());
+            }
+        }
+        Assert.assertEquals(expected, list);
+        Assert.assertEquals(expected.hashCode(), list.hashCode());
+        Assert.assertEquals(expected, FastList.newList(list));
+        Assert.assertEquals(expected, ImmutableTrieList.newList(expected));
+    }
+
+    @Test
+    public void newWithLeavesOriginalUnchanged()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(100));
+        ImmutableList<Integer> with1 = list.newWith(101);
+        ImmutableList<Integer> with2 = list.newWith(102);
+        Assert.assertEquals(Interval.oneTo(100), list);
+        Assert.assertEquals(Interval.oneTo(101), with1);
+        Assert.assertEquals(Interval.oneTo(100).toList().with(102), with2);
+    }
+
+    @Test
+    public void newWithAtLargeList()
+    {
+        ImmutableList<Integer> original = ImmutableTrieList.newList(Interval.zeroTo(39999));
+        ImmutableList<Integer> list = original;
+        for (int i = 0; i < 40000; i += 7)
+        {
+            list = list.newWithAt(i, -i);
+        }
+        for (int i = 0; i < 40000; i++)
+        {
+            Assert.assertEquals(Integer.valueOf(i % 7 == 0 ? -i : i), list.get(i));
+            Assert.assertEquals(Integer.valueOf(i), original.get(i));
+        }
+    }
+
+    @Test
+    public void newWithAllAndWithout()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(100));
+        Assert.assertEquals(Interval.oneTo(200), list.newWithAll(Interval.fromTo(101, 200)));
+        Assert.assertEquals(Interval.fromTo(2, 100), list.newWithout(1));
+        Assert.assertEquals(Interval.fromTo(51, 100), list.newWithoutAll(Interval.oneTo(50)));
+    }
+
+    @Test
+    public void toArray()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(1057));
+        Assert.assertArrayEquals(Interval.oneTo(1057).toArray(), list.toArray());
+        Assert.assertArrayEquals(Interval.oneTo(1057).toArray(), list.toArray(new Integer[0]));
+        Integer[] target = new Integer[1060];
+        target[1057] = 0;
+        Assert.assertSame(target, list.toArray(target));
+        Assert.assertNull(target[1057]);
+    }
+
+    @Test
+    public void iteratorAcrossLeaves()
+    {
+        ImmutableList<Integer> list = ImmutableTrieList.newList(Interval.oneTo(1057));
+        Iterator<Integer> iterator = list.iterator();
+        for (int i = 1; i <= 1057; i++)
+        {
+            Assert.assertTrue(iterator.hasNext());
+            Assert.assertEquals(Integer.valueOf(i), iterator.next());
+        }
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) iterator::next);
+        Verify.assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+}
@@ -17,6 +17,8 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.collections.api.RichIterable;
 import org.eclipse.collections.api.collection.MutableCollection;
@@ -485,6 +487,44 @@ public abstract class AbstractListTestCase
         Assert.assertEquals(Interval.fromToBy(1000, 1, -1).toList(), actual);
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<Integer> small = this.newWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).shuffleThis();
+            Assert.assertSame(small, small.sortThisParallel(executorService));
+            Assert.assertEquals(Interval.oneTo(10).toList(), small);
+
+            MutableList<Integer> actual = this.newWith(Interval.oneTo(50000).toArray()).shuffleThis();
+            MutableList<Integer> sorted = actual.sortThisParallel(executorService);
+            Assert.assertSame(actual, sorted);
+            Assert.assertEquals(Interval.oneTo(50000).toList(), actual);
+            Assert.assertEquals(Interval.fromToBy(50000, 1, -1).toList(), actual.sortThisParallel(Collections.reverseOrder(), executorService));
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void sortThisParallel_with_comparator_is_stable()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableList<Integer> actual = this.newWith(Interval.oneTo(50000).toArray()).shuffleThis();
+            MutableList<Integer> expected = FastList.newList(actual).sortThis(Comparators.byFunction(each -> each % 10));
+            Assert.assertEquals(expected, actual.sortThisParallel(Comparators.byFunction(each -> each % 10), executorService));
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     public void sortThisBy()
     {
@@ -19,6 +19,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.eclipse.collections.api.LazyIterable;
 import org.eclipse.collections.api.block.function.Function0;
@@ -1209,4 +1211,19 @@ public class FastListTest extends AbstractListTestCase
     {
         this.newWith().max();
     }
+
+    @Test
+    public void spliterator()
+    {
+        FastList<Integer> integers = FastList.newList(Interval.oneTo(100));
+        Spliterator<Integer> spliterator = integers.spliterator();
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED));
+        Assert.assertEquals(100L, spliterator.getExactSizeIfKnown());
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        Assert.assertEquals(50L, prefix.getExactSizeIfKnown());
+        Assert.assertEquals(50L, spliterator.getExactSizeIfKnown());
+        Assert.assertEquals(integers, integers.parallelStream().collect(Collectors.toList()));
+        Assert.assertEquals(5050, integers.parallelStream().mapToInt(Integer::intValue).sum());
+        Assert.assertEquals(0L, FastList.newList().spliterator().getExactSizeIfKnown());
+    }
 }
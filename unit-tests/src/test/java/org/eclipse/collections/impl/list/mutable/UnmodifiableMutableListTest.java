@@ -100,6 +100,15 @@ public class UnmodifiableMutableListTest
         Verify.assertThrows(UnsupportedOperationException.class, () -> this.unmodifiableList.sortThis());
     }
 
+    @Test
+    public void sortThisParallel()
+    {
+        Verify.assertThrows(UnsupportedOperationException.class, () -> this.unmodifiableList.sortThisParallel(null));
+        Verify.assertThrows(
+                UnsupportedOperationException.class,
+                () -> this.unmodifiableList.sortThisParallel(String::compareTo, null));
+    }
+
     @Test
     public void sortThisWithComparator()
     {
@@ -11,8 +11,12 @@
 package org.eclipse.collections.impl.list.primitive;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 import org.eclipse.collections.api.LazyIntIterable;
+import org.eclipse.collections.api.ParallelIntIterable;
 import org.eclipse.collections.api.iterator.IntIterator;
 import org.eclipse.collections.impl.bag.mutable.primitive.IntHashBag;
 import org.eclipse.collections.impl.block.factory.primitive.IntPredicates;
@@ -362,6 +366,48 @@ public class IntIntervalTest
         Assert.assertEquals(10L, IntInterval.oneTo(4).sum());
     }
 
+    @Test
+    public void asParallel()
+    {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try
+        {
+            for (IntInterval interval : FastList.newListWith(IntInterval.oneTo(100_000), IntInterval.fromToBy(50_000, -50_000, -7), IntInterval.zero()))
+            {
+                for (int batchSize : new int[]{1, 1000, 200_000})
+                {
+                    ParallelIntIterable parallel = interval.asParallel(executorService, batchSize);
+                    Assert.assertEquals(interval.sum(), parallel.sum());
+                    Assert.assertEquals(interval.min(), parallel.min());
+                    Assert.assertEquals(interval.max(), parallel.max());
+                    Assert.assertEquals(interval.count(IntPredicates.isOdd()), parallel.count(IntPredicates.isOdd()));
+                    Assert.assertEquals(interval.select(IntPredicates.isEven()).sum(), parallel.select(IntPredicates.isEven()).sum());
+                    Assert.assertTrue(parallel.anySatisfy(IntPredicates.equal(interval.getLast())));
+                    Assert.assertTrue(parallel.allSatisfy(interval::contains));
+                    Assert.assertEquals(interval.collect(each -> each * 2).toBag(), parallel.collect(each -> each * 2).toBag());
+                }
+            }
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void asParallel_large()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            Assert.assertEquals(500_000_000_500_000_000L, IntInterval.oneTo(1_000_000_000).asParallel(pool, 1 << 20).sum());
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
     @Test
     public void average()
     {
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.impl.map.MapIterableTestCase;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+
+public class ImmutableHashTrieMap2Test extends MapIterableTestCase
+{
+    @Override
+    protected <K, V> ImmutableMap<K, V> newMap()
+    {
+        return ImmutableHashTrieMap.newMap(UnifiedMap.newMap());
+    }
+
+    @Override
+    protected <K, V> ImmutableMap<K, V> newMapWithKeyValue(K key1, V value1)
+    {
+        return ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(key1, value1));
+    }
+
+    @Override
+    protected <K, V> ImmutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(key1, value1, key2, value2));
+    }
+
+    @Override
+    protected <K, V> ImmutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(key1, value1, key2, value2, key3, value3));
+    }
+
+    @Override
+    protected <K, V> ImmutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.immutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.ImmutableMap;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieMap}.
+ */
+public class ImmutableHashTrieMapTest extends ImmutableMapTestCase
+{
+    @Override
+    protected ImmutableMap<Integer, String> classUnderTest()
+    {
+        return ImmutableHashTrieMap.newMap(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "4"));
+    }
+
+    @Override
+    protected int size()
+    {
+        return 4;
+    }
+
+    @Test
+    @Override
+    public void testToString()
+    {
+        Assert.assertEquals("{1=1, 2=2, 3=3, 4=4}", this.classUnderTest().toString());
+    }
+
+    /**
+     * Returns distinct strings which all have the same hash code, since "Aa" and "BB" do.
+     */
+    private static MutableList<String> collidingKeys(int count)
+    {
+        MutableList<String> keys = FastList.newList(count);
+        for (int i = 0; i < count; i++)
+        {
+            StringBuilder builder = new StringBuilder();
+            for (int bit = 0; bit < 8; bit++)
+            {
+                builder.append((i & (1 << bit)) == 0 ? "Aa" : "BB");
+            }
+            keys.add(builder.toString());
+        }
+        return keys;
+    }
+
+    @Test
+    public void factoryThreshold()
+    {
+        int threshold = ImmutableMapFactoryImpl.HASH_TRIE_THRESHOLD;
+        MutableMap<Integer, Integer> map = Interval.oneTo(threshold).toMap(each -> each, each -> each);
+        Verify.assertInstanceOf(ImmutableUnifiedMap.class, Maps.immutable.withAll(map));
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, map.toImmutable().newWithKeyValue(0, 0));
+        map.put(0, 0);
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, Maps.immutable.withAll(map));
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, map.toImmutable());
+    }
+
+    @Test
+    public void newWithKeyValueAndNewWithoutKey()
+    {
+        MutableMap<Integer, Integer> expected = UnifiedMap.newMap();
+        ImmutableMap<Integer, Integer> map = ImmutableHashTrieMap.newMap(expected);
+        for (int i = 0; i < 20000; i++)
+        {
+            int key = i * 7919;
+            map = map.newWithKeyValue(key, i);
+            expected.put(key, i);
+            if (i % 1000 == 0)
+            {
+                Verify.assertEqualsAndHashCode(expected, map);
+            }
+        }
+        ImmutableMap<Integer, Integer> full = map;
+        Verify.assertEqualsAndHashCode(expected, full);
+        Verify.assertInstanceOf(ImmutableHashTrieMap.class, map.newWithKeyValue(0, -1));
+        Assert.assertEquals(Integer.valueOf(-1), map.newWithKeyValue(0, -1).get(0));
+        Assert.assertEquals(Integer.valueOf(0), map.get(0));
+
+        for (int i = 0; i < 20000; i += 3)
+        {
+            int key = i * 7919;
+            map = map.newWithoutKey(key);
+            expected.remove(key);
+            Assert.assertFalse(map.containsKey(key));
+        }
+        Verify.assertEqualsAndHashCode(expected, map);
+        Verify.assertSize(20000, full);
+        Assert.assertEquals(Integer.valueOf(3), full.get(3 * 7919));
+
+        for (int i = 0; i < 20000; i++)
+        {
+            map = map.newWithoutKey(i * 7919);
+        }
+        Assert.assertSame(Maps.immutable.empty(), map);
+    }
+
+    @Test
+    public void unchangedReturnsSame()
+    {
+        ImmutableMap<Integer, String> map = this.classUnderTest();
+        Assert.assertSame(map, map.newWithKeyValue(1, "1"));
+        Assert.assertSame(map, map.newWithoutKey(5));
+        Assert.assertSame(map, map.newWithoutAllKeys(FastList.newListWith(5, 6)));
+    }
+
+    @Test
+    public void newWithAllKeyValues()
+    {
+        ImmutableMap<Integer, String> map = this.classUnderTest().newWithAllKeyValues(FastList.newListWith(Tuples.pair(4, "four"), Tuples.pair(5, "5")));
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(1, "1", 2, "2", 3, "3", 4, "four").withKeyValue(5, "5"), map);
+        ImmutableMap<Integer, String> map2 = this.classUnderTest().newWithAllKeyValueArguments(Tuples.pair(4, "four"), Tuples.pair(5, "5"));
+        Assert.assertEquals(map, map2);
+        Assert.assertEquals(UnifiedMap.newWithKeysValues(2, "2", 4, "4"), this.classUnderTest().newWithoutAllKeys(FastList.newListWith(1, 3, 5)));
+    }
+
+    @Test
+    public void hashCollisions()
+    {
+        MutableList<String> keys = ImmutableHashTrieMapTest.collidingKeys(64);
+        MutableMap<String, Integer> expected = UnifiedMap.newMap();
+        ImmutableMap<String, Integer> map = ImmutableHashTrieMap.newMap(expected);
+        for (int i = 0; i < keys.size(); i++)
+        {
+            map = map.newWithKeyValue(keys.get(i), i);
+            expected.put(keys.get(i), i);
+            Verify.assertEqualsAndHashCode(expected, map);
+        }
+        map = map.newWithKeyValue("Ab", -1).newWithKeyValue(null, null);
+        expected.put("Ab", -1);
+        expected.put(null, null);
+        Verify.assertEqualsAndHashCode(expected, map);
+        Assert.assertTrue(map.containsKey(null));
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertEquals(Integer.valueOf(63), map.get(keys.getLast()));
+
+        for (int i = 0; i < keys.size(); i++)
+        {
+            map = map.newWithoutKey(keys.get(i));
+            expected.remove(keys.get(i));
+            Verify.assertEqualsAndHashCode(expected, map);
+        }
+        Assert.assertEquals(UnifiedMap.newWithKeysValues("Ab", -1, null, null), map);
+    }
+
+    @Test
+    public void views()
+    {
+        MutableMap<Integer, String> expected = Interval.oneTo(1000).toMap(each -> each, String::valueOf);
+        ImmutableMap<Integer, String> map = ImmutableHashTrieMap.newMap(expected);
+
+        MutableList<Integer> keys = FastList.newList();
+        map.forEachKey(keys::add);
+        Assert.assertEquals(keys, FastList.newList(map.keysView()));
+        Verify.assertSize(1000, map.keysView());
+        Assert.assertEquals(expected.keySet(), map.castToMap().keySet());
+
+        MutableList<String> values = FastList.newList();
+        map.forEachValue(values::add);
+        Assert.assertEquals(values, FastList.newList(map.valuesView()));
+        Assert.assertEquals(values, FastList.newList(map));
+        Assert.assertEquals(values, FastList.newList(map.castToMap().values()));
+
+        MutableList<Pair<Integer, String>> pairs = FastList.newList();
+        map.forEachKeyValue((key, value) -> pairs.add(Tuples.pair(key, value)));
+        Assert.assertEquals(pairs, FastList.newList(map.keyValuesView()));
+        Assert.assertEquals(keys, pairs.collect(Pair::getOne));
+
+        Iterator<Integer> iterator = map.keysView().iterator();
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertTrue(iterator.hasNext());
+            iterator.next();
+        }
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) iterator::next);
+        Verify.assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+}
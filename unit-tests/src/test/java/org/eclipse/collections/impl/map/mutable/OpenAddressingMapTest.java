@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.mutable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.map.MutableMap;
+import org.eclipse.collections.impl.factory.Maps;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.utility.Iterate;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link OpenAddressingMap}.
+ */
+public class OpenAddressingMapTest extends MutableMapTestCase
+{
+    @Override
+    public <K, V> MutableMap<K, V> newMap()
+    {
+        return OpenAddressingMap.newMap();
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return OpenAddressingMap.newWithKeysValues(key, value);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return OpenAddressingMap.newWithKeysValues(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3)
+    {
+        return OpenAddressingMap.newWithKeysValues(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> MutableMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2, K key3, V value3, K key4, V value4)
+    {
+        return OpenAddressingMap.newWithKeysValues(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    /**
+     * Returns distinct strings which all have the same hash code, since "Aa" and "BB" do.
+     */
+    private static MutableList<String> collidingKeys(int count)
+    {
+        MutableList<String> keys = FastList.newList(count);
+        for (int i = 0; i < count; i++)
+        {
+            StringBuilder builder = new StringBuilder();
+            for (int bit = 0; bit < 8; bit++)
+            {
+                builder.append((i & (1 << bit)) == 0 ? "Aa" : "BB");
+            }
+            keys.add(builder.toString());
+        }
+        return keys;
+    }
+
+    @Test
+    public void newMap_throws()
+    {
+        Verify.assertThrows(IllegalArgumentException.class, () -> new OpenAddressingMap<Integer, Integer>(-1, 0.5f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new OpenAddressingMap<Integer, Integer>(1, 0.0f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new OpenAddressingMap<Integer, Integer>(1, -0.5f));
+        Verify.assertThrows(IllegalArgumentException.class, () -> new OpenAddressingMap<Integer, Integer>(1, 1.0f));
+    }
+
+    @Test
+    public void factory()
+    {
+        Verify.assertInstanceOf(OpenAddressingMap.class, Maps.mutable.emptyOpenAddressing());
+        MutableMap<Integer, Integer> presized = Maps.mutable.withInitialCapacityOpenAddressing(100);
+        Verify.assertInstanceOf(OpenAddressingMap.class, presized);
+        Verify.assertEmpty(presized);
+    }
+
+    @Test
+    public void putAndRemoveMatchUnifiedMap()
+    {
+        Random random = new Random(42L);
+        for (float loadFactor : new float[]{0.25f, 0.5f, 0.9f})
+        {
+            MutableMap<Integer, Integer> expected = UnifiedMap.newMap();
+            MutableMap<Integer, Integer> actual = OpenAddressingMap.newMap(0, loadFactor);
+            for (int i = 0; i < 20000; i++)
+            {
+                Integer key = random.nextInt(2000);
+                if (random.nextBoolean())
+                {
+                    Assert.assertEquals(expected.put(key, i), actual.put(key, i));
+                }
+                else
+                {
+                    Assert.assertEquals(expected.remove(key), actual.remove(key));
+                }
+                Assert.assertEquals(expected.get(key), actual.get(key));
+            }
+            Verify.assertEqualsAndHashCode(expected, actual);
+            Interval.zeroTo(1999).forEach((int key) -> Assert.assertEquals(expected.containsKey(key), actual.containsKey(key)));
+        }
+    }
+
+    @Test
+    public void collidingHashCodes()
+    {
+        MutableList<String> keys = OpenAddressingMapTest.collidingKeys(100);
+        OpenAddressingMap<String, Integer> map = OpenAddressingMap.newMap();
+        keys.forEachWithIndex(map::put);
+        map.put(null, -1);
+        Verify.assertSize(101, map);
+        Assert.assertTrue(map.getLongestProbeRun() >= 100);
+        keys.forEachWithIndex((key, index) -> Assert.assertEquals(Integer.valueOf(index), map.get(key)));
+        Assert.assertEquals(Integer.valueOf(-1), map.get(null));
+
+        for (int i = 0; i < keys.size(); i += 2)
+        {
+            Assert.assertEquals(Integer.valueOf(i), map.remove(keys.get(i)));
+        }
+        Verify.assertSize(51, map);
+        for (int i = 0; i < keys.size(); i++)
+        {
+            Assert.assertEquals(i % 2 == 0 ? null : Integer.valueOf(i), map.get(keys.get(i)));
+        }
+        Assert.assertTrue(map.containsKey(null));
+    }
+
+    @Test
+    public void iteratorRemoveVisitsEveryEntryOnce()
+    {
+        for (int size = 1; size < 200; size++)
+        {
+            MutableMap<Integer, Integer> map = OpenAddressingMap.newMap(0, 0.9f);
+            Interval.oneTo(size).forEach((int each) -> map.put(each * 31, each));
+            MutableMap<Integer, Integer> expected = UnifiedMap.newMap(map);
+            MutableList<Integer> visited = FastList.newList();
+            Iterator<Integer> iterator = map.keySet().iterator();
+            while (iterator.hasNext())
+            {
+                Integer key = iterator.next();
+                visited.add(key);
+                if (key % 2 == 0)
+                {
+                    iterator.remove();
+                    expected.remove(key);
+                }
+            }
+            Verify.assertSize(size, visited);
+            Assert.assertEquals(UnifiedMap.newMap(map).keySet(), visited.toSet().reject(each -> each % 2 == 0));
+            Assert.assertEquals(expected, map);
+        }
+    }
+
+    @Test
+    public void entrySetRemoveAndSetValue()
+    {
+        MutableMap<Integer, String> map = this.newMapWithKeysValues(1, "One", 2, "Two", 3, "Three");
+        Map.Entry<Integer, String> entry = Iterate.getFirst(map.entrySet());
+        Assert.assertEquals(map.get(entry.getKey()), entry.setValue("Changed"));
+        Assert.assertEquals("Changed", map.get(entry.getKey()));
+        Assert.assertTrue(map.entrySet().remove(entry));
+        Verify.assertSize(2, map);
+        Assert.assertFalse(map.containsKey(entry.getKey()));
+        Assert.assertNull(entry.setValue("Ignored"));
+        Assert.assertFalse(map.containsKey(entry.getKey()));
+    }
+
+    @Test
+    public void rehashKeepsEntries()
+    {
+        MutableMap<Integer, Integer> map = OpenAddressingMap.newMap();
+        Interval.oneTo(10000).forEach((int each) -> map.put(each, each));
+        Verify.assertSize(10000, map);
+        Interval.oneTo(10000).forEach((int each) -> Assert.assertEquals(Integer.valueOf(each), map.get(each)));
+        Assert.assertEquals(Interval.oneTo(10000).toSet(), map.keySet());
+    }
+}
@@ -14,13 +14,19 @@ import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 import org.eclipse.collections.api.block.procedure.Procedure;
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.api.tuple.Pair;
+import org.eclipse.collections.impl.bag.mutable.HashBag;
 import org.eclipse.collections.impl.block.factory.Predicates2;
 import org.eclipse.collections.impl.block.factory.Procedures;
 import org.eclipse.collections.impl.block.function.PassThruFunction0;
+import org.eclipse.collections.impl.factory.Lists;
+import org.eclipse.collections.impl.list.Interval;
 import org.eclipse.collections.impl.list.mutable.FastList;
 import org.eclipse.collections.impl.math.IntegerSum;
 import org.eclipse.collections.impl.math.Sum;
@@ -731,4 +737,34 @@ public class UnifiedMapTest extends UnifiedMapTestCase
             this.sum.add(each.getValue());
         }
     }
+
+    @Test
+    public void spliterator()
+    {
+        UnifiedMap<Integer, Integer> map = UnifiedMap.newMap();
+        Interval.fromTo(200, 300).each(each -> map.put(each, each * 2));
+        map.withKeysValues(COLLISION_1, 1, COLLISION_2, 2, COLLISION_3, 3, null, 4);
+
+        Spliterator<Integer> keys = map.keySet().spliterator();
+        Assert.assertTrue(keys.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(map.size(), keys.getExactSizeIfKnown());
+        Assert.assertNotNull(keys.trySplit());
+        Assert.assertEquals(-1L, keys.getExactSizeIfKnown());
+
+        Assert.assertEquals(map.keySet(), map.keySet().parallelStream().collect(Collectors.toSet()));
+        Assert.assertEquals(map.values().stream().mapToLong(each -> each).sum(), map.values().parallelStream().mapToLong(each -> each).sum());
+        Assert.assertEquals(map, map.entrySet().parallelStream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, UnifiedMap::new)));
+
+        UnifiedMap<Integer, Integer> chained = UnifiedMap.<Integer, Integer>newMap(2).withKeysValues(COLLISION_1, 1, COLLISION_2, 2, COLLISION_3, 3, COLLISION_4, 4);
+        MutableList<Integer> result = Lists.mutable.empty();
+        Spliterator<Integer> values = chained.values().spliterator();
+        Assert.assertTrue(values.tryAdvance(result::add));
+        Assert.assertTrue(values.tryAdvance(result::add));
+        values.forEachRemaining(result::add);
+        Assert.assertFalse(values.tryAdvance(result::add));
+        Assert.assertEquals(HashBag.newBagWith(1, 2, 3, 4), result.toBag());
+
+        chained.entrySet().spliterator().forEachRemaining(each -> each.setValue(each.getValue() * 10));
+        Assert.assertEquals(HashBag.newBagWith(10, 20, 30, 40), chained.toBag());
+    }
 }
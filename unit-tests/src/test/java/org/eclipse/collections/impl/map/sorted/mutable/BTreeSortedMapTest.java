@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.map.sorted.mutable;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.eclipse.collections.api.map.sorted.MutableSortedMap;
+import org.eclipse.collections.impl.block.factory.Comparators;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.test.Verify;
+import org.eclipse.collections.impl.tuple.Tuples;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BTreeSortedMapTest extends MutableSortedMapTestCase
+{
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMap()
+    {
+        return BTreeSortedMap.newMap();
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeyValue(K key, V value)
+    {
+        return BTreeSortedMap.newMapWith(key, value);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.newMapWith(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMap(Comparator<? super K> comparator)
+    {
+        return BTreeSortedMap.newMap(comparator);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeyValue(Comparator<? super K> comparator, K key, V value)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key, value);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator, K key1, V value1, K key2, V value2)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2, key3, value3);
+    }
+
+    @Override
+    public <K, V> BTreeSortedMap<K, V> newMapWithKeysValues(Comparator<? super K> comparator,
+            K key1, V value1, K key2, V value2, K key3,
+            V value3, K key4, V value4)
+    {
+        return BTreeSortedMap.<K, V>newMap(comparator).with(key1, value1, key2, value2, key3, value3, key4, value4);
+    }
+
+    @Test
+    public void testConstructors()
+    {
+        UnifiedMap<Integer, String> unifiedMap = UnifiedMap.newWithKeysValues(1, "One", 2, "Two", 3, "Three");
+        BTreeSortedMap<Integer, String> sortedMap = BTreeSortedMap.newMap(unifiedMap);
+        BTreeSortedMap<Integer, String> revSortedMap = BTreeSortedMap.newMap(Comparators.reverseNaturalOrder(),
+                unifiedMap);
+
+        Verify.assertMapsEqual(unifiedMap, sortedMap);
+        Verify.assertMapsEqual(unifiedMap, revSortedMap);
+        Verify.assertListsEqual(FastList.newListWith(1, 2, 3), sortedMap.keySet().toList());
+        Verify.assertListsEqual(FastList.newListWith(3, 2, 1), revSortedMap.keySet().toList());
+
+        BTreeSortedMap<Integer, String> sortedMap2 = BTreeSortedMap.newMap(revSortedMap);
+        Assert.assertEquals(revSortedMap.comparator(), sortedMap2.comparator());
+        Verify.assertMapsEqual(revSortedMap, sortedMap2);
+    }
+
+    @Test
+    public void newMapWithPairs()
+    {
+        BTreeSortedMap<Integer, Integer> revSortedMap = BTreeSortedMap.newMapWith(Comparators.<Integer>reverseNaturalOrder(),
+                Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1));
+
+        Verify.assertSize(4, revSortedMap);
+
+        Verify.assertMapsEqual(UnifiedMap.newMapWith(Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1)),
+                revSortedMap);
+        Verify.assertListsEqual(FastList.newListWith(4, 3, 2, 1), revSortedMap.keySet().toList());
+        Verify.assertListsEqual(FastList.newListWith(1, 2, 3, 4), revSortedMap.valuesView().toList());
+    }
+
+    @Override
+    @Test
+    public void testClone()
+    {
+        super.testClone();
+        BTreeSortedMap<Integer, Integer> sortedMap = BTreeSortedMap.<Integer, Integer>newMapWith(Tuples.pair(1, 4), Tuples.pair(2, 3), Tuples.pair(3, 2), Tuples.pair(4, 1));
+        MutableSortedMap<Integer, Integer> clone = sortedMap.clone();
+        Assert.assertNotSame(sortedMap, clone);
+        Assert.assertEquals(sortedMap, clone);
+        sortedMap.removeKey(1);
+        Assert.assertTrue(clone.containsKey(1));
+    }
+
+    @Test
+    public void largeRandomPutAndRemoveMatchTreeMap()
+    {
+        Random random = new Random(42L);
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 100_000; i++)
+        {
+            Integer key = random.nextInt(20_000);
+            if (random.nextInt(3) == 0)
+            {
+                Assert.assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                Assert.assertEquals(expected.put(key, i), map.put(key, i));
+            }
+        }
+        Verify.assertMapsEqual(expected, map);
+        Assert.assertEquals(FastList.newList(expected.keySet()), map.keySet().toList());
+        Assert.assertEquals(expected.firstKey(), map.firstKey());
+        Assert.assertEquals(expected.lastKey(), map.lastKey());
+
+        for (Integer key : FastList.newList(expected.keySet()))
+        {
+            Assert.assertEquals(expected.remove(key), map.remove(key));
+        }
+        Verify.assertEmpty(map);
+        Assert.assertNull(map.put(1, 1));
+        Verify.assertMapsEqual(UnifiedMap.newWithKeysValues(1, 1), map);
+    }
+
+    @Test
+    public void ascendingAndDescendingInserts()
+    {
+        BTreeSortedMap<Integer, String> ascending = BTreeSortedMap.newMap();
+        BTreeSortedMap<Integer, String> descending = BTreeSortedMap.newMap();
+        for (int i = 0; i < 10_000; i++)
+        {
+            ascending.put(i, String.valueOf(i));
+            descending.put(-i, String.valueOf(-i));
+        }
+        Verify.assertSize(10_000, ascending);
+        Verify.assertSize(10_000, descending);
+        Assert.assertEquals(Interval.zeroTo(9_999), ascending.keySet().toList());
+        Assert.assertEquals(Interval.fromTo(-9_999, 0), descending.keySet().toList());
+        Assert.assertEquals("5000", ascending.get(5_000));
+        Assert.assertEquals("-5000", descending.get(-5_000));
+    }
+
+    @Test
+    public void rangeViewsMatchTreeMap()
+    {
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        for (int i = 0; i < 5_000; i += 3)
+        {
+            map.put(i, -i);
+            expected.put(i, -i);
+        }
+        for (int from = -10; from < 5_010; from += 97)
+        {
+            for (int to = from; to < 5_010; to += 331)
+            {
+                assertSortedMapsEqual(expected.subMap(from, to), map.subMap(from, to));
+            }
+            assertSortedMapsEqual(expected.headMap(from), map.headMap(from));
+            assertSortedMapsEqual(expected.tailMap(from), map.tailMap(from));
+        }
+        assertSortedMapsEqual(expected.subMap(100, 4_000).subMap(200, 300), map.subMap(100, 4_000).subMap(200, 300));
+        assertSortedMapsEqual(expected.tailMap(100).headMap(1_000), map.tailMap(100).headMap(1_000));
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.subMap(100, 200).put(300, 0));
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.subMap(100, 200).subMap(0, 150));
+        Verify.assertThrows(IllegalArgumentException.class, () -> map.subMap(200, 100));
+        Verify.assertThrows(NoSuchElementException.class, () -> map.subMap(1, 2).firstKey());
+    }
+
+    @Test
+    public void rangeViewWritesThrough()
+    {
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        Interval.oneTo(1_000).each(each -> map.put(each, each));
+        MutableSortedMap<Integer, Integer> subMap = map.subMap(100, 900);
+        Verify.assertSize(800, subMap);
+        subMap.put(150, 0);
+        Assert.assertEquals(Integer.valueOf(0), map.get(150));
+        subMap.clear();
+        Verify.assertSize(200, map);
+        Verify.assertEmpty(subMap);
+        Assert.assertEquals(Integer.valueOf(99), map.headMap(100).lastKey());
+        Assert.assertEquals(Integer.valueOf(900), map.tailMap(100).firstKey());
+    }
+
+    @Test
+    public void entrySetIteratorRemove()
+    {
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMap();
+        Interval.oneTo(10_000).each(each -> map.put(each, each));
+        Iterator<Map.Entry<Integer, Integer>> iterator = map.entrySet().iterator();
+        int expectedKey = 1;
+        while (iterator.hasNext())
+        {
+            Map.Entry<Integer, Integer> entry = iterator.next();
+            Assert.assertEquals(Integer.valueOf(expectedKey++), entry.getKey());
+            if (entry.getKey() % 3 != 0)
+            {
+                iterator.remove();
+            }
+            else
+            {
+                entry.setValue(-entry.getKey());
+            }
+        }
+        Assert.assertEquals(10_001, expectedKey);
+        Verify.assertSize(3_333, map);
+        Assert.assertEquals(Interval.fromToBy(3, 9_999, 3), map.keySet().toList());
+        Assert.assertEquals(Integer.valueOf(-3), map.get(3));
+        Verify.assertThrows(IllegalStateException.class, () -> map.entrySet().iterator().remove());
+    }
+
+    @Test
+    public void concurrentModification()
+    {
+        BTreeSortedMap<Integer, Integer> map = BTreeSortedMap.newMapWith(1, 1, 2, 2, 3, 3);
+        Iterator<Integer> iterator = map.keySet().iterator();
+        iterator.next();
+        map.put(4, 4);
+        Verify.assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    private static void assertSortedMapsEqual(SortedMap<Integer, Integer> expected, SortedMap<Integer, Integer> actual)
+    {
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(expected.size(), actual.size());
+        Assert.assertEquals(FastList.newList(expected.keySet()), FastList.newList(actual.keySet()));
+        Assert.assertEquals(expected.isEmpty(), actual.isEmpty());
+        if (!expected.isEmpty())
+        {
+            Assert.assertEquals(expected.firstKey(), actual.firstKey());
+            Assert.assertEquals(expected.lastKey(), actual.lastKey());
+        }
+    }
+}
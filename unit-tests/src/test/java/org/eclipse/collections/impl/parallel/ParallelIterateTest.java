@@ -20,6 +20,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.collections.api.LazyIterable;
@@ -274,6 +275,113 @@ public class ParallelIterateTest
                         5));
     }
 
+    @Test
+    public void selectCollectCountOnForkJoinPool()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            for (RichIterable<Integer> iterable : this.iterables)
+            {
+                Predicate<Integer> predicate = each -> each % 3 == 0;
+                Collection<Integer> selected = ParallelIterate.select(iterable, predicate, null, 7, pool, false);
+                Collection<String> collected = ParallelIterate.collect(iterable, String::valueOf, null, 7, pool, false);
+                Assert.assertEquals(iterable.select(predicate).toBag(), HashBag.newBag(selected));
+                Assert.assertEquals(iterable.collect(String::valueOf).toBag(), HashBag.newBag(collected));
+                Assert.assertEquals(iterable.count(predicate), ParallelIterate.count(iterable, predicate, 7, pool));
+                if (iterable instanceof List)
+                {
+                    Assert.assertEquals(iterable.select(predicate), selected);
+                    Assert.assertEquals(iterable.collect(String::valueOf), collected);
+                }
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void forEachOnForkJoinPoolWithUnevenCost()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            MutableList<Integer> list = Interval.oneTo(20000).toList();
+            AtomicInteger count = new AtomicInteger();
+            ParallelIterate.forEach(list, each -> {
+                if (each % 1000 == 0)
+                {
+                    try
+                    {
+                        Thread.sleep(2L);
+                    }
+                    catch (InterruptedException e)
+                    {
+                        throw new RuntimeException(e);
+                    }
+                }
+                count.incrementAndGet();
+            }, 10, pool);
+            Assert.assertEquals(20000, count.get());
+
+            Collection<Integer> selected = ParallelIterate.select(list, each -> each % 1000 != 0, null, 10, pool, false);
+            Assert.assertEquals(list.reject(each -> each % 1000 == 0), selected);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void forEachWithIndexOnForkJoinPool()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            Integer[] array = new Integer[2000];
+            MutableList<Integer> list = Interval.oneTo(2000).toList();
+            ParallelIterate.forEachWithIndex(list, (each, index) -> array[index] = each, pool);
+            Assert.assertArrayEquals(list.toArray(new Integer[]{}), array);
+
+            Integer[] arrayFromSet = new Integer[2000];
+            MutableSet<Integer> set = Interval.oneTo(2000).toSet();
+            ParallelIterate.forEachWithIndex(set, (each, index) -> arrayFromSet[index] = each, pool);
+            Assert.assertEquals(set, UnifiedSet.newSetWith(arrayFromSet));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void forEachOnForkJoinPoolWithException()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            Verify.assertThrowsWithCause(
+                    RuntimeException.class,
+                    IllegalStateException.class,
+                    () -> ParallelIterate.forEach(
+                            Interval.oneTo(20000).toList(),
+                            new PassThruProcedureFactory<>(each -> {
+                                throw new IllegalStateException();
+                            }),
+                            new PassThruCombiner<>(),
+                            1,
+                            8,
+                            pool));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
     @Test
     public void testForEachWithIndexToArrayUsingFastListSerialPath()
     {
@@ -10,13 +10,19 @@
 
 package org.eclipse.collections.impl.parallel;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import org.eclipse.collections.api.block.HashingStrategy;
 import org.eclipse.collections.api.map.MutableMap;
 import org.eclipse.collections.impl.map.mutable.UnifiedMap;
+import org.eclipse.collections.impl.map.strategy.mutable.UnifiedMapWithHashingStrategy;
 import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class ParallelMapIterateTest
@@ -75,6 +81,85 @@ public class ParallelMapIterateTest
         Verify.assertMapsEqual(concurrentMap, map);
     }
 
+    @Test
+    public void forEachKeyValueOverHashTableSections()
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableMap<Integer, String> map = UnifiedMap.newMap();
+            for (int i = 0; i < 10000; i++)
+            {
+                map.put(i, String.valueOf(i));
+            }
+            map.put(null, "null");
+            ParallelMapIterateTest.assertForEachKeyValue(map, executor);
+            ParallelMapIterateTest.assertForEachKeyValue(map.toImmutable().castToMap(), executor);
+            ParallelMapIterateTest.assertForEachKeyValue(new HashMap<>(map), executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void forEachKeyValueOverHashTableSectionsWithCollisions()
+    {
+        HashingStrategy<Integer> collidingStrategy = new HashingStrategy<Integer>()
+        {
+            public int computeHashCode(Integer object)
+            {
+                return object % 64;
+            }
+
+            public boolean equals(Integer object1, Integer object2)
+            {
+                return object1.equals(object2);
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            MutableMap<Integer, String> map = UnifiedMapWithHashingStrategy.newMap(collidingStrategy);
+            for (int i = 0; i < 5000; i++)
+            {
+                map.put(i, String.valueOf(i));
+            }
+            ParallelMapIterateTest.assertForEachKeyValue(map, executor);
+            ParallelMapIterateTest.assertForEachKeyValue(map.toImmutable().castToMap(), executor);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void forEachKeyValueOverHashTableSectionsThrows()
+    {
+        MutableMap<Integer, Integer> map = UnifiedMap.newMap();
+        for (int i = 0; i < 100; i++)
+        {
+            map.put(i, i);
+        }
+        Verify.assertThrowsWithCause(RuntimeException.class, IllegalStateException.class, () -> ParallelMapIterate.forEachKeyValue(map, (key, value) -> {
+            throw new IllegalStateException();
+        }, 1, 4));
+    }
+
+    private static <K, V> void assertForEachKeyValue(Map<K, V> map, ExecutorService executor)
+    {
+        // ConcurrentHashMap does not allow null keys, so the key-value pairs are collected into a synchronized map
+        Map<K, V> result = UnifiedMap.<K, V>newMap().asSynchronized();
+        ParallelMapIterate.forEachKeyValue(map, result::put, 1, 8, executor);
+        Assert.assertEquals(map, result);
+
+        Map<K, V> resultOnDefaultExecutor = UnifiedMap.<K, V>newMap().asSynchronized();
+        ParallelMapIterate.forEachKeyValue(map, resultOnDefaultExecutor::put, 1, 8);
+        Assert.assertEquals(map, resultOnDefaultExecutor);
+    }
+
     @Test
     public void classIsNonInstantiable()
     {
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.immutable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.collections.api.list.MutableList;
+import org.eclipse.collections.api.set.ImmutableSet;
+import org.eclipse.collections.api.set.MutableSet;
+import org.eclipse.collections.impl.factory.Sets;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.set.mutable.UnifiedSet;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableHashTrieSet}.
+ */
+public class ImmutableHashTrieSetTest extends AbstractImmutableUnifiedSetTestCase
+{
+    @Override
+    public ImmutableSet<Integer> newSet(Integer... elements)
+    {
+        return ImmutableHashTrieSet.newSetWith(elements);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int one, int two, int three)
+    {
+        return ImmutableHashTrieSet.newSetWith(one, two, three);
+    }
+
+    @Override
+    public ImmutableSet<Integer> newSetWith(int... littleElements)
+    {
+        Integer[] bigElements = new Integer[littleElements.length];
+        for (int i = 0; i < littleElements.length; i++)
+        {
+            bigElements[i] = littleElements[i];
+        }
+        return ImmutableHashTrieSet.newSetWith(bigElements);
+    }
+
+    @Test
+    public void factoryThreshold()
+    {
+        int threshold = ImmutableSetFactoryImpl.HASH_TRIE_THRESHOLD;
+        Verify.assertInstanceOf(ImmutableUnifiedSet.class, Sets.immutable.withAll(Interval.oneTo(threshold)));
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, Sets.immutable.withAll(Interval.oneTo(threshold + 1)));
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, Sets.immutable.withAll(Interval.oneTo(threshold)).newWith(0));
+        Verify.assertInstanceOf(ImmutableHashTrieSet.class, UnifiedSet.newSet(Interval.oneTo(threshold + 1)).toImmutable());
+    }
+
+    @Test
+    public void newWithAndNewWithout()
+    {
+        MutableSet<Integer> expected = UnifiedSet.newSet();
+        ImmutableSet<Integer> set = ImmutableHashTrieSet.newSetWith();
+        for (int i = 0; i < 20000; i++)
+        {
+            set = set.newWith(i * 7919);
+            expected.add(i * 7919);
+            if (i % 1000 == 0)
+            {
+                Verify.assertEqualsAndHashCode(expected, set);
+            }
+        }
+        ImmutableSet<Integer> full = set;
+        Verify.assertEqualsAndHashCode(expected, full);
+        Assert.assertSame(full, full.newWith(0));
+
+        for (int i = 0; i < 20000; i += 3)
+        {
+            set = set.newWithout(i * 7919);
+            expected.remove(i * 7919);
+            Assert.assertFalse(set.contains(i * 7919));
+        }
+        Verify.assertEqualsAndHashCode(expected, set);
+        Verify.assertSize(20000, full);
+        Assert.assertTrue(full.contains(3 * 7919));
+
+        Assert.assertSame(Sets.immutable.empty(), set.newWithoutAll(Interval.zeroTo(19999).collect(each -> each * 7919)));
+    }
+
+    @Test
+    public void hashCollisions()
+    {
+        MutableList<String> elements = FastList.newList();
+        for (int i = 0; i < 64; i++)
+        {
+            StringBuilder builder = new StringBuilder();
+            for (int bit = 0; bit < 8; bit++)
+            {
+                builder.append((i & (1 << bit)) == 0 ? "Aa" : "BB");
+            }
+            elements.add(builder.toString());
+        }
+        MutableSet<String> expected = UnifiedSet.newSet();
+        ImmutableSet<String> set = ImmutableHashTrieSet.newSetWith();
+        for (String element : elements)
+        {
+            set = set.newWith(element);
+            expected.add(element);
+            Verify.assertEqualsAndHashCode(expected, set);
+        }
+        set = set.newWithAll(FastList.newListWith("Ab", null));
+        expected.withAll(FastList.newListWith("Ab", null));
+        Verify.assertEqualsAndHashCode(expected, set);
+        Assert.assertTrue(set.contains(null));
+
+        for (String element : elements)
+        {
+            set = set.newWithout(element);
+            expected.remove(element);
+            Verify.assertEqualsAndHashCode(expected, set);
+        }
+        Assert.assertEquals(UnifiedSet.newSetWith("Ab", null), set);
+    }
+
+    @Test
+    public void iteratorMatchesForEach()
+    {
+        ImmutableSet<Integer> set = ImmutableHashTrieSet.newSetWith(Interval.oneTo(1000).toArray());
+        MutableList<Integer> expected = FastList.newList();
+        set.forEach(expected::add);
+        Assert.assertEquals(expected, FastList.newList(set));
+        Assert.assertEquals(expected.getFirst(), set.getFirst());
+        Assert.assertEquals(expected.getLast(), set.getLast());
+
+        Iterator<Integer> iterator = set.iterator();
+        for (int i = 0; i < 1000; i++)
+        {
+            Assert.assertTrue(iterator.hasNext());
+            iterator.next();
+        }
+        Assert.assertFalse(iterator.hasNext());
+        Verify.assertThrows(NoSuchElementException.class, (Runnable) iterator::next);
+        Verify.assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+}
@@ -13,8 +13,11 @@ package org.eclipse.collections.impl.set.mutable;
 import java.lang.reflect.Field;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Spliterator;
 import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
+import org.eclipse.collections.api.list.MutableList;
 import org.eclipse.collections.api.set.MutableSet;
 import org.eclipse.collections.api.set.Pool;
 import org.eclipse.collections.impl.block.factory.Comparators;
@@ -603,4 +606,27 @@ public class UnifiedSetTest extends AbstractMutableSetTestCase
         chainedWithOneSlot.remove(COLLISION_2);
         Assert.assertSame(COLLISION_1, chainedWithOneSlot.getLast());
     }
+
+    @Test
+    public void spliterator()
+    {
+        UnifiedSet<Integer> set = UnifiedSet.newSet(Interval.fromTo(200, 300)).with(COLLISION_1, COLLISION_2, COLLISION_3, COLLISION_4, null);
+        Spliterator<Integer> spliterator = set.spliterator();
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.DISTINCT));
+        Assert.assertEquals(set.size(), spliterator.getExactSizeIfKnown());
+        Assert.assertNotNull(spliterator.trySplit());
+        Assert.assertEquals(-1L, spliterator.getExactSizeIfKnown());
+        Assert.assertEquals(set, set.parallelStream().collect(Collectors.toSet()));
+        Assert.assertEquals(set.size(), set.parallelStream().count());
+
+        UnifiedSet<Integer> chained = UnifiedSet.<Integer>newSet(2).with(COLLISION_1, COLLISION_2, COLLISION_3, COLLISION_4, COLLISION_5);
+        MutableList<Integer> result = Lists.mutable.empty();
+        Spliterator<Integer> chainedSpliterator = chained.spliterator();
+        Assert.assertTrue(chainedSpliterator.tryAdvance(result::add));
+        Assert.assertTrue(chainedSpliterator.tryAdvance(result::add));
+        chainedSpliterator.forEachRemaining(result::add);
+        Assert.assertFalse(chainedSpliterator.tryAdvance(result::add));
+        Verify.assertSize(chained.size(), result);
+        Assert.assertEquals(chained, result.toSet());
+    }
 }
@@ -15,6 +15,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.TreeSet;
 
+import org.eclipse.collections.api.ordered.OrderStatisticIterable;
 import org.eclipse.collections.api.set.sorted.ImmutableSortedSet;
 import org.eclipse.collections.api.set.sorted.SortedSetIterable;
 import org.eclipse.collections.impl.block.factory.Comparators;
@@ -88,6 +89,27 @@ public class ImmutableTreeSetTest
         Verify.assertPostSerializedEqualsAndHashCode(set);
     }
 
+    @Test
+    public void orderStatistics()
+    {
+        OrderStatisticIterable<Integer> set = (OrderStatisticIterable<Integer>) ImmutableTreeSet.newSetWith(10, 20, 30, 40);
+        Assert.assertEquals(0, set.rank(5));
+        Assert.assertEquals(1, set.rank(20));
+        Assert.assertEquals(2, set.rank(25));
+        Assert.assertEquals(4, set.rank(45));
+        Assert.assertEquals(Integer.valueOf(30), set.select(2));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> set.select(4));
+        Assert.assertEquals(Integer.valueOf(20), set.percentile(50.0));
+        Assert.assertEquals(Integer.valueOf(40), set.percentile(100.0));
+        Assert.assertEquals(2, set.countBetween(15, 35));
+        Verify.assertThrows(IllegalArgumentException.class, () -> set.countBetween(35, 15));
+
+        OrderStatisticIterable<Integer> reversed = (OrderStatisticIterable<Integer>) this.classUnderTest(Collections.reverseOrder());
+        Assert.assertEquals(1, reversed.rank(3));
+        Assert.assertEquals(Integer.valueOf(4), reversed.select(0));
+        Assert.assertEquals(2, reversed.countBetween(4, 2));
+    }
+
     @Override
     @Test(expected = UnsupportedOperationException.class)
     public void subSet()
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.set.sorted.mutable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.eclipse.collections.api.LazyIterable;
+import org.eclipse.collections.api.set.sorted.MutableSortedSet;
+import org.eclipse.collections.impl.list.mutable.FastList;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BTreeSortedSetTest extends AbstractSortedSetTestCase
+{
+    @Override
+    protected <T> BTreeSortedSet<T> newWith(T... elements)
+    {
+        return BTreeSortedSet.newSetWith(elements);
+    }
+
+    @Override
+    protected <T> BTreeSortedSet<T> newWith(Comparator<? super T> comparator, T... elements)
+    {
+        return BTreeSortedSet.newSetWith(comparator, elements);
+    }
+
+    @Override
+    @Test
+    public void asSynchronized()
+    {
+        Verify.assertInstanceOf(SynchronizedSortedSet.class, this.newWith().asSynchronized());
+    }
+
+    @Override
+    @Test
+    public void asUnmodifiable()
+    {
+        Verify.assertInstanceOf(UnmodifiableSortedSet.class, this.newWith().asUnmodifiable());
+    }
+
+    @Test
+    public void sortedSetIterableConstructor()
+    {
+        BTreeSortedSet<Integer> sortedSetA = BTreeSortedSet.newSet(Collections.reverseOrder());
+        BTreeSortedSet<Integer> sortedSetB = BTreeSortedSet.newSet(sortedSetA.with(1).with(2, 3).with(4, 5, 6));
+        Verify.assertSortedSetsEqual(sortedSetA, sortedSetB);
+        Assert.assertTrue(sortedSetA.first().equals(sortedSetB.first()) && sortedSetB.first() == 6);
+        Verify.assertSortedSetsEqual(sortedSetB, new BTreeSortedSet<>(sortedSetB));
+    }
+
+    @Test
+    public void sortedSetConstructor()
+    {
+        SortedSet<String> setA = new TreeSet<>(FastList.newListWith("a", "c", "b", "d"));
+        Verify.assertSortedSetsEqual(setA, BTreeSortedSet.newSet(setA));
+        Verify.assertSortedSetsEqual(setA, new BTreeSortedSet<>(setA));
+    }
+
+    @Test
+    public void iterableConstructor()
+    {
+        LazyIterable<Integer> integerLazyIterable = FastList.newListWith(2, 4, 1, 3).asLazy();
+        BTreeSortedSet<Integer> sortedSet = BTreeSortedSet.newSet(integerLazyIterable);
+        Verify.assertSortedSetsEqual(BTreeSortedSet.newSetWith(1, 2, 3, 4), sortedSet);
+    }
+
+    @Test
+    public void serialization()
+    {
+        MutableSortedSet<Integer> set = this.newWith(1, 2, 3, 4, 5);
+        Verify.assertPostSerializedEqualsAndHashCode(set);
+    }
+
+    @Test
+    public void largeRandomAddAndRemoveMatchTreeSet()
+    {
+        Random random = new Random(7L);
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet(Collections.reverseOrder());
+        TreeSet<Integer> expected = new TreeSet<>(Collections.reverseOrder());
+        for (int i = 0; i < 100_000; i++)
+        {
+            Integer element = random.nextInt(10_000);
+            if (random.nextBoolean())
+            {
+                Assert.assertEquals(expected.remove(element), set.remove(element));
+            }
+            else
+            {
+                Assert.assertEquals(expected.add(element), set.add(element));
+            }
+        }
+        Verify.assertSortedSetsEqual(expected, set);
+        Verify.assertSortedSetsEqual(expected.subSet(8_000, 2_000), set.subSet(8_000, 2_000));
+        Assert.assertEquals(expected.headSet(5_000).size(), set.indexOf(set.tailSet(5_000).first()));
+        Assert.assertEquals(expected.headSet(5_000).size(), set.rank(5_000));
+        Assert.assertEquals(expected.subSet(8_000, 2_000).size(), set.countBetween(8_000, 2_000));
+        for (int i = 0; i < set.size(); i += 101)
+        {
+            Assert.assertEquals(expected.headSet(set.select(i)).size(), i);
+        }
+    }
+
+    @Test
+    public void rankAndSelect()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSetWith(10, 20, 30, 40);
+        Assert.assertEquals(0, set.rank(5));
+        Assert.assertEquals(1, set.rank(20));
+        Assert.assertEquals(2, set.rank(25));
+        Assert.assertEquals(4, set.rank(45));
+        Assert.assertEquals(Integer.valueOf(10), set.select(0));
+        Assert.assertEquals(Integer.valueOf(40), set.select(3));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> set.select(4));
+        Verify.assertThrows(IndexOutOfBoundsException.class, () -> set.select(-1));
+        Verify.assertThrows(NullPointerException.class, () -> set.rank(null));
+    }
+
+    @Test
+    public void percentile()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet();
+        for (int i = 1; i <= 200; i++)
+        {
+            set.add(i);
+        }
+        Assert.assertEquals(Integer.valueOf(1), set.percentile(0.0));
+        Assert.assertEquals(Integer.valueOf(100), set.percentile(50.0));
+        Assert.assertEquals(Integer.valueOf(190), set.percentile(95.0));
+        Assert.assertEquals(Integer.valueOf(200), set.percentile(100.0));
+        Verify.assertThrows(IllegalArgumentException.class, () -> set.percentile(100.5));
+        Verify.assertThrows(IllegalArgumentException.class, () -> set.percentile(Double.NaN));
+        Verify.assertThrows(NoSuchElementException.class, () -> BTreeSortedSet.newSet().percentile(50.0));
+    }
+
+    @Test
+    public void countBetween()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSetWith(1, 3, 5, 7, 9);
+        Assert.assertEquals(2, set.countBetween(3, 7));
+        Assert.assertEquals(3, set.countBetween(2, 8));
+        Assert.assertEquals(0, set.countBetween(4, 4));
+        Assert.assertEquals(5, set.countBetween(0, 10));
+        Verify.assertThrows(IllegalArgumentException.class, () -> set.countBetween(7, 3));
+        Verify.assertSize(3, set.subSet(2, 8));
+        Verify.assertSize(2, set.headSet(5));
+    }
+
+    @Test
+    public void forEachFromIndex()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSet();
+        for (int i = 0; i < 1000; i++)
+        {
+            set.add(i);
+        }
+        FastList<Integer> result = FastList.newList();
+        set.forEach(500, 502, result::add);
+        Assert.assertEquals(FastList.newListWith(500, 501, 502), result);
+        set.forEachWithIndex(998, 999, (each, index) -> Assert.assertEquals(each.intValue(), index));
+    }
+
+    @Test
+    public void rangeViewsSupportAdd()
+    {
+        BTreeSortedSet<Integer> set = BTreeSortedSet.newSetWith(1, 5, 10);
+        MutableSortedSet<Integer> subSet = set.subSet(2, 8);
+        Assert.assertTrue(subSet.add(3));
+        Assert.assertFalse(subSet.add(5));
+        Verify.assertSortedSetsEqual(TreeSortedSet.newSetWith(1, 3, 5, 10), set);
+        Verify.assertThrows(IllegalArgumentException.class, () -> subSet.add(9));
+    }
+}
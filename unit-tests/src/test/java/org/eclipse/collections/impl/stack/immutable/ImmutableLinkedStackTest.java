@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2016 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stack.immutable;
+
+import org.eclipse.collections.api.stack.ImmutableStack;
+import org.eclipse.collections.impl.factory.Stacks;
+import org.eclipse.collections.impl.list.Interval;
+import org.eclipse.collections.impl.stack.mutable.ArrayStack;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImmutableLinkedStackTest extends ImmutableStackTestCase
+{
+    @Override
+    protected <T> ImmutableStack<T> newStackWith(T... elements)
+    {
+        return Stacks.immutable.of(elements);
+    }
+
+    @Override
+    protected <T> ImmutableStack<T> newStackFromTopToBottom(T... elements)
+    {
+        return Stacks.immutable.ofReversed(elements);
+    }
+
+    @Override
+    protected <T> ImmutableStack<T> newStackFromTopToBottom(Iterable<T> elements)
+    {
+        return Stacks.immutable.ofAllReversed(elements);
+    }
+
+    @Override
+    protected <T> ImmutableStack<T> newStack(Iterable<T> elements)
+    {
+        return Stacks.immutable.ofAll(elements);
+    }
+
+    @Override
+    @Test
+    public void testEquals()
+    {
+        super.testEquals();
+        Assert.assertEquals(ImmutableLinkedStack.newStack(), ArrayStack.newStackWith());
+        Assert.assertEquals(ImmutableArrayStack.newStackWith(1, 2, 3), this.newStackWith(1, 2, 3));
+        Assert.assertNotEquals(this.newStackWith(4, 5, 6), ArrayStack.newStackWith(1, 2, 3));
+
+        ImmutableStack<Integer> base = this.newStackWith(1, 2, 3);
+        Assert.assertEquals(base.push(4), base.push(4));
+        Assert.assertNotEquals(base.push(4), base.push(5));
+        Assert.assertNotEquals(base.push(4), this.newStackWith(0, 2, 3, 4));
+    }
+
+    @Test
+    public void sharesStructure()
+    {
+        Verify.assertInstanceOf(ImmutableLinkedStack.class, this.newStackWith(1, 2, 3));
+
+        ImmutableStack<Integer> stack = this.newStackWith(1, 2, 3);
+        Assert.assertSame(stack, stack.push(4).pop());
+        Assert.assertSame(stack, stack.push(4).push(5).pop(2));
+        Assert.assertSame(stack.pop(), stack.push(4).pop(2));
+        Assert.assertSame(this.newStackWith(), this.newStackWith(1).pop());
+    }
+
+    @Test
+    public void deepStack()
+    {
+        ImmutableStack<Integer> stack = this.newStackWith();
+        for (int i = 0; i < 100_000; i++)
+        {
+            stack = stack.push(i);
+        }
+        Verify.assertSize(100_000, stack);
+        Assert.assertEquals(Integer.valueOf(99_999), stack.peek());
+        Assert.assertEquals(Integer.valueOf(0), stack.peekAt(99_999));
+        Assert.assertEquals(this.newStack(Interval.zeroTo(99_999)), stack);
+        Assert.assertEquals(this.newStack(Interval.zeroTo(99_999)).hashCode(), stack.hashCode());
+        Assert.assertEquals(this.newStackWith(0, 1), stack.pop(99_998));
+    }
+}
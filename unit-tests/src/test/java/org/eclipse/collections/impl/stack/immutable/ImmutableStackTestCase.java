@@ -10,11 +10,15 @@
 
 package org.eclipse.collections.impl.stack.immutable;
 
+import java.util.EmptyStackException;
+
 import org.eclipse.collections.api.map.primitive.ImmutableObjectDoubleMap;
 import org.eclipse.collections.api.map.primitive.ImmutableObjectLongMap;
 import org.eclipse.collections.api.stack.ImmutableStack;
 import org.eclipse.collections.impl.stack.StackIterableTestCase;
+import org.eclipse.collections.impl.test.Verify;
 import org.junit.Assert;
+import org.junit.Test;
 
 public abstract class ImmutableStackTestCase extends StackIterableTestCase
 {
@@ -61,4 +65,63 @@ public abstract class ImmutableStackTestCase extends StackIterableTestCase
         Assert.assertEquals(25, result.get(1));
         Assert.assertEquals(30, result.get(0));
     }
+
+    @Test
+    public void push()
+    {
+        ImmutableStack<Integer> stack = this.newStackWith(1, 2, 3);
+        ImmutableStack<Integer> modifiedStack = stack.push(4);
+        Assert.assertEquals(this.newStackWith(1, 2, 3, 4), modifiedStack);
+        Assert.assertNotSame(modifiedStack, stack);
+        Assert.assertEquals(this.newStackWith(1, 2, 3), stack);
+        modifiedStack.push(5);
+        Assert.assertEquals(this.newStackWith(1, 2, 3), stack);
+
+        ImmutableStack<Integer> stack1 = this.newStackWith();
+        ImmutableStack<Integer> modifiedStack1 = stack1.push(1);
+        Assert.assertEquals(this.newStackWith(1), modifiedStack1);
+        Assert.assertNotSame(modifiedStack1, stack1);
+        Assert.assertEquals(this.newStackWith(), stack1);
+        modifiedStack1.push(5);
+        Assert.assertEquals(this.newStackWith(), stack1);
+    }
+
+    @Test
+    public void pop()
+    {
+        Verify.assertThrows(EmptyStackException.class, () -> this.newStackWith().pop());
+
+        ImmutableStack<Integer> stack = this.newStackWith(1, 2, 3);
+        ImmutableStack<Integer> modifiedStack = stack.pop();
+        Assert.assertEquals(this.newStackWith(1, 2), modifiedStack);
+        Assert.assertNotSame(modifiedStack, stack);
+        Assert.assertEquals(this.newStackWith(1, 2, 3), stack);
+
+        ImmutableStack<Integer> stack1 = this.newStackWith(1);
+        ImmutableStack<Integer> modifiedStack1 = stack1.pop();
+        Assert.assertEquals(this.newStackWith(), modifiedStack1);
+        Assert.assertNotSame(modifiedStack1, stack1);
+        Assert.assertEquals(this.newStackWith(1), stack1);
+    }
+
+    @Test
+    public void popCount()
+    {
+        Verify.assertThrows(EmptyStackException.class, () -> this.newStackWith().pop(1));
+
+        Assert.assertEquals(this.newStackWith(), this.newStackWith().pop(0));
+
+        ImmutableStack<Integer> stack = this.newStackWith(1, 2, 3);
+        ImmutableStack<Integer> modifiedStack = stack.pop(1);
+        Assert.assertEquals(this.newStackWith(1, 2), modifiedStack);
+        Assert.assertNotSame(modifiedStack, stack);
+        Assert.assertNotSame(this.newStackWith(1, 2, 3), stack);
+
+        ImmutableStack<Integer> stack1 = this.newStackWith(1);
+        Verify.assertThrows(IllegalArgumentException.class, () -> stack1.pop(2));
+        ImmutableStack<Integer> modifiedStack1 = stack1.pop(1);
+        Assert.assertEquals(this.newStackWith(), modifiedStack1);
+        Assert.assertNotSame(modifiedStack1, stack1);
+        Assert.assertEquals(this.newStackWith(1), stack1);
+    }
 }
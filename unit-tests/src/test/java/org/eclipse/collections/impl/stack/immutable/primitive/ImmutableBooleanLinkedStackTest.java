@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015 Goldman Sachs.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Eclipse Distribution License v. 1.0 which accompany this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Eclipse Distribution License is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.eclipse.collections.impl.stack.immutable.primitive;
+
+import org.eclipse.collections.api.stack.primitive.ImmutableBooleanStack;
+import org.eclipse.collections.impl.factory.primitive.BooleanStacks;
+import org.eclipse.collections.impl.list.mutable.primitive.BooleanArrayList;
+import org.eclipse.collections.impl.stack.mutable.primitive.BooleanArrayStack;
+import org.eclipse.collections.impl.test.Verify;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ImmutableBooleanLinkedStack}.
+ */
+public class ImmutableBooleanLinkedStackTest extends AbstractImmutableBooleanStackTestCase
+{
+    @Override
+    protected ImmutableBooleanStack classUnderTest()
+    {
+        return ImmutableBooleanLinkedStack.newStackWith(true, false, true, false);
+    }
+
+    @Test
+    public void newWithIterable()
+    {
+        Assert.assertEquals(BooleanArrayStack.newStackWith(true, true, false), ImmutableBooleanLinkedStack.newStack(BooleanArrayList.newListWith(true, true, false)));
+    }
+
+    @Test
+    public void newWithTopToBottom()
+    {
+        Assert.assertEquals(BooleanArrayStack.newStackFromTopToBottom(true, true, false), ImmutableBooleanLinkedStack.newStackFromTopToBottom(true, true, false));
+    }
+
+    @Test
+    public void sharesStructure()
+    {
+        Verify.assertInstanceOf(ImmutableBooleanLinkedStack.class, BooleanStacks.immutable.with(true, false));
+
+        ImmutableBooleanStack stack = this.classUnderTest();
+        Assert.assertSame(stack, stack.push(true).pop());
+        Assert.assertSame(stack, stack.push(true).push(false).pop(2));
+        Assert.assertSame(stack.pop(), stack.push(true).pop(2));
+        Assert.assertSame(BooleanStacks.immutable.with(), stack.pop(4));
+        Assert.assertEquals(ImmutableBooleanArrayStack.newStackWith(true, false, true, false, true), stack.push(true));
+        Assert.assertEquals(ImmutableBooleanArrayStack.newStackWith(true, false, true, false, true).hashCode(), stack.push(true).hashCode());
+    }
+}